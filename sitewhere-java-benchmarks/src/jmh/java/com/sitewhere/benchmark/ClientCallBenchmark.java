@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.benchmark;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sitewhere.rest.client.SiteWhereClient;
+import com.sitewhere.rest.model.device.Device;
+import com.sitewhere.rest.model.device.asset.DeviceMeasurementWithAsset;
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDevice;
+import com.sitewhere.rest.model.search.DateRangeSearchCriteria;
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.rest.model.search.device.DeviceSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceResponseFormat;
+import com.sitewhere.spi.ISearchResultsStream;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.ITenantAuthentication;
+import com.sitewhere.spi.SiteWhereException;
+import com.sitewhere.spi.web.ISiteWhereWebConstants;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Full client calls against a local {@link MockWebServer} with canned
+ * responses. Measures request building, HTTP round trip on loopback and
+ * response decoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ClientCallBenchmark {
+
+    /** Local stand-in server */
+    private MockWebServer server;
+
+    /** Canned responses by request path */
+    private Map<String, MockResponse> responses = new ConcurrentHashMap<>();
+
+    /** Client under test */
+    private ISiteWhereClient client;
+
+    /** Tenant used for calls */
+    private ITenantAuthentication tenant;
+
+    /** Batch sent to the server */
+    private DeviceEventBatch batch;
+
+    @Setup
+    public void setup() throws IOException, SiteWhereException {
+	ObjectMapper mapper = new ObjectMapper();
+	Device device = SampleData.devices(1).getResults().get(0);
+	respondWithJson("devices/benchmark-device", mapper.writeValueAsString(device));
+	respondWithJson("devices", mapper.writeValueAsString(SampleData.devices(100)));
+	respondWithJson("assignments/benchmark-assignment/measurements",
+		mapper.writeValueAsString(SampleData.measurements(1000)));
+	respondWithJson("devices/benchmark-device/batch", mapper.writeValueAsString(new DeviceEventBatchResponse()));
+
+	server = new MockWebServer();
+	server.setDispatcher(new Dispatcher() {
+
+	    @Override
+	    public MockResponse dispatch(RecordedRequest request) {
+		String path = request.getPath();
+		if (path.startsWith(SiteWhereClient.AUTH_RELATIVE_URL + "jwt")) {
+		    return new MockResponse().setHeader(ISiteWhereWebConstants.HEADER_JWT, "benchmark.jwt.token");
+		}
+		int query = path.indexOf('?');
+		MockResponse response = responses.get(query == -1 ? path : path.substring(0, query));
+		return (response != null) ? response : new MockResponse().setResponseCode(404);
+	    }
+	});
+	server.start();
+
+	client = SiteWhereClient.newBuilder().withConnectionTo("http", server.getHostName(), server.getPort()).build()
+		.initialize();
+	tenant = SiteWhereClient.defaultTenant();
+	batch = SampleData.batch(10);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+	server.shutdown();
+    }
+
+    @Benchmark
+    public MarshaledDevice getDeviceByToken() throws SiteWhereException {
+	return client.getDeviceByToken(tenant, "benchmark-device");
+    }
+
+    @Benchmark
+    public SearchResults<Device> listDevices() throws SiteWhereException {
+	return client.listDevices(tenant, new DeviceSearchCriteria(1, 100, null, null), new DeviceResponseFormat());
+    }
+
+    @Benchmark
+    public double listMeasurements() throws SiteWhereException {
+	double total = 0;
+	for (DeviceMeasurementWithAsset mx : client.listMeasurementsForDeviceAssignment(tenant, "benchmark-assignment",
+		new DateRangeSearchCriteria(1, 1000, null, null)).getResults()) {
+	    total += mx.getValue();
+	}
+	return total;
+    }
+
+    @Benchmark
+    public double streamMeasurements() throws SiteWhereException {
+	double total = 0;
+	try (ISearchResultsStream<DeviceMeasurementWithAsset> stream = client.streamMeasurementsForDeviceAssignment(
+		tenant, "benchmark-assignment", new DateRangeSearchCriteria(1, 1000, null, null))) {
+	    while (stream.hasNext()) {
+		total += stream.next().getValue();
+	    }
+	}
+	return total;
+    }
+
+    @Benchmark
+    public DeviceEventBatchResponse addMultipleEventsForDevice() throws SiteWhereException {
+	return client.addMultipleEventsForDevice(tenant, "benchmark-device", batch);
+    }
+
+    /**
+     * Register a JSON response for a path relative to the REST API root.
+     * 
+     * @param relativePath
+     * @param json
+     */
+    protected void respondWithJson(String relativePath, String json) {
+	responses.put(SiteWhereClient.REST_RELATIVE_URL + relativePath,
+		new MockResponse().setHeader("Content-Type", "application/json").setBody(json));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.sitewhere.rest.model.common.ThreadLocalObjectPool;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+
+/**
+ * Compares creating a new measurement request for every reading with reusing
+ * requests from a {@link ThreadLocalObjectPool}. Run with the GC profiler to
+ * see the allocation per reading.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventPoolingBenchmark {
+
+    /** Date shared by all readings */
+    private Date date = new Date(1546300800123L);
+
+    /** Pool of measurement requests */
+    private ThreadLocalObjectPool<DeviceMeasurementCreateRequest> pool = new ThreadLocalObjectPool<>(
+	    DeviceMeasurementCreateRequest::new, DeviceMeasurementCreateRequest::reset);
+
+    @Benchmark
+    public void newRequest(Blackhole blackhole) {
+	blackhole.consume(new DeviceMeasurementCreateRequest.Builder().measurement("engine.temp", 88.5)
+		.metadata("unit", "C").on(date).build());
+    }
+
+    @Benchmark
+    public void pooledRequest(Blackhole blackhole) {
+	DeviceMeasurementCreateRequest request = pool.acquire();
+	blackhole.consume(new DeviceMeasurementCreateRequest.Builder(request).measurement("engine.temp", 88.5)
+		.metadata("unit", "C").on(date).build());
+	pool.release(request);
+    }
+}
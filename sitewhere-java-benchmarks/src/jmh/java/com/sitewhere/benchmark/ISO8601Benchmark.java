@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.benchmark;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.sitewhere.rest.model.datatype.ISO8601Codec;
+
+/**
+ * Compares {@link ISO8601Codec} with the date formatting previously used by
+ * the client and by JSON date serialization.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ISO8601Benchmark {
+
+    /** Date being formatted */
+    private Date date;
+
+    /** Formatted date being parsed */
+    private String formatted;
+
+    /** Per-thread copy of the format previously shared by the client */
+    private SimpleDateFormat simpleDateFormat;
+
+    /** Shared immutable Joda formatter */
+    private DateTimeFormatter cachedJoda;
+
+    @Setup
+    public void setup() {
+	date = new Date(1546300800123L);
+	formatted = ISO8601Codec.format(date);
+	simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+	cachedJoda = ISODateTimeFormat.dateTime().withZone(DateTimeZone.UTC);
+    }
+
+    @Benchmark
+    public String formatSimpleDateFormat() {
+	return simpleDateFormat.format(date);
+    }
+
+    @Benchmark
+    public String formatJodaPerCall() {
+	DateTimeFormatter formatter = ISODateTimeFormat.dateTime().withZone(DateTimeZone.UTC);
+	return formatter.print(date.getTime());
+    }
+
+    @Benchmark
+    public String formatJodaCached() {
+	return cachedJoda.print(date.getTime());
+    }
+
+    @Benchmark
+    public String formatCodec() {
+	return ISO8601Codec.format(date);
+    }
+
+    @Benchmark
+    public long parseJodaCached() {
+	return cachedJoda.parseMillis(formatted);
+    }
+
+    @Benchmark
+    public long parseCodec() {
+	return ISO8601Codec.parseMillis(formatted);
+    }
+}
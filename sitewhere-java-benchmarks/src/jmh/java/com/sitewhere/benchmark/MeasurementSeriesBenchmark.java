@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.benchmark;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sitewhere.rest.model.device.charting.ChartEntry;
+import com.sitewhere.rest.model.device.charting.ChartSeries;
+import com.sitewhere.rest.model.device.charting.MeasurementSeries;
+
+/**
+ * Decoding a chart series response into {@link ChartSeries} objects compared
+ * with decoding it into a columnar {@link MeasurementSeries}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MeasurementSeriesBenchmark {
+
+    /** Number of points in the series */
+    @Param({ "1000", "100000" })
+    public int points;
+
+    /** Chart series response */
+    private byte[] json;
+
+    /** Reader for chart series */
+    private ObjectReader chartReader;
+
+    /** Reader for measurement series */
+    private ObjectReader seriesReader;
+
+    @Setup
+    public void setup() throws IOException {
+	ChartSeries<Double> chart = new ChartSeries<Double>();
+	chart.setMeasurementId("engine.temp");
+	for (int i = 0; i < points; i++) {
+	    ChartEntry<Double> entry = new ChartEntry<Double>();
+	    entry.setMeasurementDate(new Date(1546300800000L + i * 1000L));
+	    entry.setValue(80.0 + (i % 100) * 0.25);
+	    chart.getEntries().add(entry);
+	}
+	ObjectMapper mapper = new ObjectMapper();
+	json = mapper.writeValueAsBytes(new ChartSeries<?>[] { chart });
+	chartReader = mapper.readerFor(new TypeReference<List<ChartSeries<Double>>>() {
+	});
+	seriesReader = mapper.readerFor(new TypeReference<List<MeasurementSeries>>() {
+	});
+    }
+
+    @Benchmark
+    public List<ChartSeries<Double>> decodeChartSeries() throws IOException {
+	return chartReader.readValue(json);
+    }
+
+    @Benchmark
+    public List<MeasurementSeries> decodeMeasurementSeries() throws IOException {
+	return seriesReader.readValue(json);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sitewhere.rest.model.datatype.ModelObjectMapperFactory;
+import com.sitewhere.rest.model.device.Device;
+import com.sitewhere.rest.model.device.event.DeviceAlert;
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventContext;
+import com.sitewhere.rest.model.device.event.DeviceLocation;
+import com.sitewhere.rest.model.device.event.DeviceMeasurement;
+import com.sitewhere.rest.model.device.event.binary.BinaryEventCodec;
+import com.sitewhere.rest.model.device.event.kafka.EnrichedEventPayload;
+import com.sitewhere.rest.model.search.SearchResults;
+
+/**
+ * Jackson serialization and deserialization of the model objects exchanged
+ * most often with the server. Compares a default mapper with the tuned mapper
+ * the client converter uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ModelSerializationBenchmark {
+
+    /** Number of events of each type in a batch */
+    @Param({ "10", "100" })
+    public int batchSize;
+
+    /** Number of devices in a search result page */
+    @Param({ "100" })
+    public int pageSize;
+
+    /** Mapper under test ("default" or "model") */
+    @Param({ "default", "model" })
+    public String mapperType;
+
+    /** Mapper under test */
+    private ObjectMapper mapper;
+
+    /** Writer used for all serialization */
+    private ObjectWriter writer;
+
+    /** Objects and payloads under test */
+    private DeviceEventBatch batch;
+    private byte[] batchJson;
+    private byte[] batchBinary;
+    private DeviceMeasurement measurement;
+    private byte[] measurementJson;
+    private DeviceLocation location;
+    private byte[] locationJson;
+    private DeviceAlert alert;
+    private byte[] alertJson;
+    private EnrichedEventPayload enrichedPayload;
+    private byte[] enrichedPayloadJson;
+    private SearchResults<Device> devices;
+    private byte[] devicesJson;
+
+    /** Reader for a page of devices */
+    private ObjectReader devicesReader;
+
+    @Setup
+    public void setup() throws IOException {
+	mapper = "model".equals(mapperType) ? ModelObjectMapperFactory.create() : new ObjectMapper();
+	writer = mapper.writer();
+	batch = SampleData.batch(batchSize);
+	batchJson = writer.writeValueAsBytes(batch);
+	batchBinary = BinaryEventCodec.encode(batch);
+	measurement = SampleData.measurement();
+	measurementJson = writer.writeValueAsBytes(measurement);
+	location = SampleData.location();
+	locationJson = writer.writeValueAsBytes(location);
+	alert = SampleData.alert();
+	alertJson = writer.writeValueAsBytes(alert);
+	enrichedPayload = SampleData.enrichedPayload();
+	enrichedPayloadJson = writer.writeValueAsBytes(enrichedPayload);
+	devices = SampleData.devices(pageSize);
+	devicesJson = writer.writeValueAsBytes(devices);
+	devicesReader = mapper.readerFor(new TypeReference<SearchResults<Device>>() {
+	});
+    }
+
+    @Benchmark
+    public byte[] serializeBatch() throws IOException {
+	return writer.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public DeviceEventBatch deserializeBatch() throws IOException {
+	return mapper.readValue(batchJson, DeviceEventBatch.class);
+    }
+
+    @Benchmark
+    public byte[] encodeBatchBinary() {
+	return BinaryEventCodec.encode(batch);
+    }
+
+    @Benchmark
+    public DeviceEventBatch decodeBatchBinary() throws IOException {
+	return BinaryEventCodec.decodeBatch(batchBinary);
+    }
+
+    @Benchmark
+    public byte[] serializeMeasurement() throws IOException {
+	return writer.writeValueAsBytes(measurement);
+    }
+
+    @Benchmark
+    public DeviceMeasurement deserializeMeasurement() throws IOException {
+	return mapper.readValue(measurementJson, DeviceMeasurement.class);
+    }
+
+    @Benchmark
+    public byte[] serializeLocation() throws IOException {
+	return writer.writeValueAsBytes(location);
+    }
+
+    @Benchmark
+    public DeviceLocation deserializeLocation() throws IOException {
+	return mapper.readValue(locationJson, DeviceLocation.class);
+    }
+
+    @Benchmark
+    public byte[] serializeAlert() throws IOException {
+	return writer.writeValueAsBytes(alert);
+    }
+
+    @Benchmark
+    public DeviceAlert deserializeAlert() throws IOException {
+	return mapper.readValue(alertJson, DeviceAlert.class);
+    }
+
+    @Benchmark
+    public byte[] serializeEnrichedPayload() throws IOException {
+	return writer.writeValueAsBytes(enrichedPayload);
+    }
+
+    @Benchmark
+    public EnrichedEventPayload deserializeEnrichedPayload() throws IOException {
+	return mapper.readValue(enrichedPayloadJson, EnrichedEventPayload.class);
+    }
+
+    /**
+     * Reads the payload by parsing it into a tree, inspecting the event type
+     * and binding each part, as consumers had to before the payload carried
+     * typed deserializers.
+     */
+    @Benchmark
+    public EnrichedEventPayload deserializeEnrichedPayloadViaTree() throws IOException {
+	JsonNode tree = mapper.readTree(enrichedPayloadJson);
+	JsonNode event = tree.get("event");
+	EnrichedEventPayload payload = new EnrichedEventPayload();
+	payload.setEventContext(mapper.treeToValue(tree.get("eventContext"), DeviceEventContext.class));
+	if ("Measurement".equals(event.get("eventType").asText())) {
+	    payload.setEvent(mapper.treeToValue(event, DeviceMeasurement.class));
+	}
+	return payload;
+    }
+
+    @Benchmark
+    public byte[] serializeDevices() throws IOException {
+	return writer.writeValueAsBytes(devices);
+    }
+
+    @Benchmark
+    public SearchResults<Device> deserializeDevices() throws IOException {
+	return devicesReader.readValue(devicesJson);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.sitewhere.rest.model.search.Pager;
+import com.sitewhere.rest.model.search.SearchCriteria;
+
+/**
+ * Cost of paging through an in-memory list with {@link Pager#process(Object)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PagerBenchmark {
+
+    /** Number of records offered to the pager */
+    @Param({ "10000" })
+    public int records;
+
+    /** Requested page number */
+    @Param({ "1", "50" })
+    public int pageNumber;
+
+    /** Values offered to the pager */
+    private Integer[] values;
+
+    @Setup
+    public void setup() {
+	values = new Integer[records];
+	for (int i = 0; i < records; i++) {
+	    values[i] = i;
+	}
+    }
+
+    @Benchmark
+    public Pager<Integer> process() {
+	Pager<Integer> pager = new Pager<Integer>(new SearchCriteria(pageNumber, 100));
+	for (Integer value : values) {
+	    pager.process(value);
+	}
+	return pager;
+    }
+}
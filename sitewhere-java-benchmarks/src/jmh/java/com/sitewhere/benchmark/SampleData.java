@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.sitewhere.rest.model.device.Device;
+import com.sitewhere.rest.model.device.event.DeviceAlert;
+import com.sitewhere.rest.model.device.event.DeviceEvent;
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventContext;
+import com.sitewhere.rest.model.device.event.DeviceLocation;
+import com.sitewhere.rest.model.device.event.DeviceMeasurement;
+import com.sitewhere.rest.model.device.event.kafka.EnrichedEventPayload;
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.spi.device.DeviceAssignmentStatus;
+import com.sitewhere.spi.device.event.AlertLevel;
+import com.sitewhere.spi.device.event.AlertSource;
+
+/**
+ * Builds representative model objects for benchmarks.
+ */
+public class SampleData {
+
+    /** Fixed event date so payload sizes are stable */
+    private static final Date EVENT_DATE = new Date(1546300800123L);
+
+    /**
+     * Create a batch with the given number of each event type.
+     * 
+     * @param eventsPerType
+     * @return
+     */
+    public static DeviceEventBatch batch(int eventsPerType) {
+	DeviceEventBatch batch = new DeviceEventBatch();
+	batch.setDeviceToken("benchmark-device");
+	List<DeviceMeasurementCreateRequest> measurements = new ArrayList<>();
+	List<DeviceLocationCreateRequest> locations = new ArrayList<>();
+	List<DeviceAlertCreateRequest> alerts = new ArrayList<>();
+	for (int i = 0; i < eventsPerType; i++) {
+	    DeviceMeasurementCreateRequest mx = new DeviceMeasurementCreateRequest();
+	    mx.setName("engine.temp");
+	    mx.setValue(80 + (i % 20));
+	    mx.setEventDate(new Date(EVENT_DATE.getTime() + i));
+	    measurements.add(mx);
+
+	    DeviceLocationCreateRequest location = new DeviceLocationCreateRequest();
+	    location.setLatitude(33.7490 + i * 0.0001);
+	    location.setLongitude(-84.3880 - i * 0.0001);
+	    location.setElevation(320.0);
+	    location.setEventDate(new Date(EVENT_DATE.getTime() + i));
+	    locations.add(location);
+
+	    DeviceAlertCreateRequest alert = new DeviceAlertCreateRequest();
+	    alert.setType("engine.overheat");
+	    alert.setMessage("Engine temperature above threshold.");
+	    alert.setLevel(AlertLevel.Warning);
+	    alert.setSource(AlertSource.Device);
+	    alert.setEventDate(new Date(EVENT_DATE.getTime() + i));
+	    alerts.add(alert);
+	}
+	batch.setMeasurements(measurements);
+	batch.setLocations(locations);
+	batch.setAlerts(alerts);
+	return batch;
+    }
+
+    public static DeviceMeasurement measurement() {
+	DeviceMeasurement mx = new DeviceMeasurement();
+	populate(mx);
+	mx.setName("engine.temp");
+	mx.setValue(88.5);
+	return mx;
+    }
+
+    public static DeviceLocation location() {
+	DeviceLocation location = new DeviceLocation();
+	populate(location);
+	location.setLatitude(33.7490);
+	location.setLongitude(-84.3880);
+	location.setElevation(320.0);
+	return location;
+    }
+
+    public static DeviceAlert alert() {
+	DeviceAlert alert = new DeviceAlert();
+	populate(alert);
+	alert.setType("engine.overheat");
+	alert.setMessage("Engine temperature above threshold.");
+	alert.setLevel(AlertLevel.Warning);
+	alert.setSource(AlertSource.Device);
+	return alert;
+    }
+
+    public static EnrichedEventPayload enrichedPayload() {
+	DeviceEventContext context = new DeviceEventContext();
+	context.setDeviceId(UUID.randomUUID());
+	context.setDeviceTypeId(UUID.randomUUID());
+	context.setDeviceStatus("active");
+	context.setDeviceMetadata(metadata());
+	context.setAssignmentStatus(DeviceAssignmentStatus.Active);
+	context.setAssignmentMetadata(metadata());
+
+	EnrichedEventPayload payload = new EnrichedEventPayload();
+	payload.setEventContext(context);
+	payload.setEvent(measurement());
+	return payload;
+    }
+
+    /**
+     * Create a page of devices.
+     * 
+     * @param count
+     * @return
+     */
+    public static SearchResults<Device> devices(int count) {
+	List<Device> devices = new ArrayList<>();
+	for (int i = 0; i < count; i++) {
+	    Device device = new Device();
+	    device.setId(UUID.randomUUID());
+	    device.setToken("device-" + i);
+	    device.setDeviceTypeId(UUID.randomUUID());
+	    device.setComments("Benchmark device " + i);
+	    device.setStatus("active");
+	    device.setCreatedDate(EVENT_DATE);
+	    device.setCreatedBy("admin");
+	    device.setMetadata(metadata());
+	    devices.add(device);
+	}
+	return new SearchResults<Device>(devices, count);
+    }
+
+    /**
+     * Create a page of measurements.
+     * 
+     * @param count
+     * @return
+     */
+    public static SearchResults<DeviceMeasurement> measurements(int count) {
+	List<DeviceMeasurement> measurements = new ArrayList<>();
+	for (int i = 0; i < count; i++) {
+	    DeviceMeasurement mx = measurement();
+	    mx.setValue(80.0 + (i % 20));
+	    measurements.add(mx);
+	}
+	return new SearchResults<DeviceMeasurement>(measurements, count);
+    }
+
+    protected static void populate(DeviceEvent event) {
+	event.setId(UUID.randomUUID());
+	event.setDeviceId(UUID.randomUUID());
+	event.setDeviceAssignmentId(UUID.randomUUID());
+	event.setAreaId(UUID.randomUUID());
+	event.setEventDate(EVENT_DATE);
+	event.setReceivedDate(EVENT_DATE);
+	event.setMetadata(metadata());
+    }
+
+    protected static Map<String, String> metadata() {
+	Map<String, String> metadata = new HashMap<>();
+	metadata.put("firmware", "1.4.2");
+	metadata.put("region", "us-east");
+	return metadata;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.sitewhere.spi.ITenantAuthentication;
+import com.sitewhere.spi.device.DeviceAssignmentStatus;
+
+/**
+ * Request building helpers invoked by every client call. Lives in the client
+ * package so protected helpers can be measured directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClientRequestBenchmark {
+
+    /** Client that is never initialized */
+    private SiteWhereClient client;
+
+    /** Tenant whose headers are built on every call */
+    private ITenantAuthentication tenant;
+
+    /** Tenant of a tenant-bound view, whose headers are computed once */
+    private ITenantAuthentication boundTenant;
+
+    /** Date used for query parameters */
+    private Date date;
+
+    /** Enum list used for query parameters */
+    private List<DeviceAssignmentStatus> statuses;
+
+    @Setup
+    public void setup() {
+	client = new SiteWhereClient();
+	ITenantAuthentication defaults = SiteWhereClient.defaultTenant();
+	tenant = new ITenantAuthentication() {
+
+	    @Override
+	    public String getTenantToken() {
+		return defaults.getTenantToken();
+	    }
+
+	    @Override
+	    public String getTenantAuthToken() {
+		return defaults.getTenantAuthToken();
+	    }
+	};
+	boundTenant = client.withTenant(defaults).getTenant();
+	date = new Date(1546300800123L);
+	statuses = Arrays.asList(DeviceAssignmentStatus.Active, DeviceAssignmentStatus.Missing);
+    }
+
+    @Benchmark
+    public Map<String, String> createHeadersFor() {
+	return client.createHeadersFor(tenant);
+    }
+
+    @Benchmark
+    public Map<String, String> createHeadersForBoundTenant() {
+	return client.createHeadersFor(boundTenant);
+    }
+
+    @Benchmark
+    public String assembleList() {
+	return SiteWhereClient.assembleList(statuses);
+    }
+
+    @Benchmark
+    public String toISO8601() {
+	return client.toISO8601(date);
+    }
+}
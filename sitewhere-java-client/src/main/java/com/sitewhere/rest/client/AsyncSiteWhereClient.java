@@ -0,0 +1,2209 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.sitewhere.rest.model.area.Area;
+import com.sitewhere.rest.model.area.AreaType;
+import com.sitewhere.rest.model.area.Zone;
+import com.sitewhere.rest.model.area.request.AreaCreateRequest;
+import com.sitewhere.rest.model.area.request.AreaTypeCreateRequest;
+import com.sitewhere.rest.model.area.request.ZoneCreateRequest;
+import com.sitewhere.rest.model.asset.Asset;
+import com.sitewhere.rest.model.asset.AssetType;
+import com.sitewhere.rest.model.asset.marshaling.MarshaledAsset;
+import com.sitewhere.rest.model.asset.request.AssetCreateRequest;
+import com.sitewhere.rest.model.asset.request.AssetTypeCreateRequest;
+import com.sitewhere.rest.model.batch.BatchElement;
+import com.sitewhere.rest.model.batch.BatchOperation;
+import com.sitewhere.rest.model.batch.request.InvocationByDeviceCriteriaRequest;
+import com.sitewhere.rest.model.batch.request.BatchCommandInvocationRequest;
+import com.sitewhere.rest.model.customer.Customer;
+import com.sitewhere.rest.model.customer.CustomerType;
+import com.sitewhere.rest.model.customer.request.CustomerCreateRequest;
+import com.sitewhere.rest.model.customer.request.CustomerTypeCreateRequest;
+import com.sitewhere.rest.model.device.Device;
+import com.sitewhere.rest.model.device.DeviceElementMapping;
+import com.sitewhere.rest.model.device.DeviceStatus;
+import com.sitewhere.rest.model.device.DeviceType;
+import com.sitewhere.rest.model.device.asset.DeviceAlertWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceCommandResponseWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceEventWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceLocationWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceMeasurementWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceStateChangeWithAsset;
+import com.sitewhere.rest.model.device.charting.ChartSeries;
+import com.sitewhere.rest.model.device.charting.MeasurementSeries;
+import com.sitewhere.rest.model.device.command.DeviceCommand;
+import com.sitewhere.rest.model.device.command.DeviceCommandNamespace;
+import com.sitewhere.rest.model.device.event.DeviceCommandInvocation;
+import com.sitewhere.rest.model.device.event.DeviceCommandResponse;
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceCommandInvocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceCommandResponseCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceStateChangeCreateRequest;
+import com.sitewhere.rest.model.device.event.view.DeviceCommandInvocationSummary;
+import com.sitewhere.rest.model.device.group.DeviceGroup;
+import com.sitewhere.rest.model.device.group.DeviceGroupElement;
+import com.sitewhere.rest.model.device.marshaling.MarshaledArea;
+import com.sitewhere.rest.model.device.marshaling.MarshaledAreaType;
+import com.sitewhere.rest.model.device.marshaling.MarshaledCustomer;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDevice;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDeviceAssignment;
+import com.sitewhere.rest.model.device.request.DeviceAssignmentBulkRequest;
+import com.sitewhere.rest.model.device.request.DeviceAssignmentCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceCommandCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceGroupCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceGroupElementCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceStatusCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceTypeCreateRequest;
+import com.sitewhere.rest.model.device.state.DeviceState;
+import com.sitewhere.rest.model.scheduling.Schedule;
+import com.sitewhere.rest.model.scheduling.ScheduledJob;
+import com.sitewhere.rest.model.scheduling.request.ScheduleCreateRequest;
+import com.sitewhere.rest.model.scheduling.request.ScheduledJobCreateRequest;
+import com.sitewhere.rest.model.search.DateRangeSearchCriteria;
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.rest.model.search.TreeNode;
+import com.sitewhere.rest.model.search.area.AreaResponseFormat;
+import com.sitewhere.rest.model.search.area.AreaSearchCriteria;
+import com.sitewhere.rest.model.search.area.AreaTypeSearchCriteria;
+import com.sitewhere.rest.model.search.asset.AssetSearchCriteria;
+import com.sitewhere.rest.model.search.asset.AssetTypeSearchCriteria;
+import com.sitewhere.rest.model.search.batch.BatchOperationSearchCriteria;
+import com.sitewhere.rest.model.search.customer.CustomerResponseFormat;
+import com.sitewhere.rest.model.search.customer.CustomerSearchCriteria;
+import com.sitewhere.rest.model.search.customer.CustomerTypeResponseFormat;
+import com.sitewhere.rest.model.search.customer.CustomerTypeSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceAssignmentResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceAssignmentSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceByGroupResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceCommandSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceGroupElementResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceGroupElementSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceGroupSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceStateResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceStateSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceStatusSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceTypeResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceTypeSearchCriteria;
+import com.sitewhere.rest.model.search.device.ZoneSearchCriteria;
+import com.sitewhere.rest.model.search.scheduling.ScheduleResponseFormat;
+import com.sitewhere.rest.model.search.scheduling.ScheduleSearchCriteria;
+import com.sitewhere.rest.model.search.scheduling.ScheduledJobResponseFormat;
+import com.sitewhere.rest.model.search.scheduling.ScheduledJobSearchCriteria;
+import com.sitewhere.rest.model.search.tenant.TenantSearchCriteria;
+import com.sitewhere.rest.model.system.Version;
+import com.sitewhere.rest.model.tenant.Tenant;
+import com.sitewhere.rest.model.tenant.request.TenantCreateRequest;
+import com.sitewhere.rest.model.user.GrantedAuthority;
+import com.sitewhere.rest.model.user.GrantedAuthorityHierarchyNode;
+import com.sitewhere.rest.model.user.User;
+import com.sitewhere.rest.model.user.request.GrantedAuthorityCreateRequest;
+import com.sitewhere.rest.model.user.request.UserCreateRequest;
+import com.sitewhere.spi.IAsyncSiteWhereClient;
+import com.sitewhere.spi.IBulkLookupResult;
+import com.sitewhere.spi.ITenantAuthentication;
+import com.sitewhere.spi.SiteWhereException;
+
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Non-blocking client for interacting with SiteWhere REST services. Calls are
+ * issued with {@link Call#enqueue(Callback)} so that requests are executed on
+ * the OkHttp dispatcher and no caller thread is blocked waiting for a response.
+ * Connection settings, authentication and the Retrofit interfaces are shared
+ * with the wrapped {@link SiteWhereClient}.
+ */
+public class AsyncSiteWhereClient implements IAsyncSiteWhereClient {
+
+    /** Blocking client that holds connection settings and Retrofit interfaces */
+    private SiteWhereClient client;
+
+    public AsyncSiteWhereClient(SiteWhereClient client) {
+	this.client = client;
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#initialize()
+     */
+    @Override
+    public IAsyncSiteWhereClient initialize() throws SiteWhereException {
+	getClient().initialize();
+	return this;
+    }
+
+    // ------------------------------------------------------------------------
+    // Area Types
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listAreaTypes()
+     */
+    @Override
+    public CompletableFuture<SearchResults<AreaType>> listAreaTypes(ITenantAuthentication tenant,
+	    AreaTypeSearchCriteria searchCriteria) {
+	Call<SearchResults<AreaType>> call = getRestRetrofit().listAreaTypes(
+		searchCriteria.getIncludeContainedAreaTypes(), searchCriteria.getPageNumber(),
+		searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getAreaTypeByToken()
+     */
+    @Override
+    public CompletableFuture<MarshaledAreaType> getAreaTypeByToken(ITenantAuthentication tenant, String areaTypeToken) {
+	Call<MarshaledAreaType> call = getRestRetrofit().getAreaTypeByToken(areaTypeToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createAreaType()
+     */
+    @Override
+    public CompletableFuture<AreaType> createAreaType(ITenantAuthentication tenant, AreaTypeCreateRequest request) {
+	Call<AreaType> call = getRestRetrofit().createAreaType(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateAreaType()
+     */
+    @Override
+    public CompletableFuture<AreaType> updateAreaType(ITenantAuthentication tenant, String areaTypeToken,
+	    AreaTypeCreateRequest request) {
+	Call<AreaType> call = getRestRetrofit().updateAreaType(areaTypeToken, request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteAreaType()
+     */
+    @Override
+    public CompletableFuture<AreaType> deleteAreaType(ITenantAuthentication tenant, String areaTypeToken) {
+	Call<AreaType> call = getRestRetrofit().deleteAreaType(areaTypeToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getLabelForAreaType()
+     */
+    @Override
+    public CompletableFuture<byte[]> getLabelForAreaType(ITenantAuthentication tenant, String areaTypeToken,
+	    String generatorId) {
+	Call<ResponseBody> call = getRestRetrofit().getLabelForAreaType(areaTypeToken, generatorId,
+		createHeadersFor(tenant));
+	return processBinaryRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Areas
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listAreas()
+     */
+    @Override
+    public CompletableFuture<SearchResults<Area>> listAreas(ITenantAuthentication tenant,
+	    AreaSearchCriteria searchCriteria, AreaResponseFormat responseFormat) {
+	Call<SearchResults<Area>> call = getRestRetrofit().listAreas(searchCriteria.getAreaTypeToken(),
+		responseFormat.getIncludeAreaType(), responseFormat.getIncludeAssignments(),
+		responseFormat.getIncludeZones(), searchCriteria.getPageNumber(), searchCriteria.getPageSize(),
+		searchCriteria.getParentAreaToken(), searchCriteria.getRootOnly(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getAreaByToken()
+     */
+    @Override
+    public CompletableFuture<MarshaledArea> getAreaByToken(ITenantAuthentication tenant, String areaToken) {
+	Call<MarshaledArea> call = getRestRetrofit().getAreaByToken(areaToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#bulkGetAreasByToken()
+     */
+    @Override
+    public CompletableFuture<IBulkLookupResult<MarshaledArea>> bulkGetAreasByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) {
+	return BulkLookup.resolve(tokens, getClient().getBulkLookupParallelism(),
+		token -> getAreaByToken(tenant, token));
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createArea()
+     */
+    @Override
+    public CompletableFuture<Area> createArea(ITenantAuthentication tenant, AreaCreateRequest request) {
+	Call<Area> call = getRestRetrofit().createArea(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateArea()
+     */
+    @Override
+    public CompletableFuture<Area> updateArea(ITenantAuthentication tenant, String areaToken,
+	    AreaCreateRequest request) {
+	Call<Area> call = getRestRetrofit().updateArea(areaToken, request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteArea()
+     */
+    @Override
+    public CompletableFuture<Area> deleteArea(ITenantAuthentication tenant, String areaToken) {
+	Call<Area> call = getRestRetrofit().deleteArea(areaToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listAlertsForArea()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceAlertWithAsset>> listAlertsForArea(ITenantAuthentication tenant,
+	    String areaToken, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceAlertWithAsset>> call = getRestRetrofit().listAlertsForArea(areaToken,
+		toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDeviceAssignmentsForArea()
+     */
+    @Override
+    public CompletableFuture<SearchResults<MarshaledDeviceAssignment>> listDeviceAssignmentsForArea(
+	    ITenantAuthentication tenant, String areaToken, DeviceAssignmentSearchCriteria searchCriteria,
+	    DeviceAssignmentResponseFormat responseFormat) {
+	Call<SearchResults<MarshaledDeviceAssignment>> call = getRestRetrofit().listDeviceAssignmentsForArea(areaToken,
+		assembleList(searchCriteria.getAssignmentStatuses()), responseFormat.getIncludeDevice(),
+		responseFormat.getIncludeCustomer(), responseFormat.getIncludeArea(), responseFormat.getIncludeAsset(),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listCommandInvocationsForArea()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceCommandInvocation>> listCommandInvocationsForArea(
+	    ITenantAuthentication tenant, String areaToken, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceCommandInvocation>> call = getRestRetrofit().listCommandInvocationsForArea(areaToken,
+		toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getLabelForArea()
+     */
+    @Override
+    public CompletableFuture<byte[]> getLabelForArea(ITenantAuthentication tenant, String areaToken,
+	    String generatorId) {
+	Call<ResponseBody> call = getRestRetrofit().getLabelForArea(areaToken, generatorId, createHeadersFor(tenant));
+	return processBinaryRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listLocationsForArea()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceLocationWithAsset>> listLocationsForArea(ITenantAuthentication tenant,
+	    String areaToken, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceLocationWithAsset>> call = getRestRetrofit().listLocationsForArea(areaToken,
+		toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listMeasurementsForArea()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceMeasurementWithAsset>> listMeasurementsForArea(
+	    ITenantAuthentication tenant, String areaToken, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceMeasurementWithAsset>> call = getRestRetrofit().listMeasurementsForArea(areaToken,
+		toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listCommandResponsesForArea()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceCommandResponseWithAsset>> listCommandResponsesForArea(
+	    ITenantAuthentication tenant, String areaToken, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceCommandResponseWithAsset>> call = getRestRetrofit().listCommandResponsesForArea(
+		areaToken, toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listStateChangesForArea()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceStateChangeWithAsset>> listStateChangesForArea(
+	    ITenantAuthentication tenant, String areaToken, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceStateChangeWithAsset>> call = getRestRetrofit().listStateChangesForArea(areaToken,
+		toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#areaTree()
+     */
+    @Override
+    public CompletableFuture<List<TreeNode>> areaTree(ITenantAuthentication tenant) {
+	Call<List<TreeNode>> call = getRestRetrofit().areaTree(createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Asset Types
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listAssetTypes()
+     */
+    @Override
+    public CompletableFuture<SearchResults<AssetType>> listAssetTypes(ITenantAuthentication tenant,
+	    AssetTypeSearchCriteria searchCriteria) {
+	Call<SearchResults<AssetType>> call = getRestRetrofit().listAssetTypes(searchCriteria.getPageNumber(),
+		searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getAssetTypeByToken()
+     */
+    @Override
+    public CompletableFuture<AssetType> getAssetTypeByToken(ITenantAuthentication tenant, String assetTypeToken) {
+	Call<AssetType> call = getRestRetrofit().getAssetTypeByToken(assetTypeToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createAssetType()
+     */
+    @Override
+    public CompletableFuture<AssetType> createAssetType(ITenantAuthentication tenant, AssetTypeCreateRequest request) {
+	Call<AssetType> call = getRestRetrofit().createAssetType(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateAssetType()
+     */
+    @Override
+    public CompletableFuture<AssetType> updateAssetType(ITenantAuthentication tenant, String assetTypeToken,
+	    AssetTypeCreateRequest request) {
+	Call<AssetType> call = getRestRetrofit().updateAssetType(assetTypeToken, request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteAssetType()
+     */
+    @Override
+    public CompletableFuture<AssetType> deleteAssetType(ITenantAuthentication tenant, String assetTypeToken) {
+	Call<AssetType> call = getRestRetrofit().deleteAssetType(assetTypeToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getLabelForAssetType()
+     */
+    @Override
+    public CompletableFuture<byte[]> getLabelForAssetType(ITenantAuthentication tenant, String assetTypeToken,
+	    String generatorId) {
+	Call<ResponseBody> call = getRestRetrofit().getLabelForAssetType(assetTypeToken, generatorId,
+		createHeadersFor(tenant));
+	return processBinaryRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Asset
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listAssets()
+     */
+    @Override
+    public CompletableFuture<SearchResults<Asset>> listAssets(ITenantAuthentication tenant,
+	    AssetSearchCriteria searchCriteria) {
+	Call<SearchResults<Asset>> call = getRestRetrofit().listAssets(searchCriteria.getAssetTypeToken(),
+		searchCriteria.getIncludeAssetType(), searchCriteria.getPageNumber(), searchCriteria.getPageSize(),
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getAssetByToken()
+     */
+    @Override
+    public CompletableFuture<MarshaledAsset> getAssetByToken(ITenantAuthentication tenant, String assetToken) {
+	Call<MarshaledAsset> call = getRestRetrofit().getAssetByToken(assetToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createAsset()
+     */
+    @Override
+    public CompletableFuture<Asset> createAsset(ITenantAuthentication tenant, AssetCreateRequest request) {
+	Call<Asset> call = getRestRetrofit().createAsset(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateAsset()
+     */
+    @Override
+    public CompletableFuture<Asset> updateAsset(ITenantAuthentication tenant, String assetToken,
+	    AssetCreateRequest request) {
+	Call<Asset> call = getRestRetrofit().updateAsset(assetToken, request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteAsset()
+     */
+    @Override
+    public CompletableFuture<Asset> deleteAsset(ITenantAuthentication tenant, String assetToken) {
+	Call<Asset> call = getRestRetrofit().deleteAsset(assetToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getLabelForAsset()
+     */
+    @Override
+    public CompletableFuture<byte[]> getLabelForAsset(ITenantAuthentication tenant, String assetToken,
+	    String generatorId) {
+	Call<ResponseBody> call = getRestRetrofit().getLabelForAsset(assetToken, generatorId, createHeadersFor(tenant));
+	return processBinaryRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Assignments
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDeviceAssignments()
+     */
+    @Override
+    public CompletableFuture<SearchResults<MarshaledDeviceAssignment>> listDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentSearchCriteria searchCriteria,
+	    DeviceAssignmentResponseFormat format) {
+	Call<SearchResults<MarshaledDeviceAssignment>> call = getRestRetrofit().listDeviceAssignments(
+		assembleTokenList(searchCriteria.getAreaTokens()), format.getIncludeArea(),
+		assembleTokenList(searchCriteria.getAssetTokens()), format.getIncludeAsset(),
+		assembleTokenList(searchCriteria.getCustomerTokens()), format.getIncludeCustomer(),
+		assembleTokenList(searchCriteria.getDeviceTokens()), format.getIncludeDevice(),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getDeviceAssignmentByToken()
+     */
+    @Override
+    public CompletableFuture<MarshaledDeviceAssignment> getDeviceAssignmentByToken(ITenantAuthentication tenant,
+	    String token) {
+	Call<MarshaledDeviceAssignment> call = getRestRetrofit().getDeviceAssignmentByToken(token,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#bulkGetDeviceAssignmentsByToken()
+     */
+    @Override
+    public CompletableFuture<IBulkLookupResult<MarshaledDeviceAssignment>> bulkGetDeviceAssignmentsByToken(
+	    ITenantAuthentication tenant, Collection<String> tokens) {
+	return BulkLookup.resolve(tokens, getClient().getBulkLookupParallelism(),
+		token -> getDeviceAssignmentByToken(tenant, token));
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<MarshaledDeviceAssignment> createDeviceAssignment(ITenantAuthentication tenant,
+	    DeviceAssignmentCreateRequest request) {
+	Call<MarshaledDeviceAssignment> call = getRestRetrofit().createDeviceAssignment(request,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<MarshaledDeviceAssignment> updateDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DeviceAssignmentCreateRequest request) {
+	Call<MarshaledDeviceAssignment> call = getRestRetrofit().updateDeviceAssignment(token, request,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<MarshaledDeviceAssignment> deleteDeviceAssignment(ITenantAuthentication tenant,
+	    String token) {
+	Call<MarshaledDeviceAssignment> call = getRestRetrofit().deleteDeviceAssignment(token,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listAlertsForDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceAlertWithAsset>> listAlertsForDeviceAssignment(
+	    ITenantAuthentication tenant, String areaToken, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceAlertWithAsset>> call = getRestRetrofit().listAlertsForDeviceAssignment(areaToken,
+		toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createAlertForDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<DeviceAlertWithAsset> createAlertForDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DeviceAlertCreateRequest request) {
+	Call<DeviceAlertWithAsset> call = getClient().withAlternateId(request,
+		() -> getRestRetrofit().createAlertForDeviceAssignment(token, request, createHeadersFor(tenant)));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#releaseDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<MarshaledDeviceAssignment> releaseDeviceAssignment(ITenantAuthentication tenant,
+	    String token) {
+	Call<MarshaledDeviceAssignment> call = getRestRetrofit().releaseDeviceAssignment(token,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listCommandInvocationsForDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceCommandInvocation>> listCommandInvocationsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, Boolean includeCommand,
+	    DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceCommandInvocation>> call = getRestRetrofit().listCommandInvocationsForDeviceAssignment(
+		token, includeCommand, toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createCommandInvocationForDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<DeviceCommandInvocation> createCommandInvocationForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DeviceCommandInvocationCreateRequest request) {
+	Call<DeviceCommandInvocation> call = getClient().withAlternateId(request,
+		() -> getRestRetrofit().createCommandInvocationForDeviceAssignment(token, request,
+			createHeadersFor(tenant)));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#scheduleCommandInvocation()
+     */
+    @Override
+    public CompletableFuture<ScheduledJob> scheduleCommandInvocation(ITenantAuthentication tenant, String token,
+	    String scheduleToken, DeviceCommandInvocationCreateRequest request) {
+	Call<ScheduledJob> call = getClient().withAlternateId(request,
+		() -> getRestRetrofit().scheduleCommandInvocation(token, scheduleToken, request,
+			createHeadersFor(tenant)));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getLabelForDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<byte[]> getLabelForDeviceAssignment(ITenantAuthentication tenant, String token,
+	    String generatorId) {
+	Call<ResponseBody> call = getRestRetrofit().getLabelForDeviceAssignment(token, generatorId,
+		createHeadersFor(tenant));
+	return processBinaryRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listLocationsForDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceLocationWithAsset>> listLocationsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceLocationWithAsset>> call = getRestRetrofit().listLocationsForDeviceAssignment(token,
+		toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createLocationForDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<DeviceLocationWithAsset> createLocationForDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DeviceLocationCreateRequest request) {
+	Call<DeviceLocationWithAsset> call = getClient().withAlternateId(request,
+		() -> getRestRetrofit().createLocationForDeviceAssignment(token, request, createHeadersFor(tenant)));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listMeasurementsForDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceMeasurementWithAsset>> listMeasurementsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceMeasurementWithAsset>> call = getRestRetrofit().listMeasurementsForDeviceAssignment(
+		token, toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createMeasurementForDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<DeviceMeasurementWithAsset> createMeasurementForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DeviceMeasurementCreateRequest request) {
+	Call<DeviceMeasurementWithAsset> call = getClient().withAlternateId(request,
+		() -> getRestRetrofit().createMeasurementForDeviceAssignment(token, request, createHeadersFor(tenant)));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listMeasurementsForDeviceAssignmentAsChartSeries()
+     */
+    @Override
+    public CompletableFuture<List<ChartSeries<Double>>> listMeasurementsForDeviceAssignmentAsChartSeries(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria) {
+	Call<List<ChartSeries<Double>>> call = getRestRetrofit().listMeasurementsForDeviceAssignmentAsChartSeries(token,
+		toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listMeasurementsForDeviceAssignmentAsMeasurementSeries()
+     */
+    @Override
+    public CompletableFuture<List<MeasurementSeries>> listMeasurementsForDeviceAssignmentAsMeasurementSeries(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria) {
+	Call<List<MeasurementSeries>> call = getRestRetrofit().listMeasurementsForDeviceAssignmentAsMeasurementSeries(
+		token, toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#markMissingDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<MarshaledDeviceAssignment> markMissingDeviceAssignment(ITenantAuthentication tenant,
+	    String token) {
+	Call<MarshaledDeviceAssignment> call = getRestRetrofit().markMissingDeviceAssignment(token,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listCommandResponsesForDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceCommandResponseWithAsset>> listCommandResponsesForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceCommandResponseWithAsset>> call = getRestRetrofit()
+		.listCommandResponsesForDeviceAssignment(token, toISO8601(searchCriteria.getStartDate()),
+			toISO8601(searchCriteria.getEndDate()), searchCriteria.getPageNumber(),
+			searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createCommandResponseForDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<DeviceCommandResponseWithAsset> createCommandResponseForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DeviceCommandResponseCreateRequest request) {
+	Call<DeviceCommandResponseWithAsset> call = getClient().withAlternateId(request,
+		() -> getRestRetrofit().createCommandResponseForDeviceAssignment(token, request,
+			createHeadersFor(tenant)));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listStateChangesForDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceStateChangeWithAsset>> listStateChangesForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceStateChangeWithAsset>> call = getRestRetrofit().listStateChangesForDeviceAssignment(
+		token, toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createStateChangeForDeviceAssignment()
+     */
+    @Override
+    public CompletableFuture<DeviceStateChangeWithAsset> createStateChangeForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DeviceStateChangeCreateRequest request) {
+	Call<DeviceStateChangeWithAsset> call = getClient().withAlternateId(request,
+		() -> getRestRetrofit().createStateChangeForDeviceAssignment(token, request, createHeadersFor(tenant)));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#bulkListAlertsForDeviceAssignments()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceAlertWithAsset>> bulkListAlertsForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) {
+	Call<SearchResults<DeviceAlertWithAsset>> call = getRestRetrofit().bulkListAlertsForDeviceAssignments(request,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#bulkListCommandInvocationsForDeviceAssignments()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceCommandInvocation>> bulkListCommandInvocationsForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) {
+	Call<SearchResults<DeviceCommandInvocation>> call = getRestRetrofit()
+		.bulkListCommandInvocationsForDeviceAssignments(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#bulkListLocationsForDeviceAssignments()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceLocationWithAsset>> bulkListLocationsForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) {
+	Call<SearchResults<DeviceLocationWithAsset>> call = getRestRetrofit()
+		.bulkListLocationsForDeviceAssignments(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#bulkListMeasurementsForDeviceAssignments()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceMeasurementWithAsset>> bulkListMeasurementsForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) {
+	Call<SearchResults<DeviceMeasurementWithAsset>> call = getRestRetrofit()
+		.bulkListMeasurementsForDeviceAssignments(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#bulkListMeasurementsForDeviceAssignmentsAsChartSeries()
+     */
+    @Override
+    public CompletableFuture<Map<String, List<ChartSeries<Double>>>> bulkListMeasurementsForDeviceAssignmentsAsChartSeries(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) {
+	Call<Map<String, List<ChartSeries<Double>>>> call = getRestRetrofit()
+		.bulkListMeasurementsForDeviceAssignmentsAsChartSeries(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries()
+     */
+    @Override
+    public CompletableFuture<Map<String, List<MeasurementSeries>>> bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) {
+	Call<Map<String, List<MeasurementSeries>>> call = getRestRetrofit()
+		.bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#bulkListCommandResponsesForDeviceAssignments()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceCommandResponseWithAsset>> bulkListCommandResponsesForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) {
+	Call<SearchResults<DeviceCommandResponseWithAsset>> call = getRestRetrofit()
+		.bulkListCommandResponsesForDeviceAssignments(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#bulkListStateChangesForDeviceAssignments()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceStateChangeWithAsset>> bulkListStateChangesForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) {
+	Call<SearchResults<DeviceStateChangeWithAsset>> call = getRestRetrofit()
+		.bulkListStateChangesForDeviceAssignments(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Authorities
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listAuthorities()
+     */
+    @Override
+    public CompletableFuture<SearchResults<GrantedAuthority>> listAuthorities(ITenantAuthentication tenant) {
+	Call<SearchResults<GrantedAuthority>> call = getRestRetrofit().listAuthorities(createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getAuthorityByName()
+     */
+    @Override
+    public CompletableFuture<GrantedAuthority> getAuthorityByName(ITenantAuthentication tenant, String name) {
+	Call<GrantedAuthority> call = getRestRetrofit().getAuthorityByName(name, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createAuthority()
+     */
+    @Override
+    public CompletableFuture<GrantedAuthority> createAuthority(ITenantAuthentication tenant,
+	    GrantedAuthorityCreateRequest request) {
+	Call<GrantedAuthority> call = getRestRetrofit().createAuthority(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getAuthoritiesHierarchy()
+     */
+    @Override
+    public CompletableFuture<List<GrantedAuthorityHierarchyNode>> getAuthoritiesHierarchy(
+	    ITenantAuthentication tenant) {
+	Call<List<GrantedAuthorityHierarchyNode>> call = getRestRetrofit()
+		.getAuthoritiesHierarchy(createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Batch Operations
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listBatchOperations()
+     */
+    @Override
+    public CompletableFuture<SearchResults<BatchOperation>> listBatchOperations(ITenantAuthentication tenant,
+	    BatchOperationSearchCriteria searchCriteria) {
+	Call<SearchResults<BatchOperation>> call = getRestRetrofit().listBatchOperations(searchCriteria.getPageNumber(),
+		searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getBatchOperationByToken()
+     */
+    @Override
+    public CompletableFuture<BatchOperation> getBatchOperationByToken(ITenantAuthentication tenant, String batchToken) {
+	Call<BatchOperation> call = getRestRetrofit().getBatchOperationByToken(batchToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listBatchOperationElements()
+     */
+    @Override
+    public CompletableFuture<SearchResults<BatchElement>> listBatchOperationElements(ITenantAuthentication tenant,
+	    String operationToken) {
+	Call<SearchResults<BatchElement>> call = getRestRetrofit().listBatchOperationElements(operationToken,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createBatchCommandInvocation()
+     */
+    @Override
+    public CompletableFuture<BatchOperation> createBatchCommandInvocation(ITenantAuthentication tenant,
+	    BatchCommandInvocationRequest request) {
+	Call<BatchOperation> call = getRestRetrofit().createBatchCommandInvocation(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createBatchCommandOperationForCriteria()
+     */
+    @Override
+    public CompletableFuture<Object> createBatchCommandOperationForCriteria(ITenantAuthentication tenant,
+	    InvocationByDeviceCriteriaRequest request) {
+	Call<Object> call = getRestRetrofit().createBatchCommandOperationForCriteria(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Command Invocations
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getDeviceCommandInvocation()
+     */
+    @Override
+    public CompletableFuture<DeviceCommandInvocation> getDeviceCommandInvocation(ITenantAuthentication tenant,
+	    String id) {
+	Call<DeviceCommandInvocation> call = getRestRetrofit().getDeviceCommandInvocation(id, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getDeviceCommandInvocationSummary()
+     */
+    @Override
+    public CompletableFuture<DeviceCommandInvocationSummary> getDeviceCommandInvocationSummary(
+	    ITenantAuthentication tenant, String id) {
+	Call<DeviceCommandInvocationSummary> call = getRestRetrofit().getDeviceCommandInvocationSummary(id,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listCommandResponsesForCommandInvocation()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceCommandResponse>> listCommandResponsesForCommandInvocation(
+	    ITenantAuthentication tenant, String id) {
+	Call<SearchResults<DeviceCommandResponse>> call = getRestRetrofit().listCommandResponsesForCommandInvocation(id,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Customer Types
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listCustomerTypes()
+     */
+    @Override
+    public CompletableFuture<SearchResults<CustomerType>> listCustomerTypes(ITenantAuthentication tenant,
+	    CustomerTypeSearchCriteria searchCriteria, CustomerTypeResponseFormat responseFormat) {
+	Call<SearchResults<CustomerType>> call = getRestRetrofit().listCustomerTypes(
+		responseFormat.getIncludeContainedCustomerTypes(), searchCriteria.getPageNumber(),
+		searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getCustomerTypeByToken()
+     */
+    @Override
+    public CompletableFuture<CustomerType> getCustomerTypeByToken(ITenantAuthentication tenant,
+	    String customerTypeToken) {
+	Call<CustomerType> call = getRestRetrofit().getCustomerTypeByToken(customerTypeToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createCustomerType()
+     */
+    @Override
+    public CompletableFuture<CustomerType> createCustomerType(ITenantAuthentication tenant,
+	    CustomerTypeCreateRequest request) {
+	Call<CustomerType> call = getRestRetrofit().createCustomerType(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateCustomerType()
+     */
+    @Override
+    public CompletableFuture<CustomerType> updateCustomerType(ITenantAuthentication tenant, String customerTypeToken,
+	    CustomerTypeCreateRequest request) {
+	Call<CustomerType> call = getRestRetrofit().updateCustomerType(customerTypeToken, request,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteCustomerType()
+     */
+    @Override
+    public CompletableFuture<CustomerType> deleteCustomerType(ITenantAuthentication tenant, String customerTypeToken) {
+	Call<CustomerType> call = getRestRetrofit().deleteCustomerType(customerTypeToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getLabelForCustomerType()
+     */
+    @Override
+    public CompletableFuture<byte[]> getLabelForCustomerType(ITenantAuthentication tenant, String customerTypeToken,
+	    String generatorId) {
+	Call<ResponseBody> call = getRestRetrofit().getLabelForCustomerType(customerTypeToken, generatorId,
+		createHeadersFor(tenant));
+	return processBinaryRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Customer
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listCustomers()
+     */
+    @Override
+    public CompletableFuture<SearchResults<Customer>> listCustomers(ITenantAuthentication tenant,
+	    CustomerSearchCriteria searchCriteria, CustomerResponseFormat responseFormat) {
+	Call<SearchResults<Customer>> call = getRestRetrofit().listCustomers(searchCriteria.getCustomerTypeToken(),
+		searchCriteria.getParentCustomerToken(), searchCriteria.getPageNumber(), searchCriteria.getPageSize(),
+		responseFormat.getIncludeCustomerType(), searchCriteria.getRootOnly(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getCustomerByToken()
+     */
+    @Override
+    public CompletableFuture<MarshaledCustomer> getCustomerByToken(ITenantAuthentication tenant, String customerToken) {
+	Call<MarshaledCustomer> call = getRestRetrofit().getCustomerByToken(customerToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createCustomer()
+     */
+    @Override
+    public CompletableFuture<Customer> createCustomer(ITenantAuthentication tenant, CustomerCreateRequest request) {
+	Call<Customer> call = getRestRetrofit().createCustomer(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateCustomer()
+     */
+    @Override
+    public CompletableFuture<Customer> updateCustomer(ITenantAuthentication tenant, String customerToken,
+	    CustomerCreateRequest request) {
+	Call<Customer> call = getRestRetrofit().updateCustomer(customerToken, request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteCustomer()
+     */
+    @Override
+    public CompletableFuture<Customer> deleteCustomer(ITenantAuthentication tenant, String customerToken) {
+	Call<Customer> call = getRestRetrofit().deleteCustomer(customerToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listAlertsForCustomer()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceAlertWithAsset>> listAlertsForCustomer(ITenantAuthentication tenant,
+	    String customerToken, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceAlertWithAsset>> call = getRestRetrofit().listAlertsForCustomer(customerToken,
+		toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDeviceAssignmentsForCustomer()
+     */
+    @Override
+    public CompletableFuture<SearchResults<MarshaledDeviceAssignment>> listDeviceAssignmentsForCustomer(
+	    ITenantAuthentication tenant, String customerToken, DeviceAssignmentSearchCriteria searchCriteria,
+	    DeviceAssignmentResponseFormat responseFormat) {
+	Call<SearchResults<MarshaledDeviceAssignment>> call = getRestRetrofit().listDeviceAssignmentsForCustomer(
+		customerToken, assembleList(searchCriteria.getAssignmentStatuses()), responseFormat.getIncludeDevice(),
+		responseFormat.getIncludeCustomer(), responseFormat.getIncludeArea(), responseFormat.getIncludeAsset(),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listCommandInvocationsForCustomer()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceCommandInvocation>> listCommandInvocationsForCustomer(
+	    ITenantAuthentication tenant, String customerToken, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceCommandInvocation>> call = getRestRetrofit().listCommandInvocationsForCustomer(
+		customerToken, toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getLabelForCustomer()
+     */
+    @Override
+    public CompletableFuture<byte[]> getLabelForCustomer(ITenantAuthentication tenant, String customerToken,
+	    String generatorId) {
+	Call<ResponseBody> call = getRestRetrofit().getLabelForCustomer(customerToken, generatorId,
+		createHeadersFor(tenant));
+	return processBinaryRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listLocationsForCustomer()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceLocationWithAsset>> listLocationsForCustomer(
+	    ITenantAuthentication tenant, String customerToken, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceLocationWithAsset>> call = getRestRetrofit().listLocationsForCustomer(customerToken,
+		toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listMeasurementsForCustomer()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceMeasurementWithAsset>> listMeasurementsForCustomer(
+	    ITenantAuthentication tenant, String customerToken, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceMeasurementWithAsset>> call = getRestRetrofit().listMeasurementsForCustomer(
+		customerToken, toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listCommandResponsesForCustomer()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceCommandResponseWithAsset>> listCommandResponsesForCustomer(
+	    ITenantAuthentication tenant, String customerToken, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceCommandResponseWithAsset>> call = getRestRetrofit().listCommandResponsesForCustomer(
+		customerToken, toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listStateChangesForCustomer()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceStateChangeWithAsset>> listStateChangesForCustomer(
+	    ITenantAuthentication tenant, String customerToken, DateRangeSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceStateChangeWithAsset>> call = getRestRetrofit().listStateChangesForCustomer(
+		customerToken, toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#customerTree()
+     */
+    @Override
+    public CompletableFuture<List<TreeNode>> customerTree(ITenantAuthentication tenant) {
+	Call<List<TreeNode>> call = getRestRetrofit().areaTree(createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Commands
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDeviceCommands()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceCommand>> listDeviceCommands(ITenantAuthentication tenant,
+	    DeviceCommandSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceCommand>> call = getRestRetrofit().listDeviceCommands(
+		searchCriteria.getDeviceTypeToken(), searchCriteria.getPageNumber(), searchCriteria.getPageSize(),
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getDeviceCommandByToken()
+     */
+    @Override
+    public CompletableFuture<DeviceCommand> getDeviceCommandByToken(ITenantAuthentication tenant, String token) {
+	Call<DeviceCommand> call = getRestRetrofit().getDeviceCommandByToken(token, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createDeviceCommand()
+     */
+    @Override
+    public CompletableFuture<DeviceCommand> createDeviceCommand(ITenantAuthentication tenant,
+	    DeviceCommandCreateRequest request) {
+	Call<DeviceCommand> call = getRestRetrofit().createDeviceCommand(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateDeviceCommand()
+     */
+    @Override
+    public CompletableFuture<DeviceCommand> updateDeviceCommand(ITenantAuthentication tenant, String token,
+	    DeviceCommandCreateRequest request) {
+	Call<DeviceCommand> call = getRestRetrofit().updateDeviceCommand(token, request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteDeviceCommand()
+     */
+    @Override
+    public CompletableFuture<DeviceCommand> deleteDeviceCommand(ITenantAuthentication tenant, String token) {
+	Call<DeviceCommand> call = getRestRetrofit().deleteDeviceCommand(token, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDeviceCommandsByNamesapce()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceCommandNamespace>> listDeviceCommandsByNamesapce(
+	    ITenantAuthentication tenant, DeviceCommandSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceCommandNamespace>> call = getRestRetrofit().listDeviceCommandsByNamesapce(
+		searchCriteria.getDeviceTypeToken(), searchCriteria.getPageNumber(), searchCriteria.getPageSize(),
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Events
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getDeviceEventByAlternateId()
+     */
+    @Override
+    public CompletableFuture<DeviceEventWithAsset> getDeviceEventByAlternateId(ITenantAuthentication tenant,
+	    String alternateId) {
+	Call<DeviceEventWithAsset> call = getRestRetrofit().getDeviceEventByAlternateId(alternateId,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getDeviceEventById()
+     */
+    @Override
+    public CompletableFuture<DeviceEventWithAsset> getDeviceEventById(ITenantAuthentication tenant, String eventId) {
+	Call<DeviceEventWithAsset> call = getRestRetrofit().getDeviceEventById(eventId, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Groups
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDeviceGroups()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceGroup>> listDeviceGroups(ITenantAuthentication tenant,
+	    DeviceGroupSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceGroup>> call = getRestRetrofit().listDeviceGroups(searchCriteria.getRole(),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getDeviceGroupByToken()
+     */
+    @Override
+    public CompletableFuture<DeviceGroup> getDeviceGroupByToken(ITenantAuthentication tenant, String groupToken) {
+	Call<DeviceGroup> call = getRestRetrofit().getDeviceGroupByToken(groupToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createDeviceGroup()
+     */
+    @Override
+    public CompletableFuture<DeviceGroup> createDeviceGroup(ITenantAuthentication tenant,
+	    DeviceGroupCreateRequest request) {
+	Call<DeviceGroup> call = getRestRetrofit().createDeviceGroup(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateDeviceGroup()
+     */
+    @Override
+    public CompletableFuture<DeviceGroup> updateDeviceGroup(ITenantAuthentication tenant, String groupToken,
+	    DeviceGroupCreateRequest request) {
+	Call<DeviceGroup> call = getRestRetrofit().updateDeviceGroup(groupToken, request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteDeviceGroup()
+     */
+    @Override
+    public CompletableFuture<DeviceGroup> deleteDeviceGroup(ITenantAuthentication tenant, String groupToken) {
+	Call<DeviceGroup> call = getRestRetrofit().deleteDeviceGroup(groupToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDeviceGroupElements()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceGroupElement>> listDeviceGroupElements(ITenantAuthentication tenant,
+	    DeviceGroupElementSearchCriteria searchCriteria, DeviceGroupElementResponseFormat responseFormat) {
+	Call<SearchResults<DeviceGroupElement>> call = getRestRetrofit().listDeviceGroupElements(
+		searchCriteria.getGroupToken(), responseFormat.getIncludeDetails(), searchCriteria.getPageNumber(),
+		searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#addElementsToDdeviceGroup()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceGroupElement>> addElementsToDdeviceGroup(ITenantAuthentication tenant,
+	    String groupToken, List<DeviceGroupElementCreateRequest> requests) {
+	Call<SearchResults<DeviceGroupElement>> call = getRestRetrofit().addElementsToDdeviceGroup(groupToken, requests,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteDeviceGroupElements()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceGroupElement>> deleteDeviceGroupElements(ITenantAuthentication tenant,
+	    String groupToken, List<String> elementIds) {
+	Call<SearchResults<DeviceGroupElement>> call = getRestRetrofit().deleteDeviceGroupElements(groupToken,
+		elementIds, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteDeviceGroupElement()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceGroupElement>> deleteDeviceGroupElement(ITenantAuthentication tenant,
+	    String groupToken, String elementId) {
+	Call<SearchResults<DeviceGroupElement>> call = getRestRetrofit().deleteDeviceGroupElement(groupToken, elementId,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getLabelForDeviceGroup()
+     */
+    @Override
+    public CompletableFuture<byte[]> getLabelForDeviceGroup(ITenantAuthentication tenant, String groupToken,
+	    String generatorId) {
+	Call<ResponseBody> call = getRestRetrofit().getLabelForDeviceGroup(groupToken, generatorId,
+		createHeadersFor(tenant));
+	return processBinaryRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device States
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDeviceStates()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceState>> listDeviceStates(ITenantAuthentication tenant,
+	    DeviceStateSearchCriteria searchCriteria, DeviceStateResponseFormat responseFormat) {
+	Call<SearchResults<DeviceState>> call = getRestRetrofit().listDeviceStates(searchCriteria,
+		responseFormat.getIncludeArea(), responseFormat.getIncludeAsset(), responseFormat.getIncludeCustomer(),
+		responseFormat.getIncludeDevice(), responseFormat.getIncludeDeviceAssignment(),
+		responseFormat.getIncludeDeviceType(), responseFormat.getIncludeEventDetails(),
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Statuses
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDeviceStatuses()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceStatus>> listDeviceStatuses(ITenantAuthentication tenant,
+	    DeviceStatusSearchCriteria searchCriteria) {
+	Call<SearchResults<DeviceStatus>> call = getRestRetrofit().listDeviceStatuses(searchCriteria.getCode(),
+		searchCriteria.getDeviceTypeToken(), searchCriteria.getPageNumber(), searchCriteria.getPageSize(),
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getDeviceStatusByToken()
+     */
+    @Override
+    public CompletableFuture<DeviceStatus> getDeviceStatusByToken(ITenantAuthentication tenant, String token) {
+	Call<DeviceStatus> call = getRestRetrofit().getDeviceStatusByToken(token, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createDeviceStatus()
+     */
+    @Override
+    public CompletableFuture<DeviceStatus> createDeviceStatus(ITenantAuthentication tenant,
+	    DeviceStatusCreateRequest request) {
+	Call<DeviceStatus> call = getRestRetrofit().createDeviceStatus(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateDeviceStatus()
+     */
+    @Override
+    public CompletableFuture<DeviceStatus> updateDeviceStatus(ITenantAuthentication tenant, String token,
+	    DeviceStatusCreateRequest request) {
+	Call<DeviceStatus> call = getRestRetrofit().updateDeviceStatus(token, request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteDeviceStatus()
+     */
+    @Override
+    public CompletableFuture<DeviceStatus> deleteDeviceStatus(ITenantAuthentication tenant, String token) {
+	Call<DeviceStatus> call = getRestRetrofit().deleteDeviceStatus(token, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Types
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDeviceTypes()
+     */
+    @Override
+    public CompletableFuture<SearchResults<DeviceType>> listDeviceTypes(ITenantAuthentication tenant,
+	    DeviceTypeSearchCriteria searchCriteria, DeviceTypeResponseFormat responseFormat) {
+	Call<SearchResults<DeviceType>> call = getRestRetrofit().listDeviceTypes(responseFormat.getIncludeAsset(),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getDeviceTypeByToken()
+     */
+    @Override
+    public CompletableFuture<DeviceType> getDeviceTypeByToken(ITenantAuthentication tenant, String token) {
+	Call<DeviceType> call = getRestRetrofit().getDeviceTypeByToken(token, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#bulkGetDeviceTypesByToken()
+     */
+    @Override
+    public CompletableFuture<IBulkLookupResult<DeviceType>> bulkGetDeviceTypesByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) {
+	return BulkLookup.resolve(tokens, getClient().getBulkLookupParallelism(),
+		token -> getDeviceTypeByToken(tenant, token));
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createDeviceType()
+     */
+    @Override
+    public CompletableFuture<DeviceType> createDeviceType(ITenantAuthentication tenant,
+	    DeviceTypeCreateRequest request) {
+	Call<DeviceType> call = getRestRetrofit().createDeviceType(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateDeviceType()
+     */
+    @Override
+    public CompletableFuture<DeviceType> updateDeviceType(ITenantAuthentication tenant, String token,
+	    DeviceTypeCreateRequest request) {
+	Call<DeviceType> call = getRestRetrofit().updateDeviceType(token, request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteDeviceType()
+     */
+    @Override
+    public CompletableFuture<DeviceType> deleteDeviceType(ITenantAuthentication tenant, String token) {
+	Call<DeviceType> call = getRestRetrofit().deleteDeviceType(token, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getLabelForDeviceType()
+     */
+    @Override
+    public CompletableFuture<byte[]> getLabelForDeviceType(ITenantAuthentication tenant, String token,
+	    String generatorId) {
+	Call<ResponseBody> call = getRestRetrofit().getLabelForDeviceType(token, generatorId, createHeadersFor(tenant));
+	return processBinaryRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getDeviceTypeGPBSpecification()
+     */
+    @Override
+    public CompletableFuture<String> getDeviceTypeGPBSpecification(ITenantAuthentication tenant, String token) {
+	Call<ResponseBody> call = getRestRetrofit().getDeviceTypeGPBSpecification(token, createHeadersFor(tenant));
+	return processBinaryRestCall(call).thenApply(String::new);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#downlaodDeviceTypeGPBSpecification()
+     */
+    @Override
+    public CompletableFuture<File> downlaodDeviceTypeGPBSpecification(ITenantAuthentication tenant, String token) {
+	Call<ResponseBody> call = getRestRetrofit().downlaodDeviceTypeGPBSpecification(token, createHeadersFor(tenant));
+	return processFileDownloadCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Devices
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDevices()
+     */
+    @Override
+    public CompletableFuture<SearchResults<Device>> listDevices(ITenantAuthentication tenant,
+	    DeviceSearchCriteria searchCriteria, DeviceResponseFormat responseFormat) {
+	Call<SearchResults<Device>> call = getRestRetrofit().listDevices(searchCriteria.getDeviceTypeToken(),
+		searchCriteria.isExcludeAssigned(), responseFormat.getIncludeAssignment(),
+		responseFormat.getIncludeDeviceType(), toISO8601(searchCriteria.getStartDate()),
+		toISO8601(searchCriteria.getEndDate()), searchCriteria.getPageNumber(), searchCriteria.getPageSize(),
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getDeviceByToken()
+     */
+    @Override
+    public CompletableFuture<MarshaledDevice> getDeviceByToken(ITenantAuthentication tenant, String deviceToken) {
+	Call<MarshaledDevice> call = getRestRetrofit().getDeviceByToken(deviceToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#bulkGetDevicesByToken()
+     */
+    @Override
+    public CompletableFuture<IBulkLookupResult<MarshaledDevice>> bulkGetDevicesByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) {
+	return BulkLookup.resolve(tokens, getClient().getBulkLookupParallelism(),
+		token -> getDeviceByToken(tenant, token));
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createDevice()
+     */
+    @Override
+    public CompletableFuture<MarshaledDevice> createDevice(ITenantAuthentication tenant, DeviceCreateRequest request) {
+	Call<MarshaledDevice> call = getRestRetrofit().createDevice(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateDevice()
+     */
+    @Override
+    public CompletableFuture<MarshaledDevice> updateDevice(ITenantAuthentication tenant, String deviceToken,
+	    DeviceCreateRequest request) {
+	Call<MarshaledDevice> call = getRestRetrofit().updateDevice(deviceToken, request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteDevice()
+     */
+    @Override
+    public CompletableFuture<MarshaledDevice> deleteDevice(ITenantAuthentication tenant, String deviceToken) {
+	Call<MarshaledDevice> call = getRestRetrofit().deleteDevice(deviceToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDeviceAssignmentsForDevice()
+     */
+    @Override
+    public CompletableFuture<SearchResults<MarshaledDeviceAssignment>> listDeviceAssignmentsForDevice(
+	    ITenantAuthentication tenant, String deviceToken, DeviceAssignmentSearchCriteria searchCriteria,
+	    DeviceAssignmentResponseFormat responseFormat) {
+	Call<SearchResults<MarshaledDeviceAssignment>> call = getRestRetrofit().listDeviceAssignmentsForDevice(
+		deviceToken, responseFormat.getIncludeArea(), responseFormat.getIncludeAsset(),
+		responseFormat.getIncludeCustomer(), responseFormat.getIncludeDevice(), searchCriteria.getPageNumber(),
+		searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#addMultipleEventsForDevice()
+     */
+    @Override
+    public CompletableFuture<DeviceEventBatchResponse> addMultipleEventsForDevice(ITenantAuthentication tenant,
+	    String deviceToken, DeviceEventBatch batch) {
+	Call<DeviceEventBatchResponse> call = getClient().withAlternateIds(batch,
+		() -> getRestRetrofit().addMultipleEventsForDevice(deviceToken, batch, createHeadersFor(tenant)));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getLabelForDevice()
+     */
+    @Override
+    public CompletableFuture<byte[]> getLabelForDevice(ITenantAuthentication tenant, String deviceToken,
+	    String generatorId) {
+	Call<ResponseBody> call = getRestRetrofit().getLabelForDevice(deviceToken, generatorId,
+		createHeadersFor(tenant));
+	return processBinaryRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createDeviceMappings()
+     */
+    @Override
+    public CompletableFuture<MarshaledDevice> createDeviceMappings(ITenantAuthentication tenant, String deviceToken,
+	    DeviceElementMapping request) {
+	Call<MarshaledDevice> call = getRestRetrofit().createDeviceMappings(deviceToken, request,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteDeviceMappings()
+     */
+    @Override
+    public CompletableFuture<MarshaledDevice> deleteDeviceMappings(ITenantAuthentication tenant, String deviceToken,
+	    String path) {
+	Call<MarshaledDevice> call = getRestRetrofit().deleteDeviceMappings(deviceToken, path,
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDevicesByDeviceGroup()
+     */
+    @Override
+    public CompletableFuture<SearchResults<Device>> listDevicesByDeviceGroup(ITenantAuthentication tenant,
+	    String groupToken, DeviceSearchCriteria searchCriteria, DeviceByGroupResponseFormat responseFormat) {
+	Call<SearchResults<Device>> call = getRestRetrofit().listDevicesByDeviceGroup(groupToken,
+		searchCriteria.getDeviceTypeToken(), searchCriteria.isExcludeAssigned(),
+		responseFormat.getIncludeAssignment(), responseFormat.getIncludeDeleted(),
+		responseFormat.getIncludeDeviceType(), toISO8601(searchCriteria.getStartDate()),
+		toISO8601(searchCriteria.getEndDate()), searchCriteria.getPageNumber(), searchCriteria.getPageSize(),
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listDevicesByDeviceGroupWithRole()
+     */
+    @Override
+    public CompletableFuture<SearchResults<Device>> listDevicesByDeviceGroupWithRole(ITenantAuthentication tenant,
+	    String role, DeviceSearchCriteria searchCriteria, DeviceByGroupResponseFormat responseFormat) {
+	Call<SearchResults<Device>> call = getRestRetrofit().listDevicesByDeviceGroupWithRole(role,
+		searchCriteria.getDeviceTypeToken(), searchCriteria.isExcludeAssigned(),
+		responseFormat.getIncludeAssignment(), responseFormat.getIncludeDeleted(),
+		responseFormat.getIncludeDeviceType(), toISO8601(searchCriteria.getStartDate()),
+		toISO8601(searchCriteria.getEndDate()), searchCriteria.getPageNumber(), searchCriteria.getPageSize(),
+		createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // External Search
+    // ------------------------------------------------------------------------
+
+    // ------------------------------------------------------------------------
+    // Instance
+    // ------------------------------------------------------------------------
+
+    // ------------------------------------------------------------------------
+    // Scheduled Jobs
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listScheduledJobs()
+     */
+    @Override
+    public CompletableFuture<SearchResults<ScheduledJob>> listScheduledJobs(ITenantAuthentication tenant,
+	    ScheduledJobSearchCriteria searchCriteria, ScheduledJobResponseFormat responseFormat) {
+	Call<SearchResults<ScheduledJob>> call = getRestRetrofit().listScheduledJobs(responseFormat.getIncludeContext(),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getScheduledJobByToken()
+     */
+    @Override
+    public CompletableFuture<ScheduledJob> getScheduledJobByToken(ITenantAuthentication tenant, String token) {
+	Call<ScheduledJob> call = getRestRetrofit().getScheduledJobByToken(token, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createScheduledJob()
+     */
+    @Override
+    public CompletableFuture<ScheduledJob> createScheduledJob(ITenantAuthentication tenant,
+	    ScheduledJobCreateRequest request) {
+	Call<ScheduledJob> call = getRestRetrofit().createScheduledJob(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateScheduledJob()
+     */
+    @Override
+    public CompletableFuture<ScheduledJob> updateScheduledJob(ITenantAuthentication tenant, String token,
+	    ScheduledJobCreateRequest request) {
+	Call<ScheduledJob> call = getRestRetrofit().updateScheduledJob(token, request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteScheduledJob()
+     */
+    @Override
+    public CompletableFuture<ScheduledJob> deleteScheduledJob(ITenantAuthentication tenant, String token) {
+	Call<ScheduledJob> call = getRestRetrofit().deleteScheduledJob(token, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Schedules
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listSchedules()
+     */
+    @Override
+    public CompletableFuture<SearchResults<Schedule>> listSchedules(ITenantAuthentication tenant,
+	    ScheduleSearchCriteria searchCriteria, ScheduleResponseFormat responseFormat) {
+	Call<SearchResults<Schedule>> call = getRestRetrofit().listSchedules(searchCriteria.getPageNumber(),
+		searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getScheduleByToken()
+     */
+    @Override
+    public CompletableFuture<Schedule> getScheduleByToken(ITenantAuthentication tenant, String token) {
+	Call<Schedule> call = getRestRetrofit().getScheduleByToken(token, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createSchedule()
+     */
+    @Override
+    public CompletableFuture<Schedule> createSchedule(ITenantAuthentication tenant, ScheduleCreateRequest request) {
+	Call<Schedule> call = getRestRetrofit().createSchedule(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateSchedule()
+     */
+    @Override
+    public CompletableFuture<Schedule> updateSchedule(ITenantAuthentication tenant, String token,
+	    ScheduleCreateRequest request) {
+	Call<Schedule> call = getRestRetrofit().updateSchedule(token, request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteSchedule()
+     */
+    @Override
+    public CompletableFuture<Schedule> deleteSchedule(ITenantAuthentication tenant, String token) {
+	Call<Schedule> call = getRestRetrofit().deleteSchedule(token, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // System
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getSiteWhereVersion()
+     */
+    @Override
+    public CompletableFuture<Version> getSiteWhereVersion() {
+	Call<Version> call = getRestRetrofit().getVersion();
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Tenants
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listTenants()
+     */
+    @Override
+    public CompletableFuture<SearchResults<Tenant>> listTenants(TenantSearchCriteria searchCriteria) {
+	Call<SearchResults<Tenant>> call = getRestRetrofit().listTenants(searchCriteria.getUserId(),
+		searchCriteria.getTextSearch(), searchCriteria.isIncludeRuntimeInfo(), searchCriteria.getPageNumber(),
+		searchCriteria.getPageSize(), createDefaulHeaders());
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getTenantByToken()
+     */
+    @Override
+    public CompletableFuture<Tenant> getTenantByToken(String tenantToken) {
+	Call<Tenant> call = getRestRetrofit().getTenantByToken(tenantToken, createDefaulHeaders());
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createTenant()
+     */
+    @Override
+    public CompletableFuture<Tenant> createTenant(TenantCreateRequest request) {
+	Call<Tenant> call = getRestRetrofit().createTenant(request, createDefaulHeaders());
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateTenant()
+     */
+    @Override
+    public CompletableFuture<Tenant> updateTenant(String tenantToken, TenantCreateRequest request) {
+	Call<Tenant> call = getRestRetrofit().updateTenant(tenantToken, request, createDefaulHeaders());
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteTenant()
+     */
+    @Override
+    public CompletableFuture<Tenant> deleteTenant(String tenantToken) {
+	Call<Tenant> call = getRestRetrofit().deleteTenant(tenantToken, createDefaulHeaders());
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Users
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listUsers()
+     */
+    @Override
+    public CompletableFuture<SearchResults<User>> listUsers() {
+	Call<SearchResults<User>> call = getRestRetrofit().listUsers(createDefaulHeaders());
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getUserByUsername()
+     */
+    @Override
+    public CompletableFuture<User> getUserByUsername(String username) {
+	Call<User> call = getRestRetrofit().getUserByUsername(username, createDefaulHeaders());
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createUser()
+     */
+    @Override
+    public CompletableFuture<User> createUser(UserCreateRequest request) {
+	Call<User> call = getRestRetrofit().createUser(request, createDefaulHeaders());
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateUser()
+     */
+    @Override
+    public CompletableFuture<User> updateUser(String username, UserCreateRequest request) {
+	Call<User> call = getRestRetrofit().updateUser(username, request, createDefaulHeaders());
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteUser()
+     */
+    @Override
+    public CompletableFuture<User> deleteUser(String username) {
+	Call<User> call = getRestRetrofit().deleteUser(username, createDefaulHeaders());
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listUserAuthorities()
+     */
+    @Override
+    public CompletableFuture<SearchResults<GrantedAuthority>> listUserAuthorities(String username) {
+	Call<SearchResults<GrantedAuthority>> call = getRestRetrofit().listUserAuthorities(username,
+		createDefaulHeaders());
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+    // Zones
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#listZones()
+     */
+    @Override
+    public CompletableFuture<SearchResults<Zone>> listZones(ITenantAuthentication tenant,
+	    ZoneSearchCriteria searchCriteria) {
+	Call<SearchResults<Zone>> call = getRestRetrofit().listZones(searchCriteria.getAreaToken(),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#getZoneByToken()
+     */
+    @Override
+    public CompletableFuture<Zone> getZoneByToken(ITenantAuthentication tenant, String zoneToken) {
+	Call<Zone> call = getRestRetrofit().getZoneByToken(zoneToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#createZone()
+     */
+    @Override
+    public CompletableFuture<Zone> createZone(ITenantAuthentication tenant, ZoneCreateRequest request) {
+	Call<Zone> call = getRestRetrofit().createZone(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#updateZone()
+     */
+    @Override
+    public CompletableFuture<Zone> updateZone(ITenantAuthentication tenant, String zoneToken,
+	    ZoneCreateRequest request) {
+	Call<Zone> call = getRestRetrofit().updateZone(zoneToken, request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IAsyncSiteWhereClient#deleteZone()
+     */
+    @Override
+    public CompletableFuture<Zone> deleteZone(ITenantAuthentication tenant, String zoneToken) {
+	Call<Zone> call = getRestRetrofit().deleteZone(zoneToken, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
+    // ------------------------------------------------------------------------
+
+    /**
+     * Common processing logic for asynchronous REST calls. The call is queued on
+     * the OkHttp dispatcher and the returned future is completed from the
+     * dispatcher thread once the response has been converted. Cancelling the
+     * future cancels the underlying call unless it is shared with other callers
+     * through request coalescing.
+     * 
+     * @param call
+     * @return
+     */
+    protected <T> CompletableFuture<T> processRestCall(Call<T> call) {
+	RequestCoalescer coalescer = getClient().getRequestCoalescer();
+	if ((coalescer != null) && RequestCoalescer.isCoalescable(call.request())) {
+	    return coalescer.executeAsync(call.request(), () -> enqueueRestCall(call));
+	}
+	return enqueueRestCall(call);
+    }
+
+    /**
+     * Queue a REST call on the OkHttp dispatcher.
+     * 
+     * @param call
+     * @return
+     */
+    protected <T> CompletableFuture<T> enqueueRestCall(Call<T> call) {
+	CompletableFuture<T> future = new CompletableFuture<T>();
+	call.enqueue(new Callback<T>() {
+
+	    @Override
+	    public void onResponse(Call<T> call, Response<T> response) {
+		if (response.isSuccessful()) {
+		    future.complete(response.body());
+		} else {
+		    future.completeExceptionally(new SiteWhereException(response.toString()));
+		}
+	    }
+
+	    @Override
+	    public void onFailure(Call<T> call, Throwable t) {
+		future.completeExceptionally(new SiteWhereException(t));
+	    }
+	});
+	return cancelOnCompletion(future, call);
+    }
+
+    /**
+     * Asynchronous call that returns the raw bytes of the response body.
+     * 
+     * @param call
+     * @return
+     */
+    protected CompletableFuture<byte[]> processBinaryRestCall(Call<ResponseBody> call) {
+	CompletableFuture<byte[]> future = new CompletableFuture<byte[]>();
+	call.enqueue(new Callback<ResponseBody>() {
+
+	    @Override
+	    public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
+		try {
+		    if (response.isSuccessful()) {
+			future.complete(response.body().bytes());
+		    } else {
+			future.completeExceptionally(new SiteWhereException(response.toString()));
+		    }
+		} catch (IOException e) {
+		    future.completeExceptionally(new SiteWhereException(e));
+		}
+	    }
+
+	    @Override
+	    public void onFailure(Call<ResponseBody> call, Throwable t) {
+		future.completeExceptionally(new SiteWhereException(t));
+	    }
+	});
+	return cancelOnCompletion(future, call);
+    }
+
+    /**
+     * Asynchronous call that stores the response body in a file named by the
+     * content disposition header.
+     * 
+     * @param call
+     * @return
+     */
+    protected CompletableFuture<File> processFileDownloadCall(Call<ResponseBody> call) {
+	CompletableFuture<File> future = new CompletableFuture<File>();
+	call.enqueue(new Callback<ResponseBody>() {
+
+	    @Override
+	    public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
+		try {
+		    if (response.isSuccessful()) {
+			String fileName = SiteWhereClient
+				.extractFileName(response.headers().get(SiteWhereClient.CONTENT_DISPOSITION_HEADER));
+			future.complete(Files.write(new File(fileName).toPath(), response.body().bytes()).toFile());
+		    } else {
+			future.completeExceptionally(new SiteWhereException(response.toString()));
+		    }
+		} catch (IOException e) {
+		    future.completeExceptionally(new SiteWhereException(e));
+		}
+	    }
+
+	    @Override
+	    public void onFailure(Call<ResponseBody> call, Throwable t) {
+		future.completeExceptionally(new SiteWhereException(t));
+	    }
+	});
+	return cancelOnCompletion(future, call);
+    }
+
+    /**
+     * Cancel the underlying call if the caller cancels the future.
+     * 
+     * @param future
+     * @param call
+     * @return
+     */
+    protected static <T> CompletableFuture<T> cancelOnCompletion(CompletableFuture<T> future, Call<?> call) {
+	future.whenComplete((result, error) -> {
+	    if (future.isCancelled()) {
+		call.cancel();
+	    }
+	});
+	return future;
+    }
+
+    protected SiteWhereRestRetrofit getRestRetrofit() {
+	return getClient().getRestRetrofit();
+    }
+
+    protected Map<String, String> createHeadersFor(ITenantAuthentication tenant) {
+	return getClient().createHeadersFor(tenant);
+    }
+
+    protected Map<String, String> createDefaulHeaders() {
+	return getClient().createDefaulHeaders();
+    }
+
+    protected String toISO8601(Date date) {
+	return getClient().toISO8601(date);
+    }
+
+    protected static String assembleTokenList(List<String> tokenList) {
+	return SiteWhereClient.assembleTokenList(tokenList);
+    }
+
+    protected static <T> String assembleList(List<T> list) {
+	return SiteWhereClient.assembleList(list);
+    }
+
+    public SiteWhereClient getClient() {
+	return client;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.binary.BinaryEventCodec;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+/**
+ * Retrofit converters that send {@link DeviceEventBatch} bodies in the compact
+ * binary event format. Responses for {@link DeviceEventBatchResponse} are
+ * decoded from the binary format when the server answers with its content
+ * type and handed to the next converter otherwise, so servers that only speak
+ * JSON still work for responses.
+ */
+public class BinaryEventConverterFactory extends Converter.Factory {
+
+    /** Media type for binary event messages */
+    public static final MediaType MEDIA_TYPE = MediaType.get(BinaryEventCodec.MEDIA_TYPE);
+
+    /*
+     * @see retrofit2.Converter.Factory#requestBodyConverter(java.lang.reflect.Type,
+     * java.lang.annotation.Annotation[], java.lang.annotation.Annotation[],
+     * retrofit2.Retrofit)
+     */
+    @Override
+    public Converter<?, RequestBody> requestBodyConverter(Type type, Annotation[] parameterAnnotations,
+	    Annotation[] methodAnnotations, Retrofit retrofit) {
+	if (type != DeviceEventBatch.class) {
+	    return null;
+	}
+	return new Converter<DeviceEventBatch, RequestBody>() {
+
+	    @Override
+	    public RequestBody convert(DeviceEventBatch batch) throws IOException {
+		return RequestBody.create(MEDIA_TYPE, BinaryEventCodec.encode(batch));
+	    }
+	};
+    }
+
+    /*
+     * @see retrofit2.Converter.Factory#responseBodyConverter(java.lang.reflect.Type,
+     * java.lang.annotation.Annotation[], retrofit2.Retrofit)
+     */
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations,
+	    Retrofit retrofit) {
+	if (type != DeviceEventBatchResponse.class) {
+	    return null;
+	}
+	Converter<ResponseBody, DeviceEventBatchResponse> delegate = retrofit.nextResponseBodyConverter(this, type,
+		annotations);
+	return new Converter<ResponseBody, DeviceEventBatchResponse>() {
+
+	    @Override
+	    public DeviceEventBatchResponse convert(ResponseBody body) throws IOException {
+		if (!isBinary(body.contentType())) {
+		    return delegate.convert(body);
+		}
+		try {
+		    return BinaryEventCodec.decodeBatchResponse(body.bytes());
+		} finally {
+		    body.close();
+		}
+	    }
+	};
+    }
+
+    /**
+     * Indicates whether a content type is the binary event format.
+     * 
+     * @param contentType
+     * @return
+     */
+    public static boolean isBinary(MediaType contentType) {
+	return (contentType != null) && MEDIA_TYPE.type().equals(contentType.type())
+		&& MEDIA_TYPE.subtype().equals(contentType.subtype());
+    }
+}
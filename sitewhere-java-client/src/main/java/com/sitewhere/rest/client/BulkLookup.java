@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.sitewhere.spi.IBulkLookupResult;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Resolves a collection of tokens with asynchronous lookups, keeping at most a
+ * fixed number in flight. A new lookup is started as soon as one completes, so
+ * requests stay queued on the shared connection pool rather than being sent in
+ * fixed-size waves. Duplicate tokens are looked up once. A failed lookup is
+ * recorded against its token and does not affect the others.
+ */
+public class BulkLookup<T> {
+
+    /** Default number of lookups in flight */
+    public static final int DEFAULT_PARALLELISM = 16;
+
+    /** Distinct tokens in request order */
+    private List<String> tokens;
+
+    /** Tokens not yet started */
+    private Iterator<String> pending;
+
+    /** Starts a lookup for a token */
+    private Function<String, CompletableFuture<T>> lookup;
+
+    /** Results by token */
+    private Map<String, T> results = new ConcurrentHashMap<>();
+
+    /** Errors by token */
+    private Map<String, SiteWhereException> errors = new ConcurrentHashMap<>();
+
+    /** Number of lookups that may still be started */
+    private AtomicInteger available;
+
+    /** Number of lookups not yet completed */
+    private AtomicInteger remaining;
+
+    /** Number of outstanding requests to start lookups */
+    private AtomicInteger work = new AtomicInteger();
+
+    /** Completed once all lookups have finished */
+    private CompletableFuture<IBulkLookupResult<T>> future = new CompletableFuture<>();
+
+    protected BulkLookup(Collection<String> tokens, int parallelism, Function<String, CompletableFuture<T>> lookup) {
+	if (parallelism < 1) {
+	    throw new IllegalArgumentException("Parallelism must be at least one.");
+	}
+	this.tokens = new ArrayList<>(new LinkedHashSet<>(tokens));
+	this.pending = this.tokens.iterator();
+	this.lookup = lookup;
+	this.available = new AtomicInteger(parallelism);
+	this.remaining = new AtomicInteger(this.tokens.size());
+    }
+
+    /**
+     * Resolve tokens with at most the given number of lookups in flight.
+     *
+     * @param tokens
+     * @param parallelism
+     * @param lookup
+     * @return
+     */
+    public static <T> CompletableFuture<IBulkLookupResult<T>> resolve(Collection<String> tokens, int parallelism,
+	    Function<String, CompletableFuture<T>> lookup) {
+	BulkLookup<T> bulk = new BulkLookup<T>(tokens, parallelism, lookup);
+	if (bulk.tokens.isEmpty()) {
+	    bulk.complete();
+	} else {
+	    bulk.drain();
+	}
+	return bulk.future;
+    }
+
+    /**
+     * Wait for a bulk lookup started by
+     * {@link #resolve(Collection, int, Function)}.
+     *
+     * @param future
+     * @return
+     * @throws SiteWhereException
+     */
+    public static <T> IBulkLookupResult<T> await(CompletableFuture<IBulkLookupResult<T>> future)
+	    throws SiteWhereException {
+	try {
+	    return future.get();
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	    throw new SiteWhereException("Interrupted while waiting for bulk lookup.", e);
+	} catch (ExecutionException e) {
+	    throw new SiteWhereException(e.getCause());
+	}
+    }
+
+    /**
+     * Start lookups while capacity is available. Only one thread starts lookups
+     * at a time. Lookups that complete synchronously request another pass
+     * rather than recursing, so the stack depth does not grow with the number
+     * of tokens.
+     */
+    protected void drain() {
+	if (work.getAndIncrement() != 0) {
+	    return;
+	}
+	do {
+	    while (available.get() > 0 && pending.hasNext()) {
+		available.decrementAndGet();
+		start(pending.next());
+	    }
+	} while (work.decrementAndGet() != 0);
+    }
+
+    /**
+     * Start the lookup for a single token.
+     *
+     * @param token
+     */
+    protected void start(String token) {
+	CompletableFuture<T> result;
+	try {
+	    result = lookup.apply(token);
+	} catch (RuntimeException e) {
+	    result = new CompletableFuture<T>();
+	    result.completeExceptionally(e);
+	}
+	result.whenComplete((value, error) -> {
+	    if (error != null) {
+		errors.put(token, asSiteWhereException(error));
+	    } else if (value != null) {
+		results.put(token, value);
+	    } else {
+		errors.put(token, new SiteWhereException("No entity found for token '" + token + "'."));
+	    }
+	    if (remaining.decrementAndGet() == 0) {
+		complete();
+	    } else {
+		available.incrementAndGet();
+		drain();
+	    }
+	});
+    }
+
+    /**
+     * Build the result in request order.
+     */
+    protected void complete() {
+	BulkLookupResult<T> result = new BulkLookupResult<T>();
+	for (String token : tokens) {
+	    T value = results.get(token);
+	    if (value != null) {
+		result.getResults().put(token, value);
+	    } else {
+		result.getErrors().put(token, errors.get(token));
+	    }
+	}
+	future.complete(result);
+    }
+
+    /**
+     * Unwrap a lookup failure.
+     *
+     * @param error
+     * @return
+     */
+    protected static SiteWhereException asSiteWhereException(Throwable error) {
+	Throwable cause = (error instanceof CompletionException) && (error.getCause() != null) ? error.getCause()
+		: error;
+	if (cause instanceof SiteWhereException) {
+	    return (SiteWhereException) cause;
+	}
+	return new SiteWhereException(cause);
+    }
+}
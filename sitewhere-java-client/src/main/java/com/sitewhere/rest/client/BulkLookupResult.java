@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.sitewhere.spi.IBulkLookupResult;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Default implementation of {@link IBulkLookupResult}.
+ */
+public class BulkLookupResult<T> implements IBulkLookupResult<T> {
+
+    /** Entities found by token */
+    private Map<String, T> results = new LinkedHashMap<>();
+
+    /** Errors by token */
+    private Map<String, SiteWhereException> errors = new LinkedHashMap<>();
+
+    /*
+     * @see com.sitewhere.spi.IBulkLookupResult#getResults()
+     */
+    @Override
+    public Map<String, T> getResults() {
+	return results;
+    }
+
+    /*
+     * @see com.sitewhere.spi.IBulkLookupResult#getErrors()
+     */
+    @Override
+    public Map<String, SiteWhereException> getErrors() {
+	return errors;
+    }
+
+    /*
+     * @see com.sitewhere.spi.IBulkLookupResult#hasErrors()
+     */
+    @Override
+    public boolean hasErrors() {
+	return !errors.isEmpty();
+    }
+
+    /*
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+	return "BulkLookupResult [results=" + results.size() + ", errors=" + errors.keySet() + "]";
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+/**
+ * Entity types whose token lookups are cached by
+ * {@link CachingSiteWhereClient}.
+ */
+public enum CachedEntityType {
+
+    /** Devices (response embeds device type and active assignments) */
+    Device(true),
+
+    /** Device types */
+    DeviceType(false),
+
+    /** Device assignments (response embeds device, customer, area and asset) */
+    DeviceAssignment(true),
+
+    /** Areas (response embeds area type, parent and assignments) */
+    Area(true),
+
+    /** Customers (response embeds customer type, parent and assignments) */
+    Customer(true),
+
+    /** Device commands */
+    DeviceCommand(false);
+
+    /** Indicates cached responses embed other entities */
+    private boolean composite;
+
+    private CachedEntityType(boolean composite) {
+	this.composite = composite;
+    }
+
+    public boolean isComposite() {
+	return composite;
+    }
+}
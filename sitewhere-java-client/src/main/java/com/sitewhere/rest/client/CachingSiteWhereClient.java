@@ -0,0 +1,605 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.sitewhere.rest.model.area.Area;
+import com.sitewhere.rest.model.area.AreaType;
+import com.sitewhere.rest.model.area.Zone;
+import com.sitewhere.rest.model.area.request.AreaCreateRequest;
+import com.sitewhere.rest.model.area.request.AreaTypeCreateRequest;
+import com.sitewhere.rest.model.area.request.ZoneCreateRequest;
+import com.sitewhere.rest.model.asset.Asset;
+import com.sitewhere.rest.model.asset.request.AssetCreateRequest;
+import com.sitewhere.rest.model.customer.Customer;
+import com.sitewhere.rest.model.customer.CustomerType;
+import com.sitewhere.rest.model.customer.request.CustomerCreateRequest;
+import com.sitewhere.rest.model.customer.request.CustomerTypeCreateRequest;
+import com.sitewhere.rest.model.device.Device;
+import com.sitewhere.rest.model.device.DeviceElementMapping;
+import com.sitewhere.rest.model.device.DeviceType;
+import com.sitewhere.rest.model.device.command.DeviceCommand;
+import com.sitewhere.rest.model.device.marshaling.MarshaledArea;
+import com.sitewhere.rest.model.device.marshaling.MarshaledCustomer;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDevice;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDeviceAssignment;
+import com.sitewhere.rest.model.device.request.DeviceAssignmentCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceCommandCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceTypeCreateRequest;
+import com.sitewhere.rest.model.tenant.Tenant;
+import com.sitewhere.spi.IBulkLookupResult;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.ITenantAuthentication;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Client that caches token lookups for devices, device types, assignments,
+ * areas, customers and device commands. Entries are kept per tenant and entity
+ * type, expire after a fixed time and are bounded in number (see
+ * {@link EntityCache}). Concurrent lookups of the same token result in a single
+ * request. Creates, updates and deletes made through this client invalidate
+ * affected entries. Changes made by other clients are seen once entries
+ * expire.
+ */
+public class CachingSiteWhereClient extends SiteWhereClientDecorator {
+
+    /** Entity types whose responses embed related entities */
+    private static final CachedEntityType[] COMPOSITE_TYPES = Arrays.stream(CachedEntityType.values())
+	    .filter(CachedEntityType::isComposite).toArray(CachedEntityType[]::new);
+
+    /** Cache for token lookups */
+    private EntityCache cache;
+
+    public CachingSiteWhereClient(ISiteWhereClient delegate) {
+	this(delegate, new EntityCache());
+    }
+
+    public CachingSiteWhereClient(ISiteWhereClient delegate, int maximumSize, long timeToLive) {
+	this(delegate, new EntityCache(maximumSize, timeToLive));
+    }
+
+    public CachingSiteWhereClient(ISiteWhereClient delegate, EntityCache cache) {
+	super(delegate);
+	this.cache = cache;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateAreaType()
+     */
+    @Override
+    public AreaType updateAreaType(ITenantAuthentication tenant, String areaTypeToken, AreaTypeCreateRequest request)
+	    throws SiteWhereException {
+	try {
+	    return getDelegate().updateAreaType(tenant, areaTypeToken, request);
+	} finally {
+	    changedEmbedded(tenant);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteAreaType()
+     */
+    @Override
+    public AreaType deleteAreaType(ITenantAuthentication tenant, String areaTypeToken) throws SiteWhereException {
+	try {
+	    return getDelegate().deleteAreaType(tenant, areaTypeToken);
+	} finally {
+	    changedEmbedded(tenant);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getAreaByToken()
+     */
+    @Override
+    public MarshaledArea getAreaByToken(ITenantAuthentication tenant, String areaToken) throws SiteWhereException {
+	return getCache().get(tenant.getTenantToken(), CachedEntityType.Area, areaToken,
+		() -> getDelegate().getAreaByToken(tenant, areaToken));
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkGetAreasByToken()
+     */
+    @Override
+    public IBulkLookupResult<MarshaledArea> bulkGetAreasByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException {
+	return bulkGet(tenant, CachedEntityType.Area, tokens,
+		(missing) -> getDelegate().bulkGetAreasByToken(tenant, missing));
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateArea()
+     */
+    @Override
+    public Area updateArea(ITenantAuthentication tenant, String areaToken, AreaCreateRequest request)
+	    throws SiteWhereException {
+	try {
+	    return getDelegate().updateArea(tenant, areaToken, request);
+	} finally {
+	    changed(tenant, CachedEntityType.Area, areaToken);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteArea()
+     */
+    @Override
+    public Area deleteArea(ITenantAuthentication tenant, String areaToken) throws SiteWhereException {
+	try {
+	    return getDelegate().deleteArea(tenant, areaToken);
+	} finally {
+	    changed(tenant, CachedEntityType.Area, areaToken);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateAsset()
+     */
+    @Override
+    public Asset updateAsset(ITenantAuthentication tenant, String assetToken, AssetCreateRequest request)
+	    throws SiteWhereException {
+	try {
+	    return getDelegate().updateAsset(tenant, assetToken, request);
+	} finally {
+	    changedEmbedded(tenant);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteAsset()
+     */
+    @Override
+    public Asset deleteAsset(ITenantAuthentication tenant, String assetToken) throws SiteWhereException {
+	try {
+	    return getDelegate().deleteAsset(tenant, assetToken);
+	} finally {
+	    changedEmbedded(tenant);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceAssignmentByToken()
+     */
+    @Override
+    public MarshaledDeviceAssignment getDeviceAssignmentByToken(ITenantAuthentication tenant, String token)
+	    throws SiteWhereException {
+	return getCache().get(tenant.getTenantToken(), CachedEntityType.DeviceAssignment, token,
+		() -> getDelegate().getDeviceAssignmentByToken(tenant, token));
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkGetDeviceAssignmentsByToken()
+     */
+    @Override
+    public IBulkLookupResult<MarshaledDeviceAssignment> bulkGetDeviceAssignmentsByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException {
+	return bulkGet(tenant, CachedEntityType.DeviceAssignment, tokens,
+		(missing) -> getDelegate().bulkGetDeviceAssignmentsByToken(tenant, missing));
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment createDeviceAssignment(ITenantAuthentication tenant,
+	    DeviceAssignmentCreateRequest request) throws SiteWhereException {
+	try {
+	    return getDelegate().createDeviceAssignment(tenant, request);
+	} finally {
+	    changedEmbedded(tenant);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment updateDeviceAssignment(ITenantAuthentication tenant, String token,
+	    DeviceAssignmentCreateRequest request) throws SiteWhereException {
+	try {
+	    return getDelegate().updateDeviceAssignment(tenant, token, request);
+	} finally {
+	    changed(tenant, CachedEntityType.DeviceAssignment, token);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment deleteDeviceAssignment(ITenantAuthentication tenant, String token)
+	    throws SiteWhereException {
+	try {
+	    return getDelegate().deleteDeviceAssignment(tenant, token);
+	} finally {
+	    changed(tenant, CachedEntityType.DeviceAssignment, token);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#releaseDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment releaseDeviceAssignment(ITenantAuthentication tenant, String token)
+	    throws SiteWhereException {
+	try {
+	    return getDelegate().releaseDeviceAssignment(tenant, token);
+	} finally {
+	    changed(tenant, CachedEntityType.DeviceAssignment, token);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#markMissingDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment markMissingDeviceAssignment(ITenantAuthentication tenant, String token)
+	    throws SiteWhereException {
+	try {
+	    return getDelegate().markMissingDeviceAssignment(tenant, token);
+	} finally {
+	    changed(tenant, CachedEntityType.DeviceAssignment, token);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateCustomerType()
+     */
+    @Override
+    public CustomerType updateCustomerType(ITenantAuthentication tenant, String customerTypeToken,
+	    CustomerTypeCreateRequest request) throws SiteWhereException {
+	try {
+	    return getDelegate().updateCustomerType(tenant, customerTypeToken, request);
+	} finally {
+	    changedEmbedded(tenant);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteCustomerType()
+     */
+    @Override
+    public CustomerType deleteCustomerType(ITenantAuthentication tenant, String customerTypeToken)
+	    throws SiteWhereException {
+	try {
+	    return getDelegate().deleteCustomerType(tenant, customerTypeToken);
+	} finally {
+	    changedEmbedded(tenant);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getCustomerByToken()
+     */
+    @Override
+    public MarshaledCustomer getCustomerByToken(ITenantAuthentication tenant, String customerToken)
+	    throws SiteWhereException {
+	return getCache().get(tenant.getTenantToken(), CachedEntityType.Customer, customerToken,
+		() -> getDelegate().getCustomerByToken(tenant, customerToken));
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateCustomer()
+     */
+    @Override
+    public Customer updateCustomer(ITenantAuthentication tenant, String customerToken, CustomerCreateRequest request)
+	    throws SiteWhereException {
+	try {
+	    return getDelegate().updateCustomer(tenant, customerToken, request);
+	} finally {
+	    changed(tenant, CachedEntityType.Customer, customerToken);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteCustomer()
+     */
+    @Override
+    public Customer deleteCustomer(ITenantAuthentication tenant, String customerToken) throws SiteWhereException {
+	try {
+	    return getDelegate().deleteCustomer(tenant, customerToken);
+	} finally {
+	    changed(tenant, CachedEntityType.Customer, customerToken);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceCommandByToken()
+     */
+    @Override
+    public DeviceCommand getDeviceCommandByToken(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	return getCache().get(tenant.getTenantToken(), CachedEntityType.DeviceCommand, token,
+		() -> getDelegate().getDeviceCommandByToken(tenant, token));
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateDeviceCommand()
+     */
+    @Override
+    public DeviceCommand updateDeviceCommand(ITenantAuthentication tenant, String token,
+	    DeviceCommandCreateRequest request) throws SiteWhereException {
+	try {
+	    return getDelegate().updateDeviceCommand(tenant, token, request);
+	} finally {
+	    changed(tenant, CachedEntityType.DeviceCommand, token);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDeviceCommand()
+     */
+    @Override
+    public DeviceCommand deleteDeviceCommand(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	try {
+	    return getDelegate().deleteDeviceCommand(tenant, token);
+	} finally {
+	    changed(tenant, CachedEntityType.DeviceCommand, token);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceTypeByToken()
+     */
+    @Override
+    public DeviceType getDeviceTypeByToken(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	return getCache().get(tenant.getTenantToken(), CachedEntityType.DeviceType, token,
+		() -> getDelegate().getDeviceTypeByToken(tenant, token));
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkGetDeviceTypesByToken()
+     */
+    @Override
+    public IBulkLookupResult<DeviceType> bulkGetDeviceTypesByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException {
+	return bulkGet(tenant, CachedEntityType.DeviceType, tokens,
+		(missing) -> getDelegate().bulkGetDeviceTypesByToken(tenant, missing));
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateDeviceType()
+     */
+    @Override
+    public DeviceType updateDeviceType(ITenantAuthentication tenant, String token, DeviceTypeCreateRequest request)
+	    throws SiteWhereException {
+	try {
+	    return getDelegate().updateDeviceType(tenant, token, request);
+	} finally {
+	    changed(tenant, CachedEntityType.DeviceType, token);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDeviceType()
+     */
+    @Override
+    public DeviceType deleteDeviceType(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	try {
+	    return getDelegate().deleteDeviceType(tenant, token);
+	} finally {
+	    changed(tenant, CachedEntityType.DeviceType, token);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceByToken()
+     */
+    @Override
+    public MarshaledDevice getDeviceByToken(ITenantAuthentication tenant, String deviceToken)
+	    throws SiteWhereException {
+	return getCache().get(tenant.getTenantToken(), CachedEntityType.Device, deviceToken,
+		() -> getDelegate().getDeviceByToken(tenant, deviceToken));
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkGetDevicesByToken()
+     */
+    @Override
+    public IBulkLookupResult<MarshaledDevice> bulkGetDevicesByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException {
+	return bulkGet(tenant, CachedEntityType.Device, tokens,
+		(missing) -> getDelegate().bulkGetDevicesByToken(tenant, missing));
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateDevice()
+     */
+    @Override
+    public MarshaledDevice updateDevice(ITenantAuthentication tenant, String deviceToken, DeviceCreateRequest request)
+	    throws SiteWhereException {
+	try {
+	    return getDelegate().updateDevice(tenant, deviceToken, request);
+	} finally {
+	    changed(tenant, CachedEntityType.Device, deviceToken);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDevice()
+     */
+    @Override
+    public MarshaledDevice deleteDevice(ITenantAuthentication tenant, String deviceToken) throws SiteWhereException {
+	try {
+	    return getDelegate().deleteDevice(tenant, deviceToken);
+	} finally {
+	    changed(tenant, CachedEntityType.Device, deviceToken);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createDeviceMappings()
+     */
+    @Override
+    public MarshaledDevice createDeviceMappings(ITenantAuthentication tenant, String deviceToken,
+	    DeviceElementMapping request) throws SiteWhereException {
+	try {
+	    return getDelegate().createDeviceMappings(tenant, deviceToken, request);
+	} finally {
+	    changed(tenant, CachedEntityType.Device, deviceToken);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDeviceMappings()
+     */
+    @Override
+    public MarshaledDevice deleteDeviceMappings(ITenantAuthentication tenant, String deviceToken, String path)
+	    throws SiteWhereException {
+	try {
+	    return getDelegate().deleteDeviceMappings(tenant, deviceToken, path);
+	} finally {
+	    changed(tenant, CachedEntityType.Device, deviceToken);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteTenant()
+     */
+    @Override
+    public Tenant deleteTenant(String tenantToken) throws SiteWhereException {
+	try {
+	    return getDelegate().deleteTenant(tenantToken);
+	} finally {
+	    getCache().invalidateAll(tenantToken, CachedEntityType.values());
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createZone()
+     */
+    @Override
+    public Zone createZone(ITenantAuthentication tenant, ZoneCreateRequest request) throws SiteWhereException {
+	try {
+	    return getDelegate().createZone(tenant, request);
+	} finally {
+	    changedEmbedded(tenant);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateZone()
+     */
+    @Override
+    public Zone updateZone(ITenantAuthentication tenant, String zoneToken, ZoneCreateRequest request)
+	    throws SiteWhereException {
+	try {
+	    return getDelegate().updateZone(tenant, zoneToken, request);
+	} finally {
+	    changedEmbedded(tenant);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteZone()
+     */
+    @Override
+    public Zone deleteZone(ITenantAuthentication tenant, String zoneToken) throws SiteWhereException {
+	try {
+	    return getDelegate().deleteZone(tenant, zoneToken);
+	} finally {
+	    changedEmbedded(tenant);
+	}
+    }
+
+    /**
+     * Resolve tokens from the cache where possible and look up the remaining
+     * tokens with a single bulk lookup on the delegate. Entities found by the
+     * delegate are added to the cache.
+     * 
+     * @param tenant
+     * @param type
+     * @param tokens
+     * @param loader
+     * @return
+     * @throws SiteWhereException
+     */
+    protected <V> IBulkLookupResult<V> bulkGet(ITenantAuthentication tenant, CachedEntityType type,
+	    Collection<String> tokens, BulkLoader<V> loader) throws SiteWhereException {
+	Set<String> distinct = new LinkedHashSet<>(tokens);
+	Map<String, V> cached = new HashMap<>();
+	List<String> missing = new ArrayList<>();
+	for (String token : distinct) {
+	    V value = getCache().getIfPresent(tenant.getTenantToken(), type, token);
+	    if (value != null) {
+		cached.put(token, value);
+	    } else {
+		missing.add(token);
+	    }
+	}
+	IBulkLookupResult<V> loaded = missing.isEmpty() ? new BulkLookupResult<V>() : loader.load(missing);
+	for (Map.Entry<String, V> entry : loaded.getResults().entrySet()) {
+	    getCache().put(tenant.getTenantToken(), type, entry.getKey(), entry.getValue());
+	}
+	BulkLookupResult<V> result = new BulkLookupResult<V>();
+	for (String token : distinct) {
+	    V value = cached.containsKey(token) ? cached.get(token) : loaded.getResults().get(token);
+	    if (value != null) {
+		result.getResults().put(token, value);
+	    } else {
+		result.getErrors().put(token, loaded.getErrors().get(token));
+	    }
+	}
+	return result;
+    }
+
+    /**
+     * Invalidate a cached entity after it was changed through this client.
+     * Device commands stand alone. Other entity types may be embedded in
+     * device, assignment, area and customer responses, so those entries are
+     * flushed for the tenant as well.
+     * 
+     * @param tenant
+     * @param type
+     * @param token
+     */
+    protected void changed(ITenantAuthentication tenant, CachedEntityType type, String token) {
+	getCache().invalidate(tenant.getTenantToken(), type, token);
+	if (type != CachedEntityType.DeviceCommand) {
+	    changedEmbedded(tenant);
+	}
+    }
+
+    /**
+     * Flush entries that embed related entities after a change that may
+     * appear in them.
+     * 
+     * @param tenant
+     */
+    protected void changedEmbedded(ITenantAuthentication tenant) {
+	getCache().invalidateAll(tenant.getTenantToken(), COMPOSITE_TYPES);
+    }
+
+    public EntityCache getCache() {
+	return cache;
+    }
+
+    /**
+     * Looks up tokens that were not found in the cache.
+     */
+    @FunctionalInterface
+    protected static interface BulkLoader<V> {
+
+	/**
+	 * Look up the given tokens.
+	 * 
+	 * @param tokens
+	 * @return
+	 * @throws SiteWhereException
+	 */
+	public IBulkLookupResult<V> load(Collection<String> tokens) throws SiteWhereException;
+    }
+}
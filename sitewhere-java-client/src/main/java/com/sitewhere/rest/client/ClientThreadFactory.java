@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates named daemon threads for background work done by the client so that
+ * they never keep the JVM alive.
+ */
+public class ClientThreadFactory implements ThreadFactory {
+
+    /** Prefix for thread names */
+    private String prefix;
+
+    /** Counter used to number threads */
+    private AtomicInteger counter = new AtomicInteger();
+
+    public ClientThreadFactory(String prefix) {
+	this.prefix = prefix;
+    }
+
+    /*
+     * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+     */
+    @Override
+    public Thread newThread(Runnable runnable) {
+	Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+	thread.setDaemon(true);
+	return thread;
+    }
+}
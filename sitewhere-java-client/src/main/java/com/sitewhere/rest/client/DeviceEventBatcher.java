@@ -0,0 +1,611 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceEventCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.spi.IDeviceEventBatchListener;
+import com.sitewhere.spi.IDeviceEventBatcher;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.ITenantAuthentication;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Default {@link IDeviceEventBatcher} implementation. Events are accumulated in
+ * a pending {@link DeviceEventBatch} per device. A batch is handed to a pool of
+ * sender threads when it reaches the configured event count or estimated byte
+ * size, or when its oldest event has waited for the linger time.
+ * 
+ * Memory is bounded by a limit on the number of events that are either pending
+ * or in flight. When the server falls behind and the limit is reached,
+ * producers block until space is released by completed batches.
+ */
+public class DeviceEventBatcher implements IDeviceEventBatcher {
+
+    /** Default maximum number of events in a single batch */
+    public static final int DEFAULT_MAX_BATCH_EVENTS = 500;
+
+    /** Default maximum estimated size of a single batch in bytes */
+    public static final int DEFAULT_MAX_BATCH_BYTES = 256 * 1024;
+
+    /** Default time in milliseconds an event waits before its batch is sent */
+    public static final long DEFAULT_LINGER = 100;
+
+    /** Default maximum number of events pending or in flight */
+    public static final int DEFAULT_MAX_BUFFERED_EVENTS = 50000;
+
+    /** Default number of batches sent concurrently */
+    public static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 8;
+
+    /** Default time in milliseconds a producer waits for buffer space */
+    public static final long DEFAULT_ENQUEUE_TIMEOUT = 30 * 1000;
+
+    /** Default time in milliseconds close waits for pending batches */
+    public static final long DEFAULT_CLOSE_TIMEOUT = 30 * 1000;
+
+    /** Estimated serialized size of common event fields */
+    private static final int BASE_EVENT_SIZE = 96;
+
+    /** Estimated serialized size of a numeric value */
+    private static final int NUMBER_SIZE = 24;
+
+    /** Client used to send batches */
+    private ISiteWhereClient client;
+
+    /** Tenant events are sent for */
+    private ITenantAuthentication tenant;
+
+    /** Maximum number of events in a batch */
+    private int maxBatchEvents = DEFAULT_MAX_BATCH_EVENTS;
+
+    /** Maximum estimated batch size in bytes */
+    private int maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+
+    /** Linger time in milliseconds */
+    private long linger = DEFAULT_LINGER;
+
+    /** Maximum number of events pending or in flight */
+    private int maxBufferedEvents = DEFAULT_MAX_BUFFERED_EVENTS;
+
+    /** Number of batches sent concurrently */
+    private int maxInFlightBatches = DEFAULT_MAX_IN_FLIGHT_BATCHES;
+
+    /** Time in milliseconds a producer waits for buffer space */
+    private long enqueueTimeout = DEFAULT_ENQUEUE_TIMEOUT;
+
+    /** Time in milliseconds close waits for pending batches */
+    private long closeTimeout = DEFAULT_CLOSE_TIMEOUT;
+
+    /** Optional listener for batch outcomes */
+    private IDeviceEventBatchListener listener;
+
+    /** Pending batches by device token */
+    private Map<String, PendingBatch> pending = new HashMap<>();
+
+    /** Permits for events that may be pending or in flight */
+    private Semaphore bufferPermits;
+
+    /** Threads that send batches */
+    private ExecutorService senders;
+
+    /** Timer that sends batches which exceeded linger time */
+    private ScheduledExecutorService lingerTimer;
+
+    /** Indicates batcher has been closed */
+    private volatile boolean closed;
+
+    protected DeviceEventBatcher(ISiteWhereClient client, ITenantAuthentication tenant) {
+	this.client = client;
+	this.tenant = tenant;
+    }
+
+    /**
+     * Get new builder for a batcher that sends events for the given tenant.
+     * 
+     * @param client
+     * @param tenant
+     * @return
+     */
+    public static Builder newBuilder(ISiteWhereClient client, ITenantAuthentication tenant) {
+	return new Builder(client, tenant);
+    }
+
+    /**
+     * Allocate buffer space and start background threads.
+     */
+    protected void start() {
+	this.bufferPermits = new Semaphore(getMaxBufferedEvents());
+	this.senders = Executors.newFixedThreadPool(getMaxInFlightBatches(),
+		new ClientThreadFactory("sitewhere-event-batch-sender"));
+	this.lingerTimer = Executors
+		.newSingleThreadScheduledExecutor(new ClientThreadFactory("sitewhere-event-batch-linger"));
+	long period = Math.max(1, getLinger() / 2);
+	lingerTimer.scheduleAtFixedRate(() -> sendExpired(), period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IDeviceEventBatcher#addMeasurement(java.lang.String,
+     * com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest)
+     */
+    @Override
+    public void addMeasurement(String deviceToken, DeviceMeasurementCreateRequest request)
+	    throws SiteWhereException {
+	add(deviceToken, estimateSize(request), batch -> batch.getMeasurements().add(request));
+    }
+
+    /*
+     * @see com.sitewhere.spi.IDeviceEventBatcher#addLocation(java.lang.String,
+     * com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest)
+     */
+    @Override
+    public void addLocation(String deviceToken, DeviceLocationCreateRequest request) throws SiteWhereException {
+	add(deviceToken, estimateSize(request), batch -> batch.getLocations().add(request));
+    }
+
+    /*
+     * @see com.sitewhere.spi.IDeviceEventBatcher#addAlert(java.lang.String,
+     * com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest)
+     */
+    @Override
+    public void addAlert(String deviceToken, DeviceAlertCreateRequest request) throws SiteWhereException {
+	add(deviceToken, estimateSize(request), batch -> batch.getAlerts().add(request));
+    }
+
+    /**
+     * Add an event to the pending batch for a device, sending the batch if it has
+     * reached a size threshold.
+     * 
+     * @param deviceToken
+     * @param size
+     * @param adder
+     * @throws SiteWhereException
+     */
+    protected void add(String deviceToken, int size, Consumer<PendingBatch> adder) throws SiteWhereException {
+	acquireBufferSpace();
+	synchronized (pending) {
+	    if (closed) {
+		bufferPermits.release();
+		throw new SiteWhereException("Event batcher has been closed.");
+	    }
+	    PendingBatch batch = pending.get(deviceToken);
+	    if (batch == null) {
+		batch = new PendingBatch(deviceToken);
+		pending.put(deviceToken, batch);
+	    }
+	    adder.accept(batch);
+	    batch.added(size);
+	    if ((batch.getEventCount() >= getMaxBatchEvents()) || (batch.getEstimatedBytes() >= getMaxBatchBytes())) {
+		pending.remove(deviceToken);
+		send(batch);
+	    }
+	}
+    }
+
+    /**
+     * Wait for space in the buffer. This is where backpressure is applied to
+     * producers when batches are not being acknowledged fast enough.
+     * 
+     * @throws SiteWhereException
+     */
+    protected void acquireBufferSpace() throws SiteWhereException {
+	try {
+	    if (!bufferPermits.tryAcquire(getEnqueueTimeout(), TimeUnit.MILLISECONDS)) {
+		throw new SiteWhereException("Timed out waiting for space in event buffer.");
+	    }
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	    throw new SiteWhereException("Interrupted while waiting for space in event buffer.", e);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.IDeviceEventBatcher#flush()
+     */
+    @Override
+    public void flush() {
+	synchronized (pending) {
+	    for (PendingBatch batch : pending.values()) {
+		send(batch);
+	    }
+	    pending.clear();
+	}
+    }
+
+    /**
+     * Send batches whose oldest event has waited longer than the linger time.
+     */
+    protected void sendExpired() {
+	long cutoff = System.currentTimeMillis() - getLinger();
+	synchronized (pending) {
+	    Iterator<PendingBatch> it = pending.values().iterator();
+	    while (it.hasNext()) {
+		PendingBatch batch = it.next();
+		if (batch.getCreated() <= cutoff) {
+		    it.remove();
+		    send(batch);
+		}
+	    }
+	}
+    }
+
+    /**
+     * Hand a batch to the sender threads. Buffer space held by the batch is
+     * released once the call completes, whether or not it succeeded. Runtime
+     * exceptions are wrapped and reported to the listener like other failures.
+     * Always called while holding the pending lock so that no batch is
+     * submitted after the senders have been shut down.
+     * 
+     * @param pendingBatch
+     */
+    protected void send(PendingBatch pendingBatch) {
+	senders.execute(() -> {
+	    DeviceEventBatch batch = null;
+	    try {
+		DeviceEventBatchResponse response;
+		try {
+		    batch = pendingBatch.toBatch();
+		    response = client.addMultipleEventsForDevice(tenant, pendingBatch.getDeviceToken(), batch);
+		} catch (SiteWhereException e) {
+		    onBatchFailed(pendingBatch, batch, e);
+		    return;
+		} catch (RuntimeException e) {
+		    onBatchFailed(pendingBatch, batch, new SiteWhereException("Unable to send event batch.", e));
+		    return;
+		}
+		if (listener != null) {
+		    listener.onBatchSent(pendingBatch.getDeviceToken(), batch, response);
+		}
+	    } finally {
+		bufferPermits.release(pendingBatch.getEventCount());
+	    }
+	});
+    }
+
+    /**
+     * Report a batch that could not be delivered.
+     * 
+     * @param pendingBatch
+     * @param batch
+     *            batch sent or null if it could not be built
+     * @param error
+     */
+    protected void onBatchFailed(PendingBatch pendingBatch, DeviceEventBatch batch, SiteWhereException error) {
+	if (listener != null) {
+	    listener.onBatchFailed(pendingBatch.getDeviceToken(), batch, error);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.IDeviceEventBatcher#getBufferedEventCount()
+     */
+    @Override
+    public int getBufferedEventCount() {
+	return getMaxBufferedEvents() - bufferPermits.availablePermits();
+    }
+
+    /**
+     * Sends all pending batches and waits for in-flight batches to complete.
+     * 
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws SiteWhereException {
+	synchronized (pending) {
+	    if (closed) {
+		return;
+	    }
+	    closed = true;
+	    lingerTimer.shutdownNow();
+	    flush();
+	    senders.shutdown();
+	}
+	try {
+	    if (!senders.awaitTermination(getCloseTimeout(), TimeUnit.MILLISECONDS)) {
+		throw new SiteWhereException("Timed out waiting for event batches to be sent.");
+	    }
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	    throw new SiteWhereException("Interrupted while waiting for event batches to be sent.", e);
+	}
+    }
+
+    /**
+     * Estimate serialized size of a measurement.
+     * 
+     * @param request
+     * @return
+     */
+    protected int estimateSize(DeviceMeasurementCreateRequest request) {
+	return estimateCommonSize(request) + length(request.getName()) + NUMBER_SIZE;
+    }
+
+    /**
+     * Estimate serialized size of a location.
+     * 
+     * @param request
+     * @return
+     */
+    protected int estimateSize(DeviceLocationCreateRequest request) {
+	return estimateCommonSize(request) + (3 * NUMBER_SIZE);
+    }
+
+    /**
+     * Estimate serialized size of an alert.
+     * 
+     * @param request
+     * @return
+     */
+    protected int estimateSize(DeviceAlertCreateRequest request) {
+	return estimateCommonSize(request) + length(request.getType()) + length(request.getMessage()) + NUMBER_SIZE;
+    }
+
+    /**
+     * Estimate serialized size of fields common to all events.
+     * 
+     * @param request
+     * @return
+     */
+    protected int estimateCommonSize(DeviceEventCreateRequest request) {
+	int size = BASE_EVENT_SIZE + length(request.getAlternateId());
+	if (request.getMetadata() != null) {
+	    for (Map.Entry<String, String> entry : request.getMetadata().entrySet()) {
+		size += length(entry.getKey()) + length(entry.getValue()) + 6;
+	    }
+	}
+	return size;
+    }
+
+    protected static int length(String value) {
+	return (value != null) ? value.length() : 0;
+    }
+
+    public int getMaxBatchEvents() {
+	return maxBatchEvents;
+    }
+
+    public void setMaxBatchEvents(int maxBatchEvents) {
+	this.maxBatchEvents = maxBatchEvents;
+    }
+
+    public int getMaxBatchBytes() {
+	return maxBatchBytes;
+    }
+
+    public void setMaxBatchBytes(int maxBatchBytes) {
+	this.maxBatchBytes = maxBatchBytes;
+    }
+
+    public long getLinger() {
+	return linger;
+    }
+
+    public void setLinger(long linger) {
+	this.linger = linger;
+    }
+
+    public int getMaxBufferedEvents() {
+	return maxBufferedEvents;
+    }
+
+    public void setMaxBufferedEvents(int maxBufferedEvents) {
+	this.maxBufferedEvents = maxBufferedEvents;
+    }
+
+    public int getMaxInFlightBatches() {
+	return maxInFlightBatches;
+    }
+
+    public void setMaxInFlightBatches(int maxInFlightBatches) {
+	this.maxInFlightBatches = maxInFlightBatches;
+    }
+
+    public long getEnqueueTimeout() {
+	return enqueueTimeout;
+    }
+
+    public void setEnqueueTimeout(long enqueueTimeout) {
+	this.enqueueTimeout = enqueueTimeout;
+    }
+
+    public long getCloseTimeout() {
+	return closeTimeout;
+    }
+
+    public void setCloseTimeout(long closeTimeout) {
+	this.closeTimeout = closeTimeout;
+    }
+
+    public IDeviceEventBatchListener getListener() {
+	return listener;
+    }
+
+    public void setListener(IDeviceEventBatchListener listener) {
+	this.listener = listener;
+    }
+
+    /**
+     * Events accumulated for a single device.
+     */
+    protected static class PendingBatch {
+
+	/** Device token */
+	private String deviceToken;
+
+	/** Time first event was added */
+	private long created = System.currentTimeMillis();
+
+	/** Number of events in batch */
+	private int eventCount;
+
+	/** Estimated size of batch in bytes */
+	private int estimatedBytes;
+
+	/** Measurements in batch */
+	private List<DeviceMeasurementCreateRequest> measurements = new ArrayList<>();
+
+	/** Locations in batch */
+	private List<DeviceLocationCreateRequest> locations = new ArrayList<>();
+
+	/** Alerts in batch */
+	private List<DeviceAlertCreateRequest> alerts = new ArrayList<>();
+
+	public PendingBatch(String deviceToken) {
+	    this.deviceToken = deviceToken;
+	}
+
+	/**
+	 * Record that an event was added.
+	 * 
+	 * @param size
+	 */
+	public void added(int size) {
+	    eventCount++;
+	    estimatedBytes += size;
+	}
+
+	/**
+	 * Create the batch sent to the server.
+	 * 
+	 * @return
+	 */
+	public DeviceEventBatch toBatch() {
+	    DeviceEventBatch batch = new DeviceEventBatch();
+	    batch.setDeviceToken(deviceToken);
+	    batch.setMeasurements(measurements);
+	    batch.setLocations(locations);
+	    batch.setAlerts(alerts);
+	    return batch;
+	}
+
+	public String getDeviceToken() {
+	    return deviceToken;
+	}
+
+	public long getCreated() {
+	    return created;
+	}
+
+	public int getEventCount() {
+	    return eventCount;
+	}
+
+	public int getEstimatedBytes() {
+	    return estimatedBytes;
+	}
+
+	public List<DeviceMeasurementCreateRequest> getMeasurements() {
+	    return measurements;
+	}
+
+	public List<DeviceLocationCreateRequest> getLocations() {
+	    return locations;
+	}
+
+	public List<DeviceAlertCreateRequest> getAlerts() {
+	    return alerts;
+	}
+    }
+
+    /**
+     * Builder class.
+     */
+    public static class Builder {
+
+	private DeviceEventBatcher batcher;
+
+	public Builder(ISiteWhereClient client, ITenantAuthentication tenant) {
+	    this.batcher = new DeviceEventBatcher(client, tenant);
+	}
+
+	/**
+	 * Start background threads and return the batcher.
+	 * 
+	 * @return
+	 */
+	public IDeviceEventBatcher build() {
+	    batcher.start();
+	    return batcher;
+	}
+
+	/**
+	 * Set thresholds at which a batch for a device is sent.
+	 * 
+	 * @param maxEvents
+	 * @param maxBytes
+	 * @return
+	 */
+	public Builder withMaxBatchSize(int maxEvents, int maxBytes) {
+	    batcher.setMaxBatchEvents(maxEvents);
+	    batcher.setMaxBatchBytes(maxBytes);
+	    return this;
+	}
+
+	/**
+	 * Set maximum time in milliseconds an event waits before its batch is sent.
+	 * 
+	 * @param linger
+	 * @return
+	 */
+	public Builder withLinger(long linger) {
+	    batcher.setLinger(linger);
+	    return this;
+	}
+
+	/**
+	 * Set maximum number of events pending or in flight and how long producers
+	 * wait for space (in milliseconds) once that limit is reached.
+	 * 
+	 * @param maxBufferedEvents
+	 * @param enqueueTimeout
+	 * @return
+	 */
+	public Builder withBuffer(int maxBufferedEvents, long enqueueTimeout) {
+	    batcher.setMaxBufferedEvents(maxBufferedEvents);
+	    batcher.setEnqueueTimeout(enqueueTimeout);
+	    return this;
+	}
+
+	/**
+	 * Set number of batches sent concurrently.
+	 * 
+	 * @param maxInFlightBatches
+	 * @return
+	 */
+	public Builder withMaxInFlightBatches(int maxInFlightBatches) {
+	    batcher.setMaxInFlightBatches(maxInFlightBatches);
+	    return this;
+	}
+
+	/**
+	 * Set listener notified of batch outcomes.
+	 * 
+	 * @param listener
+	 * @return
+	 */
+	public Builder withListener(IDeviceEventBatchListener listener) {
+	    batcher.setListener(listener);
+	    return this;
+	}
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Read-through cache for entities looked up by token. Entries are keyed by
+ * tenant, entity type and token, expire a fixed time after they were loaded
+ * and are evicted least recently used first once the size limit is exceeded.
+ *
+ * Concurrent misses on the same key are collapsed: the first caller loads the
+ * value and the others wait for its result. Failed loads are not cached.
+ */
+public class EntityCache {
+
+    /** Default maximum number of entries */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+    /** Default time to live in milliseconds */
+    public static final long DEFAULT_TIME_TO_LIVE = 5 * 60 * 1000;
+
+    /** Maximum number of entries */
+    private int maximumSize;
+
+    /** Time to live in nanoseconds */
+    private long timeToLiveNanos;
+
+    /** Cached entries */
+    private Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /** Held by the thread evicting entries */
+    private ReentrantLock evictionLock = new ReentrantLock();
+
+    /** Number of lookups answered from the cache */
+    private LongAdder hits = new LongAdder();
+
+    /** Number of lookups that loaded from the server */
+    private LongAdder misses = new LongAdder();
+
+    /** Number of failed loads */
+    private LongAdder loadFailures = new LongAdder();
+
+    /** Number of entries evicted for size or age */
+    private LongAdder evictions = new LongAdder();
+
+    /** Number of entries removed by invalidation */
+    private LongAdder invalidations = new LongAdder();
+
+    public EntityCache() {
+	this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    public EntityCache(int maximumSize, long timeToLive) {
+	if (maximumSize < 1) {
+	    throw new IllegalArgumentException("Maximum size must be greater than zero.");
+	}
+	this.maximumSize = maximumSize;
+	this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLive);
+    }
+
+    /**
+     * Get a cached entity, loading it if not present or expired.
+     *
+     * @param tenant
+     * @param type
+     * @param token
+     * @param loader
+     * @return
+     * @throws SiteWhereException
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V get(String tenant, CachedEntityType type, String token, Loader<V> loader)
+	    throws SiteWhereException {
+	Key key = new Key(tenant, type, token);
+	long now = currentTime();
+	Entry entry = entries.get(key);
+	if ((entry == null) || entry.isExpired(now)) {
+	    Entry created = new Entry(key, now);
+	    entry = entries.compute(key, (k, existing) -> ((existing == null) || existing.isExpired(now)) ? created
+		    : existing);
+	    if (entry == created) {
+		misses.increment();
+		return (V) load(key, created, loader);
+	    }
+	}
+	hits.increment();
+	entry.lastAccess = now;
+	return (V) await(entry.value);
+    }
+
+    /**
+     * Get a cached entity without loading it. Entries that are expired or
+     * still being loaded are treated as absent.
+     *
+     * @param tenant
+     * @param type
+     * @param token
+     * @return value or null if not cached
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V getIfPresent(String tenant, CachedEntityType type, String token) {
+	long now = currentTime();
+	Entry entry = entries.get(new Key(tenant, type, token));
+	if ((entry == null) || !entry.value.isDone() || entry.value.isCompletedExceptionally()
+		|| entry.isExpired(now)) {
+	    misses.increment();
+	    return null;
+	}
+	hits.increment();
+	entry.lastAccess = now;
+	return (V) entry.value.join();
+    }
+
+    /**
+     * Add an entity that was loaded outside of the cache, replacing any
+     * existing entry.
+     *
+     * @param tenant
+     * @param type
+     * @param token
+     * @param value
+     */
+    public void put(String tenant, CachedEntityType type, String token, Object value) {
+	Key key = new Key(tenant, type, token);
+	long now = currentTime();
+	Entry entry = new Entry(key, now);
+	entry.expires = now + timeToLiveNanos;
+	entry.value.complete(value);
+	entries.put(key, entry);
+	if (entries.size() > maximumSize) {
+	    evict();
+	}
+    }
+
+    /**
+     * Remove a single entry.
+     *
+     * @param tenant
+     * @param type
+     * @param token
+     */
+    public void invalidate(String tenant, CachedEntityType type, String token) {
+	if ((token != null) && (entries.remove(new Key(tenant, type, token)) != null)) {
+	    invalidations.increment();
+	}
+    }
+
+    /**
+     * Remove all entries of the given types for a tenant.
+     *
+     * @param tenant
+     * @param types
+     */
+    public void invalidateAll(String tenant, CachedEntityType... types) {
+	for (Key key : entries.keySet()) {
+	    if (key.tenant.equals(tenant) && matches(key.type, types) && (entries.remove(key) != null)) {
+		invalidations.increment();
+	    }
+	}
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void invalidateAll() {
+	int size = entries.size();
+	entries.clear();
+	invalidations.add(size);
+    }
+
+    /**
+     * Get number of entries, including loads in progress.
+     *
+     * @return
+     */
+    public int size() {
+	return entries.size();
+    }
+
+    /**
+     * Get a snapshot of cache statistics.
+     *
+     * @return
+     */
+    public EntityCacheStats getStats() {
+	return new EntityCacheStats(hits.sum(), misses.sum(), loadFailures.sum(), evictions.sum(), invalidations.sum(),
+		entries.size());
+    }
+
+    /**
+     * Load the value for a newly created entry and publish it to waiting
+     * callers.
+     *
+     * @param key
+     * @param entry
+     * @param loader
+     * @return
+     * @throws SiteWhereException
+     */
+    protected Object load(Key key, Entry entry, Loader<?> loader) throws SiteWhereException {
+	try {
+	    Object value = loader.load();
+	    entry.expires = currentTime() + timeToLiveNanos;
+	    entry.value.complete(value);
+	    if (entries.size() > maximumSize) {
+		evict();
+	    }
+	    return value;
+	} catch (SiteWhereException | RuntimeException e) {
+	    loadFailures.increment();
+	    entries.remove(key, entry);
+	    entry.value.completeExceptionally(e);
+	    throw e;
+	}
+    }
+
+    /**
+     * Bring the cache back under its size limit. Expired entries are removed
+     * first, then the least recently used entries. Entries are removed down to
+     * ninety percent of the limit so that the scan is not repeated for every
+     * insert once the cache is full. Only one thread evicts at a time; others
+     * skip eviction while it runs.
+     */
+    protected void evict() {
+	if (!evictionLock.tryLock()) {
+	    return;
+	}
+	try {
+	    long now = currentTime();
+	    List<Entry> candidates = new ArrayList<>();
+	    for (Entry entry : entries.values()) {
+		if (entry.isExpired(now)) {
+		    if (entries.remove(entry.key, entry)) {
+			evictions.increment();
+		    }
+		} else if (entry.value.isDone()) {
+		    entry.evictionOrder = entry.lastAccess;
+		    candidates.add(entry);
+		}
+	    }
+	    int target = maximumSize - (maximumSize / 10);
+	    int excess = entries.size() - target;
+	    if (excess <= 0) {
+		return;
+	    }
+	    candidates.sort(Comparator.comparingLong(candidate -> candidate.evictionOrder));
+	    for (int i = 0; (i < candidates.size()) && (excess > 0); i++) {
+		if (entries.remove(candidates.get(i).key, candidates.get(i))) {
+		    evictions.increment();
+		    excess--;
+		}
+	    }
+	} finally {
+	    evictionLock.unlock();
+	}
+    }
+
+    /**
+     * Get current time in nanoseconds.
+     *
+     * @return
+     */
+    protected long currentTime() {
+	return System.nanoTime();
+    }
+
+    /**
+     * Wait for the value of an entry.
+     *
+     * @param value
+     * @return
+     * @throws SiteWhereException
+     */
+    protected static Object await(CompletableFuture<Object> value) throws SiteWhereException {
+	try {
+	    return value.join();
+	} catch (CompletionException e) {
+	    if (e.getCause() instanceof SiteWhereException) {
+		throw (SiteWhereException) e.getCause();
+	    }
+	    if (e.getCause() instanceof RuntimeException) {
+		throw (RuntimeException) e.getCause();
+	    }
+	    throw new SiteWhereException(e.getCause());
+	}
+    }
+
+    /**
+     * Indicates whether a type is one of the given types.
+     *
+     * @param type
+     * @param types
+     * @return
+     */
+    protected static boolean matches(CachedEntityType type, CachedEntityType[] types) {
+	for (CachedEntityType current : types) {
+	    if (current == type) {
+		return true;
+	    }
+	}
+	return false;
+    }
+
+    /**
+     * Loads an entity on a cache miss.
+     */
+    @FunctionalInterface
+    public static interface Loader<V> {
+
+	/**
+	 * Load the entity from the server.
+	 *
+	 * @return
+	 * @throws SiteWhereException
+	 */
+	public V load() throws SiteWhereException;
+    }
+
+    /**
+     * Identifies a cached entity.
+     */
+    protected static class Key {
+
+	/** Tenant token */
+	private String tenant;
+
+	/** Entity type */
+	private CachedEntityType type;
+
+	/** Entity token */
+	private String token;
+
+	/** Precomputed hash code */
+	private int hash;
+
+	public Key(String tenant, CachedEntityType type, String token) {
+	    this.tenant = tenant;
+	    this.type = type;
+	    this.token = token;
+	    this.hash = (31 * ((31 * tenant.hashCode()) + type.hashCode())) + token.hashCode();
+	}
+
+	/*
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+	    return hash;
+	}
+
+	/*
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+	    if (this == obj) {
+		return true;
+	    }
+	    if (!(obj instanceof Key)) {
+		return false;
+	    }
+	    Key other = (Key) obj;
+	    return (hash == other.hash) && (type == other.type) && token.equals(other.token)
+		    && tenant.equals(other.tenant);
+	}
+    }
+
+    /**
+     * Cached value, possibly still being loaded.
+     */
+    protected static class Entry {
+
+	/** Key for entry */
+	private Key key;
+
+	/** Value, completed once loaded */
+	private CompletableFuture<Object> value = new CompletableFuture<>();
+
+	/** Time at which entry expires (set before value is completed) */
+	private volatile long expires;
+
+	/** Time of last access used for eviction order */
+	private volatile long lastAccess;
+
+	/** Snapshot of last access taken while sorting for eviction */
+	private long evictionOrder;
+
+	public Entry(Key key, long now) {
+	    this.key = key;
+	    this.lastAccess = now;
+	}
+
+	/**
+	 * Indicates whether the entry has expired.
+	 *
+	 * @param now
+	 * @return
+	 */
+	public boolean isExpired(long now) {
+	    return value.isDone() && (now - expires >= 0);
+	}
+    }
+}
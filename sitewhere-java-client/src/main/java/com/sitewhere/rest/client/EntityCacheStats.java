@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+/**
+ * Point-in-time statistics for an {@link EntityCache}.
+ */
+public class EntityCacheStats {
+
+    /** Lookups answered from the cache (including joined in-flight loads) */
+    private long hitCount;
+
+    /** Lookups that required a request to the server */
+    private long missCount;
+
+    /** Requests to the server that failed */
+    private long loadFailureCount;
+
+    /** Entries removed to stay within the size limit */
+    private long evictionCount;
+
+    /** Entries removed because of a create, update or delete */
+    private long invalidationCount;
+
+    /** Number of entries at the time the snapshot was taken */
+    private int size;
+
+    public EntityCacheStats(long hitCount, long missCount, long loadFailureCount, long evictionCount,
+	    long invalidationCount, int size) {
+	this.hitCount = hitCount;
+	this.missCount = missCount;
+	this.loadFailureCount = loadFailureCount;
+	this.evictionCount = evictionCount;
+	this.invalidationCount = invalidationCount;
+	this.size = size;
+    }
+
+    /**
+     * Get fraction of lookups answered from the cache.
+     *
+     * @return
+     */
+    public double getHitRatio() {
+	long total = hitCount + missCount;
+	return (total == 0) ? 1.0 : (double) hitCount / total;
+    }
+
+    public long getHitCount() {
+	return hitCount;
+    }
+
+    public long getMissCount() {
+	return missCount;
+    }
+
+    public long getLoadFailureCount() {
+	return loadFailureCount;
+    }
+
+    public long getEvictionCount() {
+	return evictionCount;
+    }
+
+    public long getInvalidationCount() {
+	return invalidationCount;
+    }
+
+    public int getSize() {
+	return size;
+    }
+
+    /*
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+	return "EntityCacheStats [hits=" + hitCount + ", misses=" + missCount + ", loadFailures=" + loadFailureCount
+		+ ", evictions=" + evictionCount + ", invalidations=" + invalidationCount + ", size=" + size + "]";
+    }
+}
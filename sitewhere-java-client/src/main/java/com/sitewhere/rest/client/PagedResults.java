@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.sitewhere.spi.IPagedQuery;
+
+/**
+ * Entry points for consuming paged list queries as a single sequence of
+ * results. Pages are requested lazily and the next page is prefetched in the
+ * background while the current one is consumed:
+ * 
+ * <pre>
+ * try (Stream&lt;Device&gt; devices = PagedResults.stream(
+ * 	(page, size) -&gt; client.listDevices(tenant, new DeviceSearchCriteria(page, size, null, null), format), 500)) {
+ *     devices.forEach(device -&gt; ...);
+ * }
+ * </pre>
+ */
+public class PagedResults {
+
+    /** Default number of results requested per page */
+    public static final int DEFAULT_PAGE_SIZE = 500;
+
+    /** Shared executor for prefetching pages */
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors
+	    .newCachedThreadPool(new ClientThreadFactory("sitewhere-page-prefetch"));
+
+    /**
+     * Get the shared executor used for fetching pages in the background.
+     * 
+     * @return
+     */
+    public static Executor getDefaultExecutor() {
+	return PREFETCH_EXECUTOR;
+    }
+
+    /**
+     * Iterate over all results with the default page size and prefetching.
+     * 
+     * @param query
+     * @return
+     */
+    public static <T> SearchResultsIterator<T> iterator(IPagedQuery<T> query) {
+	return iterator(query, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Iterate over all results with prefetching on the shared executor.
+     * 
+     * @param query
+     * @param pageSize
+     * @return
+     */
+    public static <T> SearchResultsIterator<T> iterator(IPagedQuery<T> query, int pageSize) {
+	return new SearchResultsIterator<T>(query, pageSize, PREFETCH_EXECUTOR);
+    }
+
+    /**
+     * Iterate over all results, prefetching on the given executor. Pass null to
+     * fetch each page on the consuming thread.
+     * 
+     * @param query
+     * @param pageSize
+     * @param executor
+     * @return
+     */
+    public static <T> SearchResultsIterator<T> iterator(IPagedQuery<T> query, int pageSize, Executor executor) {
+	return new SearchResultsIterator<T>(query, pageSize, executor);
+    }
+
+    /**
+     * Get a spliterator over all results. The size estimate becomes exact once
+     * the first page has reported the total number of results.
+     * 
+     * @param query
+     * @param pageSize
+     * @return
+     */
+    public static <T> Spliterator<T> spliterator(IPagedQuery<T> query, int pageSize) {
+	return new SearchResultsSpliterator<T>(iterator(query, pageSize));
+    }
+
+    /**
+     * Get a sequential stream over all results with the default page size.
+     * 
+     * @param query
+     * @return
+     */
+    public static <T> Stream<T> stream(IPagedQuery<T> query) {
+	return stream(query, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Get a sequential stream over all results. Closing the stream discards any
+     * page being prefetched.
+     * 
+     * @param query
+     * @param pageSize
+     * @return
+     */
+    public static <T> Stream<T> stream(IPagedQuery<T> query, int pageSize) {
+	SearchResultsIterator<T> iterator = iterator(query, pageSize);
+	return StreamSupport.stream(new SearchResultsSpliterator<T>(iterator), false).onClose(iterator::close);
+    }
+
+    /**
+     * Sequential spliterator backed by a {@link SearchResultsIterator}.
+     */
+    protected static class SearchResultsSpliterator<T> implements Spliterator<T> {
+
+	/** Iterator that fetches pages */
+	private SearchResultsIterator<T> iterator;
+
+	/** Number of results consumed */
+	private long consumed;
+
+	public SearchResultsSpliterator(SearchResultsIterator<T> iterator) {
+	    this.iterator = iterator;
+	}
+
+	/*
+	 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+	 */
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+	    if (!iterator.hasNext()) {
+		return false;
+	    }
+	    action.accept(iterator.next());
+	    consumed++;
+	    return true;
+	}
+
+	/*
+	 * @see java.util.Spliterator#forEachRemaining(java.util.function.Consumer)
+	 */
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+	    while (tryAdvance(action)) {
+	    }
+	}
+
+	/**
+	 * Results arrive in pages from a single cursor, so the spliterator does not
+	 * split. Use {@link ParallelPageFetcher} to fetch pages concurrently.
+	 * 
+	 * @see java.util.Spliterator#trySplit()
+	 */
+	@Override
+	public Spliterator<T> trySplit() {
+	    return null;
+	}
+
+	/*
+	 * @see java.util.Spliterator#estimateSize()
+	 */
+	@Override
+	public long estimateSize() {
+	    long total = iterator.getTotalResults();
+	    return (total < 0) ? Long.MAX_VALUE : Math.max(0, total - consumed);
+	}
+
+	/*
+	 * @see java.util.Spliterator#characteristics()
+	 */
+	@Override
+	public int characteristics() {
+	    return Spliterator.ORDERED | Spliterator.NONNULL;
+	}
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.spi.IPagedQuery;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Fetches all pages of a list query concurrently. The first page is fetched to
+ * learn the total number of results, then the remaining pages are requested
+ * with at most <code>concurrency</code> pages in flight or waiting to be
+ * consumed at any time. Results are delivered either in page order or in the
+ * order pages complete.
+ * 
+ * <pre>
+ * ParallelPageFetcher&lt;DeviceMeasurementWithAsset&gt; fetcher = new ParallelPageFetcher&lt;&gt;(
+ * 	(page, size) -&gt; client.listMeasurementsForArea(tenant, area,
+ * 		new DateRangeSearchCriteria(page, size, start, end)), 1000, 8);
+ * try (Stream&lt;DeviceMeasurementWithAsset&gt; all = fetcher.stream(false)) {
+ *     all.forEach(...);
+ * }
+ * </pre>
+ * 
+ * Errors from the server are rethrown as {@link UncheckedIOException} wrapping
+ * the {@link SiteWhereException}.
+ */
+public class ParallelPageFetcher<T> {
+
+    /** Default number of pages fetched concurrently */
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    /** Query that fetches pages */
+    private IPagedQuery<T> query;
+
+    /** Number of results per page */
+    private int pageSize;
+
+    /** Maximum number of pages in flight or waiting to be consumed */
+    private int concurrency;
+
+    /** Executor that runs page requests */
+    private Executor executor;
+
+    public ParallelPageFetcher(IPagedQuery<T> query, int pageSize) {
+	this(query, pageSize, DEFAULT_CONCURRENCY);
+    }
+
+    public ParallelPageFetcher(IPagedQuery<T> query, int pageSize, int concurrency) {
+	this(query, pageSize, concurrency, PagedResults.getDefaultExecutor());
+    }
+
+    public ParallelPageFetcher(IPagedQuery<T> query, int pageSize, int concurrency, Executor executor) {
+	if (pageSize < 1) {
+	    throw new IllegalArgumentException("Page size must be greater than zero.");
+	}
+	if (concurrency < 1) {
+	    throw new IllegalArgumentException("Concurrency must be greater than zero.");
+	}
+	this.query = query;
+	this.pageSize = pageSize;
+	this.concurrency = concurrency;
+	this.executor = executor;
+    }
+
+    /**
+     * Iterate over all results. The first page is fetched before this method
+     * returns.
+     * 
+     * @param ordered Indicates whether results are delivered in page order.
+     * @return
+     */
+    public ParallelPageIterator iterator(boolean ordered) {
+	return new ParallelPageIterator(ordered);
+    }
+
+    /**
+     * Get a stream over all results. Closing the stream cancels outstanding page
+     * requests. The stream is not sized, since the result count reported by the
+     * server may not match the results actually returned.
+     * 
+     * @param ordered Indicates whether results are delivered in page order.
+     * @return
+     */
+    public Stream<T> stream(boolean ordered) {
+	ParallelPageIterator iterator = iterator(ordered);
+	int characteristics = Spliterator.NONNULL | (ordered ? Spliterator.ORDERED : 0);
+	return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false)
+		.onClose(iterator::close);
+    }
+
+    /**
+     * Fetch all results into a list.
+     * 
+     * @param ordered Indicates whether results are delivered in page order.
+     * @return
+     * @throws SiteWhereException
+     */
+    public List<T> fetchAll(boolean ordered) throws SiteWhereException {
+	try (ParallelPageIterator iterator = iterator(ordered)) {
+	    List<T> all = new ArrayList<T>((int) Math.min(iterator.getTotalResults(), Integer.MAX_VALUE - 8));
+	    while (iterator.hasNext()) {
+		all.add(iterator.next());
+	    }
+	    return all;
+	} catch (UncheckedIOException e) {
+	    if (e.getCause() instanceof SiteWhereException) {
+		throw (SiteWhereException) e.getCause();
+	    }
+	    throw new SiteWhereException(e.getCause());
+	}
+    }
+
+    /**
+     * Fetch a page from the server.
+     * 
+     * @param pageNumber
+     * @return
+     */
+    protected SearchResults<T> fetch(int pageNumber) {
+	try {
+	    SearchResults<T> page = query.getPage(pageNumber, pageSize);
+	    if (page.getResults() == null) {
+		page.setResults(Collections.emptyList());
+	    }
+	    return page;
+	} catch (SiteWhereException e) {
+	    throw new UncheckedIOException(e);
+	}
+    }
+
+    /**
+     * Iterator that keeps a bounded window of page requests running.
+     */
+    public class ParallelPageIterator implements Iterator<T>, AutoCloseable {
+
+	/** Indicates whether results are delivered in page order */
+	private boolean ordered;
+
+	/** Total results reported by the first page */
+	private long totalResults;
+
+	/** Number of pages planned from total results */
+	private int pageCount;
+
+	/** Next page number to request */
+	private int nextToSubmit = 2;
+
+	/** Next page number to deliver in ordered mode */
+	private int nextToDeliver = 2;
+
+	/** Number of pages not yet delivered */
+	private int remaining;
+
+	/** Requests that have not been consumed yet, by page number */
+	private Map<Integer, CompletableFuture<SearchResults<T>>> inFlight = new HashMap<>();
+
+	/** Pages that completed but have not been delivered, by page number */
+	private Map<Integer, SearchResults<T>> waiting = new HashMap<>();
+
+	/** Completion notifications from request threads */
+	private BlockingQueue<CompletedPage> completed = new LinkedBlockingQueue<>();
+
+	/** Results remaining in the current page */
+	private Iterator<T> current;
+
+	/** Indicates iterator was closed */
+	private boolean closed;
+
+	protected ParallelPageIterator(boolean ordered) {
+	    this.ordered = ordered;
+	    SearchResults<T> first = fetch(1);
+	    this.totalResults = first.getNumResults();
+	    this.pageCount = (int) ((totalResults + pageSize - 1) / pageSize);
+	    if (first.getResults().size() < pageSize) {
+		this.pageCount = 1;
+	    }
+	    this.remaining = Math.max(0, pageCount - 1);
+	    this.current = first.getResults().iterator();
+	    submitPages();
+	}
+
+	/*
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+	    while ((current == null) || !current.hasNext()) {
+		current = null;
+		if (closed || (remaining == 0)) {
+		    return false;
+		}
+		current = nextPage().getResults().iterator();
+	    }
+	    return true;
+	}
+
+	/*
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+	    if (!hasNext()) {
+		throw new NoSuchElementException();
+	    }
+	    return current.next();
+	}
+
+	/**
+	 * Submit requests until the window is full or all pages are requested.
+	 */
+	protected void submitPages() {
+	    while ((nextToSubmit <= pageCount) && ((inFlight.size() + waiting.size()) < concurrency)) {
+		int pageNumber = nextToSubmit++;
+		CompletableFuture<SearchResults<T>> future = CompletableFuture.supplyAsync(() -> fetch(pageNumber),
+			executor);
+		inFlight.put(pageNumber, future);
+		future.whenComplete((page, error) -> completed.add(new CompletedPage(pageNumber, page, error)));
+	    }
+	}
+
+	/**
+	 * Wait for the next deliverable page and refill the request window.
+	 * 
+	 * @return
+	 */
+	protected SearchResults<T> nextPage() {
+	    SearchResults<T> page;
+	    if (ordered) {
+		while (!waiting.containsKey(nextToDeliver)) {
+		    takeCompleted();
+		}
+		page = waiting.remove(nextToDeliver++);
+	    } else {
+		if (waiting.isEmpty()) {
+		    takeCompleted();
+		}
+		Iterator<SearchResults<T>> it = waiting.values().iterator();
+		page = it.next();
+		it.remove();
+	    }
+	    remaining--;
+	    submitPages();
+	    return page;
+	}
+
+	/**
+	 * Block until a request completes and move its page to the waiting area.
+	 */
+	protected void takeCompleted() {
+	    CompletedPage done;
+	    try {
+		done = completed.take();
+	    } catch (InterruptedException e) {
+		Thread.currentThread().interrupt();
+		throw new UncheckedIOException(new SiteWhereException("Interrupted while waiting for page.", e));
+	    }
+	    inFlight.remove(done.pageNumber);
+	    if (done.error != null) {
+		close();
+		Throwable cause = (done.error instanceof CompletionException) ? done.error.getCause() : done.error;
+		if (cause instanceof RuntimeException) {
+		    throw (RuntimeException) cause;
+		}
+		throw new UncheckedIOException(new SiteWhereException(cause));
+	    }
+	    waiting.put(done.pageNumber, done.page);
+	}
+
+	/**
+	 * Stop iterating and cancel outstanding requests.
+	 * 
+	 * @see java.lang.AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+	    closed = true;
+	    current = null;
+	    for (CompletableFuture<SearchResults<T>> future : inFlight.values()) {
+		future.cancel(false);
+	    }
+	    inFlight.clear();
+	    waiting.clear();
+	}
+
+	public long getTotalResults() {
+	    return totalResults;
+	}
+    }
+
+    /**
+     * Outcome of a page request.
+     */
+    protected class CompletedPage {
+
+	/** Page number */
+	private int pageNumber;
+
+	/** Page results if successful */
+	private SearchResults<T> page;
+
+	/** Error if request failed */
+	private Throwable error;
+
+	public CompletedPage(int pageNumber, SearchResults<T> page, Throwable error) {
+	    this.pageNumber = pageNumber;
+	    this.page = page;
+	    this.error = error;
+	}
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.sitewhere.spi.SiteWhereException;
+
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+
+/**
+ * Collapses concurrent identical GET requests into a single call. Requests are
+ * identical when their URL (path and query) and headers (including tenant
+ * headers) match. The first caller executes the call and every caller that
+ * arrives while it is in flight receives the same deserialized result, so
+ * results must be treated as read-only. Raw response bodies are buffered and
+ * handed to each caller as a separate body.
+ *
+ * Only calls that are in flight at the same time are combined. Nothing is kept
+ * after a call completes.
+ */
+public class RequestCoalescer {
+
+    /** Calls in flight by request */
+    private Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /** Number of calls sent to the server */
+    private LongAdder executed = new LongAdder();
+
+    /** Number of calls answered by joining a call in flight */
+    private LongAdder coalesced = new LongAdder();
+
+    /**
+     * Indicates whether a request may be combined with identical requests.
+     *
+     * @param request
+     * @return
+     */
+    public static boolean isCoalescable(Request request) {
+	return "GET".equals(request.method());
+    }
+
+    /**
+     * Execute a call on the calling thread or wait for an identical call that
+     * is already in flight.
+     *
+     * @param request
+     * @param execution
+     * @return
+     * @throws SiteWhereException
+     */
+    public <T> T execute(Request request, Execution<T> execution) throws SiteWhereException {
+	Key key = new Key(request);
+	CompletableFuture<Object> created = new CompletableFuture<>();
+	CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+	if (existing != null) {
+	    coalesced.increment();
+	    return copy(await(existing));
+	}
+	executed.increment();
+	try {
+	    Object shared = share(execution.execute());
+	    inFlight.remove(key, created);
+	    created.complete(shared);
+	    return copy(shared);
+	} catch (SiteWhereException | RuntimeException e) {
+	    inFlight.remove(key, created);
+	    created.completeExceptionally(e);
+	    throw e;
+	}
+    }
+
+    /**
+     * Start an asynchronous call or join an identical call that is already in
+     * flight. Cancelling the returned future detaches the caller but does not
+     * cancel a call that other callers may be waiting on.
+     *
+     * @param request
+     * @param execution
+     * @return
+     */
+    public <T> CompletableFuture<T> executeAsync(Request request, Supplier<CompletableFuture<T>> execution) {
+	Key key = new Key(request);
+	CompletableFuture<Object> created = new CompletableFuture<>();
+	CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+	if (existing != null) {
+	    coalesced.increment();
+	    return existing.thenApply(RequestCoalescer::copy);
+	}
+	executed.increment();
+	CompletableFuture<T> result;
+	try {
+	    result = execution.get();
+	} catch (RuntimeException e) {
+	    inFlight.remove(key, created);
+	    created.completeExceptionally(e);
+	    throw e;
+	}
+	result.whenComplete((value, error) -> {
+	    inFlight.remove(key, created);
+	    if (error != null) {
+		created.completeExceptionally(error);
+		return;
+	    }
+	    try {
+		created.complete(share(value));
+	    } catch (SiteWhereException e) {
+		created.completeExceptionally(e);
+	    }
+	});
+	return created.thenApply(RequestCoalescer::copy);
+    }
+
+    /**
+     * Get number of calls sent to the server.
+     *
+     * @return
+     */
+    public long getExecutedCount() {
+	return executed.sum();
+    }
+
+    /**
+     * Get number of calls saved by joining a call in flight.
+     *
+     * @return
+     */
+    public long getCoalescedCount() {
+	return coalesced.sum();
+    }
+
+    /**
+     * Get number of distinct calls currently in flight.
+     *
+     * @return
+     */
+    public int getInFlightCount() {
+	return inFlight.size();
+    }
+
+    /**
+     * Convert a result to a form that can be handed to several callers.
+     *
+     * @param result
+     * @return
+     * @throws SiteWhereException
+     */
+    protected static Object share(Object result) throws SiteWhereException {
+	if (result instanceof ResponseBody) {
+	    try (ResponseBody body = (ResponseBody) result) {
+		return new BufferedBody(body.contentType(), body.bytes());
+	    } catch (IOException e) {
+		throw new SiteWhereException(e);
+	    }
+	}
+	return result;
+    }
+
+    /**
+     * Get the result for a single caller.
+     *
+     * @param shared
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    protected static <T> T copy(Object shared) {
+	if (shared instanceof BufferedBody) {
+	    BufferedBody body = (BufferedBody) shared;
+	    return (T) ResponseBody.create(body.contentType, body.content);
+	}
+	return (T) shared;
+    }
+
+    /**
+     * Wait for a call in flight.
+     *
+     * @param future
+     * @return
+     * @throws SiteWhereException
+     */
+    protected static Object await(CompletableFuture<Object> future) throws SiteWhereException {
+	try {
+	    return future.join();
+	} catch (CompletionException e) {
+	    if (e.getCause() instanceof SiteWhereException) {
+		throw (SiteWhereException) e.getCause();
+	    }
+	    if (e.getCause() instanceof RuntimeException) {
+		throw (RuntimeException) e.getCause();
+	    }
+	    throw new SiteWhereException(e.getCause());
+	}
+    }
+
+    /**
+     * Executes a call on the calling thread.
+     */
+    @FunctionalInterface
+    public static interface Execution<T> {
+
+	/**
+	 * Execute the call.
+	 *
+	 * @return
+	 * @throws SiteWhereException
+	 */
+	public T execute() throws SiteWhereException;
+    }
+
+    /**
+     * Identifies identical requests.
+     */
+    protected static class Key {
+
+	/** Request URL */
+	private HttpUrl url;
+
+	/** Request headers */
+	private Headers headers;
+
+	public Key(Request request) {
+	    this.url = request.url();
+	    this.headers = request.headers();
+	}
+
+	/*
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+	    return (31 * url.hashCode()) + headers.hashCode();
+	}
+
+	/*
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+	    if (!(obj instanceof Key)) {
+		return false;
+	    }
+	    Key other = (Key) obj;
+	    return url.equals(other.url) && headers.equals(other.headers);
+	}
+    }
+
+    /**
+     * Raw response body read into memory so that it can be shared.
+     */
+    protected static class BufferedBody {
+
+	/** Content type of body */
+	private MediaType contentType;
+
+	/** Body content */
+	private byte[] content;
+
+	public BufferedBody(MediaType contentType, byte[] content) {
+	    this.contentType = contentType;
+	    this.content = content;
+	}
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.spi.IPagedQuery;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Iterates over every result of a paged query, requesting pages lazily. Only
+ * the page being consumed and (with prefetch enabled) the page after it are
+ * held in memory, so arbitrarily large result sets can be scanned in constant
+ * space. While a page is consumed, the next page is fetched on the given
+ * executor.
+ * 
+ * Errors from the server are rethrown as {@link UncheckedIOException} wrapping
+ * the {@link SiteWhereException}.
+ */
+public class SearchResultsIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /** Query that fetches pages */
+    private IPagedQuery<T> query;
+
+    /** Number of results requested per page */
+    private int pageSize;
+
+    /** Executor used for prefetching (null to disable) */
+    private Executor executor;
+
+    /** Number of the next page to request */
+    private int nextPageNumber;
+
+    /** Total results reported by the server (-1 until first page arrives) */
+    private long totalResults = -1;
+
+    /** Number of results received so far */
+    private long received;
+
+    /** Results remaining in the current page */
+    private Iterator<T> current;
+
+    /** Next page being fetched in the background */
+    private CompletableFuture<SearchResults<T>> prefetched;
+
+    /** Indicates no more pages need to be requested */
+    private boolean lastPage;
+
+    public SearchResultsIterator(IPagedQuery<T> query, int pageSize, Executor executor) {
+	this(query, 1, pageSize, executor);
+    }
+
+    public SearchResultsIterator(IPagedQuery<T> query, int firstPage, int pageSize, Executor executor) {
+	if (pageSize < 1) {
+	    throw new IllegalArgumentException("Page size must be greater than zero.");
+	}
+	this.query = query;
+	this.nextPageNumber = firstPage;
+	this.pageSize = pageSize;
+	this.executor = executor;
+    }
+
+    /*
+     * @see java.util.Iterator#hasNext()
+     */
+    @Override
+    public boolean hasNext() {
+	while ((current == null) || !current.hasNext()) {
+	    current = null;
+	    if (lastPage) {
+		return false;
+	    }
+	    current = nextPage().getResults().iterator();
+	}
+	return true;
+    }
+
+    /*
+     * @see java.util.Iterator#next()
+     */
+    @Override
+    public T next() {
+	if (!hasNext()) {
+	    throw new NoSuchElementException();
+	}
+	return current.next();
+    }
+
+    /**
+     * Get the next page, either from the prefetch or by fetching it on the caller
+     * thread, and start prefetching the page after it.
+     * 
+     * @return
+     */
+    protected SearchResults<T> nextPage() {
+	SearchResults<T> page = (prefetched != null) ? await(prefetched) : fetch(nextPageNumber);
+	prefetched = null;
+	nextPageNumber++;
+
+	List<T> results = page.getResults();
+	int count = (results != null) ? results.size() : 0;
+	received += count;
+	totalResults = page.getNumResults();
+	if ((count < pageSize) || (received >= totalResults)) {
+	    lastPage = true;
+	} else if (executor != null) {
+	    int pageNumber = nextPageNumber;
+	    prefetched = CompletableFuture.supplyAsync(() -> fetch(pageNumber), executor);
+	}
+	if (results == null) {
+	    page.setResults(Collections.emptyList());
+	}
+	return page;
+    }
+
+    /**
+     * Fetch a page from the server.
+     * 
+     * @param pageNumber
+     * @return
+     */
+    protected SearchResults<T> fetch(int pageNumber) {
+	try {
+	    return query.getPage(pageNumber, pageSize);
+	} catch (SiteWhereException e) {
+	    throw new UncheckedIOException(e);
+	}
+    }
+
+    /**
+     * Wait for a prefetched page.
+     * 
+     * @param future
+     * @return
+     */
+    protected static <T> SearchResults<T> await(CompletableFuture<SearchResults<T>> future) {
+	try {
+	    return future.join();
+	} catch (CompletionException e) {
+	    if (e.getCause() instanceof RuntimeException) {
+		throw (RuntimeException) e.getCause();
+	    }
+	    throw e;
+	}
+    }
+
+    /**
+     * Stop iterating and discard any page being prefetched.
+     * 
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close() {
+	lastPage = true;
+	current = null;
+	if (prefetched != null) {
+	    prefetched.cancel(false);
+	    prefetched = null;
+	}
+    }
+
+    /**
+     * Get total number of results reported by the server, or -1 if no page has
+     * been fetched yet.
+     * 
+     * @return
+     */
+    public long getTotalResults() {
+	return totalResults;
+    }
+}
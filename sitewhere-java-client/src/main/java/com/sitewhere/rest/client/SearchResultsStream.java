@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.spi.ISearchResultsStream;
+import com.sitewhere.spi.SiteWhereException;
+
+import okhttp3.ResponseBody;
+
+/**
+ * Decodes a {@link SearchResults} response body incrementally. The parser is
+ * positioned on the results array when the stream is opened, and each call to
+ * {@link #next()} binds one element with a {@link MappingIterator} that shares
+ * its deserialization context across elements. Fields other than the result count and
+ * the results are skipped.
+ */
+public class SearchResultsStream<T> implements ISearchResultsStream<T> {
+
+    /** Field name for total result count */
+    private static final String FIELD_NUM_RESULTS = "numResults";
+
+    /** Field name for results array */
+    private static final String FIELD_RESULTS = "results";
+
+    /** Response body being read */
+    private ResponseBody body;
+
+    /** Parser over response body */
+    private JsonParser parser;
+
+    /** Total results reported by the server */
+    private long numResults = NUM_RESULTS_UNKNOWN;
+
+    /** Binds successive elements of the results array */
+    private MappingIterator<T> elements;
+
+    /** Indicates all elements have been read or stream was closed */
+    private boolean finished;
+
+    public SearchResultsStream(ResponseBody body, ObjectReader reader) throws SiteWhereException {
+	this.body = body;
+	try {
+	    this.parser = reader.getFactory().createParser(body.byteStream());
+	    if (parser.nextToken() != JsonToken.START_OBJECT) {
+		throw new SiteWhereException("Expected search results object in response.");
+	    }
+	    if (readToResults()) {
+		// Iterator advances to the first element itself.
+		parser.clearCurrentToken();
+		this.elements = reader.readValues(parser);
+	    } else {
+		close();
+	    }
+	} catch (IOException e) {
+	    close();
+	    throw (e instanceof SiteWhereException) ? (SiteWhereException) e : new SiteWhereException(e);
+	}
+    }
+
+    /*
+     * @see java.util.Iterator#hasNext()
+     */
+    @Override
+    public boolean hasNext() {
+	if (finished) {
+	    return false;
+	}
+	try {
+	    if (elements.hasNextValue()) {
+		return true;
+	    }
+	    readToResults();
+	    close();
+	    return false;
+	} catch (IOException e) {
+	    throw failed(e);
+	}
+    }
+
+    /*
+     * @see java.util.Iterator#next()
+     */
+    @Override
+    public T next() {
+	if (!hasNext()) {
+	    throw new NoSuchElementException();
+	}
+	try {
+	    return elements.nextValue();
+	} catch (IOException e) {
+	    throw failed(e);
+	}
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISearchResultsStream#getNumResults()
+     */
+    @Override
+    public long getNumResults() {
+	return numResults;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISearchResultsStream#close()
+     */
+    @Override
+    public void close() {
+	finished = true;
+	if (parser != null) {
+	    try {
+		parser.close();
+	    } catch (IOException e) {
+		// Body is closed below regardless.
+	    }
+	}
+	body.close();
+    }
+
+    /**
+     * Close the stream after a read error and wrap the error for rethrowing
+     * from iterator methods.
+     *
+     * @param e
+     * @return
+     */
+    protected UncheckedIOException failed(IOException e) {
+	close();
+	return new UncheckedIOException(
+		(e instanceof SiteWhereException) ? (SiteWhereException) e : new SiteWhereException(e));
+    }
+
+    /**
+     * Advance through fields of the enclosing object until the start of the
+     * results array or the end of the object, capturing the result count along
+     * the way.
+     *
+     * @return true if positioned on the results array
+     * @throws IOException
+     */
+    protected boolean readToResults() throws IOException {
+	JsonToken token;
+	while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+	    String field = parser.getCurrentName();
+	    JsonToken value = parser.nextToken();
+	    if (value == null) {
+		break;
+	    }
+	    if (FIELD_NUM_RESULTS.equals(field) && value.isNumeric()) {
+		numResults = parser.getLongValue();
+	    } else if (FIELD_RESULTS.equals(field) && (value == JsonToken.START_ARRAY)) {
+		return true;
+	    } else {
+		parser.skipChildren();
+	    }
+	}
+	if (token != JsonToken.END_OBJECT) {
+	    throw new SiteWhereException("Malformed search results in response.");
+	}
+	return false;
+    }
+}
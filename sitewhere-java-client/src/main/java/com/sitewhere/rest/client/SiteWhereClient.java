@@ -10,12 +10,38 @@ package com.sitewhere.rest.client;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sitewhere.rest.client.auth.InMemoryJwtStore;
+import com.sitewhere.rest.client.auth.JwtAuthenticator;
+import com.sitewhere.rest.client.auth.JwtManager;
+import com.sitewhere.rest.client.balance.LoadBalancer;
+import com.sitewhere.rest.client.balance.LoadBalancingInterceptor;
+import com.sitewhere.rest.client.balance.ServerEndpoint;
+import com.sitewhere.rest.client.compression.CompressionInterceptor;
+import com.sitewhere.rest.client.compression.CompressionPolicy;
+import com.sitewhere.rest.client.governor.GovernorInterceptor;
+import com.sitewhere.rest.client.governor.ThroughputGovernor;
+import com.sitewhere.rest.client.isolation.EndpointIsolation;
+import com.sitewhere.rest.client.isolation.IsolationInterceptor;
+import com.sitewhere.rest.client.metrics.CallInstrumenter;
+import com.sitewhere.rest.client.metrics.ClientMetrics;
+import com.sitewhere.rest.client.metrics.DecodeTimingConverterFactory;
+import com.sitewhere.rest.client.metrics.OperationResolver;
+import com.sitewhere.rest.client.retry.RetryInterceptor;
+import com.sitewhere.rest.client.retry.RetryPolicy;
 import com.sitewhere.rest.model.area.Area;
 import com.sitewhere.rest.model.area.AreaType;
 import com.sitewhere.rest.model.area.Zone;
@@ -35,7 +61,9 @@ import com.sitewhere.rest.model.customer.Customer;
 import com.sitewhere.rest.model.customer.CustomerType;
 import com.sitewhere.rest.model.customer.request.CustomerCreateRequest;
 import com.sitewhere.rest.model.customer.request.CustomerTypeCreateRequest;
+import com.sitewhere.rest.model.datatype.ISO8601Codec;
 import com.sitewhere.rest.model.datatype.JsonDateSerializer;
+import com.sitewhere.rest.model.datatype.ModelObjectMapperFactory;
 import com.sitewhere.rest.model.device.Device;
 import com.sitewhere.rest.model.device.DeviceElementMapping;
 import com.sitewhere.rest.model.device.DeviceStatus;
@@ -47,15 +75,18 @@ import com.sitewhere.rest.model.device.asset.DeviceLocationWithAsset;
 import com.sitewhere.rest.model.device.asset.DeviceMeasurementWithAsset;
 import com.sitewhere.rest.model.device.asset.DeviceStateChangeWithAsset;
 import com.sitewhere.rest.model.device.charting.ChartSeries;
+import com.sitewhere.rest.model.device.charting.MeasurementSeries;
 import com.sitewhere.rest.model.device.command.DeviceCommand;
 import com.sitewhere.rest.model.device.command.DeviceCommandNamespace;
 import com.sitewhere.rest.model.device.event.DeviceCommandInvocation;
 import com.sitewhere.rest.model.device.event.DeviceCommandResponse;
 import com.sitewhere.rest.model.device.event.DeviceEventBatch;
 import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.binary.BinaryEventCodec;
 import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
 import com.sitewhere.rest.model.device.event.request.DeviceCommandInvocationCreateRequest;
 import com.sitewhere.rest.model.device.event.request.DeviceCommandResponseCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceEventCreateRequest;
 import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
 import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
 import com.sitewhere.rest.model.device.event.request.DeviceStateChangeCreateRequest;
@@ -122,14 +153,26 @@ import com.sitewhere.rest.model.user.GrantedAuthorityHierarchyNode;
 import com.sitewhere.rest.model.user.User;
 import com.sitewhere.rest.model.user.request.GrantedAuthorityCreateRequest;
 import com.sitewhere.rest.model.user.request.UserCreateRequest;
+import com.sitewhere.spi.IAsyncSiteWhereClient;
+import com.sitewhere.spi.IBulkLookupResult;
+import com.sitewhere.spi.IClientInstrumentation;
+import com.sitewhere.spi.IJwtStore;
+import com.sitewhere.spi.ISearchResultsStream;
 import com.sitewhere.spi.ISiteWhereClient;
 import com.sitewhere.spi.ITenantAuthentication;
+import com.sitewhere.spi.ITenantSiteWhereClient;
+import com.sitewhere.spi.IThroughputGovernor;
 import com.sitewhere.spi.SiteWhereException;
+import com.sitewhere.spi.device.event.request.IDeviceEventCreateRequest;
 import com.sitewhere.spi.web.ISiteWhereWebConstants;
 
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Headers;
+import okhttp3.HttpUrl;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.ResponseBody;
 import retrofit2.Call;
@@ -142,9 +185,6 @@ import retrofit2.converter.jackson.JacksonConverterFactory;
  */
 public class SiteWhereClient implements ISiteWhereClient {
 
-    /** ISO 8601 Date Fromatter */
-    private static SimpleDateFormat iso8601DateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
-
     /** Default protocol for REST services */
     public static final String DEFAULT_PROTOCOL = "http";
 
@@ -169,8 +209,29 @@ public class SiteWhereClient implements ISiteWhereClient {
     /** Default connection timeout in milliseconds */
     public static final int DEFAULT_CONNECT_TIMEOUT = 3 * 1000;
 
+    /** Default read timeout in milliseconds */
+    public static final int DEFAULT_READ_TIMEOUT = 10 * 1000;
+
+    /** Default write timeout in milliseconds */
+    public static final int DEFAULT_WRITE_TIMEOUT = 10 * 1000;
+
+    /** Default number of idle connections kept in the pool */
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+
+    /** Default time in milliseconds an idle connection is kept alive */
+    public static final long DEFAULT_KEEP_ALIVE = 5 * 60 * 1000;
+
+    /** Default maximum number of concurrent requests */
+    public static final int DEFAULT_MAX_REQUESTS = 64;
+
+    /**
+     * Default maximum number of concurrent requests per host. All calls go to the
+     * same host, so this matches the overall limit.
+     */
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = DEFAULT_MAX_REQUESTS;
+
     /** HTTP Content-Disposition Header */
-    private static final String CONTENT_DISPOSITION_HEADER = "content-disposition";
+    static final String CONTENT_DISPOSITION_HEADER = "content-disposition";
 
     /** Protocol used */
     private String protocol = DEFAULT_PROTOCOL;
@@ -190,15 +251,84 @@ public class SiteWhereClient implements ISiteWhereClient {
     /** Connect timeout */
     private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
 
+    /** Read timeout */
+    private int readTimeout = DEFAULT_READ_TIMEOUT;
+
+    /** Write timeout */
+    private int writeTimeout = DEFAULT_WRITE_TIMEOUT;
+
+    /** Maximum number of idle connections in pool */
+    private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+
+    /** Keep-alive for idle connections in milliseconds */
+    private long keepAlive = DEFAULT_KEEP_ALIVE;
+
+    /** Maximum number of concurrent requests */
+    private int maxRequests = DEFAULT_MAX_REQUESTS;
+
+    /** Maximum number of concurrent requests per host */
+    private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+
+    /** Indicates whether HTTP/2 is used (null for OkHttp defaults) */
+    private Boolean http2Enabled;
+
+    /** Indicates whether event batches are sent in the binary event format */
+    private boolean binaryEventsEnabled = false;
+
+    /** HTTP client that owns connection pool and dispatcher shared by all calls */
+    private OkHttpClient httpClient;
+
     /** Retrofit interface for SiteWhere authentication */
     private AuthenticationRetrofit authRetrofit;
 
+    /** HTTP client for REST calls that adds JWT to requests */
+    private OkHttpClient restClient;
+
     /** Retrofit interface for SiteWhere global REST APIs */
     private SiteWhereRestRetrofit restRetrofit;
 
-    /** JWT for authenticating with server */
+    /** Mapper used for REST payloads (created on first use if not set) */
+    private ObjectMapper objectMapper;
+
+    /** Combines concurrent identical GET calls (null if disabled) */
+    private RequestCoalescer requestCoalescer;
+
+    /** Maximum number of lookups in flight for a bulk lookup */
+    private int bulkLookupParallelism = BulkLookup.DEFAULT_PARALLELISM;
+
+    /** Controls rate and concurrency of REST calls (null if disabled) */
+    private IThroughputGovernor throughputGovernor;
+
+    /** Retries calls that fail with transient errors (null if disabled) */
+    private RetryPolicy retryPolicy;
+
+    /** Bulkheads and circuit breakers for endpoint groups (null if disabled) */
+    private EndpointIsolation endpointIsolation;
+
+    /** Spreads calls over several servers (null for a single server) */
+    private LoadBalancer loadBalancer;
+
+    /** Controls compression of request bodies (null if disabled) */
+    private CompressionPolicy compressionPolicy;
+
+    /** Receives timings and sizes of REST calls (null if disabled) */
+    private IClientInstrumentation instrumentation;
+
+    /** Records call events for instrumentation */
+    private CallInstrumenter callInstrumenter;
+
+    /** JWT for authenticating with server (before initialization) */
     private String jwt;
 
+    /** Store for JWTs (null for a store private to this client) */
+    private IJwtStore jwtStore;
+
+    /** Time before expiry at which the JWT is refreshed (ms, zero to disable) */
+    private long jwtRefreshMargin = JwtManager.DEFAULT_REFRESH_MARGIN;
+
+    /** Manages the JWT after initialization */
+    private JwtManager jwtManager;
+
     /**
      * Get new builder class.
      * 
@@ -320,6 +450,17 @@ public class SiteWhereClient implements ISiteWhereClient {
 	return processRestCall(call);
     }
 
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkGetAreasByToken()
+     */
+    @Override
+    public IBulkLookupResult<MarshaledArea> bulkGetAreasByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException {
+	AsyncSiteWhereClient async = new AsyncSiteWhereClient(this);
+	return BulkLookup.await(BulkLookup.resolve(tokens, getBulkLookupParallelism(),
+		token -> async.getAreaByToken(tenant, token)));
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -676,6 +817,17 @@ public class SiteWhereClient implements ISiteWhereClient {
 	return processRestCall(call);
     }
 
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkGetDeviceAssignmentsByToken()
+     */
+    @Override
+    public IBulkLookupResult<MarshaledDeviceAssignment> bulkGetDeviceAssignmentsByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException {
+	AsyncSiteWhereClient async = new AsyncSiteWhereClient(this);
+	return BulkLookup.await(BulkLookup.resolve(tokens, getBulkLookupParallelism(),
+		token -> async.getDeviceAssignmentByToken(tenant, token)));
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -729,6 +881,20 @@ public class SiteWhereClient implements ISiteWhereClient {
 	return processRestCall(call);
     }
 
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#streamAlertsForDeviceAssignment(com.sitewhere.spi.
+     * ITenantAuthentication, java.lang.String,
+     * com.sitewhere.rest.model.search.DateRangeSearchCriteria)
+     */
+    @Override
+    public ISearchResultsStream<DeviceAlertWithAsset> streamAlertsForDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	Call<SearchResults<DeviceAlertWithAsset>> call = getRestRetrofit().listAlertsForDeviceAssignment(token,
+		toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return streamSearchResults(call, DeviceAlertWithAsset.class);
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -737,8 +903,8 @@ public class SiteWhereClient implements ISiteWhereClient {
     @Override
     public DeviceAlertWithAsset createAlertForDeviceAssignment(ITenantAuthentication tenant, String token,
 	    DeviceAlertCreateRequest request) throws SiteWhereException {
-	Call<DeviceAlertWithAsset> call = getRestRetrofit().createAlertForDeviceAssignment(token, request,
-		createHeadersFor(tenant));
+	Call<DeviceAlertWithAsset> call = withAlternateId(request,
+		() -> getRestRetrofit().createAlertForDeviceAssignment(token, request, createHeadersFor(tenant)));
 	return processRestCall(call);
     }
 
@@ -780,8 +946,9 @@ public class SiteWhereClient implements ISiteWhereClient {
     @Override
     public DeviceCommandInvocation createCommandInvocationForDeviceAssignment(ITenantAuthentication tenant,
 	    String token, DeviceCommandInvocationCreateRequest request) throws SiteWhereException {
-	Call<DeviceCommandInvocation> call = getRestRetrofit().createCommandInvocationForDeviceAssignment(token,
-		request, createHeadersFor(tenant));
+	Call<DeviceCommandInvocation> call = withAlternateId(request,
+		() -> getRestRetrofit().createCommandInvocationForDeviceAssignment(token, request,
+			createHeadersFor(tenant)));
 	return processRestCall(call);
     }
 
@@ -793,8 +960,9 @@ public class SiteWhereClient implements ISiteWhereClient {
     @Override
     public ScheduledJob scheduleCommandInvocation(ITenantAuthentication tenant, String token, String scheduleToken,
 	    DeviceCommandInvocationCreateRequest request) throws SiteWhereException {
-	Call<ScheduledJob> call = getRestRetrofit().scheduleCommandInvocation(token, scheduleToken, request,
-		createHeadersFor(tenant));
+	Call<ScheduledJob> call = withAlternateId(request,
+		() -> getRestRetrofit().scheduleCommandInvocation(token, scheduleToken, request,
+			createHeadersFor(tenant)));
 	return processRestCall(call);
     }
 
@@ -829,6 +997,21 @@ public class SiteWhereClient implements ISiteWhereClient {
 	return processRestCall(call);
     }
 
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#streamLocationsForDeviceAssignment(com.sitewhere.spi.
+     * ITenantAuthentication, java.lang.String,
+     * com.sitewhere.rest.model.search.DateRangeSearchCriteria)
+     */
+    @Override
+    public ISearchResultsStream<DeviceLocationWithAsset> streamLocationsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	Call<SearchResults<DeviceLocationWithAsset>> call = getRestRetrofit().listLocationsForDeviceAssignment(token,
+		toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return streamSearchResults(call, DeviceLocationWithAsset.class);
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -837,8 +1020,8 @@ public class SiteWhereClient implements ISiteWhereClient {
     @Override
     public DeviceLocationWithAsset createLocationForDeviceAssignment(ITenantAuthentication tenant, String token,
 	    DeviceLocationCreateRequest request) throws SiteWhereException {
-	Call<DeviceLocationWithAsset> call = getRestRetrofit().createLocationForDeviceAssignment(token, request,
-		createHeadersFor(tenant));
+	Call<DeviceLocationWithAsset> call = withAlternateId(request,
+		() -> getRestRetrofit().createLocationForDeviceAssignment(token, request, createHeadersFor(tenant)));
 	return processRestCall(call);
     }
 
@@ -856,6 +1039,21 @@ public class SiteWhereClient implements ISiteWhereClient {
 	return processRestCall(call);
     }
 
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#streamMeasurementsForDeviceAssignment(com.sitewhere.spi.
+     * ITenantAuthentication, java.lang.String,
+     * com.sitewhere.rest.model.search.DateRangeSearchCriteria)
+     */
+    @Override
+    public ISearchResultsStream<DeviceMeasurementWithAsset> streamMeasurementsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	Call<SearchResults<DeviceMeasurementWithAsset>> call = getRestRetrofit().listMeasurementsForDeviceAssignment(
+		token, toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return streamSearchResults(call, DeviceMeasurementWithAsset.class);
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -864,8 +1062,8 @@ public class SiteWhereClient implements ISiteWhereClient {
     @Override
     public DeviceMeasurementWithAsset createMeasurementForDeviceAssignment(ITenantAuthentication tenant, String token,
 	    DeviceMeasurementCreateRequest request) throws SiteWhereException {
-	Call<DeviceMeasurementWithAsset> call = getRestRetrofit().createMeasurementForDeviceAssignment(token, request,
-		createHeadersFor(tenant));
+	Call<DeviceMeasurementWithAsset> call = withAlternateId(request,
+		() -> getRestRetrofit().createMeasurementForDeviceAssignment(token, request, createHeadersFor(tenant)));
 	return processRestCall(call);
     }
 
@@ -884,6 +1082,19 @@ public class SiteWhereClient implements ISiteWhereClient {
 	return processRestCall(call);
     }
 
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#
+     * listMeasurementsForDeviceAssignmentAsMeasurementSeries()
+     */
+    @Override
+    public List<MeasurementSeries> listMeasurementsForDeviceAssignmentAsMeasurementSeries(ITenantAuthentication tenant,
+	    String token, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	Call<List<MeasurementSeries>> call = getRestRetrofit().listMeasurementsForDeviceAssignmentAsMeasurementSeries(
+		token, toISO8601(searchCriteria.getStartDate()), toISO8601(searchCriteria.getEndDate()),
+		searchCriteria.getPageNumber(), searchCriteria.getPageSize(), createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -922,8 +1133,9 @@ public class SiteWhereClient implements ISiteWhereClient {
      */
     public DeviceCommandResponseWithAsset createCommandResponseForDeviceAssignment(ITenantAuthentication tenant,
 	    String token, DeviceCommandResponseCreateRequest request) throws SiteWhereException {
-	Call<DeviceCommandResponseWithAsset> call = getRestRetrofit().createCommandResponseForDeviceAssignment(token,
-		request, createHeadersFor(tenant));
+	Call<DeviceCommandResponseWithAsset> call = withAlternateId(request,
+		() -> getRestRetrofit().createCommandResponseForDeviceAssignment(token, request,
+			createHeadersFor(tenant)));
 	return processRestCall(call);
     }
 
@@ -949,8 +1161,8 @@ public class SiteWhereClient implements ISiteWhereClient {
      */
     public DeviceStateChangeWithAsset createStateChangeForDeviceAssignment(ITenantAuthentication tenant, String token,
 	    DeviceStateChangeCreateRequest request) throws SiteWhereException {
-	Call<DeviceStateChangeWithAsset> call = getRestRetrofit().createStateChangeForDeviceAssignment(token, request,
-		createHeadersFor(tenant));
+	Call<DeviceStateChangeWithAsset> call = withAlternateId(request,
+		() -> getRestRetrofit().createStateChangeForDeviceAssignment(token, request, createHeadersFor(tenant)));
 	return processRestCall(call);
     }
 
@@ -1018,6 +1230,18 @@ public class SiteWhereClient implements ISiteWhereClient {
 	return processRestCall(call);
     }
 
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#
+     * bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries()
+     */
+    @Override
+    public Map<String, List<MeasurementSeries>> bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	Call<Map<String, List<MeasurementSeries>>> call = getRestRetrofit()
+		.bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries(request, createHeadersFor(tenant));
+	return processRestCall(call);
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1833,6 +2057,17 @@ public class SiteWhereClient implements ISiteWhereClient {
 	return processRestCall(call);
     }
 
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkGetDeviceTypesByToken()
+     */
+    @Override
+    public IBulkLookupResult<DeviceType> bulkGetDeviceTypesByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException {
+	AsyncSiteWhereClient async = new AsyncSiteWhereClient(this);
+	return BulkLookup.await(BulkLookup.resolve(tokens, getBulkLookupParallelism(),
+		token -> async.getDeviceTypeByToken(tenant, token)));
+    }
+
     /*
      * @see com.sitewhere.spi.ISiteWhereClient#createDeviceType(com.sitewhere.spi.
      * ITenantAuthentication,
@@ -1953,6 +2188,17 @@ public class SiteWhereClient implements ISiteWhereClient {
 	return processRestCall(call);
     }
 
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkGetDevicesByToken()
+     */
+    @Override
+    public IBulkLookupResult<MarshaledDevice> bulkGetDevicesByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException {
+	AsyncSiteWhereClient async = new AsyncSiteWhereClient(this);
+	return BulkLookup.await(BulkLookup.resolve(tokens, getBulkLookupParallelism(),
+		token -> async.getDeviceByToken(tenant, token)));
+    }
+
     /*
      * @see com.sitewhere.spi.ISiteWhereClient#createDevice(com.sitewhere.spi.
      * ITenantAuthentication,
@@ -1996,8 +2242,8 @@ public class SiteWhereClient implements ISiteWhereClient {
     @Override
     public DeviceEventBatchResponse addMultipleEventsForDevice(ITenantAuthentication tenant, String deviceToken,
 	    DeviceEventBatch batch) throws SiteWhereException {
-	Call<DeviceEventBatchResponse> call = getRestRetrofit().addMultipleEventsForDevice(deviceToken, batch,
-		createHeadersFor(tenant));
+	Call<DeviceEventBatchResponse> call = withAlternateIds(batch,
+		() -> getRestRetrofit().addMultipleEventsForDevice(deviceToken, batch, createHeadersFor(tenant)));
 	return processRestCall(call);
     }
 
@@ -2458,6 +2704,20 @@ public class SiteWhereClient implements ISiteWhereClient {
      * @throws SiteWhereException
      */
     protected <T> T processRestCall(Call<T> call) throws SiteWhereException {
+	if ((getRequestCoalescer() != null) && RequestCoalescer.isCoalescable(call.request())) {
+	    return getRequestCoalescer().execute(call.request(), () -> executeRestCall(call));
+	}
+	return executeRestCall(call);
+    }
+
+    /**
+     * Execute a REST call on the calling thread.
+     * 
+     * @param call
+     * @return
+     * @throws SiteWhereException
+     */
+    protected <T> T executeRestCall(Call<T> call) throws SiteWhereException {
 	try {
 	    Response<T> response = call.execute();
 	    if (response.isSuccessful()) {
@@ -2470,20 +2730,94 @@ public class SiteWhereClient implements ISiteWhereClient {
 	}
     }
 
+    /**
+     * Execute a list call and decode its results incrementally. The request is
+     * built by Retrofit as usual, but the response body is handed to a
+     * streaming parser instead of being bound to a {@link SearchResults}, so
+     * results can be consumed while the body is still being read.
+     * 
+     * @param call
+     * @param type
+     * @return
+     * @throws SiteWhereException
+     */
+    public <T> ISearchResultsStream<T> streamSearchResults(Call<SearchResults<T>> call, Class<T> type)
+	    throws SiteWhereException {
+	okhttp3.Response response;
+	try {
+	    response = getRestClient().newCall(call.request()).execute();
+	} catch (IOException e) {
+	    throw new SiteWhereException(e);
+	}
+	if (!response.isSuccessful()) {
+	    response.close();
+	    throw new SiteWhereException(response.toString());
+	}
+	return new SearchResultsStream<T>(response.body(), getObjectMapper().readerFor(type));
+    }
+
+    /**
+     * Execute a list call and pass each result to a consumer as it is decoded.
+     * 
+     * @param call
+     * @param type
+     * @param consumer
+     * @return total number of results reported by the server
+     * @throws SiteWhereException
+     */
+    public <T> long forEachSearchResult(Call<SearchResults<T>> call, Class<T> type, Consumer<? super T> consumer)
+	    throws SiteWhereException {
+	try (ISearchResultsStream<T> stream = streamSearchResults(call, type)) {
+	    stream.forEachRemaining(consumer);
+	    return stream.getNumResults();
+	}
+    }
+
     /*
      * @see com.sitewhere.spi.ISiteWhereClient#initialize()
      */
     @Override
     public ISiteWhereClient initialize() throws SiteWhereException {
+	this.httpClient = buildHttpClient();
+	if (getLoadBalancer() != null) {
+	    getLoadBalancer().start(getHttpClient());
+	}
 
 	Retrofit authRetrofitSettings = new Retrofit.Builder().baseUrl(getAuthApiUrl()).client(buildBasicAuthClient())
 		.build();
 	this.authRetrofit = authRetrofitSettings.create(AuthenticationRetrofit.class);
 
-	Retrofit restRetrofitSettings = new Retrofit.Builder().baseUrl(getRestApiUrl()).client(buildGlobalClient())
-		.addConverterFactory(JacksonConverterFactory.create()).build();
+	if (jwtManager != null) {
+	    jwtManager.stop();
+	}
+	IJwtStore store = (getJwtStore() != null) ? getJwtStore() : new InMemoryJwtStore();
+	this.jwtManager = new JwtManager(store, getUsername() + "@" + getAuthApiUrl(), this::loadJwt,
+		getJwtRefreshMargin());
+
+	this.restClient = buildGlobalClient();
+	Retrofit.Builder restRetrofitBuilder = new Retrofit.Builder().baseUrl(getRestApiUrl()).client(getRestClient());
+	if (callInstrumenter != null) {
+	    restRetrofitBuilder.addConverterFactory(new DecodeTimingConverterFactory(
+		    callInstrumenter.getInstrumentation(), callInstrumenter.getResolver()));
+	}
+	if (isBinaryEventsEnabled()) {
+	    restRetrofitBuilder.addConverterFactory(new BinaryEventConverterFactory());
+	}
+	restRetrofitBuilder.addConverterFactory(JacksonConverterFactory.create(getObjectMapper()));
+	Retrofit restRetrofitSettings = restRetrofitBuilder.build();
 	this.restRetrofit = restRetrofitSettings.create(SiteWhereRestRetrofit.class);
 
+	getJwtManager().getJwt();
+	return this;
+    }
+
+    /**
+     * Obtain a new JWT from the authentication API.
+     * 
+     * @return
+     * @throws SiteWhereException
+     */
+    protected String loadJwt() throws SiteWhereException {
 	try {
 	    Response<Void> jwtResponse = getAuthRetrofit().getJwt().execute();
 	    if (!jwtResponse.isSuccessful()) {
@@ -2493,24 +2827,78 @@ public class SiteWhereClient implements ISiteWhereClient {
 	    Headers headers = jwtResponse.headers();
 	    List<String> jwts = headers.values(ISiteWhereWebConstants.HEADER_JWT);
 	    if (jwts.size() > 0) {
-		this.jwt = jwts.get(0);
+		return jwts.get(0);
 	    } else {
 		throw new SiteWhereException("No JWT returned in server response.");
 	    }
-
-	    return this;
 	} catch (IOException e) {
 	    throw new SiteWhereException("Exception obtaining JWT.", e);
 	}
     }
 
+    /*
+     * @see
+     * com.sitewhere.spi.ISiteWhereClient#withTenant(com.sitewhere.spi.
+     * ITenantAuthentication)
+     */
+    @Override
+    public ITenantSiteWhereClient withTenant(ITenantAuthentication tenant) {
+	return new TenantSiteWhereClient(this, tenant);
+    }
+
+    /**
+     * Build the base HTTP client. The connection pool, dispatcher and timeouts
+     * configured here are shared by the authentication and REST clients derived
+     * from it.
+     * 
+     * @return
+     */
+    protected OkHttpClient buildHttpClient() {
+	Dispatcher dispatcher = new Dispatcher();
+	dispatcher.setMaxRequests(getMaxRequests());
+	dispatcher.setMaxRequestsPerHost(getMaxRequestsPerHost());
+	if (getLoadBalancer() != null) {
+	    // Calls are queued under the configured host before being routed.
+	    int endpoints = getLoadBalancer().getEndpoints().size();
+	    dispatcher.setMaxRequestsPerHost(Math.min(getMaxRequests(), getMaxRequestsPerHost() * endpoints));
+	}
+
+	OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
+	httpClient.dispatcher(dispatcher);
+	httpClient.connectionPool(new ConnectionPool(getMaxIdleConnections(), getKeepAlive(), TimeUnit.MILLISECONDS));
+	httpClient.connectTimeout(getConnectTimeout(), TimeUnit.MILLISECONDS);
+	httpClient.readTimeout(getReadTimeout(), TimeUnit.MILLISECONDS);
+	httpClient.writeTimeout(getWriteTimeout(), TimeUnit.MILLISECONDS);
+	if (getHttp2Enabled() != null) {
+	    httpClient.protocols(getHttpProtocols(getHttp2Enabled()));
+	}
+	return httpClient.build();
+    }
+
+    /**
+     * Get list of protocols negotiated by the HTTP client. HTTP/2 over cleartext
+     * connections requires prior knowledge since there is no TLS negotiation.
+     * 
+     * @param http2
+     * @return
+     */
+    protected List<Protocol> getHttpProtocols(boolean http2) {
+	if (!http2) {
+	    return Collections.singletonList(Protocol.HTTP_1_1);
+	}
+	if ("https".equalsIgnoreCase(getProtocol())) {
+	    return Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+	}
+	return Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE);
+    }
+
     /**
      * Build client that includes a HTTP basic auth header.
      * 
      * @return
      */
     protected OkHttpClient buildBasicAuthClient() {
-	OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
+	OkHttpClient.Builder httpClient = getHttpClient().newBuilder();
 	httpClient.addInterceptor(new Interceptor() {
 	    @Override
 	    public okhttp3.Response intercept(Interceptor.Chain chain) throws IOException {
@@ -2522,6 +2910,9 @@ public class SiteWhereClient implements ISiteWhereClient {
 		return chain.proceed(request);
 	    }
 	});
+	if (getLoadBalancer() != null) {
+	    httpClient.addInterceptor(new LoadBalancingInterceptor(getLoadBalancer()));
+	}
 	return httpClient.build();
     }
 
@@ -2531,7 +2922,14 @@ public class SiteWhereClient implements ISiteWhereClient {
      * @return
      */
     protected OkHttpClient buildGlobalClient() {
-	OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
+	OkHttpClient.Builder httpClient = getHttpClient().newBuilder();
+	if (getInstrumentation() != null) {
+	    this.callInstrumenter = new CallInstrumenter(getInstrumentation(),
+		    new OperationResolver(SiteWhereRestRetrofit.class, HttpUrl.get(getRestApiUrl())));
+	    httpClient.eventListenerFactory(callInstrumenter);
+	    httpClient.addInterceptor(callInstrumenter);
+	}
+	httpClient.authenticator(new JwtAuthenticator(getJwtManager()));
 	httpClient.addInterceptor(new Interceptor() {
 	    @Override
 	    public okhttp3.Response intercept(Interceptor.Chain chain) throws IOException {
@@ -2539,27 +2937,120 @@ public class SiteWhereClient implements ISiteWhereClient {
 
 		// Request customization: add request headers
 		Request.Builder requestBuilder = original.newBuilder().header("Authorization",
-			"Bearer " + SiteWhereClient.this.jwt);
+			"Bearer " + getJwtManager().getJwt());
+		if ((original.body() != null)
+			&& BinaryEventConverterFactory.isBinary(original.body().contentType())) {
+		    requestBuilder.header("Accept", BinaryEventCodec.MEDIA_TYPE + ", application/json");
+		}
 		Request request = requestBuilder.build();
 		return chain.proceed(request);
 	    }
 	});
+	if (getCompressionPolicy() != null) {
+	    httpClient.addInterceptor(new CompressionInterceptor(getCompressionPolicy(),
+		    new OperationResolver(SiteWhereRestRetrofit.class, HttpUrl.get(getRestApiUrl()))));
+	}
+	if (getRetryPolicy() != null) {
+	    httpClient.addInterceptor(new RetryInterceptor(getRetryPolicy()));
+	}
+	if (getEndpointIsolation() != null) {
+	    httpClient.addInterceptor(new IsolationInterceptor(getEndpointIsolation()));
+	}
+	if (getThroughputGovernor() != null) {
+	    httpClient.addInterceptor(new GovernorInterceptor(getThroughputGovernor()));
+	}
+	if (getLoadBalancer() != null) {
+	    httpClient.addInterceptor(new LoadBalancingInterceptor(getLoadBalancer()));
+	}
 	return httpClient.build();
     }
 
     /**
-     * Create headers based on tenant authentication information.
+     * Create headers based on tenant authentication information. Headers for a
+     * {@link TenantAuthentication} are computed once and shared, so callers
+     * must not modify the result.
      * 
      * @param tenant
      * @return
      */
     protected Map<String, String> createHeadersFor(ITenantAuthentication tenant) {
+	if (tenant instanceof TenantAuthentication) {
+	    return ((TenantAuthentication) tenant).getHeaders();
+	}
 	Map<String, String> headers = new HashMap<>();
 	headers.put(ISiteWhereWebConstants.HEADER_TENANT_ID, tenant.getTenantToken());
 	headers.put(ISiteWhereWebConstants.HEADER_TENANT_AUTH, tenant.getTenantAuthToken());
 	return headers;
     }
 
+    /**
+     * Create the call for a single event. See
+     * {@link #withAlternateIds(List, Supplier)}.
+     * 
+     * @param request
+     * @param factory
+     * @return
+     */
+    protected <T> Call<T> withAlternateId(DeviceEventCreateRequest request, Supplier<Call<T>> factory) {
+	return withAlternateIds(Collections.singletonList(request), factory);
+    }
+
+    /**
+     * Create the call for a batch of events. See
+     * {@link #withAlternateIds(List, Supplier)}.
+     * 
+     * @param batch
+     * @param factory
+     * @return
+     */
+    protected <T> Call<T> withAlternateIds(DeviceEventBatch batch, Supplier<Call<T>> factory) {
+	if ((getRetryPolicy() == null) || !getRetryPolicy().isRetryEvents()) {
+	    return factory.get();
+	}
+	List<IDeviceEventCreateRequest> events = new ArrayList<>();
+	events.addAll(batch.getMeasurements());
+	events.addAll(batch.getLocations());
+	events.addAll(batch.getAlerts());
+	return withAlternateIds(events, factory);
+    }
+
+    /**
+     * Create the call for events. When event creation may be retried, events
+     * without an alternate id are sent with a new one, so that the server can
+     * discard duplicates. The ids are only written into the request body. They
+     * are removed from the caller's objects once the body has been encoded, so
+     * a request object can be reused for later events.
+     * 
+     * @param events
+     * @param factory
+     * @return
+     */
+    protected <T> Call<T> withAlternateIds(List<? extends IDeviceEventCreateRequest> events,
+	    Supplier<Call<T>> factory) {
+	if ((getRetryPolicy() == null) || !getRetryPolicy().isRetryEvents()) {
+	    return factory.get();
+	}
+	List<DeviceEventCreateRequest> assigned = new ArrayList<>();
+	try {
+	    for (IDeviceEventCreateRequest event : events) {
+		if ((event instanceof DeviceEventCreateRequest) && (event.getAlternateId() == null)) {
+		    DeviceEventCreateRequest request = (DeviceEventCreateRequest) event;
+		    request.setAlternateId(UUID.randomUUID().toString());
+		    assigned.add(request);
+		}
+	    }
+	    Call<T> call = factory.get();
+
+	    // Encode the body now, while the ids are set.
+	    call.request();
+	    return call;
+	} finally {
+	    for (DeviceEventCreateRequest request : assigned) {
+		request.setAlternateId(null);
+	    }
+	}
+    }
+
     /**
      * Create default headers.
      * 
@@ -2577,8 +3068,20 @@ public class SiteWhereClient implements ISiteWhereClient {
 
 	private SiteWhereClient client = new SiteWhereClient();
 
+	/** Cache for token lookups (null if disabled) */
+	private EntityCache entityCache;
+
 	public ISiteWhereClient build() {
-	    return client;
+	    return (entityCache != null) ? new CachingSiteWhereClient(client, entityCache) : client;
+	}
+
+	/**
+	 * Build a non-blocking client that shares the configured settings.
+	 * 
+	 * @return
+	 */
+	public IAsyncSiteWhereClient buildAsync() {
+	    return new AsyncSiteWhereClient(client);
 	}
 
 	/**
@@ -2601,6 +3104,230 @@ public class SiteWhereClient implements ISiteWhereClient {
 	    client.setPassword(password);
 	    return this;
 	}
+
+	/**
+	 * Set connect, read and write timeouts in milliseconds.
+	 * 
+	 * @param connectTimeout
+	 * @param readTimeout
+	 * @param writeTimeout
+	 * @return
+	 */
+	public Builder withTimeouts(int connectTimeout, int readTimeout, int writeTimeout) {
+	    client.setConnectTimeout(connectTimeout);
+	    client.setReadTimeout(readTimeout);
+	    client.setWriteTimeout(writeTimeout);
+	    return this;
+	}
+
+	/**
+	 * Set size of the connection pool and how long idle connections are kept
+	 * alive (in milliseconds).
+	 * 
+	 * @param maxIdleConnections
+	 * @param keepAlive
+	 * @return
+	 */
+	public Builder withConnectionPool(int maxIdleConnections, long keepAlive) {
+	    client.setMaxIdleConnections(maxIdleConnections);
+	    client.setKeepAlive(keepAlive);
+	    return this;
+	}
+
+	/**
+	 * Set the maximum number of requests executed concurrently, both overall and
+	 * for a single host.
+	 * 
+	 * @param maxRequests
+	 * @param maxRequestsPerHost
+	 * @return
+	 */
+	public Builder withMaxRequests(int maxRequests, int maxRequestsPerHost) {
+	    client.setMaxRequests(maxRequests);
+	    client.setMaxRequestsPerHost(maxRequestsPerHost);
+	    return this;
+	}
+
+	/**
+	 * Enable or disable HTTP/2. When enabled for a cleartext connection, the
+	 * server must accept HTTP/2 with prior knowledge.
+	 * 
+	 * @param enabled
+	 * @return
+	 */
+	public Builder withHttp2(boolean enabled) {
+	    client.setHttp2Enabled(enabled);
+	    return this;
+	}
+
+	/**
+	 * Send device event batches in the compact binary event format rather
+	 * than JSON. The server must accept {@link BinaryEventCodec#MEDIA_TYPE}.
+	 * 
+	 * @param enabled
+	 * @return
+	 */
+	public Builder withBinaryEvents(boolean enabled) {
+	    client.setBinaryEventsEnabled(enabled);
+	    return this;
+	}
+
+	/**
+	 * Combine concurrent identical GET calls (same path, query and tenant
+	 * headers) into a single request whose result is shared by all callers.
+	 * Shared results must not be modified. Applies to both the blocking and
+	 * non-blocking clients.
+	 * 
+	 * @param enabled
+	 * @return
+	 */
+	public Builder withRequestCoalescing(boolean enabled) {
+	    client.setRequestCoalescer(enabled ? new RequestCoalescer() : null);
+	    return this;
+	}
+
+	/**
+	 * Cache lookups of devices, device types, assignments, areas, customers
+	 * and device commands by token. Applies to the blocking client only.
+	 * 
+	 * @param maximumSize maximum number of cached entities
+	 * @param timeToLive time entities are cached (ms)
+	 * @return
+	 */
+	public Builder withEntityCache(int maximumSize, long timeToLive) {
+	    this.entityCache = new EntityCache(maximumSize, timeToLive);
+	    return this;
+	}
+
+	/**
+	 * Set the maximum number of lookups in flight for each bulk lookup by
+	 * token. Requests beyond the dispatcher limits set with
+	 * {@link #withMaxRequests(int, int)} are queued.
+	 * 
+	 * @param parallelism
+	 * @return
+	 */
+	public Builder withBulkLookupParallelism(int parallelism) {
+	    client.setBulkLookupParallelism(parallelism);
+	    return this;
+	}
+
+	/**
+	 * Pass REST calls through a governor that limits their rate and
+	 * concurrency, for instance a {@link ThroughputGovernor}. Calls wait for
+	 * a permit before they are sent and fail if none is available within the
+	 * governor's maximum wait.
+	 * 
+	 * @param governor
+	 * @return
+	 */
+	public Builder withThroughputGovernor(IThroughputGovernor governor) {
+	    client.setThroughputGovernor(governor);
+	    return this;
+	}
+
+	/**
+	 * Retry calls that fail with transient errors such as connection resets
+	 * or 503 responses. Retries are sent within the throughput governor, if
+	 * one is configured.
+	 * 
+	 * @param policy
+	 * @return
+	 */
+	public Builder withRetryPolicy(RetryPolicy policy) {
+	    client.setRetryPolicy(policy);
+	    return this;
+	}
+
+	/**
+	 * Give each group of endpoints its own bulkhead and circuit breaker so
+	 * that a failing or slow group fails fast without holding up the others.
+	 * Each retry attempt is admitted separately.
+	 * 
+	 * @param isolation
+	 * @return
+	 */
+	public Builder withEndpointIsolation(EndpointIsolation isolation) {
+	    client.setEndpointIsolation(isolation);
+	    return this;
+	}
+
+	/**
+	 * Spread calls over several servers instead of the single server set by
+	 * {@link #withConnectionTo(String, String, int)}. Each call, and each
+	 * retry attempt, is routed separately.
+	 * 
+	 * @param balancer
+	 * @return
+	 */
+	public Builder withLoadBalancer(LoadBalancer balancer) {
+	    ServerEndpoint first = balancer.getEndpoints().get(0);
+	    withConnectionTo(first.getProtocol(), first.getHostname(), first.getPort());
+	    client.setLoadBalancer(balancer);
+	    return this;
+	}
+
+	/**
+	 * Compress large request bodies, such as event batches, as they are sent.
+	 * The server must accept compressed request bodies.
+	 * 
+	 * @param policy
+	 * @return
+	 */
+	public Builder withCompression(CompressionPolicy policy) {
+	    client.setCompressionPolicy(policy);
+	    return this;
+	}
+
+	/**
+	 * Set mapper used for REST payloads. By default each client creates its
+	 * own mapper with {@link ModelObjectMapperFactory#create()}.
+	 * 
+	 * @param mapper
+	 * @return
+	 */
+	public Builder withObjectMapper(ObjectMapper mapper) {
+	    client.setObjectMapper(mapper);
+	    return this;
+	}
+
+	/**
+	 * Report latency, queue time, connection timings, payload sizes, decode
+	 * time and errors of each REST call, for instance to a
+	 * {@link ClientMetrics}.
+	 * 
+	 * @param instrumentation
+	 * @return
+	 */
+	public Builder withInstrumentation(IClientInstrumentation instrumentation) {
+	    client.setInstrumentation(instrumentation);
+	    return this;
+	}
+
+	/**
+	 * Keep the JWT in a store that may be shared with other clients. Clients
+	 * that share a store and connect to the same server as the same user
+	 * share one JWT and refresh it once between them.
+	 * 
+	 * @param store
+	 * @return
+	 */
+	public Builder withJwtStore(IJwtStore store) {
+	    client.setJwtStore(store);
+	    return this;
+	}
+
+	/**
+	 * Set how long before expiry the JWT is refreshed in the background.
+	 * 
+	 * @param refreshMargin time in milliseconds (zero to refresh only when
+	 *            the server rejects the JWT)
+	 * @return
+	 */
+	public Builder withJwtRefreshMargin(long refreshMargin) {
+	    client.setJwtRefreshMargin(refreshMargin);
+	    return this;
+	}
     }
 
     /**
@@ -2688,7 +3415,7 @@ public class SiteWhereClient implements ISiteWhereClient {
     protected String toISO8601(Date date) {
 	if (date == null)
 	    return "";
-	return iso8601DateFormat.format(date);
+	return ISO8601Codec.format(date);
     }
 
     protected static String assembleTokenList(List<String> tokenList) {
@@ -2717,7 +3444,7 @@ public class SiteWhereClient implements ISiteWhereClient {
 	return builder.toString();
     }
 
-    private static String extractFileName(String content) {
+    static String extractFileName(String content) {
 	if (content == null || content.isEmpty())
 	    return "file.name";
 	int index = content.indexOf("filename=");
@@ -2743,6 +3470,99 @@ public class SiteWhereClient implements ISiteWhereClient {
 	this.restRetrofit = restRetrofit;
     }
 
+    public OkHttpClient getRestClient() {
+	return restClient;
+    }
+
+    public void setRestClient(OkHttpClient restClient) {
+	this.restClient = restClient;
+    }
+
+    public CallInstrumenter getCallInstrumenter() {
+	return callInstrumenter;
+    }
+
+    public RequestCoalescer getRequestCoalescer() {
+	return requestCoalescer;
+    }
+
+    public void setRequestCoalescer(RequestCoalescer requestCoalescer) {
+	this.requestCoalescer = requestCoalescer;
+    }
+
+    public int getBulkLookupParallelism() {
+	return bulkLookupParallelism;
+    }
+
+    public void setBulkLookupParallelism(int bulkLookupParallelism) {
+	this.bulkLookupParallelism = bulkLookupParallelism;
+    }
+
+    public IThroughputGovernor getThroughputGovernor() {
+	return throughputGovernor;
+    }
+
+    public void setThroughputGovernor(IThroughputGovernor throughputGovernor) {
+	this.throughputGovernor = throughputGovernor;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+	return retryPolicy;
+    }
+
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+	this.retryPolicy = retryPolicy;
+    }
+
+    public EndpointIsolation getEndpointIsolation() {
+	return endpointIsolation;
+    }
+
+    public void setEndpointIsolation(EndpointIsolation endpointIsolation) {
+	this.endpointIsolation = endpointIsolation;
+    }
+
+    public LoadBalancer getLoadBalancer() {
+	return loadBalancer;
+    }
+
+    public void setLoadBalancer(LoadBalancer loadBalancer) {
+	this.loadBalancer = loadBalancer;
+    }
+
+    public CompressionPolicy getCompressionPolicy() {
+	return compressionPolicy;
+    }
+
+    public void setCompressionPolicy(CompressionPolicy compressionPolicy) {
+	this.compressionPolicy = compressionPolicy;
+    }
+
+    public IClientInstrumentation getInstrumentation() {
+	return instrumentation;
+    }
+
+    public void setInstrumentation(IClientInstrumentation instrumentation) {
+	this.instrumentation = instrumentation;
+    }
+
+    /**
+     * Get mapper used for REST payloads. The mapper belongs to this client, so
+     * configuring it does not affect other clients.
+     * 
+     * @return
+     */
+    public synchronized ObjectMapper getObjectMapper() {
+	if (objectMapper == null) {
+	    objectMapper = ModelObjectMapperFactory.create();
+	}
+	return objectMapper;
+    }
+
+    public synchronized void setObjectMapper(ObjectMapper objectMapper) {
+	this.objectMapper = objectMapper;
+    }
+
     public String getProtocol() {
 	return protocol;
     }
@@ -2791,12 +3611,108 @@ public class SiteWhereClient implements ISiteWhereClient {
 	this.connectTimeout = connectTimeout;
     }
 
+    public int getReadTimeout() {
+	return readTimeout;
+    }
+
+    public void setReadTimeout(int readTimeout) {
+	this.readTimeout = readTimeout;
+    }
+
+    public int getWriteTimeout() {
+	return writeTimeout;
+    }
+
+    public void setWriteTimeout(int writeTimeout) {
+	this.writeTimeout = writeTimeout;
+    }
+
+    public int getMaxIdleConnections() {
+	return maxIdleConnections;
+    }
+
+    public void setMaxIdleConnections(int maxIdleConnections) {
+	this.maxIdleConnections = maxIdleConnections;
+    }
+
+    public long getKeepAlive() {
+	return keepAlive;
+    }
+
+    public void setKeepAlive(long keepAlive) {
+	this.keepAlive = keepAlive;
+    }
+
+    public int getMaxRequests() {
+	return maxRequests;
+    }
+
+    public void setMaxRequests(int maxRequests) {
+	this.maxRequests = maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+	return maxRequestsPerHost;
+    }
+
+    public void setMaxRequestsPerHost(int maxRequestsPerHost) {
+	this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    public Boolean getHttp2Enabled() {
+	return http2Enabled;
+    }
+
+    public void setHttp2Enabled(Boolean http2Enabled) {
+	this.http2Enabled = http2Enabled;
+    }
+
+    public boolean isBinaryEventsEnabled() {
+	return binaryEventsEnabled;
+    }
+
+    public void setBinaryEventsEnabled(boolean binaryEventsEnabled) {
+	this.binaryEventsEnabled = binaryEventsEnabled;
+    }
+
+    public OkHttpClient getHttpClient() {
+	return httpClient;
+    }
+
+    public void setHttpClient(OkHttpClient httpClient) {
+	this.httpClient = httpClient;
+    }
+
     public String getJwt() {
-	return jwt;
+	return (jwtManager != null) ? jwtManager.getStore().getJwt(jwtManager.getKey()) : jwt;
     }
 
     public void setJwt(String jwt) {
-	this.jwt = jwt;
+	if (jwtManager != null) {
+	    jwtManager.setJwt(jwt);
+	} else {
+	    this.jwt = jwt;
+	}
+    }
+
+    public IJwtStore getJwtStore() {
+	return jwtStore;
+    }
+
+    public void setJwtStore(IJwtStore jwtStore) {
+	this.jwtStore = jwtStore;
+    }
+
+    public long getJwtRefreshMargin() {
+	return jwtRefreshMargin;
+    }
+
+    public void setJwtRefreshMargin(long jwtRefreshMargin) {
+	this.jwtRefreshMargin = jwtRefreshMargin;
+    }
+
+    public JwtManager getJwtManager() {
+	return jwtManager;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,1790 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.sitewhere.rest.model.area.Area;
+import com.sitewhere.rest.model.area.AreaType;
+import com.sitewhere.rest.model.area.Zone;
+import com.sitewhere.rest.model.area.request.AreaCreateRequest;
+import com.sitewhere.rest.model.area.request.AreaTypeCreateRequest;
+import com.sitewhere.rest.model.area.request.ZoneCreateRequest;
+import com.sitewhere.rest.model.asset.Asset;
+import com.sitewhere.rest.model.asset.AssetType;
+import com.sitewhere.rest.model.asset.marshaling.MarshaledAsset;
+import com.sitewhere.rest.model.asset.request.AssetCreateRequest;
+import com.sitewhere.rest.model.asset.request.AssetTypeCreateRequest;
+import com.sitewhere.rest.model.batch.BatchElement;
+import com.sitewhere.rest.model.batch.BatchOperation;
+import com.sitewhere.rest.model.batch.request.BatchCommandInvocationRequest;
+import com.sitewhere.rest.model.batch.request.InvocationByDeviceCriteriaRequest;
+import com.sitewhere.rest.model.customer.Customer;
+import com.sitewhere.rest.model.customer.CustomerType;
+import com.sitewhere.rest.model.customer.request.CustomerCreateRequest;
+import com.sitewhere.rest.model.customer.request.CustomerTypeCreateRequest;
+import com.sitewhere.rest.model.device.Device;
+import com.sitewhere.rest.model.device.DeviceElementMapping;
+import com.sitewhere.rest.model.device.DeviceStatus;
+import com.sitewhere.rest.model.device.DeviceType;
+import com.sitewhere.rest.model.device.asset.DeviceAlertWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceCommandResponseWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceEventWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceLocationWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceMeasurementWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceStateChangeWithAsset;
+import com.sitewhere.rest.model.device.charting.ChartSeries;
+import com.sitewhere.rest.model.device.charting.MeasurementSeries;
+import com.sitewhere.rest.model.device.command.DeviceCommand;
+import com.sitewhere.rest.model.device.command.DeviceCommandNamespace;
+import com.sitewhere.rest.model.device.event.DeviceCommandInvocation;
+import com.sitewhere.rest.model.device.event.DeviceCommandResponse;
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceCommandInvocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceCommandResponseCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceStateChangeCreateRequest;
+import com.sitewhere.rest.model.device.event.view.DeviceCommandInvocationSummary;
+import com.sitewhere.rest.model.device.group.DeviceGroup;
+import com.sitewhere.rest.model.device.group.DeviceGroupElement;
+import com.sitewhere.rest.model.device.marshaling.MarshaledArea;
+import com.sitewhere.rest.model.device.marshaling.MarshaledAreaType;
+import com.sitewhere.rest.model.device.marshaling.MarshaledCustomer;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDevice;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDeviceAssignment;
+import com.sitewhere.rest.model.device.request.DeviceAssignmentBulkRequest;
+import com.sitewhere.rest.model.device.request.DeviceAssignmentCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceCommandCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceGroupCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceGroupElementCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceStatusCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceTypeCreateRequest;
+import com.sitewhere.rest.model.device.state.DeviceState;
+import com.sitewhere.rest.model.scheduling.Schedule;
+import com.sitewhere.rest.model.scheduling.ScheduledJob;
+import com.sitewhere.rest.model.scheduling.request.ScheduleCreateRequest;
+import com.sitewhere.rest.model.scheduling.request.ScheduledJobCreateRequest;
+import com.sitewhere.rest.model.search.DateRangeSearchCriteria;
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.rest.model.search.TreeNode;
+import com.sitewhere.rest.model.search.area.AreaResponseFormat;
+import com.sitewhere.rest.model.search.area.AreaSearchCriteria;
+import com.sitewhere.rest.model.search.area.AreaTypeSearchCriteria;
+import com.sitewhere.rest.model.search.asset.AssetSearchCriteria;
+import com.sitewhere.rest.model.search.asset.AssetTypeSearchCriteria;
+import com.sitewhere.rest.model.search.batch.BatchOperationSearchCriteria;
+import com.sitewhere.rest.model.search.customer.CustomerResponseFormat;
+import com.sitewhere.rest.model.search.customer.CustomerSearchCriteria;
+import com.sitewhere.rest.model.search.customer.CustomerTypeResponseFormat;
+import com.sitewhere.rest.model.search.customer.CustomerTypeSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceAssignmentResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceAssignmentSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceByGroupResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceCommandSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceGroupElementResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceGroupElementSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceGroupSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceStateResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceStateSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceStatusSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceTypeResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceTypeSearchCriteria;
+import com.sitewhere.rest.model.search.device.ZoneSearchCriteria;
+import com.sitewhere.rest.model.search.scheduling.ScheduleResponseFormat;
+import com.sitewhere.rest.model.search.scheduling.ScheduleSearchCriteria;
+import com.sitewhere.rest.model.search.scheduling.ScheduledJobResponseFormat;
+import com.sitewhere.rest.model.search.scheduling.ScheduledJobSearchCriteria;
+import com.sitewhere.rest.model.search.tenant.TenantSearchCriteria;
+import com.sitewhere.rest.model.system.Version;
+import com.sitewhere.rest.model.tenant.Tenant;
+import com.sitewhere.rest.model.tenant.request.TenantCreateRequest;
+import com.sitewhere.rest.model.user.GrantedAuthority;
+import com.sitewhere.rest.model.user.GrantedAuthorityHierarchyNode;
+import com.sitewhere.rest.model.user.User;
+import com.sitewhere.rest.model.user.request.GrantedAuthorityCreateRequest;
+import com.sitewhere.rest.model.user.request.UserCreateRequest;
+import com.sitewhere.spi.IBulkLookupResult;
+import com.sitewhere.spi.ISearchResultsStream;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.ITenantAuthentication;
+import com.sitewhere.spi.ITenantSiteWhereClient;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Base class for clients that add behavior around another
+ * {@link ISiteWhereClient}. Every call is passed to the delegate, so subclasses
+ * only override the calls they need to intercept.
+ */
+public abstract class SiteWhereClientDecorator implements ISiteWhereClient {
+
+    /** Client that calls are passed to */
+    private ISiteWhereClient delegate;
+
+    public SiteWhereClientDecorator(ISiteWhereClient delegate) {
+	this.delegate = delegate;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#initialize()
+     */
+    @Override
+    public ISiteWhereClient initialize() throws SiteWhereException {
+	getDelegate().initialize();
+	return this;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#withTenant()
+     */
+    @Override
+    public ITenantSiteWhereClient withTenant(ITenantAuthentication tenant) {
+	return new TenantSiteWhereClient(this, tenant);
+    }
+
+    // ------------------------------------------------------------------------
+    // Area Types
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listAreaTypes()
+     */
+    @Override
+    public SearchResults<AreaType> listAreaTypes(ITenantAuthentication tenant, AreaTypeSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	return getDelegate().listAreaTypes(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getAreaTypeByToken()
+     */
+    @Override
+    public MarshaledAreaType getAreaTypeByToken(ITenantAuthentication tenant, String areaTypeToken)
+	    throws SiteWhereException {
+	return getDelegate().getAreaTypeByToken(tenant, areaTypeToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createAreaType()
+     */
+    @Override
+    public AreaType createAreaType(ITenantAuthentication tenant, AreaTypeCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().createAreaType(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateAreaType()
+     */
+    @Override
+    public AreaType updateAreaType(ITenantAuthentication tenant, String areaTypeToken, AreaTypeCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().updateAreaType(tenant, areaTypeToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteAreaType()
+     */
+    @Override
+    public AreaType deleteAreaType(ITenantAuthentication tenant, String areaTypeToken) throws SiteWhereException {
+	return getDelegate().deleteAreaType(tenant, areaTypeToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getLabelForAreaType()
+     */
+    @Override
+    public byte[] getLabelForAreaType(ITenantAuthentication tenant, String areaTypeToken, String generatorId)
+	    throws SiteWhereException {
+	return getDelegate().getLabelForAreaType(tenant, areaTypeToken, generatorId);
+    }
+
+    // ------------------------------------------------------------------------
+    // Areas
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listAreas()
+     */
+    @Override
+    public SearchResults<Area> listAreas(ITenantAuthentication tenant, AreaSearchCriteria searchCriteria,
+	    AreaResponseFormat responseFormat) throws SiteWhereException {
+	return getDelegate().listAreas(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getAreaByToken()
+     */
+    @Override
+    public MarshaledArea getAreaByToken(ITenantAuthentication tenant, String areaToken) throws SiteWhereException {
+	return getDelegate().getAreaByToken(tenant, areaToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkGetAreasByToken()
+     */
+    @Override
+    public IBulkLookupResult<MarshaledArea> bulkGetAreasByToken(ITenantAuthentication tenant, Collection<String> tokens)
+	    throws SiteWhereException {
+	return getDelegate().bulkGetAreasByToken(tenant, tokens);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createArea()
+     */
+    @Override
+    public Area createArea(ITenantAuthentication tenant, AreaCreateRequest request) throws SiteWhereException {
+	return getDelegate().createArea(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateArea()
+     */
+    @Override
+    public Area updateArea(ITenantAuthentication tenant, String areaToken, AreaCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().updateArea(tenant, areaToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteArea()
+     */
+    @Override
+    public Area deleteArea(ITenantAuthentication tenant, String areaToken) throws SiteWhereException {
+	return getDelegate().deleteArea(tenant, areaToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listAlertsForArea()
+     */
+    @Override
+    public SearchResults<DeviceAlertWithAsset> listAlertsForArea(ITenantAuthentication tenant, String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listAlertsForArea(tenant, areaToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDeviceAssignmentsForArea()
+     */
+    @Override
+    public SearchResults<MarshaledDeviceAssignment> listDeviceAssignmentsForArea(ITenantAuthentication tenant,
+	    String areaToken, DeviceAssignmentSearchCriteria searchCriteria,
+	    DeviceAssignmentResponseFormat responseFormat) throws SiteWhereException {
+	return getDelegate().listDeviceAssignmentsForArea(tenant, areaToken, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listCommandInvocationsForArea()
+     */
+    @Override
+    public SearchResults<DeviceCommandInvocation> listCommandInvocationsForArea(ITenantAuthentication tenant,
+	    String areaToken, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listCommandInvocationsForArea(tenant, areaToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getLabelForArea()
+     */
+    @Override
+    public byte[] getLabelForArea(ITenantAuthentication tenant, String areaToken, String generatorId)
+	    throws SiteWhereException {
+	return getDelegate().getLabelForArea(tenant, areaToken, generatorId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listLocationsForArea()
+     */
+    @Override
+    public SearchResults<DeviceLocationWithAsset> listLocationsForArea(ITenantAuthentication tenant, String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listLocationsForArea(tenant, areaToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listMeasurementsForArea()
+     */
+    @Override
+    public SearchResults<DeviceMeasurementWithAsset> listMeasurementsForArea(ITenantAuthentication tenant,
+	    String areaToken, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listMeasurementsForArea(tenant, areaToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listCommandResponsesForArea()
+     */
+    @Override
+    public SearchResults<DeviceCommandResponseWithAsset> listCommandResponsesForArea(ITenantAuthentication tenant,
+	    String areaToken, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listCommandResponsesForArea(tenant, areaToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listStateChangesForArea()
+     */
+    @Override
+    public SearchResults<DeviceStateChangeWithAsset> listStateChangesForArea(ITenantAuthentication tenant,
+	    String areaToken, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listStateChangesForArea(tenant, areaToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#areaTree()
+     */
+    @Override
+    public List<TreeNode> areaTree(ITenantAuthentication tenant) throws SiteWhereException {
+	return getDelegate().areaTree(tenant);
+    }
+
+    // ------------------------------------------------------------------------
+    // Asset Types
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listAssetTypes()
+     */
+    @Override
+    public SearchResults<AssetType> listAssetTypes(ITenantAuthentication tenant, AssetTypeSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	return getDelegate().listAssetTypes(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getAssetTypeByToken()
+     */
+    @Override
+    public AssetType getAssetTypeByToken(ITenantAuthentication tenant, String assetTypeToken)
+	    throws SiteWhereException {
+	return getDelegate().getAssetTypeByToken(tenant, assetTypeToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createAssetType()
+     */
+    @Override
+    public AssetType createAssetType(ITenantAuthentication tenant, AssetTypeCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().createAssetType(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateAssetType()
+     */
+    @Override
+    public AssetType updateAssetType(ITenantAuthentication tenant, String assetTypeToken,
+	    AssetTypeCreateRequest request) throws SiteWhereException {
+	return getDelegate().updateAssetType(tenant, assetTypeToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteAssetType()
+     */
+    @Override
+    public AssetType deleteAssetType(ITenantAuthentication tenant, String assetTypeToken) throws SiteWhereException {
+	return getDelegate().deleteAssetType(tenant, assetTypeToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getLabelForAssetType()
+     */
+    @Override
+    public byte[] getLabelForAssetType(ITenantAuthentication tenant, String assetTypeToken, String generatorId)
+	    throws SiteWhereException {
+	return getDelegate().getLabelForAssetType(tenant, assetTypeToken, generatorId);
+    }
+
+    // ------------------------------------------------------------------------
+    // Asset
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listAssets()
+     */
+    @Override
+    public SearchResults<Asset> listAssets(ITenantAuthentication tenant, AssetSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	return getDelegate().listAssets(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getAssetByToken()
+     */
+    @Override
+    public MarshaledAsset getAssetByToken(ITenantAuthentication tenant, String assetToken) throws SiteWhereException {
+	return getDelegate().getAssetByToken(tenant, assetToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createAsset()
+     */
+    @Override
+    public Asset createAsset(ITenantAuthentication tenant, AssetCreateRequest request) throws SiteWhereException {
+	return getDelegate().createAsset(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateAsset()
+     */
+    @Override
+    public Asset updateAsset(ITenantAuthentication tenant, String assetToken, AssetCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().updateAsset(tenant, assetToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteAsset()
+     */
+    @Override
+    public Asset deleteAsset(ITenantAuthentication tenant, String assetToken) throws SiteWhereException {
+	return getDelegate().deleteAsset(tenant, assetToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getLabelForAsset()
+     */
+    @Override
+    public byte[] getLabelForAsset(ITenantAuthentication tenant, String assetToken, String generatorId)
+	    throws SiteWhereException {
+	return getDelegate().getLabelForAsset(tenant, assetToken, generatorId);
+    }
+
+    // ------------------------------------------------------------------------
+    // Assignments
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDeviceAssignments()
+     */
+    @Override
+    public SearchResults<MarshaledDeviceAssignment> listDeviceAssignments(ITenantAuthentication tenant,
+	    DeviceAssignmentSearchCriteria searchCriteria, DeviceAssignmentResponseFormat format)
+	    throws SiteWhereException {
+	return getDelegate().listDeviceAssignments(tenant, searchCriteria, format);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceAssignmentByToken()
+     */
+    @Override
+    public MarshaledDeviceAssignment getDeviceAssignmentByToken(ITenantAuthentication tenant, String token)
+	    throws SiteWhereException {
+	return getDelegate().getDeviceAssignmentByToken(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkGetDeviceAssignmentsByToken()
+     */
+    @Override
+    public IBulkLookupResult<MarshaledDeviceAssignment> bulkGetDeviceAssignmentsByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException {
+	return getDelegate().bulkGetDeviceAssignmentsByToken(tenant, tokens);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment createDeviceAssignment(ITenantAuthentication tenant,
+	    DeviceAssignmentCreateRequest request) throws SiteWhereException {
+	return getDelegate().createDeviceAssignment(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment updateDeviceAssignment(ITenantAuthentication tenant, String token,
+	    DeviceAssignmentCreateRequest request) throws SiteWhereException {
+	return getDelegate().updateDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment deleteDeviceAssignment(ITenantAuthentication tenant, String token)
+	    throws SiteWhereException {
+	return getDelegate().deleteDeviceAssignment(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listAlertsForDeviceAssignment()
+     */
+    @Override
+    public SearchResults<DeviceAlertWithAsset> listAlertsForDeviceAssignment(ITenantAuthentication tenant, String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listAlertsForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#streamAlertsForDeviceAssignment()
+     */
+    @Override
+    public ISearchResultsStream<DeviceAlertWithAsset> streamAlertsForDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().streamAlertsForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createAlertForDeviceAssignment()
+     */
+    @Override
+    public DeviceAlertWithAsset createAlertForDeviceAssignment(ITenantAuthentication tenant, String token,
+	    DeviceAlertCreateRequest request) throws SiteWhereException {
+	return getDelegate().createAlertForDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#releaseDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment releaseDeviceAssignment(ITenantAuthentication tenant, String token)
+	    throws SiteWhereException {
+	return getDelegate().releaseDeviceAssignment(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listCommandInvocationsForDeviceAssignment()
+     */
+    @Override
+    public SearchResults<DeviceCommandInvocation> listCommandInvocationsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, Boolean includeCommand, DateRangeSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	return getDelegate().listCommandInvocationsForDeviceAssignment(tenant, token, includeCommand, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createCommandInvocationForDeviceAssignment()
+     */
+    @Override
+    public DeviceCommandInvocation createCommandInvocationForDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DeviceCommandInvocationCreateRequest request) throws SiteWhereException {
+	return getDelegate().createCommandInvocationForDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#scheduleCommandInvocation()
+     */
+    @Override
+    public ScheduledJob scheduleCommandInvocation(ITenantAuthentication tenant, String token, String scheduleToken,
+	    DeviceCommandInvocationCreateRequest request) throws SiteWhereException {
+	return getDelegate().scheduleCommandInvocation(tenant, token, scheduleToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getLabelForDeviceAssignment()
+     */
+    @Override
+    public byte[] getLabelForDeviceAssignment(ITenantAuthentication tenant, String token, String generatorId)
+	    throws SiteWhereException {
+	return getDelegate().getLabelForDeviceAssignment(tenant, token, generatorId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listLocationsForDeviceAssignment()
+     */
+    @Override
+    public SearchResults<DeviceLocationWithAsset> listLocationsForDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listLocationsForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#streamLocationsForDeviceAssignment()
+     */
+    @Override
+    public ISearchResultsStream<DeviceLocationWithAsset> streamLocationsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	return getDelegate().streamLocationsForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createLocationForDeviceAssignment()
+     */
+    @Override
+    public DeviceLocationWithAsset createLocationForDeviceAssignment(ITenantAuthentication tenant, String token,
+	    DeviceLocationCreateRequest request) throws SiteWhereException {
+	return getDelegate().createLocationForDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listMeasurementsForDeviceAssignment()
+     */
+    @Override
+    public SearchResults<DeviceMeasurementWithAsset> listMeasurementsForDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listMeasurementsForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#streamMeasurementsForDeviceAssignment()
+     */
+    @Override
+    public ISearchResultsStream<DeviceMeasurementWithAsset> streamMeasurementsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	return getDelegate().streamMeasurementsForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createMeasurementForDeviceAssignment()
+     */
+    @Override
+    public DeviceMeasurementWithAsset createMeasurementForDeviceAssignment(ITenantAuthentication tenant, String token,
+	    DeviceMeasurementCreateRequest request) throws SiteWhereException {
+	return getDelegate().createMeasurementForDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listMeasurementsForDeviceAssignmentAsChartSeries()
+     */
+    @Override
+    public List<ChartSeries<Double>> listMeasurementsForDeviceAssignmentAsChartSeries(ITenantAuthentication tenant,
+	    String token, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listMeasurementsForDeviceAssignmentAsChartSeries(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listMeasurementsForDeviceAssignmentAsMeasurementSeries()
+     */
+    @Override
+    public List<MeasurementSeries> listMeasurementsForDeviceAssignmentAsMeasurementSeries(ITenantAuthentication tenant,
+	    String token, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listMeasurementsForDeviceAssignmentAsMeasurementSeries(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#markMissingDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment markMissingDeviceAssignment(ITenantAuthentication tenant, String token)
+	    throws SiteWhereException {
+	return getDelegate().markMissingDeviceAssignment(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listCommandResponsesForDeviceAssignment()
+     */
+    @Override
+    public SearchResults<DeviceCommandResponseWithAsset> listCommandResponsesForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	return getDelegate().listCommandResponsesForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createCommandResponseForDeviceAssignment()
+     */
+    @Override
+    public DeviceCommandResponseWithAsset createCommandResponseForDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DeviceCommandResponseCreateRequest request) throws SiteWhereException {
+	return getDelegate().createCommandResponseForDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listStateChangesForDeviceAssignment()
+     */
+    @Override
+    public SearchResults<DeviceStateChangeWithAsset> listStateChangesForDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listStateChangesForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createStateChangeForDeviceAssignment()
+     */
+    @Override
+    public DeviceStateChangeWithAsset createStateChangeForDeviceAssignment(ITenantAuthentication tenant, String token,
+	    DeviceStateChangeCreateRequest request) throws SiteWhereException {
+	return getDelegate().createStateChangeForDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkListAlertsForDeviceAssignments()
+     */
+    @Override
+    public SearchResults<DeviceAlertWithAsset> bulkListAlertsForDeviceAssignments(ITenantAuthentication tenant,
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return getDelegate().bulkListAlertsForDeviceAssignments(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkListCommandInvocationsForDeviceAssignments()
+     */
+    @Override
+    public SearchResults<DeviceCommandInvocation> bulkListCommandInvocationsForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return getDelegate().bulkListCommandInvocationsForDeviceAssignments(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkListLocationsForDeviceAssignments()
+     */
+    @Override
+    public SearchResults<DeviceLocationWithAsset> bulkListLocationsForDeviceAssignments(ITenantAuthentication tenant,
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return getDelegate().bulkListLocationsForDeviceAssignments(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkListMeasurementsForDeviceAssignments()
+     */
+    @Override
+    public SearchResults<DeviceMeasurementWithAsset> bulkListMeasurementsForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return getDelegate().bulkListMeasurementsForDeviceAssignments(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkListMeasurementsForDeviceAssignmentsAsChartSeries()
+     */
+    @Override
+    public Map<String, List<ChartSeries<Double>>> bulkListMeasurementsForDeviceAssignmentsAsChartSeries(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return getDelegate().bulkListMeasurementsForDeviceAssignmentsAsChartSeries(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries()
+     */
+    @Override
+    public Map<String, List<MeasurementSeries>> bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return getDelegate().bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkListCommandResponsesForDeviceAssignments()
+     */
+    @Override
+    public SearchResults<DeviceCommandResponseWithAsset> bulkListCommandResponsesForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return getDelegate().bulkListCommandResponsesForDeviceAssignments(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkListStateChangesForDeviceAssignments()
+     */
+    @Override
+    public SearchResults<DeviceStateChangeWithAsset> bulkListStateChangesForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return getDelegate().bulkListStateChangesForDeviceAssignments(tenant, request);
+    }
+
+    // ------------------------------------------------------------------------
+    // Authorities
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listAuthorities()
+     */
+    @Override
+    public SearchResults<GrantedAuthority> listAuthorities(ITenantAuthentication tenant) throws SiteWhereException {
+	return getDelegate().listAuthorities(tenant);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getAuthorityByName()
+     */
+    @Override
+    public GrantedAuthority getAuthorityByName(ITenantAuthentication tenant, String name) throws SiteWhereException {
+	return getDelegate().getAuthorityByName(tenant, name);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createAuthority()
+     */
+    @Override
+    public GrantedAuthority createAuthority(ITenantAuthentication tenant, GrantedAuthorityCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().createAuthority(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getAuthoritiesHierarchy()
+     */
+    @Override
+    public List<GrantedAuthorityHierarchyNode> getAuthoritiesHierarchy(ITenantAuthentication tenant)
+	    throws SiteWhereException {
+	return getDelegate().getAuthoritiesHierarchy(tenant);
+    }
+
+    // ------------------------------------------------------------------------
+    // Batch Operations
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listBatchOperations()
+     */
+    @Override
+    public SearchResults<BatchOperation> listBatchOperations(ITenantAuthentication tenant,
+	    BatchOperationSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listBatchOperations(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getBatchOperationByToken()
+     */
+    @Override
+    public BatchOperation getBatchOperationByToken(ITenantAuthentication tenant, String batchToken)
+	    throws SiteWhereException {
+	return getDelegate().getBatchOperationByToken(tenant, batchToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listBatchOperationElements()
+     */
+    @Override
+    public SearchResults<BatchElement> listBatchOperationElements(ITenantAuthentication tenant, String operationToken)
+	    throws SiteWhereException {
+	return getDelegate().listBatchOperationElements(tenant, operationToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createBatchCommandInvocation()
+     */
+    @Override
+    public BatchOperation createBatchCommandInvocation(ITenantAuthentication tenant,
+	    BatchCommandInvocationRequest request) throws SiteWhereException {
+	return getDelegate().createBatchCommandInvocation(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createBatchCommandOperationForCriteria()
+     */
+    @Override
+    public Object createBatchCommandOperationForCriteria(ITenantAuthentication tenant,
+	    InvocationByDeviceCriteriaRequest request) throws SiteWhereException {
+	return getDelegate().createBatchCommandOperationForCriteria(tenant, request);
+    }
+
+    // ------------------------------------------------------------------------
+    // Command Invocations
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceCommandInvocation()
+     */
+    @Override
+    public DeviceCommandInvocation getDeviceCommandInvocation(ITenantAuthentication tenant, String id)
+	    throws SiteWhereException {
+	return getDelegate().getDeviceCommandInvocation(tenant, id);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceCommandInvocationSummary()
+     */
+    @Override
+    public DeviceCommandInvocationSummary getDeviceCommandInvocationSummary(ITenantAuthentication tenant, String id)
+	    throws SiteWhereException {
+	return getDelegate().getDeviceCommandInvocationSummary(tenant, id);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listCommandResponsesForCommandInvocation()
+     */
+    @Override
+    public SearchResults<DeviceCommandResponse> listCommandResponsesForCommandInvocation(ITenantAuthentication tenant,
+	    String id) throws SiteWhereException {
+	return getDelegate().listCommandResponsesForCommandInvocation(tenant, id);
+    }
+
+    // ------------------------------------------------------------------------
+    // Customer Types
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listCustomerTypes()
+     */
+    @Override
+    public SearchResults<CustomerType> listCustomerTypes(ITenantAuthentication tenant,
+	    CustomerTypeSearchCriteria searchCriteria, CustomerTypeResponseFormat responseFormat)
+	    throws SiteWhereException {
+	return getDelegate().listCustomerTypes(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getCustomerTypeByToken()
+     */
+    @Override
+    public CustomerType getCustomerTypeByToken(ITenantAuthentication tenant, String customerTypeToken)
+	    throws SiteWhereException {
+	return getDelegate().getCustomerTypeByToken(tenant, customerTypeToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createCustomerType()
+     */
+    @Override
+    public CustomerType createCustomerType(ITenantAuthentication tenant, CustomerTypeCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().createCustomerType(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateCustomerType()
+     */
+    @Override
+    public CustomerType updateCustomerType(ITenantAuthentication tenant, String customerTypeToken,
+	    CustomerTypeCreateRequest request) throws SiteWhereException {
+	return getDelegate().updateCustomerType(tenant, customerTypeToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteCustomerType()
+     */
+    @Override
+    public CustomerType deleteCustomerType(ITenantAuthentication tenant, String customerTypeToken)
+	    throws SiteWhereException {
+	return getDelegate().deleteCustomerType(tenant, customerTypeToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getLabelForCustomerType()
+     */
+    @Override
+    public byte[] getLabelForCustomerType(ITenantAuthentication tenant, String customerTypeToken, String generatorId)
+	    throws SiteWhereException {
+	return getDelegate().getLabelForCustomerType(tenant, customerTypeToken, generatorId);
+    }
+
+    // ------------------------------------------------------------------------
+    // Customer
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listCustomers()
+     */
+    @Override
+    public SearchResults<Customer> listCustomers(ITenantAuthentication tenant, CustomerSearchCriteria searchCriteria,
+	    CustomerResponseFormat responseFormat) throws SiteWhereException {
+	return getDelegate().listCustomers(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getCustomerByToken()
+     */
+    @Override
+    public MarshaledCustomer getCustomerByToken(ITenantAuthentication tenant, String customerToken)
+	    throws SiteWhereException {
+	return getDelegate().getCustomerByToken(tenant, customerToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createCustomer()
+     */
+    @Override
+    public Customer createCustomer(ITenantAuthentication tenant, CustomerCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().createCustomer(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateCustomer()
+     */
+    @Override
+    public Customer updateCustomer(ITenantAuthentication tenant, String customerToken, CustomerCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().updateCustomer(tenant, customerToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteCustomer()
+     */
+    @Override
+    public Customer deleteCustomer(ITenantAuthentication tenant, String customerToken) throws SiteWhereException {
+	return getDelegate().deleteCustomer(tenant, customerToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listAlertsForCustomer()
+     */
+    @Override
+    public SearchResults<DeviceAlertWithAsset> listAlertsForCustomer(ITenantAuthentication tenant, String customerToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listAlertsForCustomer(tenant, customerToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDeviceAssignmentsForCustomer()
+     */
+    @Override
+    public SearchResults<MarshaledDeviceAssignment> listDeviceAssignmentsForCustomer(ITenantAuthentication tenant,
+	    String customerToken, DeviceAssignmentSearchCriteria searchCriteria,
+	    DeviceAssignmentResponseFormat responseFormat) throws SiteWhereException {
+	return getDelegate().listDeviceAssignmentsForCustomer(tenant, customerToken, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listCommandInvocationsForCustomer()
+     */
+    @Override
+    public SearchResults<DeviceCommandInvocation> listCommandInvocationsForCustomer(ITenantAuthentication tenant,
+	    String customerToken, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listCommandInvocationsForCustomer(tenant, customerToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getLabelForCustomer()
+     */
+    @Override
+    public byte[] getLabelForCustomer(ITenantAuthentication tenant, String customerTypeToken, String generatorId)
+	    throws SiteWhereException {
+	return getDelegate().getLabelForCustomer(tenant, customerTypeToken, generatorId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listLocationsForCustomer()
+     */
+    @Override
+    public SearchResults<DeviceLocationWithAsset> listLocationsForCustomer(ITenantAuthentication tenant,
+	    String customerToken, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listLocationsForCustomer(tenant, customerToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listMeasurementsForCustomer()
+     */
+    @Override
+    public SearchResults<DeviceMeasurementWithAsset> listMeasurementsForCustomer(ITenantAuthentication tenant,
+	    String customerToken, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listMeasurementsForCustomer(tenant, customerToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listCommandResponsesForCustomer()
+     */
+    @Override
+    public SearchResults<DeviceCommandResponseWithAsset> listCommandResponsesForCustomer(ITenantAuthentication tenant,
+	    String customerToken, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listCommandResponsesForCustomer(tenant, customerToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listStateChangesForCustomer()
+     */
+    @Override
+    public SearchResults<DeviceStateChangeWithAsset> listStateChangesForCustomer(ITenantAuthentication tenant,
+	    String customerToken, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listStateChangesForCustomer(tenant, customerToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#customerTree()
+     */
+    @Override
+    public List<TreeNode> customerTree(ITenantAuthentication tenant) throws SiteWhereException {
+	return getDelegate().customerTree(tenant);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Commands
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDeviceCommands()
+     */
+    @Override
+    public SearchResults<DeviceCommand> listDeviceCommands(ITenantAuthentication tenant,
+	    DeviceCommandSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listDeviceCommands(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceCommandByToken()
+     */
+    @Override
+    public DeviceCommand getDeviceCommandByToken(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	return getDelegate().getDeviceCommandByToken(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createDeviceCommand()
+     */
+    @Override
+    public DeviceCommand createDeviceCommand(ITenantAuthentication tenant, DeviceCommandCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().createDeviceCommand(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateDeviceCommand()
+     */
+    @Override
+    public DeviceCommand updateDeviceCommand(ITenantAuthentication tenant, String token,
+	    DeviceCommandCreateRequest request) throws SiteWhereException {
+	return getDelegate().updateDeviceCommand(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDeviceCommand()
+     */
+    @Override
+    public DeviceCommand deleteDeviceCommand(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	return getDelegate().deleteDeviceCommand(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDeviceCommandsByNamesapce()
+     */
+    @Override
+    public SearchResults<DeviceCommandNamespace> listDeviceCommandsByNamesapce(ITenantAuthentication tenant,
+	    DeviceCommandSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listDeviceCommandsByNamesapce(tenant, searchCriteria);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Events
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceEventByAlternateId()
+     */
+    @Override
+    public DeviceEventWithAsset getDeviceEventByAlternateId(ITenantAuthentication tenant, String alternateId)
+	    throws SiteWhereException {
+	return getDelegate().getDeviceEventByAlternateId(tenant, alternateId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceEventById()
+     */
+    @Override
+    public DeviceEventWithAsset getDeviceEventById(ITenantAuthentication tenant, String eventId)
+	    throws SiteWhereException {
+	return getDelegate().getDeviceEventById(tenant, eventId);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Groups
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDeviceGroups()
+     */
+    @Override
+    public SearchResults<DeviceGroup> listDeviceGroups(ITenantAuthentication tenant,
+	    DeviceGroupSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listDeviceGroups(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceGroupByToken()
+     */
+    @Override
+    public DeviceGroup getDeviceGroupByToken(ITenantAuthentication tenant, String groupToken)
+	    throws SiteWhereException {
+	return getDelegate().getDeviceGroupByToken(tenant, groupToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createDeviceGroup()
+     */
+    @Override
+    public DeviceGroup createDeviceGroup(ITenantAuthentication tenant, DeviceGroupCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().createDeviceGroup(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateDeviceGroup()
+     */
+    @Override
+    public DeviceGroup updateDeviceGroup(ITenantAuthentication tenant, String groupToken,
+	    DeviceGroupCreateRequest request) throws SiteWhereException {
+	return getDelegate().updateDeviceGroup(tenant, groupToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDeviceGroup()
+     */
+    @Override
+    public DeviceGroup deleteDeviceGroup(ITenantAuthentication tenant, String groupToken) throws SiteWhereException {
+	return getDelegate().deleteDeviceGroup(tenant, groupToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDeviceGroupElements()
+     */
+    @Override
+    public SearchResults<DeviceGroupElement> listDeviceGroupElements(ITenantAuthentication tenant,
+	    DeviceGroupElementSearchCriteria searchCriteria, DeviceGroupElementResponseFormat responseFormat)
+	    throws SiteWhereException {
+	return getDelegate().listDeviceGroupElements(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#addElementsToDdeviceGroup()
+     */
+    @Override
+    public SearchResults<DeviceGroupElement> addElementsToDdeviceGroup(ITenantAuthentication tenant, String groupToken,
+	    List<DeviceGroupElementCreateRequest> requests) throws SiteWhereException {
+	return getDelegate().addElementsToDdeviceGroup(tenant, groupToken, requests);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDeviceGroupElements()
+     */
+    @Override
+    public SearchResults<DeviceGroupElement> deleteDeviceGroupElements(ITenantAuthentication tenant, String groupToken,
+	    List<String> elementIds) throws SiteWhereException {
+	return getDelegate().deleteDeviceGroupElements(tenant, groupToken, elementIds);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDeviceGroupElement()
+     */
+    @Override
+    public SearchResults<DeviceGroupElement> deleteDeviceGroupElement(ITenantAuthentication tenant, String groupToken,
+	    String elementId) throws SiteWhereException {
+	return getDelegate().deleteDeviceGroupElement(tenant, groupToken, elementId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getLabelForDeviceGroup()
+     */
+    @Override
+    public byte[] getLabelForDeviceGroup(ITenantAuthentication tenant, String groupToken, String generatorId)
+	    throws SiteWhereException {
+	return getDelegate().getLabelForDeviceGroup(tenant, groupToken, generatorId);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device States
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDeviceStates()
+     */
+    @Override
+    public SearchResults<DeviceState> listDeviceStates(ITenantAuthentication tenant,
+	    DeviceStateSearchCriteria searchCriteria, DeviceStateResponseFormat responseFormat)
+	    throws SiteWhereException {
+	return getDelegate().listDeviceStates(tenant, searchCriteria, responseFormat);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Statuses
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDeviceStatuses()
+     */
+    @Override
+    public SearchResults<DeviceStatus> listDeviceStatuses(ITenantAuthentication tenant,
+	    DeviceStatusSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listDeviceStatuses(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceStatusByToken()
+     */
+    @Override
+    public DeviceStatus getDeviceStatusByToken(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	return getDelegate().getDeviceStatusByToken(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createDeviceStatus()
+     */
+    @Override
+    public DeviceStatus createDeviceStatus(ITenantAuthentication tenant, DeviceStatusCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().createDeviceStatus(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateDeviceStatus()
+     */
+    @Override
+    public DeviceStatus updateDeviceStatus(ITenantAuthentication tenant, String token,
+	    DeviceStatusCreateRequest request) throws SiteWhereException {
+	return getDelegate().updateDeviceStatus(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDeviceStatus()
+     */
+    @Override
+    public DeviceStatus deleteDeviceStatus(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	return getDelegate().deleteDeviceStatus(tenant, token);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Types
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDeviceTypes()
+     */
+    @Override
+    public SearchResults<DeviceType> listDeviceTypes(ITenantAuthentication tenant,
+	    DeviceTypeSearchCriteria searchCriteria, DeviceTypeResponseFormat responseFormat)
+	    throws SiteWhereException {
+	return getDelegate().listDeviceTypes(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceTypeByToken()
+     */
+    @Override
+    public DeviceType getDeviceTypeByToken(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	return getDelegate().getDeviceTypeByToken(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkGetDeviceTypesByToken()
+     */
+    @Override
+    public IBulkLookupResult<DeviceType> bulkGetDeviceTypesByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException {
+	return getDelegate().bulkGetDeviceTypesByToken(tenant, tokens);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createDeviceType()
+     */
+    @Override
+    public DeviceType createDeviceType(ITenantAuthentication tenant, DeviceTypeCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().createDeviceType(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateDeviceType()
+     */
+    @Override
+    public DeviceType updateDeviceType(ITenantAuthentication tenant, String token, DeviceTypeCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().updateDeviceType(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDeviceType()
+     */
+    @Override
+    public DeviceType deleteDeviceType(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	return getDelegate().deleteDeviceType(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getLabelForDeviceType()
+     */
+    @Override
+    public byte[] getLabelForDeviceType(ITenantAuthentication tenant, String token, String generatorId)
+	    throws SiteWhereException {
+	return getDelegate().getLabelForDeviceType(tenant, token, generatorId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceTypeGPBSpecification()
+     */
+    @Override
+    public String getDeviceTypeGPBSpecification(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	return getDelegate().getDeviceTypeGPBSpecification(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#downlaodDeviceTypeGPBSpecification()
+     */
+    @Override
+    public File downlaodDeviceTypeGPBSpecification(ITenantAuthentication tenant, String token)
+	    throws SiteWhereException {
+	return getDelegate().downlaodDeviceTypeGPBSpecification(tenant, token);
+    }
+
+    // ------------------------------------------------------------------------
+    // Devices
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDevices()
+     */
+    @Override
+    public SearchResults<Device> listDevices(ITenantAuthentication tenant, DeviceSearchCriteria searchCriteria,
+	    DeviceResponseFormat responseFormat) throws SiteWhereException {
+	return getDelegate().listDevices(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getDeviceByToken()
+     */
+    @Override
+    public MarshaledDevice getDeviceByToken(ITenantAuthentication tenant, String deviceToken)
+	    throws SiteWhereException {
+	return getDelegate().getDeviceByToken(tenant, deviceToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#bulkGetDevicesByToken()
+     */
+    @Override
+    public IBulkLookupResult<MarshaledDevice> bulkGetDevicesByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException {
+	return getDelegate().bulkGetDevicesByToken(tenant, tokens);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createDevice()
+     */
+    @Override
+    public MarshaledDevice createDevice(ITenantAuthentication tenant, DeviceCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().createDevice(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateDevice()
+     */
+    @Override
+    public MarshaledDevice updateDevice(ITenantAuthentication tenant, String deviceToken, DeviceCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().updateDevice(tenant, deviceToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDevice()
+     */
+    @Override
+    public MarshaledDevice deleteDevice(ITenantAuthentication tenant, String deviceToken) throws SiteWhereException {
+	return getDelegate().deleteDevice(tenant, deviceToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDeviceAssignmentsForDevice()
+     */
+    @Override
+    public SearchResults<MarshaledDeviceAssignment> listDeviceAssignmentsForDevice(ITenantAuthentication tenant,
+	    String deviceToken, DeviceAssignmentSearchCriteria searchCriteria,
+	    DeviceAssignmentResponseFormat responseFormat) throws SiteWhereException {
+	return getDelegate().listDeviceAssignmentsForDevice(tenant, deviceToken, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#addMultipleEventsForDevice()
+     */
+    @Override
+    public DeviceEventBatchResponse addMultipleEventsForDevice(ITenantAuthentication tenant, String deviceToken,
+	    DeviceEventBatch batch) throws SiteWhereException {
+	return getDelegate().addMultipleEventsForDevice(tenant, deviceToken, batch);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getLabelForDevice()
+     */
+    @Override
+    public byte[] getLabelForDevice(ITenantAuthentication tenant, String deviceToken, String generatorId)
+	    throws SiteWhereException {
+	return getDelegate().getLabelForDevice(tenant, deviceToken, generatorId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createDeviceMappings()
+     */
+    @Override
+    public MarshaledDevice createDeviceMappings(ITenantAuthentication tenant, String deviceToken,
+	    DeviceElementMapping request) throws SiteWhereException {
+	return getDelegate().createDeviceMappings(tenant, deviceToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteDeviceMappings()
+     */
+    @Override
+    public MarshaledDevice deleteDeviceMappings(ITenantAuthentication tenant, String deviceToken, String path)
+	    throws SiteWhereException {
+	return getDelegate().deleteDeviceMappings(tenant, deviceToken, path);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDevicesByDeviceGroup()
+     */
+    @Override
+    public SearchResults<Device> listDevicesByDeviceGroup(ITenantAuthentication tenant, String groupToken,
+	    DeviceSearchCriteria searchCriteria, DeviceByGroupResponseFormat responseFormat) throws SiteWhereException {
+	return getDelegate().listDevicesByDeviceGroup(tenant, groupToken, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listDevicesByDeviceGroupWithRole()
+     */
+    @Override
+    public SearchResults<Device> listDevicesByDeviceGroupWithRole(ITenantAuthentication tenant, String role,
+	    DeviceSearchCriteria searchCriteria, DeviceByGroupResponseFormat responseFormat) throws SiteWhereException {
+	return getDelegate().listDevicesByDeviceGroupWithRole(tenant, role, searchCriteria, responseFormat);
+    }
+
+    // ------------------------------------------------------------------------
+    // External Search
+    // ------------------------------------------------------------------------
+
+    // ------------------------------------------------------------------------
+    // Instance
+    // ------------------------------------------------------------------------
+
+    // ------------------------------------------------------------------------
+    // Scheduled Jobs
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listScheduledJobs()
+     */
+    @Override
+    public SearchResults<ScheduledJob> listScheduledJobs(ITenantAuthentication tenant,
+	    ScheduledJobSearchCriteria searchCriteria, ScheduledJobResponseFormat responseFormat)
+	    throws SiteWhereException {
+	return getDelegate().listScheduledJobs(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getScheduledJobByToken()
+     */
+    @Override
+    public ScheduledJob getScheduledJobByToken(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	return getDelegate().getScheduledJobByToken(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createScheduledJob()
+     */
+    @Override
+    public ScheduledJob createScheduledJob(ITenantAuthentication tenant, ScheduledJobCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().createScheduledJob(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateScheduledJob()
+     */
+    @Override
+    public ScheduledJob updateScheduledJob(ITenantAuthentication tenant, String token,
+	    ScheduledJobCreateRequest request) throws SiteWhereException {
+	return getDelegate().updateScheduledJob(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteScheduledJob()
+     */
+    @Override
+    public ScheduledJob deleteScheduledJob(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	return getDelegate().deleteScheduledJob(tenant, token);
+    }
+
+    // ------------------------------------------------------------------------
+    // Schedules
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listSchedules()
+     */
+    @Override
+    public SearchResults<Schedule> listSchedules(ITenantAuthentication tenant, ScheduleSearchCriteria searchCriteria,
+	    ScheduleResponseFormat responseFormat) throws SiteWhereException {
+	return getDelegate().listSchedules(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getScheduleByToken()
+     */
+    @Override
+    public Schedule getScheduleByToken(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	return getDelegate().getScheduleByToken(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createSchedule()
+     */
+    @Override
+    public Schedule createSchedule(ITenantAuthentication tenant, ScheduleCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().createSchedule(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateSchedule()
+     */
+    @Override
+    public Schedule updateSchedule(ITenantAuthentication tenant, String token, ScheduleCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().updateSchedule(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteSchedule()
+     */
+    @Override
+    public Schedule deleteSchedule(ITenantAuthentication tenant, String token) throws SiteWhereException {
+	return getDelegate().deleteSchedule(tenant, token);
+    }
+
+    // ------------------------------------------------------------------------
+    // System
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getSiteWhereVersion()
+     */
+    @Override
+    public Version getSiteWhereVersion() throws SiteWhereException {
+	return getDelegate().getSiteWhereVersion();
+    }
+
+    // ------------------------------------------------------------------------
+    // Tenants
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listTenants()
+     */
+    @Override
+    public SearchResults<Tenant> listTenants(TenantSearchCriteria searchCriteria) throws SiteWhereException {
+	return getDelegate().listTenants(searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getTenantByToken()
+     */
+    @Override
+    public Tenant getTenantByToken(String tenantToken) throws SiteWhereException {
+	return getDelegate().getTenantByToken(tenantToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createTenant()
+     */
+    @Override
+    public Tenant createTenant(TenantCreateRequest request) throws SiteWhereException {
+	return getDelegate().createTenant(request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateTenant()
+     */
+    @Override
+    public Tenant updateTenant(String tenantToken, TenantCreateRequest request) throws SiteWhereException {
+	return getDelegate().updateTenant(tenantToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteTenant()
+     */
+    @Override
+    public Tenant deleteTenant(String tenantToken) throws SiteWhereException {
+	return getDelegate().deleteTenant(tenantToken);
+    }
+
+    // ------------------------------------------------------------------------
+    // Users
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listUsers()
+     */
+    @Override
+    public SearchResults<User> listUsers() throws SiteWhereException {
+	return getDelegate().listUsers();
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getUserByUsername()
+     */
+    @Override
+    public User getUserByUsername(String username) throws SiteWhereException {
+	return getDelegate().getUserByUsername(username);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createUser()
+     */
+    @Override
+    public User createUser(UserCreateRequest request) throws SiteWhereException {
+	return getDelegate().createUser(request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateUser()
+     */
+    @Override
+    public User updateUser(String username, UserCreateRequest request) throws SiteWhereException {
+	return getDelegate().updateUser(username, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteUser()
+     */
+    @Override
+    public User deleteUser(String username) throws SiteWhereException {
+	return getDelegate().deleteUser(username);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listUserAuthorities()
+     */
+    @Override
+    public SearchResults<GrantedAuthority> listUserAuthorities(String username) throws SiteWhereException {
+	return getDelegate().listUserAuthorities(username);
+    }
+
+    // ------------------------------------------------------------------------
+    // Zones
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#listZones()
+     */
+    @Override
+    public SearchResults<Zone> listZones(ITenantAuthentication tenant, ZoneSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	return getDelegate().listZones(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#getZoneByToken()
+     */
+    @Override
+    public Zone getZoneByToken(ITenantAuthentication tenant, String zoneToken) throws SiteWhereException {
+	return getDelegate().getZoneByToken(tenant, zoneToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#createZone()
+     */
+    @Override
+    public Zone createZone(ITenantAuthentication tenant, ZoneCreateRequest request) throws SiteWhereException {
+	return getDelegate().createZone(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#updateZone()
+     */
+    @Override
+    public Zone updateZone(ITenantAuthentication tenant, String zoneToken, ZoneCreateRequest request)
+	    throws SiteWhereException {
+	return getDelegate().updateZone(tenant, zoneToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ISiteWhereClient#deleteZone()
+     */
+    @Override
+    public Zone deleteZone(ITenantAuthentication tenant, String zoneToken) throws SiteWhereException {
+	return getDelegate().deleteZone(tenant, zoneToken);
+    }
+
+    public ISiteWhereClient getDelegate() {
+	return delegate;
+    }
+}
@@ -40,6 +40,7 @@ import com.sitewhere.rest.model.device.asset.DeviceLocationWithAsset;
 import com.sitewhere.rest.model.device.asset.DeviceMeasurementWithAsset;
 import com.sitewhere.rest.model.device.asset.DeviceStateChangeWithAsset;
 import com.sitewhere.rest.model.device.charting.ChartSeries;
+import com.sitewhere.rest.model.device.charting.MeasurementSeries;
 import com.sitewhere.rest.model.device.command.DeviceCommand;
 import com.sitewhere.rest.model.device.command.DeviceCommandNamespace;
 import com.sitewhere.rest.model.device.event.DeviceCommandInvocation;
@@ -331,6 +332,11 @@ public interface SiteWhereRestRetrofit {
 	    @Query("startDate") String startDate, @Query("endDate") String endDate, @Query("page") Integer page,
 	    @Query("pageSize") Integer pageSize, @HeaderMap Map<String, String> headers);
 
+    @GET("assignments/{token}/measurements/series")
+    Call<List<MeasurementSeries>> listMeasurementsForDeviceAssignmentAsMeasurementSeries(@Path("token") String token,
+	    @Query("startDate") String startDate, @Query("endDate") String endDate, @Query("page") Integer page,
+	    @Query("pageSize") Integer pageSize, @HeaderMap Map<String, String> headers);
+
     @POST("assignments/{token}/missing")
     Call<MarshaledDeviceAssignment> markMissingDeviceAssignment(@Path("token") String token,
 	    @HeaderMap Map<String, String> headers);
@@ -373,6 +379,10 @@ public interface SiteWhereRestRetrofit {
     Call<Map<String, List<ChartSeries<Double>>>> bulkListMeasurementsForDeviceAssignmentsAsChartSeries(
 	    @Body DeviceAssignmentBulkRequest request, @HeaderMap Map<String, String> headers);
 
+    @POST("assignments/bulk/measurements/series")
+    Call<Map<String, List<MeasurementSeries>>> bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries(
+	    @Body DeviceAssignmentBulkRequest request, @HeaderMap Map<String, String> headers);
+
     @POST("assignments/bulk/responses")
     Call<SearchResults<DeviceCommandResponseWithAsset>> bulkListCommandResponsesForDeviceAssignments(
 	    @Body DeviceAssignmentBulkRequest request, @HeaderMap Map<String, String> headers);
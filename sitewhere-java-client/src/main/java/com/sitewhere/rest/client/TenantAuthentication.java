@@ -7,7 +7,12 @@
  */
 package com.sitewhere.rest.client;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import com.sitewhere.spi.ITenantAuthentication;
+import com.sitewhere.spi.web.ISiteWhereWebConstants;
 
 /**
  * Model object for passing tenant authentication information.
@@ -20,6 +25,9 @@ public class TenantAuthentication implements ITenantAuthentication {
     /** Tenant authentication token */
     private String tenantAuthToken;
 
+    /** Request headers for tenant (computed on first use) */
+    private Map<String, String> headers;
+
     /*
      * @see com.sitewhere.spi.ITenantAuthentication#getTenantToken()
      */
@@ -30,6 +38,7 @@ public class TenantAuthentication implements ITenantAuthentication {
 
     public void setTenantToken(String tenantToken) {
 	this.tenantToken = tenantToken;
+	this.headers = null;
     }
 
     /*
@@ -42,5 +51,24 @@ public class TenantAuthentication implements ITenantAuthentication {
 
     public void setTenantAuthToken(String tenantAuthToken) {
 	this.tenantAuthToken = tenantAuthToken;
+	this.headers = null;
+    }
+
+    /**
+     * Get request headers that identify the tenant. The unmodifiable map is
+     * computed once and reused until the tenant is changed.
+     * 
+     * @return
+     */
+    public Map<String, String> getHeaders() {
+	Map<String, String> current = headers;
+	if (current == null) {
+	    Map<String, String> values = new HashMap<>();
+	    values.put(ISiteWhereWebConstants.HEADER_TENANT_ID, getTenantToken());
+	    values.put(ISiteWhereWebConstants.HEADER_TENANT_AUTH, getTenantAuthToken());
+	    current = Collections.unmodifiableMap(values);
+	    headers = current;
+	}
+	return current;
     }
 }
@@ -0,0 +1,1601 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.sitewhere.rest.model.area.Area;
+import com.sitewhere.rest.model.area.AreaType;
+import com.sitewhere.rest.model.area.Zone;
+import com.sitewhere.rest.model.area.request.AreaCreateRequest;
+import com.sitewhere.rest.model.area.request.AreaTypeCreateRequest;
+import com.sitewhere.rest.model.area.request.ZoneCreateRequest;
+import com.sitewhere.rest.model.asset.Asset;
+import com.sitewhere.rest.model.asset.AssetType;
+import com.sitewhere.rest.model.asset.marshaling.MarshaledAsset;
+import com.sitewhere.rest.model.asset.request.AssetCreateRequest;
+import com.sitewhere.rest.model.asset.request.AssetTypeCreateRequest;
+import com.sitewhere.rest.model.batch.BatchElement;
+import com.sitewhere.rest.model.batch.BatchOperation;
+import com.sitewhere.rest.model.batch.request.BatchCommandInvocationRequest;
+import com.sitewhere.rest.model.batch.request.InvocationByDeviceCriteriaRequest;
+import com.sitewhere.rest.model.customer.Customer;
+import com.sitewhere.rest.model.customer.CustomerType;
+import com.sitewhere.rest.model.customer.request.CustomerCreateRequest;
+import com.sitewhere.rest.model.customer.request.CustomerTypeCreateRequest;
+import com.sitewhere.rest.model.device.Device;
+import com.sitewhere.rest.model.device.DeviceElementMapping;
+import com.sitewhere.rest.model.device.DeviceStatus;
+import com.sitewhere.rest.model.device.DeviceType;
+import com.sitewhere.rest.model.device.asset.DeviceAlertWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceCommandResponseWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceEventWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceLocationWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceMeasurementWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceStateChangeWithAsset;
+import com.sitewhere.rest.model.device.charting.ChartSeries;
+import com.sitewhere.rest.model.device.charting.MeasurementSeries;
+import com.sitewhere.rest.model.device.command.DeviceCommand;
+import com.sitewhere.rest.model.device.command.DeviceCommandNamespace;
+import com.sitewhere.rest.model.device.event.DeviceCommandInvocation;
+import com.sitewhere.rest.model.device.event.DeviceCommandResponse;
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceCommandInvocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceCommandResponseCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceStateChangeCreateRequest;
+import com.sitewhere.rest.model.device.event.view.DeviceCommandInvocationSummary;
+import com.sitewhere.rest.model.device.group.DeviceGroup;
+import com.sitewhere.rest.model.device.group.DeviceGroupElement;
+import com.sitewhere.rest.model.device.marshaling.MarshaledArea;
+import com.sitewhere.rest.model.device.marshaling.MarshaledAreaType;
+import com.sitewhere.rest.model.device.marshaling.MarshaledCustomer;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDevice;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDeviceAssignment;
+import com.sitewhere.rest.model.device.request.DeviceAssignmentBulkRequest;
+import com.sitewhere.rest.model.device.request.DeviceAssignmentCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceCommandCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceGroupCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceGroupElementCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceStatusCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceTypeCreateRequest;
+import com.sitewhere.rest.model.device.state.DeviceState;
+import com.sitewhere.rest.model.scheduling.Schedule;
+import com.sitewhere.rest.model.scheduling.ScheduledJob;
+import com.sitewhere.rest.model.scheduling.request.ScheduleCreateRequest;
+import com.sitewhere.rest.model.scheduling.request.ScheduledJobCreateRequest;
+import com.sitewhere.rest.model.search.DateRangeSearchCriteria;
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.rest.model.search.TreeNode;
+import com.sitewhere.rest.model.search.area.AreaResponseFormat;
+import com.sitewhere.rest.model.search.area.AreaSearchCriteria;
+import com.sitewhere.rest.model.search.area.AreaTypeSearchCriteria;
+import com.sitewhere.rest.model.search.asset.AssetSearchCriteria;
+import com.sitewhere.rest.model.search.asset.AssetTypeSearchCriteria;
+import com.sitewhere.rest.model.search.batch.BatchOperationSearchCriteria;
+import com.sitewhere.rest.model.search.customer.CustomerResponseFormat;
+import com.sitewhere.rest.model.search.customer.CustomerSearchCriteria;
+import com.sitewhere.rest.model.search.customer.CustomerTypeResponseFormat;
+import com.sitewhere.rest.model.search.customer.CustomerTypeSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceAssignmentResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceAssignmentSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceByGroupResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceCommandSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceGroupElementResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceGroupElementSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceGroupSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceStateResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceStateSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceStatusSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceTypeResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceTypeSearchCriteria;
+import com.sitewhere.rest.model.search.device.ZoneSearchCriteria;
+import com.sitewhere.rest.model.search.scheduling.ScheduleResponseFormat;
+import com.sitewhere.rest.model.search.scheduling.ScheduleSearchCriteria;
+import com.sitewhere.rest.model.search.scheduling.ScheduledJobResponseFormat;
+import com.sitewhere.rest.model.search.scheduling.ScheduledJobSearchCriteria;
+import com.sitewhere.rest.model.user.GrantedAuthority;
+import com.sitewhere.rest.model.user.GrantedAuthorityHierarchyNode;
+import com.sitewhere.rest.model.user.request.GrantedAuthorityCreateRequest;
+import com.sitewhere.spi.IBulkLookupResult;
+import com.sitewhere.spi.ISearchResultsStream;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.ITenantAuthentication;
+import com.sitewhere.spi.ITenantSiteWhereClient;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Default {@link ITenantSiteWhereClient} implementation. The tenant is copied
+ * into a {@link TenantAuthentication} when the view is created, so the tenant
+ * headers are computed once and shared by every call made through the view.
+ */
+public class TenantSiteWhereClient implements ITenantSiteWhereClient {
+
+    /** Client that calls are passed to */
+    private ISiteWhereClient client;
+
+    /** Tenant calls are bound to */
+    private TenantAuthentication tenant;
+
+    public TenantSiteWhereClient(ISiteWhereClient client, ITenantAuthentication tenant) {
+	this.client = client;
+	this.tenant = new TenantAuthentication();
+	this.tenant.setTenantToken(tenant.getTenantToken());
+	this.tenant.setTenantAuthToken(tenant.getTenantAuthToken());
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getTenant()
+     */
+    @Override
+    public ITenantAuthentication getTenant() {
+	return tenant;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getClient()
+     */
+    @Override
+    public ISiteWhereClient getClient() {
+	return client;
+    }
+
+    // ------------------------------------------------------------------------
+    // Area Types
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listAreaTypes()
+     */
+    @Override
+    public SearchResults<AreaType> listAreaTypes(AreaTypeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listAreaTypes(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getAreaTypeByToken()
+     */
+    @Override
+    public MarshaledAreaType getAreaTypeByToken(String areaTypeToken) throws SiteWhereException {
+	return client.getAreaTypeByToken(tenant, areaTypeToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createAreaType()
+     */
+    @Override
+    public AreaType createAreaType(AreaTypeCreateRequest request) throws SiteWhereException {
+	return client.createAreaType(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateAreaType()
+     */
+    @Override
+    public AreaType updateAreaType(String areaTypeToken, AreaTypeCreateRequest request) throws SiteWhereException {
+	return client.updateAreaType(tenant, areaTypeToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteAreaType()
+     */
+    @Override
+    public AreaType deleteAreaType(String areaTypeToken) throws SiteWhereException {
+	return client.deleteAreaType(tenant, areaTypeToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getLabelForAreaType()
+     */
+    @Override
+    public byte[] getLabelForAreaType(String areaTypeToken, String generatorId) throws SiteWhereException {
+	return client.getLabelForAreaType(tenant, areaTypeToken, generatorId);
+    }
+
+    // ------------------------------------------------------------------------
+    // Areas
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listAreas()
+     */
+    @Override
+    public SearchResults<Area> listAreas(AreaSearchCriteria searchCriteria, AreaResponseFormat responseFormat)
+	    throws SiteWhereException {
+	return client.listAreas(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getAreaByToken()
+     */
+    @Override
+    public MarshaledArea getAreaByToken(String areaToken) throws SiteWhereException {
+	return client.getAreaByToken(tenant, areaToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#bulkGetAreasByToken()
+     */
+    @Override
+    public IBulkLookupResult<MarshaledArea> bulkGetAreasByToken(Collection<String> tokens) throws SiteWhereException {
+	return client.bulkGetAreasByToken(tenant, tokens);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createArea()
+     */
+    @Override
+    public Area createArea(AreaCreateRequest request) throws SiteWhereException {
+	return client.createArea(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateArea()
+     */
+    @Override
+    public Area updateArea(String areaToken, AreaCreateRequest request) throws SiteWhereException {
+	return client.updateArea(tenant, areaToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteArea()
+     */
+    @Override
+    public Area deleteArea(String areaToken) throws SiteWhereException {
+	return client.deleteArea(tenant, areaToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listAlertsForArea()
+     */
+    @Override
+    public SearchResults<DeviceAlertWithAsset> listAlertsForArea(String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listAlertsForArea(tenant, areaToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDeviceAssignmentsForArea()
+     */
+    @Override
+    public SearchResults<MarshaledDeviceAssignment> listDeviceAssignmentsForArea(String areaToken,
+	    DeviceAssignmentSearchCriteria searchCriteria, DeviceAssignmentResponseFormat responseFormat)
+	    throws SiteWhereException {
+	return client.listDeviceAssignmentsForArea(tenant, areaToken, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listCommandInvocationsForArea()
+     */
+    @Override
+    public SearchResults<DeviceCommandInvocation> listCommandInvocationsForArea(String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listCommandInvocationsForArea(tenant, areaToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getLabelForArea()
+     */
+    @Override
+    public byte[] getLabelForArea(String areaToken, String generatorId) throws SiteWhereException {
+	return client.getLabelForArea(tenant, areaToken, generatorId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listLocationsForArea()
+     */
+    @Override
+    public SearchResults<DeviceLocationWithAsset> listLocationsForArea(String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listLocationsForArea(tenant, areaToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listMeasurementsForArea()
+     */
+    @Override
+    public SearchResults<DeviceMeasurementWithAsset> listMeasurementsForArea(String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listMeasurementsForArea(tenant, areaToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listCommandResponsesForArea()
+     */
+    @Override
+    public SearchResults<DeviceCommandResponseWithAsset> listCommandResponsesForArea(String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listCommandResponsesForArea(tenant, areaToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listStateChangesForArea()
+     */
+    @Override
+    public SearchResults<DeviceStateChangeWithAsset> listStateChangesForArea(String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listStateChangesForArea(tenant, areaToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#areaTree()
+     */
+    @Override
+    public List<TreeNode> areaTree() throws SiteWhereException {
+	return client.areaTree(tenant);
+    }
+
+    // ------------------------------------------------------------------------
+    // Asset Types
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listAssetTypes()
+     */
+    @Override
+    public SearchResults<AssetType> listAssetTypes(AssetTypeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listAssetTypes(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getAssetTypeByToken()
+     */
+    @Override
+    public AssetType getAssetTypeByToken(String assetTypeToken) throws SiteWhereException {
+	return client.getAssetTypeByToken(tenant, assetTypeToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createAssetType()
+     */
+    @Override
+    public AssetType createAssetType(AssetTypeCreateRequest request) throws SiteWhereException {
+	return client.createAssetType(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateAssetType()
+     */
+    @Override
+    public AssetType updateAssetType(String assetTypeToken, AssetTypeCreateRequest request) throws SiteWhereException {
+	return client.updateAssetType(tenant, assetTypeToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteAssetType()
+     */
+    @Override
+    public AssetType deleteAssetType(String assetTypeToken) throws SiteWhereException {
+	return client.deleteAssetType(tenant, assetTypeToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getLabelForAssetType()
+     */
+    @Override
+    public byte[] getLabelForAssetType(String assetTypeToken, String generatorId) throws SiteWhereException {
+	return client.getLabelForAssetType(tenant, assetTypeToken, generatorId);
+    }
+
+    // ------------------------------------------------------------------------
+    // Asset
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listAssets()
+     */
+    @Override
+    public SearchResults<Asset> listAssets(AssetSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listAssets(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getAssetByToken()
+     */
+    @Override
+    public MarshaledAsset getAssetByToken(String assetToken) throws SiteWhereException {
+	return client.getAssetByToken(tenant, assetToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createAsset()
+     */
+    @Override
+    public Asset createAsset(AssetCreateRequest request) throws SiteWhereException {
+	return client.createAsset(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateAsset()
+     */
+    @Override
+    public Asset updateAsset(String assetToken, AssetCreateRequest request) throws SiteWhereException {
+	return client.updateAsset(tenant, assetToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteAsset()
+     */
+    @Override
+    public Asset deleteAsset(String assetToken) throws SiteWhereException {
+	return client.deleteAsset(tenant, assetToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getLabelForAsset()
+     */
+    @Override
+    public byte[] getLabelForAsset(String assetToken, String generatorId) throws SiteWhereException {
+	return client.getLabelForAsset(tenant, assetToken, generatorId);
+    }
+
+    // ------------------------------------------------------------------------
+    // Assignments
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDeviceAssignments()
+     */
+    @Override
+    public SearchResults<MarshaledDeviceAssignment> listDeviceAssignments(DeviceAssignmentSearchCriteria searchCriteria,
+	    DeviceAssignmentResponseFormat format) throws SiteWhereException {
+	return client.listDeviceAssignments(tenant, searchCriteria, format);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getDeviceAssignmentByToken()
+     */
+    @Override
+    public MarshaledDeviceAssignment getDeviceAssignmentByToken(String token) throws SiteWhereException {
+	return client.getDeviceAssignmentByToken(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#bulkGetDeviceAssignmentsByToken()
+     */
+    @Override
+    public IBulkLookupResult<MarshaledDeviceAssignment> bulkGetDeviceAssignmentsByToken(Collection<String> tokens)
+	    throws SiteWhereException {
+	return client.bulkGetDeviceAssignmentsByToken(tenant, tokens);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment createDeviceAssignment(DeviceAssignmentCreateRequest request)
+	    throws SiteWhereException {
+	return client.createDeviceAssignment(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment updateDeviceAssignment(String token, DeviceAssignmentCreateRequest request)
+	    throws SiteWhereException {
+	return client.updateDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment deleteDeviceAssignment(String token) throws SiteWhereException {
+	return client.deleteDeviceAssignment(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listAlertsForDeviceAssignment()
+     */
+    @Override
+    public SearchResults<DeviceAlertWithAsset> listAlertsForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listAlertsForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#streamAlertsForDeviceAssignment()
+     */
+    @Override
+    public ISearchResultsStream<DeviceAlertWithAsset> streamAlertsForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.streamAlertsForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createAlertForDeviceAssignment()
+     */
+    @Override
+    public DeviceAlertWithAsset createAlertForDeviceAssignment(String token, DeviceAlertCreateRequest request)
+	    throws SiteWhereException {
+	return client.createAlertForDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#releaseDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment releaseDeviceAssignment(String token) throws SiteWhereException {
+	return client.releaseDeviceAssignment(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listCommandInvocationsForDeviceAssignment()
+     */
+    @Override
+    public SearchResults<DeviceCommandInvocation> listCommandInvocationsForDeviceAssignment(String token,
+	    Boolean includeCommand, DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listCommandInvocationsForDeviceAssignment(tenant, token, includeCommand, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createCommandInvocationForDeviceAssignment()
+     */
+    @Override
+    public DeviceCommandInvocation createCommandInvocationForDeviceAssignment(String token,
+	    DeviceCommandInvocationCreateRequest request) throws SiteWhereException {
+	return client.createCommandInvocationForDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#scheduleCommandInvocation()
+     */
+    @Override
+    public ScheduledJob scheduleCommandInvocation(String token, String scheduleToken,
+	    DeviceCommandInvocationCreateRequest request) throws SiteWhereException {
+	return client.scheduleCommandInvocation(tenant, token, scheduleToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getLabelForDeviceAssignment()
+     */
+    @Override
+    public byte[] getLabelForDeviceAssignment(String token, String generatorId) throws SiteWhereException {
+	return client.getLabelForDeviceAssignment(tenant, token, generatorId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listLocationsForDeviceAssignment()
+     */
+    @Override
+    public SearchResults<DeviceLocationWithAsset> listLocationsForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listLocationsForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#streamLocationsForDeviceAssignment()
+     */
+    @Override
+    public ISearchResultsStream<DeviceLocationWithAsset> streamLocationsForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.streamLocationsForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createLocationForDeviceAssignment()
+     */
+    @Override
+    public DeviceLocationWithAsset createLocationForDeviceAssignment(String token, DeviceLocationCreateRequest request)
+	    throws SiteWhereException {
+	return client.createLocationForDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listMeasurementsForDeviceAssignment()
+     */
+    @Override
+    public SearchResults<DeviceMeasurementWithAsset> listMeasurementsForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listMeasurementsForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#streamMeasurementsForDeviceAssignment()
+     */
+    @Override
+    public ISearchResultsStream<DeviceMeasurementWithAsset> streamMeasurementsForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.streamMeasurementsForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createMeasurementForDeviceAssignment()
+     */
+    @Override
+    public DeviceMeasurementWithAsset createMeasurementForDeviceAssignment(String token,
+	    DeviceMeasurementCreateRequest request) throws SiteWhereException {
+	return client.createMeasurementForDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listMeasurementsForDeviceAssignmentAsChartSeries()
+     */
+    @Override
+    public List<ChartSeries<Double>> listMeasurementsForDeviceAssignmentAsChartSeries(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listMeasurementsForDeviceAssignmentAsChartSeries(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listMeasurementsForDeviceAssignmentAsMeasurementSeries()
+     */
+    @Override
+    public List<MeasurementSeries> listMeasurementsForDeviceAssignmentAsMeasurementSeries(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listMeasurementsForDeviceAssignmentAsMeasurementSeries(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#markMissingDeviceAssignment()
+     */
+    @Override
+    public MarshaledDeviceAssignment markMissingDeviceAssignment(String token) throws SiteWhereException {
+	return client.markMissingDeviceAssignment(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listCommandResponsesForDeviceAssignment()
+     */
+    @Override
+    public SearchResults<DeviceCommandResponseWithAsset> listCommandResponsesForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listCommandResponsesForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createCommandResponseForDeviceAssignment()
+     */
+    @Override
+    public DeviceCommandResponseWithAsset createCommandResponseForDeviceAssignment(String token,
+	    DeviceCommandResponseCreateRequest request) throws SiteWhereException {
+	return client.createCommandResponseForDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listStateChangesForDeviceAssignment()
+     */
+    @Override
+    public SearchResults<DeviceStateChangeWithAsset> listStateChangesForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listStateChangesForDeviceAssignment(tenant, token, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createStateChangeForDeviceAssignment()
+     */
+    @Override
+    public DeviceStateChangeWithAsset createStateChangeForDeviceAssignment(String token,
+	    DeviceStateChangeCreateRequest request) throws SiteWhereException {
+	return client.createStateChangeForDeviceAssignment(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#bulkListAlertsForDeviceAssignments()
+     */
+    @Override
+    public SearchResults<DeviceAlertWithAsset> bulkListAlertsForDeviceAssignments(DeviceAssignmentBulkRequest request)
+	    throws SiteWhereException {
+	return client.bulkListAlertsForDeviceAssignments(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#bulkListCommandInvocationsForDeviceAssignments()
+     */
+    @Override
+    public SearchResults<DeviceCommandInvocation> bulkListCommandInvocationsForDeviceAssignments(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return client.bulkListCommandInvocationsForDeviceAssignments(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#bulkListLocationsForDeviceAssignments()
+     */
+    @Override
+    public SearchResults<DeviceLocationWithAsset> bulkListLocationsForDeviceAssignments(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return client.bulkListLocationsForDeviceAssignments(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#bulkListMeasurementsForDeviceAssignments()
+     */
+    @Override
+    public SearchResults<DeviceMeasurementWithAsset> bulkListMeasurementsForDeviceAssignments(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return client.bulkListMeasurementsForDeviceAssignments(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#bulkListMeasurementsForDeviceAssignmentsAsChartSeries()
+     */
+    @Override
+    public Map<String, List<ChartSeries<Double>>> bulkListMeasurementsForDeviceAssignmentsAsChartSeries(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return client.bulkListMeasurementsForDeviceAssignmentsAsChartSeries(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries()
+     */
+    @Override
+    public Map<String, List<MeasurementSeries>> bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return client.bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#bulkListCommandResponsesForDeviceAssignments()
+     */
+    @Override
+    public SearchResults<DeviceCommandResponseWithAsset> bulkListCommandResponsesForDeviceAssignments(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return client.bulkListCommandResponsesForDeviceAssignments(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#bulkListStateChangesForDeviceAssignments()
+     */
+    @Override
+    public SearchResults<DeviceStateChangeWithAsset> bulkListStateChangesForDeviceAssignments(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException {
+	return client.bulkListStateChangesForDeviceAssignments(tenant, request);
+    }
+
+    // ------------------------------------------------------------------------
+    // Authorities
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listAuthorities()
+     */
+    @Override
+    public SearchResults<GrantedAuthority> listAuthorities() throws SiteWhereException {
+	return client.listAuthorities(tenant);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getAuthorityByName()
+     */
+    @Override
+    public GrantedAuthority getAuthorityByName(String name) throws SiteWhereException {
+	return client.getAuthorityByName(tenant, name);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createAuthority()
+     */
+    @Override
+    public GrantedAuthority createAuthority(GrantedAuthorityCreateRequest request) throws SiteWhereException {
+	return client.createAuthority(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getAuthoritiesHierarchy()
+     */
+    @Override
+    public List<GrantedAuthorityHierarchyNode> getAuthoritiesHierarchy() throws SiteWhereException {
+	return client.getAuthoritiesHierarchy(tenant);
+    }
+
+    // ------------------------------------------------------------------------
+    // Batch Operations
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listBatchOperations()
+     */
+    @Override
+    public SearchResults<BatchOperation> listBatchOperations(BatchOperationSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	return client.listBatchOperations(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getBatchOperationByToken()
+     */
+    @Override
+    public BatchOperation getBatchOperationByToken(String batchToken) throws SiteWhereException {
+	return client.getBatchOperationByToken(tenant, batchToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listBatchOperationElements()
+     */
+    @Override
+    public SearchResults<BatchElement> listBatchOperationElements(String operationToken) throws SiteWhereException {
+	return client.listBatchOperationElements(tenant, operationToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createBatchCommandInvocation()
+     */
+    @Override
+    public BatchOperation createBatchCommandInvocation(BatchCommandInvocationRequest request)
+	    throws SiteWhereException {
+	return client.createBatchCommandInvocation(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createBatchCommandOperationForCriteria()
+     */
+    @Override
+    public Object createBatchCommandOperationForCriteria(InvocationByDeviceCriteriaRequest request)
+	    throws SiteWhereException {
+	return client.createBatchCommandOperationForCriteria(tenant, request);
+    }
+
+    // ------------------------------------------------------------------------
+    // Command Invocations
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getDeviceCommandInvocation()
+     */
+    @Override
+    public DeviceCommandInvocation getDeviceCommandInvocation(String id) throws SiteWhereException {
+	return client.getDeviceCommandInvocation(tenant, id);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getDeviceCommandInvocationSummary()
+     */
+    @Override
+    public DeviceCommandInvocationSummary getDeviceCommandInvocationSummary(String id) throws SiteWhereException {
+	return client.getDeviceCommandInvocationSummary(tenant, id);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listCommandResponsesForCommandInvocation()
+     */
+    @Override
+    public SearchResults<DeviceCommandResponse> listCommandResponsesForCommandInvocation(String id)
+	    throws SiteWhereException {
+	return client.listCommandResponsesForCommandInvocation(tenant, id);
+    }
+
+    // ------------------------------------------------------------------------
+    // Customer Types
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listCustomerTypes()
+     */
+    @Override
+    public SearchResults<CustomerType> listCustomerTypes(CustomerTypeSearchCriteria searchCriteria,
+	    CustomerTypeResponseFormat responseFormat) throws SiteWhereException {
+	return client.listCustomerTypes(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getCustomerTypeByToken()
+     */
+    @Override
+    public CustomerType getCustomerTypeByToken(String customerTypeToken) throws SiteWhereException {
+	return client.getCustomerTypeByToken(tenant, customerTypeToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createCustomerType()
+     */
+    @Override
+    public CustomerType createCustomerType(CustomerTypeCreateRequest request) throws SiteWhereException {
+	return client.createCustomerType(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateCustomerType()
+     */
+    @Override
+    public CustomerType updateCustomerType(String customerTypeToken, CustomerTypeCreateRequest request)
+	    throws SiteWhereException {
+	return client.updateCustomerType(tenant, customerTypeToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteCustomerType()
+     */
+    @Override
+    public CustomerType deleteCustomerType(String customerTypeToken) throws SiteWhereException {
+	return client.deleteCustomerType(tenant, customerTypeToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getLabelForCustomerType()
+     */
+    @Override
+    public byte[] getLabelForCustomerType(String customerTypeToken, String generatorId) throws SiteWhereException {
+	return client.getLabelForCustomerType(tenant, customerTypeToken, generatorId);
+    }
+
+    // ------------------------------------------------------------------------
+    // Customer
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listCustomers()
+     */
+    @Override
+    public SearchResults<Customer> listCustomers(CustomerSearchCriteria searchCriteria,
+	    CustomerResponseFormat responseFormat) throws SiteWhereException {
+	return client.listCustomers(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getCustomerByToken()
+     */
+    @Override
+    public MarshaledCustomer getCustomerByToken(String customerToken) throws SiteWhereException {
+	return client.getCustomerByToken(tenant, customerToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createCustomer()
+     */
+    @Override
+    public Customer createCustomer(CustomerCreateRequest request) throws SiteWhereException {
+	return client.createCustomer(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateCustomer()
+     */
+    @Override
+    public Customer updateCustomer(String customerToken, CustomerCreateRequest request) throws SiteWhereException {
+	return client.updateCustomer(tenant, customerToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteCustomer()
+     */
+    @Override
+    public Customer deleteCustomer(String customerToken) throws SiteWhereException {
+	return client.deleteCustomer(tenant, customerToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listAlertsForCustomer()
+     */
+    @Override
+    public SearchResults<DeviceAlertWithAsset> listAlertsForCustomer(String customerToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listAlertsForCustomer(tenant, customerToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDeviceAssignmentsForCustomer()
+     */
+    @Override
+    public SearchResults<MarshaledDeviceAssignment> listDeviceAssignmentsForCustomer(String customerToken,
+	    DeviceAssignmentSearchCriteria searchCriteria, DeviceAssignmentResponseFormat responseFormat)
+	    throws SiteWhereException {
+	return client.listDeviceAssignmentsForCustomer(tenant, customerToken, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listCommandInvocationsForCustomer()
+     */
+    @Override
+    public SearchResults<DeviceCommandInvocation> listCommandInvocationsForCustomer(String customerToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listCommandInvocationsForCustomer(tenant, customerToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getLabelForCustomer()
+     */
+    @Override
+    public byte[] getLabelForCustomer(String customerTypeToken, String generatorId) throws SiteWhereException {
+	return client.getLabelForCustomer(tenant, customerTypeToken, generatorId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listLocationsForCustomer()
+     */
+    @Override
+    public SearchResults<DeviceLocationWithAsset> listLocationsForCustomer(String customerToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listLocationsForCustomer(tenant, customerToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listMeasurementsForCustomer()
+     */
+    @Override
+    public SearchResults<DeviceMeasurementWithAsset> listMeasurementsForCustomer(String customerToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listMeasurementsForCustomer(tenant, customerToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listCommandResponsesForCustomer()
+     */
+    @Override
+    public SearchResults<DeviceCommandResponseWithAsset> listCommandResponsesForCustomer(String customerToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listCommandResponsesForCustomer(tenant, customerToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listStateChangesForCustomer()
+     */
+    @Override
+    public SearchResults<DeviceStateChangeWithAsset> listStateChangesForCustomer(String customerToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listStateChangesForCustomer(tenant, customerToken, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#customerTree()
+     */
+    @Override
+    public List<TreeNode> customerTree() throws SiteWhereException {
+	return client.customerTree(tenant);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Commands
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDeviceCommands()
+     */
+    @Override
+    public SearchResults<DeviceCommand> listDeviceCommands(DeviceCommandSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	return client.listDeviceCommands(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getDeviceCommandByToken()
+     */
+    @Override
+    public DeviceCommand getDeviceCommandByToken(String token) throws SiteWhereException {
+	return client.getDeviceCommandByToken(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createDeviceCommand()
+     */
+    @Override
+    public DeviceCommand createDeviceCommand(DeviceCommandCreateRequest request) throws SiteWhereException {
+	return client.createDeviceCommand(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateDeviceCommand()
+     */
+    @Override
+    public DeviceCommand updateDeviceCommand(String token, DeviceCommandCreateRequest request)
+	    throws SiteWhereException {
+	return client.updateDeviceCommand(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteDeviceCommand()
+     */
+    @Override
+    public DeviceCommand deleteDeviceCommand(String token) throws SiteWhereException {
+	return client.deleteDeviceCommand(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDeviceCommandsByNamesapce()
+     */
+    @Override
+    public SearchResults<DeviceCommandNamespace> listDeviceCommandsByNamesapce(
+	    DeviceCommandSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listDeviceCommandsByNamesapce(tenant, searchCriteria);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Events
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getDeviceEventByAlternateId()
+     */
+    @Override
+    public DeviceEventWithAsset getDeviceEventByAlternateId(String alternateId) throws SiteWhereException {
+	return client.getDeviceEventByAlternateId(tenant, alternateId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getDeviceEventById()
+     */
+    @Override
+    public DeviceEventWithAsset getDeviceEventById(String eventId) throws SiteWhereException {
+	return client.getDeviceEventById(tenant, eventId);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Groups
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDeviceGroups()
+     */
+    @Override
+    public SearchResults<DeviceGroup> listDeviceGroups(DeviceGroupSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	return client.listDeviceGroups(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getDeviceGroupByToken()
+     */
+    @Override
+    public DeviceGroup getDeviceGroupByToken(String groupToken) throws SiteWhereException {
+	return client.getDeviceGroupByToken(tenant, groupToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createDeviceGroup()
+     */
+    @Override
+    public DeviceGroup createDeviceGroup(DeviceGroupCreateRequest request) throws SiteWhereException {
+	return client.createDeviceGroup(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateDeviceGroup()
+     */
+    @Override
+    public DeviceGroup updateDeviceGroup(String groupToken, DeviceGroupCreateRequest request)
+	    throws SiteWhereException {
+	return client.updateDeviceGroup(tenant, groupToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteDeviceGroup()
+     */
+    @Override
+    public DeviceGroup deleteDeviceGroup(String groupToken) throws SiteWhereException {
+	return client.deleteDeviceGroup(tenant, groupToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDeviceGroupElements()
+     */
+    @Override
+    public SearchResults<DeviceGroupElement> listDeviceGroupElements(DeviceGroupElementSearchCriteria searchCriteria,
+	    DeviceGroupElementResponseFormat responseFormat) throws SiteWhereException {
+	return client.listDeviceGroupElements(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#addElementsToDdeviceGroup()
+     */
+    @Override
+    public SearchResults<DeviceGroupElement> addElementsToDdeviceGroup(String groupToken,
+	    List<DeviceGroupElementCreateRequest> requests) throws SiteWhereException {
+	return client.addElementsToDdeviceGroup(tenant, groupToken, requests);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteDeviceGroupElements()
+     */
+    @Override
+    public SearchResults<DeviceGroupElement> deleteDeviceGroupElements(String groupToken, List<String> elementIds)
+	    throws SiteWhereException {
+	return client.deleteDeviceGroupElements(tenant, groupToken, elementIds);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteDeviceGroupElement()
+     */
+    @Override
+    public SearchResults<DeviceGroupElement> deleteDeviceGroupElement(String groupToken, String elementId)
+	    throws SiteWhereException {
+	return client.deleteDeviceGroupElement(tenant, groupToken, elementId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getLabelForDeviceGroup()
+     */
+    @Override
+    public byte[] getLabelForDeviceGroup(String groupToken, String generatorId) throws SiteWhereException {
+	return client.getLabelForDeviceGroup(tenant, groupToken, generatorId);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device States
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDeviceStates()
+     */
+    @Override
+    public SearchResults<DeviceState> listDeviceStates(DeviceStateSearchCriteria searchCriteria,
+	    DeviceStateResponseFormat responseFormat) throws SiteWhereException {
+	return client.listDeviceStates(tenant, searchCriteria, responseFormat);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Statuses
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDeviceStatuses()
+     */
+    @Override
+    public SearchResults<DeviceStatus> listDeviceStatuses(DeviceStatusSearchCriteria searchCriteria)
+	    throws SiteWhereException {
+	return client.listDeviceStatuses(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getDeviceStatusByToken()
+     */
+    @Override
+    public DeviceStatus getDeviceStatusByToken(String token) throws SiteWhereException {
+	return client.getDeviceStatusByToken(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createDeviceStatus()
+     */
+    @Override
+    public DeviceStatus createDeviceStatus(DeviceStatusCreateRequest request) throws SiteWhereException {
+	return client.createDeviceStatus(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateDeviceStatus()
+     */
+    @Override
+    public DeviceStatus updateDeviceStatus(String token, DeviceStatusCreateRequest request) throws SiteWhereException {
+	return client.updateDeviceStatus(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteDeviceStatus()
+     */
+    @Override
+    public DeviceStatus deleteDeviceStatus(String token) throws SiteWhereException {
+	return client.deleteDeviceStatus(tenant, token);
+    }
+
+    // ------------------------------------------------------------------------
+    // Device Types
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDeviceTypes()
+     */
+    @Override
+    public SearchResults<DeviceType> listDeviceTypes(DeviceTypeSearchCriteria searchCriteria,
+	    DeviceTypeResponseFormat responseFormat) throws SiteWhereException {
+	return client.listDeviceTypes(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getDeviceTypeByToken()
+     */
+    @Override
+    public DeviceType getDeviceTypeByToken(String token) throws SiteWhereException {
+	return client.getDeviceTypeByToken(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#bulkGetDeviceTypesByToken()
+     */
+    @Override
+    public IBulkLookupResult<DeviceType> bulkGetDeviceTypesByToken(Collection<String> tokens)
+	    throws SiteWhereException {
+	return client.bulkGetDeviceTypesByToken(tenant, tokens);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createDeviceType()
+     */
+    @Override
+    public DeviceType createDeviceType(DeviceTypeCreateRequest request) throws SiteWhereException {
+	return client.createDeviceType(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateDeviceType()
+     */
+    @Override
+    public DeviceType updateDeviceType(String token, DeviceTypeCreateRequest request) throws SiteWhereException {
+	return client.updateDeviceType(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteDeviceType()
+     */
+    @Override
+    public DeviceType deleteDeviceType(String token) throws SiteWhereException {
+	return client.deleteDeviceType(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getLabelForDeviceType()
+     */
+    @Override
+    public byte[] getLabelForDeviceType(String token, String generatorId) throws SiteWhereException {
+	return client.getLabelForDeviceType(tenant, token, generatorId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getDeviceTypeGPBSpecification()
+     */
+    @Override
+    public String getDeviceTypeGPBSpecification(String token) throws SiteWhereException {
+	return client.getDeviceTypeGPBSpecification(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#downlaodDeviceTypeGPBSpecification()
+     */
+    @Override
+    public File downlaodDeviceTypeGPBSpecification(String token) throws SiteWhereException {
+	return client.downlaodDeviceTypeGPBSpecification(tenant, token);
+    }
+
+    // ------------------------------------------------------------------------
+    // Devices
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDevices()
+     */
+    @Override
+    public SearchResults<Device> listDevices(DeviceSearchCriteria searchCriteria, DeviceResponseFormat responseFormat)
+	    throws SiteWhereException {
+	return client.listDevices(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getDeviceByToken()
+     */
+    @Override
+    public MarshaledDevice getDeviceByToken(String deviceToken) throws SiteWhereException {
+	return client.getDeviceByToken(tenant, deviceToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#bulkGetDevicesByToken()
+     */
+    @Override
+    public IBulkLookupResult<MarshaledDevice> bulkGetDevicesByToken(Collection<String> tokens)
+	    throws SiteWhereException {
+	return client.bulkGetDevicesByToken(tenant, tokens);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createDevice()
+     */
+    @Override
+    public MarshaledDevice createDevice(DeviceCreateRequest request) throws SiteWhereException {
+	return client.createDevice(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateDevice()
+     */
+    @Override
+    public MarshaledDevice updateDevice(String deviceToken, DeviceCreateRequest request) throws SiteWhereException {
+	return client.updateDevice(tenant, deviceToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteDevice()
+     */
+    @Override
+    public MarshaledDevice deleteDevice(String deviceToken) throws SiteWhereException {
+	return client.deleteDevice(tenant, deviceToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDeviceAssignmentsForDevice()
+     */
+    @Override
+    public SearchResults<MarshaledDeviceAssignment> listDeviceAssignmentsForDevice(String deviceToken,
+	    DeviceAssignmentSearchCriteria searchCriteria, DeviceAssignmentResponseFormat responseFormat)
+	    throws SiteWhereException {
+	return client.listDeviceAssignmentsForDevice(tenant, deviceToken, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#addMultipleEventsForDevice()
+     */
+    @Override
+    public DeviceEventBatchResponse addMultipleEventsForDevice(String deviceToken, DeviceEventBatch batch)
+	    throws SiteWhereException {
+	return client.addMultipleEventsForDevice(tenant, deviceToken, batch);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getLabelForDevice()
+     */
+    @Override
+    public byte[] getLabelForDevice(String deviceToken, String generatorId) throws SiteWhereException {
+	return client.getLabelForDevice(tenant, deviceToken, generatorId);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createDeviceMappings()
+     */
+    @Override
+    public MarshaledDevice createDeviceMappings(String deviceToken, DeviceElementMapping request)
+	    throws SiteWhereException {
+	return client.createDeviceMappings(tenant, deviceToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteDeviceMappings()
+     */
+    @Override
+    public MarshaledDevice deleteDeviceMappings(String deviceToken, String path) throws SiteWhereException {
+	return client.deleteDeviceMappings(tenant, deviceToken, path);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDevicesByDeviceGroup()
+     */
+    @Override
+    public SearchResults<Device> listDevicesByDeviceGroup(String groupToken, DeviceSearchCriteria searchCriteria,
+	    DeviceByGroupResponseFormat responseFormat) throws SiteWhereException {
+	return client.listDevicesByDeviceGroup(tenant, groupToken, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listDevicesByDeviceGroupWithRole()
+     */
+    @Override
+    public SearchResults<Device> listDevicesByDeviceGroupWithRole(String role, DeviceSearchCriteria searchCriteria,
+	    DeviceByGroupResponseFormat responseFormat) throws SiteWhereException {
+	return client.listDevicesByDeviceGroupWithRole(tenant, role, searchCriteria, responseFormat);
+    }
+
+    // ------------------------------------------------------------------------
+    // Scheduled Jobs
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listScheduledJobs()
+     */
+    @Override
+    public SearchResults<ScheduledJob> listScheduledJobs(ScheduledJobSearchCriteria searchCriteria,
+	    ScheduledJobResponseFormat responseFormat) throws SiteWhereException {
+	return client.listScheduledJobs(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getScheduledJobByToken()
+     */
+    @Override
+    public ScheduledJob getScheduledJobByToken(String token) throws SiteWhereException {
+	return client.getScheduledJobByToken(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createScheduledJob()
+     */
+    @Override
+    public ScheduledJob createScheduledJob(ScheduledJobCreateRequest request) throws SiteWhereException {
+	return client.createScheduledJob(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateScheduledJob()
+     */
+    @Override
+    public ScheduledJob updateScheduledJob(String token, ScheduledJobCreateRequest request) throws SiteWhereException {
+	return client.updateScheduledJob(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteScheduledJob()
+     */
+    @Override
+    public ScheduledJob deleteScheduledJob(String token) throws SiteWhereException {
+	return client.deleteScheduledJob(tenant, token);
+    }
+
+    // ------------------------------------------------------------------------
+    // Schedules
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listSchedules()
+     */
+    @Override
+    public SearchResults<Schedule> listSchedules(ScheduleSearchCriteria searchCriteria,
+	    ScheduleResponseFormat responseFormat) throws SiteWhereException {
+	return client.listSchedules(tenant, searchCriteria, responseFormat);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getScheduleByToken()
+     */
+    @Override
+    public Schedule getScheduleByToken(String token) throws SiteWhereException {
+	return client.getScheduleByToken(tenant, token);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createSchedule()
+     */
+    @Override
+    public Schedule createSchedule(ScheduleCreateRequest request) throws SiteWhereException {
+	return client.createSchedule(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateSchedule()
+     */
+    @Override
+    public Schedule updateSchedule(String token, ScheduleCreateRequest request) throws SiteWhereException {
+	return client.updateSchedule(tenant, token, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteSchedule()
+     */
+    @Override
+    public Schedule deleteSchedule(String token) throws SiteWhereException {
+	return client.deleteSchedule(tenant, token);
+    }
+
+    // ------------------------------------------------------------------------
+    // Zones
+    // ------------------------------------------------------------------------
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#listZones()
+     */
+    @Override
+    public SearchResults<Zone> listZones(ZoneSearchCriteria searchCriteria) throws SiteWhereException {
+	return client.listZones(tenant, searchCriteria);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#getZoneByToken()
+     */
+    @Override
+    public Zone getZoneByToken(String zoneToken) throws SiteWhereException {
+	return client.getZoneByToken(tenant, zoneToken);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#createZone()
+     */
+    @Override
+    public Zone createZone(ZoneCreateRequest request) throws SiteWhereException {
+	return client.createZone(tenant, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#updateZone()
+     */
+    @Override
+    public Zone updateZone(String zoneToken, ZoneCreateRequest request) throws SiteWhereException {
+	return client.updateZone(tenant, zoneToken, request);
+    }
+
+    /*
+     * @see com.sitewhere.spi.ITenantSiteWhereClient#deleteZone()
+     */
+    @Override
+    public Zone deleteZone(String zoneToken) throws SiteWhereException {
+	return client.deleteZone(tenant, zoneToken);
+    }
+}
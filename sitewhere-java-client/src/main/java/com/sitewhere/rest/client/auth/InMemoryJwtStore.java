@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.auth;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sitewhere.spi.IJwtStore;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * {@link IJwtStore} that keeps JWTs in memory. Pass the same instance to
+ * several clients to share JWTs between them within a JVM.
+ */
+public class InMemoryJwtStore implements IJwtStore {
+
+    /** JWTs by key */
+    private Map<String, String> jwts = new ConcurrentHashMap<>();
+
+    /** Locks that serialize refreshes by key */
+    private Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    /*
+     * @see com.sitewhere.spi.IJwtStore#getJwt(java.lang.String)
+     */
+    @Override
+    public String getJwt(String key) {
+	return jwts.get(key);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IJwtStore#putJwt(java.lang.String,
+     * java.lang.String)
+     */
+    @Override
+    public void putJwt(String key, String jwt) {
+	jwts.put(key, jwt);
+    }
+
+    /*
+     * @see com.sitewhere.spi.IJwtStore#refresh(java.lang.String,
+     * java.lang.String, com.sitewhere.spi.IJwtStore.IJwtLoader)
+     */
+    @Override
+    public String refresh(String key, String stale, IJwtLoader loader) throws SiteWhereException {
+	synchronized (locks.computeIfAbsent(key, name -> new Object())) {
+	    String current = jwts.get(key);
+	    if ((current != null) && !current.equals(stale)) {
+		return current;
+	    }
+	    String loaded = loader.load();
+	    jwts.put(key, loaded);
+	    return loaded;
+	}
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.auth;
+
+import java.io.IOException;
+
+import okhttp3.Authenticator;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.Route;
+
+/**
+ * Answers a 401 response by refreshing the JWT through a {@link JwtManager}
+ * and resending the request once. Concurrent calls that fail with the same
+ * JWT share a single refresh.
+ */
+public class JwtAuthenticator implements Authenticator {
+
+    /** Prefix of the authorization header value */
+    private static final String BEARER = "Bearer ";
+
+    /** Manages the JWT */
+    private JwtManager manager;
+
+    public JwtAuthenticator(JwtManager manager) {
+	this.manager = manager;
+    }
+
+    /*
+     * @see okhttp3.Authenticator#authenticate(okhttp3.Route, okhttp3.Response)
+     */
+    @Override
+    public Request authenticate(Route route, Response response) throws IOException {
+	if (response.priorResponse() != null) {
+	    return null;
+	}
+	String header = response.request().header("Authorization");
+	String stale = ((header != null) && header.startsWith(BEARER)) ? header.substring(BEARER.length()) : null;
+	String jwt = manager.refresh(stale);
+	if (jwt.equals(stale)) {
+	    return null;
+	}
+	return response.request().newBuilder().header("Authorization", BEARER + jwt).build();
+    }
+}
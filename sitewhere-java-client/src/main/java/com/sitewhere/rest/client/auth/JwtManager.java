@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.auth;
+
+import java.util.Base64;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sitewhere.rest.client.ClientThreadFactory;
+import com.sitewhere.rest.model.datatype.ModelObjectMapperFactory;
+import com.sitewhere.spi.IJwtStore;
+import com.sitewhere.spi.IJwtStore.IJwtLoader;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Manages the JWT used by a client. The JWT is kept in an {@link IJwtStore}
+ * and refreshed in the background shortly before it expires, so calls do not
+ * wait for re-authentication. A JWT that was rejected by the server is
+ * replaced on demand. Refreshes go through the store, so clients sharing a
+ * store load a new JWT only once.
+ *
+ * Background refreshes continue only while the client is in use. A client
+ * that has been idle for a whole JWT lifetime obtains a new JWT on its next
+ * call instead.
+ */
+public class JwtManager {
+
+    /** Default time before expiry at which the JWT is refreshed (ms) */
+    public static final long DEFAULT_REFRESH_MARGIN = 60 * 1000;
+
+    /** Delay before retrying a failed background refresh (ms) */
+    private static final long RETRY_DELAY = 5 * 1000;
+
+    /** Scheduler shared by all managers for background refreshes */
+    private static final ScheduledExecutorService SCHEDULER = Executors
+	    .newSingleThreadScheduledExecutor(new ClientThreadFactory("sitewhere-jwt-refresh"));
+
+    /** Store holding JWTs */
+    private IJwtStore store;
+
+    /** Key for JWT in store */
+    private String key;
+
+    /** Loads new JWTs */
+    private IJwtLoader loader;
+
+    /** Time before expiry at which the JWT is refreshed (ms) */
+    private long refreshMargin;
+
+    /** Most recently seen JWT and its expiration */
+    private volatile Token current;
+
+    /** JWT a background refresh is scheduled for */
+    private volatile String scheduledFor;
+
+    /** Pending background refresh */
+    private ScheduledFuture<?> scheduled;
+
+    /** Indicates the JWT was used since the last background refresh */
+    private volatile boolean used;
+
+    public JwtManager(IJwtStore store, String key, IJwtLoader loader, long refreshMargin) {
+	this.store = store;
+	this.key = key;
+	this.loader = loader;
+	this.refreshMargin = refreshMargin;
+    }
+
+    /**
+     * Get a JWT for a call. Loads a new JWT if none is held or the held one
+     * has expired.
+     * 
+     * @return
+     * @throws SiteWhereException
+     */
+    public String getJwt() throws SiteWhereException {
+	if (!used) {
+	    used = true;
+	}
+	String jwt = store.getJwt(key);
+	if (jwt == null) {
+	    return refresh(null);
+	}
+	long expires = getCachedExpiration(jwt);
+	if ((expires != -1) && (expires <= System.currentTimeMillis())) {
+	    return refresh(jwt);
+	}
+	if (!jwt.equals(scheduledFor)) {
+	    schedule(jwt);
+	}
+	return jwt;
+    }
+
+    /**
+     * Replace the JWT in the store.
+     * 
+     * @param jwt
+     */
+    public void setJwt(String jwt) {
+	store.putJwt(key, jwt);
+	schedule(jwt);
+    }
+
+    /**
+     * Replace a stale JWT, unless another caller has already replaced it.
+     * 
+     * @param stale JWT that was rejected or is about to expire (null if none)
+     * @return
+     * @throws SiteWhereException
+     */
+    public String refresh(String stale) throws SiteWhereException {
+	String jwt = store.refresh(key, stale, loader);
+	schedule(jwt);
+	return jwt;
+    }
+
+    /**
+     * Cancel any pending background refresh.
+     */
+    public synchronized void stop() {
+	if (scheduled != null) {
+	    scheduled.cancel(false);
+	    scheduled = null;
+	}
+	scheduledFor = null;
+    }
+
+    /**
+     * Schedule a background refresh before a JWT expires.
+     * 
+     * @param jwt
+     */
+    protected synchronized void schedule(String jwt) {
+	if ((refreshMargin <= 0) || jwt.equals(scheduledFor)) {
+	    return;
+	}
+	long expires = getCachedExpiration(jwt);
+	if (expires == -1) {
+	    return;
+	}
+	stop();
+	long remaining = expires - System.currentTimeMillis();
+	long delay = Math.max(0, remaining - Math.min(refreshMargin, remaining / 2));
+	scheduledFor = jwt;
+	scheduled = SCHEDULER.schedule(() -> refreshInBackground(jwt), delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Refresh a JWT that is about to expire if it has been used.
+     * 
+     * @param jwt
+     */
+    protected void refreshInBackground(String jwt) {
+	synchronized (this) {
+	    if (!jwt.equals(scheduledFor)) {
+		return;
+	    }
+	    scheduled = null;
+	    scheduledFor = null;
+	}
+	if (!used) {
+	    return;
+	}
+	used = false;
+	try {
+	    refresh(jwt);
+	} catch (SiteWhereException | RuntimeException e) {
+	    long expires = getCachedExpiration(jwt);
+	    if (expires - System.currentTimeMillis() > RETRY_DELAY) {
+		synchronized (this) {
+		    if (scheduledFor == null) {
+			used = true;
+			scheduledFor = jwt;
+			scheduled = SCHEDULER.schedule(() -> refreshInBackground(jwt), RETRY_DELAY,
+				TimeUnit.MILLISECONDS);
+		    }
+		}
+	    }
+	}
+    }
+
+    /**
+     * Get the expiration time of a JWT, parsing it only when it changes.
+     * 
+     * @param jwt
+     * @return
+     */
+    protected long getCachedExpiration(String jwt) {
+	Token token = current;
+	if ((token == null) || !token.jwt.equals(jwt)) {
+	    token = new Token(jwt, getExpiration(jwt));
+	    current = token;
+	}
+	return token.expires;
+    }
+
+    /**
+     * Get the expiration time of a JWT from its 'exp' claim.
+     * 
+     * @param jwt
+     * @return time in milliseconds or -1 if it can not be determined
+     */
+    public static long getExpiration(String jwt) {
+	String[] parts = jwt.split("\\.");
+	if (parts.length < 2) {
+	    return -1;
+	}
+	try {
+	    byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+	    JsonNode exp = ModelObjectMapperFactory.getShared().readTree(payload).get("exp");
+	    return ((exp != null) && exp.canConvertToLong()) ? TimeUnit.SECONDS.toMillis(exp.asLong()) : -1;
+	} catch (Exception e) {
+	    return -1;
+	}
+    }
+
+    public String getKey() {
+	return key;
+    }
+
+    public IJwtStore getStore() {
+	return store;
+    }
+
+    /**
+     * JWT with its expiration time.
+     */
+    private static class Token {
+
+	/** JWT */
+	private final String jwt;
+
+	/** Expiration time in milliseconds or -1 if unknown */
+	private final long expires;
+
+	public Token(String jwt, long expires) {
+	    this.jwt = jwt;
+	    this.expires = expires;
+	}
+    }
+}
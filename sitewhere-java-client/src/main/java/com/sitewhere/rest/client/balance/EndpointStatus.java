@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.balance;
+
+/**
+ * Snapshot of the state of one server endpoint.
+ */
+public class EndpointStatus {
+
+    /** Endpoint address */
+    private String endpoint;
+
+    /** Indicates whether the last health check succeeded */
+    private boolean healthy;
+
+    /** Indicates whether the endpoint is ejected for failing calls */
+    private boolean ejected;
+
+    /** Number of calls in flight */
+    private int outstanding;
+
+    /** Number of calls routed to endpoint */
+    private long calls;
+
+    /** Number of calls that failed */
+    private long failures;
+
+    /** Number of times endpoint has been ejected */
+    private long ejections;
+
+    public EndpointStatus(String endpoint, boolean healthy, boolean ejected, int outstanding, long calls,
+	    long failures, long ejections) {
+	this.endpoint = endpoint;
+	this.healthy = healthy;
+	this.ejected = ejected;
+	this.outstanding = outstanding;
+	this.calls = calls;
+	this.failures = failures;
+	this.ejections = ejections;
+    }
+
+    public String getEndpoint() {
+	return endpoint;
+    }
+
+    public boolean isHealthy() {
+	return healthy;
+    }
+
+    public boolean isEjected() {
+	return ejected;
+    }
+
+    public int getOutstanding() {
+	return outstanding;
+    }
+
+    public long getCalls() {
+	return calls;
+    }
+
+    public long getFailures() {
+	return failures;
+    }
+
+    public long getEjections() {
+	return ejections;
+    }
+
+    /*
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+	return "EndpointStatus [endpoint=" + endpoint + ", healthy=" + healthy + ", ejected=" + ejected
+		+ ", outstanding=" + outstanding + ", calls=" + calls + ", failures=" + failures + ", ejections="
+		+ ejections + "]";
+    }
+}
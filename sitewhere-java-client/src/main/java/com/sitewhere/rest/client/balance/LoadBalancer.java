@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.balance;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.sitewhere.rest.client.ClientThreadFactory;
+import com.sitewhere.rest.client.SiteWhereClient;
+import com.sitewhere.spi.LoadBalancingStrategy;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Spreads REST calls over several SiteWhere servers. Each call is routed to
+ * an endpoint chosen by the {@link LoadBalancingStrategy}, counting only
+ * endpoints that passed their last health check and are not ejected. An
+ * endpoint is ejected for a while after a number of calls to it fail in a
+ * row. If no endpoint is available, calls are spread over all endpoints
+ * rather than failing outright.
+ *
+ * Calls that fail because a server could not be reached are sent to another
+ * endpoint. Other I/O failures are only sent elsewhere for idempotent methods,
+ * since the server may already have acted on the call.
+ */
+public class LoadBalancer {
+
+    /** Default number of failures in a row that eject an endpoint */
+    public static final int DEFAULT_EJECTION_THRESHOLD = 5;
+
+    /** Default base time an endpoint stays ejected (ms) */
+    public static final long DEFAULT_EJECTION_TIME = 30 * 1000;
+
+    /** Default interval between health checks (ms) */
+    public static final long DEFAULT_HEALTH_CHECK_INTERVAL = 10 * 1000;
+
+    /** Default path requested by health checks */
+    public static final String DEFAULT_HEALTH_CHECK_PATH = SiteWhereClient.REST_RELATIVE_URL;
+
+    /** Shared scheduler for health checks */
+    private static final ScheduledExecutorService SCHEDULER = Executors
+	    .newSingleThreadScheduledExecutor(new ClientThreadFactory("sitewhere-health-check"));
+
+    /** Server endpoints */
+    private List<ServerEndpoint> endpoints = new ArrayList<>();
+
+    /** Strategy for choosing endpoints */
+    private LoadBalancingStrategy strategy = LoadBalancingStrategy.LeastOutstanding;
+
+    /** Number of failures in a row that eject an endpoint */
+    private int ejectionThreshold = DEFAULT_EJECTION_THRESHOLD;
+
+    /** Base time an endpoint stays ejected (ms) */
+    private long ejectionTime = DEFAULT_EJECTION_TIME;
+
+    /** Interval between health checks (ms, zero to disable) */
+    private long healthCheckInterval = DEFAULT_HEALTH_CHECK_INTERVAL;
+
+    /** Path requested by health checks */
+    private String healthCheckPath = DEFAULT_HEALTH_CHECK_PATH;
+
+    /** Rotates the starting point of endpoint scans so ties are spread */
+    private AtomicInteger next = new AtomicInteger();
+
+    /** Scheduled health checks */
+    private ScheduledFuture<?> healthChecks;
+
+    /**
+     * Get new builder class.
+     *
+     * @return
+     */
+    public static Builder newBuilder() {
+	return new Builder();
+    }
+
+    /**
+     * Choose the endpoint for a call.
+     *
+     * @param exclude endpoints already tried for the call (may be null)
+     * @return endpoint or null if all endpoints are excluded
+     */
+    public ServerEndpoint choose(Set<ServerEndpoint> exclude) {
+	long now = System.nanoTime();
+	ServerEndpoint chosen = choose(exclude, now, true);
+	return (chosen != null) ? chosen : choose(exclude, now, false);
+    }
+
+    /**
+     * Choose among eligible endpoints.
+     *
+     * @param exclude
+     * @param now
+     * @param availableOnly
+     * @return
+     */
+    protected ServerEndpoint choose(Set<ServerEndpoint> exclude, long now, boolean availableOnly) {
+	int count = endpoints.size();
+	if ((strategy == LoadBalancingStrategy.PowerOfTwoChoices) && (count > 1)) {
+	    ThreadLocalRandom random = ThreadLocalRandom.current();
+	    int first = random.nextInt(count);
+	    int second = (first + 1 + random.nextInt(count - 1)) % count;
+	    ServerEndpoint a = endpoints.get(first);
+	    ServerEndpoint b = endpoints.get(second);
+	    boolean useA = isEligible(a, exclude, now, availableOnly);
+	    boolean useB = isEligible(b, exclude, now, availableOnly);
+	    if (useA && useB) {
+		return (a.getOutstanding() <= b.getOutstanding()) ? a : b;
+	    } else if (useA || useB) {
+		return useA ? a : b;
+	    }
+	}
+	int start = Math.floorMod(next.getAndIncrement(), count);
+	ServerEndpoint best = null;
+	for (int i = 0; i < count; i++) {
+	    ServerEndpoint endpoint = endpoints.get((start + i) % count);
+	    if (isEligible(endpoint, exclude, now, availableOnly)
+		    && ((best == null) || (endpoint.getOutstanding() < best.getOutstanding()))) {
+		best = endpoint;
+	    }
+	}
+	return best;
+    }
+
+    /**
+     * Indicates whether an endpoint may be chosen.
+     *
+     * @param endpoint
+     * @param exclude
+     * @param now
+     * @param availableOnly
+     * @return
+     */
+    protected boolean isEligible(ServerEndpoint endpoint, Set<ServerEndpoint> exclude, long now,
+	    boolean availableOnly) {
+	return ((exclude == null) || !exclude.contains(endpoint)) && (!availableOnly || endpoint.isAvailable(now));
+    }
+
+    /**
+     * Indicates whether a failed call may be sent to another endpoint.
+     *
+     * @param request
+     * @param error
+     * @return
+     */
+    public boolean canFailover(Request request, IOException error) {
+	if ((error instanceof ConnectException) || (error instanceof NoRouteToHostException)
+		|| (error instanceof UnknownHostException)) {
+	    return true;
+	}
+	String method = request.method();
+	return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    /**
+     * Start health checks using the given HTTP client. Checks already running
+     * for another client are replaced.
+     *
+     * @param client
+     */
+    public synchronized void start(OkHttpClient client) {
+	stop();
+	if (healthCheckInterval > 0) {
+	    this.healthChecks = SCHEDULER.scheduleWithFixedDelay(() -> checkHealth(client), healthCheckInterval,
+		    healthCheckInterval, TimeUnit.MILLISECONDS);
+	}
+    }
+
+    /**
+     * Stop health checks.
+     */
+    public synchronized void stop() {
+	if (healthChecks != null) {
+	    healthChecks.cancel(false);
+	    this.healthChecks = null;
+	}
+    }
+
+    /**
+     * Check the health of all endpoints. Any response other than a server
+     * error counts as healthy, since the check is not authenticated.
+     *
+     * @param client
+     */
+    protected void checkHealth(OkHttpClient client) {
+	for (ServerEndpoint endpoint : endpoints) {
+	    HttpUrl url = HttpUrl.parse(endpoint.toString() + healthCheckPath);
+	    if (url == null) {
+		endpoint.setHealthy(false);
+		continue;
+	    }
+	    client.newCall(new Request.Builder().url(url).head().build()).enqueue(new Callback() {
+
+		@Override
+		public void onResponse(Call call, Response response) {
+		    endpoint.setHealthy(response.code() < 500);
+		    response.close();
+		}
+
+		@Override
+		public void onFailure(Call call, IOException e) {
+		    endpoint.setHealthy(false);
+		}
+	    });
+	}
+    }
+
+    /**
+     * Get status of all endpoints.
+     *
+     * @return
+     */
+    public List<EndpointStatus> getStatuses() {
+	return endpoints.stream().map(ServerEndpoint::getStatus).collect(Collectors.toList());
+    }
+
+    public List<ServerEndpoint> getEndpoints() {
+	return Collections.unmodifiableList(endpoints);
+    }
+
+    public LoadBalancingStrategy getStrategy() {
+	return strategy;
+    }
+
+    public int getEjectionThreshold() {
+	return ejectionThreshold;
+    }
+
+    public long getEjectionTime() {
+	return ejectionTime;
+    }
+
+    public long getHealthCheckInterval() {
+	return healthCheckInterval;
+    }
+
+    public String getHealthCheckPath() {
+	return healthCheckPath;
+    }
+
+    /**
+     * Builder class.
+     */
+    public static class Builder {
+
+	private LoadBalancer balancer = new LoadBalancer();
+
+	public LoadBalancer build() {
+	    if (balancer.endpoints.isEmpty() || (balancer.ejectionThreshold < 1)) {
+		throw new IllegalArgumentException("Invalid load balancer settings.");
+	    }
+	    return balancer;
+	}
+
+	/**
+	 * Add a server endpoint.
+	 *
+	 * @param protocol
+	 * @param hostname
+	 * @param port
+	 * @return
+	 */
+	public Builder withEndpoint(String protocol, String hostname, int port) {
+	    balancer.endpoints.add(new ServerEndpoint(protocol, hostname, port));
+	    return this;
+	}
+
+	/**
+	 * Set strategy for choosing endpoints.
+	 *
+	 * @param strategy
+	 * @return
+	 */
+	public Builder withStrategy(LoadBalancingStrategy strategy) {
+	    balancer.strategy = strategy;
+	    return this;
+	}
+
+	/**
+	 * Set how many failures in a row eject an endpoint and for how long. An
+	 * endpoint that fails again after an ejection is ejected for longer.
+	 *
+	 * @param threshold
+	 * @param ejectionTime time in milliseconds
+	 * @return
+	 */
+	public Builder withOutlierEjection(int threshold, long ejectionTime) {
+	    balancer.ejectionThreshold = threshold;
+	    balancer.ejectionTime = ejectionTime;
+	    return this;
+	}
+
+	/**
+	 * Set path and interval for health checks.
+	 *
+	 * @param path
+	 * @param interval interval in milliseconds (zero to disable)
+	 * @return
+	 */
+	public Builder withHealthCheck(String path, long interval) {
+	    balancer.healthCheckPath = path;
+	    balancer.healthCheckInterval = interval;
+	    return this;
+	}
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.balance;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.sitewhere.rest.client.governor.GovernorInterceptor;
+import com.sitewhere.spi.CallOutcome;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Interceptor that routes each call to an endpoint chosen by a
+ * {@link LoadBalancer} and sends it to another endpoint if the first one
+ * fails in a way that allows it. A call counts as outstanding on its endpoint
+ * until the response headers arrive. Server overload responses and I/O
+ * failures count towards ejecting the endpoint.
+ */
+public class LoadBalancingInterceptor implements Interceptor {
+
+    /** Balancer that chooses endpoints */
+    private LoadBalancer balancer;
+
+    public LoadBalancingInterceptor(LoadBalancer balancer) {
+	this.balancer = balancer;
+    }
+
+    /*
+     * @see okhttp3.Interceptor#intercept(okhttp3.Interceptor.Chain)
+     */
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+	Request request = chain.request();
+	Set<ServerEndpoint> tried = null;
+	ServerEndpoint endpoint = balancer.choose(null);
+	while (true) {
+	    Request routed = request.newBuilder().url(endpoint.route(request.url())).build();
+	    endpoint.start();
+	    Response response;
+	    try {
+		response = chain.proceed(routed);
+	    } catch (IOException e) {
+		boolean canceled = chain.call().isCanceled();
+		endpoint.finish(!canceled, balancer);
+		if (canceled || !balancer.canFailover(request, e)) {
+		    throw e;
+		}
+		if (tried == null) {
+		    tried = new HashSet<>();
+		}
+		tried.add(endpoint);
+		endpoint = balancer.choose(tried);
+		if (endpoint == null) {
+		    throw e;
+		}
+		continue;
+	    } catch (RuntimeException e) {
+		endpoint.finish(false, balancer);
+		throw e;
+	    }
+	    endpoint.finish(GovernorInterceptor.getOutcome(response.code()) == CallOutcome.Overload, balancer);
+	    return response;
+	}
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.balance;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import okhttp3.HttpUrl;
+
+/**
+ * One SiteWhere server that calls may be routed to, along with the state used
+ * to choose between servers.
+ */
+public class ServerEndpoint {
+
+    /** Longest ejection as a multiple of the base ejection time */
+    private static final int MAX_EJECTION_MULTIPLIER = 10;
+
+    /** Protocol used to reach server */
+    private String protocol;
+
+    /** Server hostname */
+    private String hostname;
+
+    /** Server port */
+    private int port;
+
+    /** Number of calls in flight */
+    private AtomicInteger outstanding = new AtomicInteger();
+
+    /** Indicates whether the last health check succeeded */
+    private volatile boolean healthy = true;
+
+    /** Time ejection ends (nanoseconds) */
+    private volatile long ejectedUntil = System.nanoTime();
+
+    /** Failures since the last success or ejection */
+    private int consecutiveFailures;
+
+    /** Ejections since the last success */
+    private int consecutiveEjections;
+
+    /** Number of times endpoint has been ejected */
+    private LongAdder ejections = new LongAdder();
+
+    /** Number of calls routed to endpoint */
+    private LongAdder calls = new LongAdder();
+
+    /** Number of calls that failed */
+    private LongAdder failures = new LongAdder();
+
+    public ServerEndpoint(String protocol, String hostname, int port) {
+	this.protocol = protocol;
+	this.hostname = hostname;
+	this.port = port;
+    }
+
+    /**
+     * Get a URL addressed to this endpoint.
+     *
+     * @param url
+     * @return
+     */
+    public HttpUrl route(HttpUrl url) {
+	return url.newBuilder().scheme(protocol).host(hostname).port(port).build();
+    }
+
+    /**
+     * Indicates whether the endpoint is healthy and not ejected.
+     *
+     * @param now current time in nanoseconds
+     * @return
+     */
+    public boolean isAvailable(long now) {
+	return healthy && !isEjected(now);
+    }
+
+    /**
+     * Indicates whether the endpoint is ejected for failing calls.
+     *
+     * @param now current time in nanoseconds
+     * @return
+     */
+    public boolean isEjected(long now) {
+	return now - ejectedUntil < 0;
+    }
+
+    /**
+     * Record the start of a call.
+     */
+    protected void start() {
+	outstanding.incrementAndGet();
+	calls.increment();
+    }
+
+    /**
+     * Record the end of a call. Once a number of calls fail in a row the
+     * endpoint is ejected. Each ejection without a success in between lasts
+     * longer than the one before.
+     *
+     * @param failed
+     * @param policy
+     */
+    protected void finish(boolean failed, LoadBalancer policy) {
+	outstanding.decrementAndGet();
+	if (!failed) {
+	    synchronized (this) {
+		consecutiveFailures = 0;
+		consecutiveEjections = 0;
+	    }
+	    return;
+	}
+	failures.increment();
+	synchronized (this) {
+	    if (++consecutiveFailures < policy.getEjectionThreshold()) {
+		return;
+	    }
+	    consecutiveFailures = 0;
+	    consecutiveEjections = Math.min(consecutiveEjections + 1, MAX_EJECTION_MULTIPLIER);
+	    ejectedUntil = System.nanoTime()
+		    + TimeUnit.MILLISECONDS.toNanos(policy.getEjectionTime() * consecutiveEjections);
+	}
+	ejections.increment();
+    }
+
+    /**
+     * Get a snapshot of endpoint state.
+     *
+     * @return
+     */
+    public EndpointStatus getStatus() {
+	return new EndpointStatus(toString(), healthy, isEjected(System.nanoTime()), outstanding.get(),
+		calls.sum(), failures.sum(), ejections.sum());
+    }
+
+    public String getProtocol() {
+	return protocol;
+    }
+
+    public String getHostname() {
+	return hostname;
+    }
+
+    public int getPort() {
+	return port;
+    }
+
+    public int getOutstanding() {
+	return outstanding.get();
+    }
+
+    public boolean isHealthy() {
+	return healthy;
+    }
+
+    public void setHealthy(boolean healthy) {
+	this.healthy = healthy;
+    }
+
+    /*
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+	return protocol + "://" + hostname + ":" + port;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.compression;
+
+import java.io.IOException;
+import java.util.zip.Deflater;
+
+import com.sitewhere.spi.ContentEncoding;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.DeflaterSink;
+import okio.GzipSink;
+import okio.Okio;
+import okio.Sink;
+
+/**
+ * Request body that compresses another body as it is written. The compressed
+ * size is not known in advance, so the body is sent with chunked transfer
+ * encoding rather than being buffered to compute its length.
+ */
+public class CompressedRequestBody extends RequestBody {
+
+    /** Body being compressed */
+    private RequestBody body;
+
+    /** Encoding used to compress body */
+    private ContentEncoding encoding;
+
+    public CompressedRequestBody(RequestBody body, ContentEncoding encoding) {
+	this.body = body;
+	this.encoding = encoding;
+    }
+
+    /*
+     * @see okhttp3.RequestBody#contentType()
+     */
+    @Override
+    public MediaType contentType() {
+	return body.contentType();
+    }
+
+    /*
+     * @see okhttp3.RequestBody#contentLength()
+     */
+    @Override
+    public long contentLength() {
+	return -1;
+    }
+
+    /*
+     * @see okhttp3.RequestBody#writeTo(okio.BufferedSink)
+     */
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+	Sink compressing = (encoding == ContentEncoding.Gzip) ? new GzipSink(sink)
+		: new DeflaterSink(sink, new Deflater());
+	try (BufferedSink compressed = Okio.buffer(compressing)) {
+	    body.writeTo(compressed);
+	}
+    }
+
+    public RequestBody getBody() {
+	return body;
+    }
+
+    public ContentEncoding getEncoding() {
+	return encoding;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.compression;
+
+import java.io.IOException;
+
+import com.sitewhere.rest.client.metrics.OperationResolver;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+/**
+ * Interceptor that compresses request bodies according to a
+ * {@link CompressionPolicy}. Bodies that already have a content encoding are
+ * left alone. The server must accept compressed request bodies.
+ */
+public class CompressionInterceptor implements Interceptor {
+
+    /** Policy for compression */
+    private CompressionPolicy policy;
+
+    /** Resolves operation names for requests */
+    private OperationResolver resolver;
+
+    public CompressionInterceptor(CompressionPolicy policy, OperationResolver resolver) {
+	this.policy = policy;
+	this.resolver = resolver;
+    }
+
+    /*
+     * @see okhttp3.Interceptor#intercept(okhttp3.Interceptor.Chain)
+     */
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+	Request request = chain.request();
+	RequestBody body = request.body();
+	if ((body == null) || (request.header("Content-Encoding") != null)
+		|| !policy.isLargeEnough(body.contentLength())
+		|| (!policy.getOperations().isEmpty() && !policy.isCompressed(resolver.resolve(request)))) {
+	    return chain.proceed(request);
+	}
+	return chain.proceed(request.newBuilder().header("Content-Encoding", policy.getEncoding().getHeaderValue())
+		.method(request.method(), new CompressedRequestBody(body, policy.getEncoding())).build());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.compression;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.sitewhere.spi.ContentEncoding;
+
+/**
+ * Settings that control which request bodies are compressed. Bodies smaller
+ * than the minimum size are sent as is, since compressing them costs more
+ * time than it saves. Compression may be limited to specific operations,
+ * named after the methods of
+ * {@link com.sitewhere.rest.client.SiteWhereRestRetrofit}.
+ */
+public class CompressionPolicy {
+
+    /** Default minimum body size that is compressed (bytes) */
+    public static final long DEFAULT_MINIMUM_SIZE = 1024;
+
+    /** Encoding used to compress bodies */
+    private ContentEncoding encoding = ContentEncoding.Gzip;
+
+    /** Minimum body size that is compressed (bytes) */
+    private long minimumSize = DEFAULT_MINIMUM_SIZE;
+
+    /** Operations whose bodies are compressed (empty for all) */
+    private Set<String> operations = new HashSet<>();
+
+    /**
+     * Get new builder class.
+     *
+     * @return
+     */
+    public static Builder newBuilder() {
+	return new Builder();
+    }
+
+    /**
+     * Indicates whether a body of the given size is large enough to compress.
+     * Bodies of unknown size are compressed.
+     *
+     * @param contentLength
+     * @return
+     */
+    public boolean isLargeEnough(long contentLength) {
+	return (contentLength == -1) || (contentLength >= minimumSize);
+    }
+
+    /**
+     * Indicates whether bodies for an operation are compressed.
+     *
+     * @param operation
+     * @return
+     */
+    public boolean isCompressed(String operation) {
+	return operations.isEmpty() || operations.contains(operation);
+    }
+
+    public ContentEncoding getEncoding() {
+	return encoding;
+    }
+
+    public long getMinimumSize() {
+	return minimumSize;
+    }
+
+    public Set<String> getOperations() {
+	return Collections.unmodifiableSet(operations);
+    }
+
+    /**
+     * Builder class.
+     */
+    public static class Builder {
+
+	private CompressionPolicy policy = new CompressionPolicy();
+
+	public CompressionPolicy build() {
+	    return policy;
+	}
+
+	/**
+	 * Set encoding used to compress bodies.
+	 *
+	 * @param encoding
+	 * @return
+	 */
+	public Builder withEncoding(ContentEncoding encoding) {
+	    policy.encoding = encoding;
+	    return this;
+	}
+
+	/**
+	 * Set minimum body size that is compressed.
+	 *
+	 * @param minimumSize size in bytes
+	 * @return
+	 */
+	public Builder withMinimumSize(long minimumSize) {
+	    policy.minimumSize = minimumSize;
+	    return this;
+	}
+
+	/**
+	 * Compress bodies only for the given operations, such as
+	 * "addMultipleEventsForDevice".
+	 *
+	 * @param operations
+	 * @return
+	 */
+	public Builder withOperations(String... operations) {
+	    policy.operations.addAll(Arrays.asList(operations));
+	    return this;
+	}
+    }
+}
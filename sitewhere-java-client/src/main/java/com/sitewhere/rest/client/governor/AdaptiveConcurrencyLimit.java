@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.governor;
+
+import java.util.concurrent.TimeUnit;
+
+import com.sitewhere.spi.CallOutcome;
+
+/**
+ * Concurrency limit that adapts to server load using additive increase and
+ * multiplicative decrease (AIMD). Each successful call while the limit is in
+ * use raises the limit by 1/limit, so it grows by about one per round of
+ * calls. Overload responses and calls slower than the latency threshold shrink
+ * it by the backoff ratio. Only calls started since the last decrease can
+ * trigger another one, so a burst of failures from one round backs off once.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    /** Lowest limit */
+    private int minLimit;
+
+    /** Highest limit */
+    private int maxLimit;
+
+    /** Latency above which the server is treated as overloaded (zero to ignore) */
+    private long latencyThresholdNanos;
+
+    /** Factor applied on overload */
+    private double backoffRatio;
+
+    /** Current limit */
+    private double limit;
+
+    /** Calls in flight */
+    private int inFlight;
+
+    /** Incremented on each decrease */
+    private long generation;
+
+    public AdaptiveConcurrencyLimit(GovernorPolicy policy) {
+	this.minLimit = policy.getMinLimit();
+	this.maxLimit = policy.getMaxLimit();
+	this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(policy.getLatencyThreshold());
+	this.backoffRatio = policy.getBackoffRatio();
+	this.limit = policy.getInitialLimit();
+    }
+
+    /**
+     * Wait until a call may start.
+     *
+     * @param deadline latest time (as {@link System#nanoTime()}) to wait until
+     * @return generation to pass to {@link #release(long, CallOutcome, long)}
+     *         or -1 if the deadline passed
+     * @throws InterruptedException
+     */
+    public synchronized long acquire(long deadline) throws InterruptedException {
+	while (inFlight >= (int) limit) {
+	    long remaining = deadline - System.nanoTime();
+	    if (remaining <= 0) {
+		return -1;
+	    }
+	    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+	}
+	inFlight++;
+	return generation;
+    }
+
+    /**
+     * Record the outcome of a call and adjust the limit.
+     *
+     * @param acquired generation returned when the call started
+     * @param outcome
+     * @param latencyNanos
+     */
+    public synchronized void release(long acquired, CallOutcome outcome, long latencyNanos) {
+	boolean saturated = inFlight >= (int) limit;
+	inFlight--;
+	boolean slow = (latencyThresholdNanos > 0) && (latencyNanos > latencyThresholdNanos);
+	if ((outcome == CallOutcome.Overload) || ((outcome == CallOutcome.Success) && slow)) {
+	    if (acquired == generation) {
+		limit = Math.max(minLimit, limit * backoffRatio);
+		generation++;
+	    }
+	} else if ((outcome == CallOutcome.Success) && saturated) {
+	    limit = Math.min(maxLimit, limit + (1 / limit));
+	}
+	notifyAll();
+    }
+
+    /**
+     * Get the current limit.
+     *
+     * @return
+     */
+    public synchronized int getLimit() {
+	return (int) limit;
+    }
+
+    /**
+     * Get number of calls in flight.
+     *
+     * @return
+     */
+    public synchronized int getInFlight() {
+	return inFlight;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.governor;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import com.sitewhere.spi.CallOutcome;
+import com.sitewhere.spi.EndpointGroup;
+import com.sitewhere.spi.IThroughputGovernor;
+import com.sitewhere.spi.IThroughputGovernor.IGovernorPermit;
+import com.sitewhere.spi.web.ISiteWhereWebConstants;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Interceptor that passes every REST call through an
+ * {@link IThroughputGovernor}. The call waits for a permit on the calling
+ * thread (the dispatcher thread for asynchronous calls) and reports its
+ * outcome and latency when the response headers arrive.
+ */
+public class GovernorInterceptor implements Interceptor {
+
+    /** Paths of calls that add device events */
+    private static final Pattern EVENT_PATHS = Pattern
+	    .compile(".*/(assignments/[^/]+/(alerts|invocations|locations|measurements|responses|statechanges)"
+		    + "|devices/[^/]+/batch)");
+
+    /** Paths of calls that search using a posted body */
+    private static final Pattern SEARCH_PATHS = Pattern.compile(".*/(assignments/bulk/.+|devicestates/search)");
+
+    /** Governor for calls */
+    private IThroughputGovernor governor;
+
+    public GovernorInterceptor(IThroughputGovernor governor) {
+	this.governor = governor;
+    }
+
+    /*
+     * @see okhttp3.Interceptor#intercept(okhttp3.Interceptor.Chain)
+     */
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+	Request request = chain.request();
+	IGovernorPermit permit = governor.acquire(request.header(ISiteWhereWebConstants.HEADER_TENANT_ID),
+		classify(request));
+	long start = System.nanoTime();
+	Response response;
+	try {
+	    response = chain.proceed(request);
+	} catch (IOException | RuntimeException e) {
+	    CallOutcome outcome = chain.call().isCanceled() ? CallOutcome.Ignore : CallOutcome.Overload;
+	    permit.release(outcome, System.nanoTime() - start, 0);
+	    throw e;
+	}
+	permit.release(getOutcome(response.code()), System.nanoTime() - start, getRetryAfter(response));
+	return response;
+    }
+
+    /**
+     * Get the endpoint group for a request.
+     *
+     * @param request
+     * @return
+     */
+    public static EndpointGroup classify(Request request) {
+	if ("GET".equals(request.method())) {
+	    return EndpointGroup.Search;
+	}
+	String path = request.url().encodedPath();
+	if ("POST".equals(request.method())) {
+	    if (SEARCH_PATHS.matcher(path).matches()) {
+		return EndpointGroup.Search;
+	    }
+	    if (EVENT_PATHS.matcher(path).matches()) {
+		return EndpointGroup.Events;
+	    }
+	}
+	return EndpointGroup.Admin;
+    }
+
+    /**
+     * Get the outcome for a response code.
+     *
+     * @param code
+     * @return
+     */
+    public static CallOutcome getOutcome(int code) {
+	if ((code == 429) || (code >= 500)) {
+	    return CallOutcome.Overload;
+	}
+	if ((code >= 400) && (code < 500)) {
+	    return CallOutcome.Ignore;
+	}
+	return CallOutcome.Success;
+    }
+
+    /**
+     * Get the delay in milliseconds requested by a Retry-After header given in
+     * seconds.
+     *
+     * @param response
+     * @return
+     */
+    protected static long getRetryAfter(Response response) {
+	String value = response.header("Retry-After");
+	if ((value == null) || ((response.code() != 429) && (response.code() != 503))) {
+	    return 0;
+	}
+	try {
+	    return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(value.trim())));
+	} catch (NumberFormatException e) {
+	    return 0;
+	}
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.governor;
+
+/**
+ * Settings for the rate limit and adaptive concurrency limit applied to one
+ * endpoint group of one tenant.
+ */
+public class GovernorPolicy {
+
+    /** Default initial concurrency limit */
+    public static final int DEFAULT_INITIAL_LIMIT = 16;
+
+    /** Default minimum concurrency limit */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /** Default maximum concurrency limit */
+    public static final int DEFAULT_MAX_LIMIT = 256;
+
+    /** Default factor applied to the limit when the server is overloaded */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    /** Default maximum time to wait for a permit (ms) */
+    public static final long DEFAULT_MAX_WAIT = 30 * 1000;
+
+    /** Calls per second (zero for no rate limit) */
+    private double rate = 0;
+
+    /** Number of calls that may be sent at once after an idle period */
+    private int burst = 1;
+
+    /** Concurrency limit before any calls complete */
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+
+    /** Lowest concurrency limit */
+    private int minLimit = DEFAULT_MIN_LIMIT;
+
+    /** Highest concurrency limit */
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+
+    /** Latency above which the server is treated as overloaded (ms, zero to ignore) */
+    private long latencyThreshold = 0;
+
+    /** Factor applied to the concurrency limit when the server is overloaded */
+    private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+
+    /** Maximum time to wait for a permit (ms) */
+    private long maxWait = DEFAULT_MAX_WAIT;
+
+    /**
+     * Get new builder class.
+     *
+     * @return
+     */
+    public static Builder newBuilder() {
+	return new Builder();
+    }
+
+    public double getRate() {
+	return rate;
+    }
+
+    public int getBurst() {
+	return burst;
+    }
+
+    public int getInitialLimit() {
+	return initialLimit;
+    }
+
+    public int getMinLimit() {
+	return minLimit;
+    }
+
+    public int getMaxLimit() {
+	return maxLimit;
+    }
+
+    public long getLatencyThreshold() {
+	return latencyThreshold;
+    }
+
+    public double getBackoffRatio() {
+	return backoffRatio;
+    }
+
+    public long getMaxWait() {
+	return maxWait;
+    }
+
+    /**
+     * Builder class.
+     */
+    public static class Builder {
+
+	private GovernorPolicy policy = new GovernorPolicy();
+
+	public GovernorPolicy build() {
+	    if ((policy.minLimit < 1) || (policy.maxLimit < policy.minLimit)) {
+		throw new IllegalArgumentException("Invalid concurrency limits.");
+	    }
+	    if ((policy.backoffRatio <= 0) || (policy.backoffRatio >= 1)) {
+		throw new IllegalArgumentException("Backoff ratio must be between zero and one.");
+	    }
+	    policy.initialLimit = Math.max(policy.minLimit, Math.min(policy.maxLimit, policy.initialLimit));
+	    return policy;
+	}
+
+	/**
+	 * Limit calls to a sustained rate, allowing short bursts.
+	 *
+	 * @param rate calls per second
+	 * @param burst calls that may be sent at once after an idle period
+	 * @return
+	 */
+	public Builder withRateLimit(double rate, int burst) {
+	    policy.rate = rate;
+	    policy.burst = Math.max(1, burst);
+	    return this;
+	}
+
+	/**
+	 * Set the range for the adaptive concurrency limit. The limit grows by one
+	 * for roughly every limit's worth of successful calls and shrinks by the
+	 * backoff ratio when the server is overloaded.
+	 *
+	 * @param initialLimit
+	 * @param minLimit
+	 * @param maxLimit
+	 * @return
+	 */
+	public Builder withConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+	    policy.initialLimit = initialLimit;
+	    policy.minLimit = minLimit;
+	    policy.maxLimit = maxLimit;
+	    return this;
+	}
+
+	/**
+	 * Treat calls slower than the threshold as a sign of overload.
+	 *
+	 * @param latencyThreshold latency in milliseconds (zero to ignore)
+	 * @return
+	 */
+	public Builder withLatencyThreshold(long latencyThreshold) {
+	    policy.latencyThreshold = latencyThreshold;
+	    return this;
+	}
+
+	/**
+	 * Set factor applied to the concurrency limit when the server is
+	 * overloaded.
+	 *
+	 * @param backoffRatio
+	 * @return
+	 */
+	public Builder withBackoffRatio(double backoffRatio) {
+	    policy.backoffRatio = backoffRatio;
+	    return this;
+	}
+
+	/**
+	 * Set maximum time in milliseconds a call waits for a permit before it
+	 * fails.
+	 *
+	 * @param maxWait
+	 * @return
+	 */
+	public Builder withMaxWait(long maxWait) {
+	    policy.maxWait = maxWait;
+	    return this;
+	}
+    }
+}
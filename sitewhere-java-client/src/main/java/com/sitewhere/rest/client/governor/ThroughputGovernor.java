@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.governor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.sitewhere.spi.CallOutcome;
+import com.sitewhere.spi.CallRejectedException;
+import com.sitewhere.spi.EndpointGroup;
+import com.sitewhere.spi.IThroughputGovernor;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Default {@link IThroughputGovernor}. Each tenant and endpoint group has its
+ * own token bucket and adaptive concurrency limit, so a burst of event traffic
+ * from one tenant does not hold back searches or other tenants. A call first
+ * takes a token from the bucket, then waits for room under the concurrency
+ * limit. Calls that can not start within the policy's maximum wait fail.
+ */
+public class ThroughputGovernor implements IThroughputGovernor {
+
+    /** Key used for calls without a tenant */
+    private static final String GLOBAL = "";
+
+    /** Policy used when none is configured */
+    private GovernorPolicy defaultPolicy = GovernorPolicy.newBuilder().build();
+
+    /** Policies by endpoint group */
+    private Map<EndpointGroup, GovernorPolicy> groupPolicies = new EnumMap<>(EndpointGroup.class);
+
+    /** Policies for specific tenants */
+    private Map<Key, GovernorPolicy> tenantPolicies = new ConcurrentHashMap<>();
+
+    /** Limiters by tenant and endpoint group */
+    private Map<Key, Limiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Get new builder class.
+     *
+     * @return
+     */
+    public static Builder newBuilder() {
+	return new Builder();
+    }
+
+    /*
+     * @see com.sitewhere.spi.IThroughputGovernor#acquire(java.lang.String,
+     * com.sitewhere.spi.EndpointGroup)
+     */
+    @Override
+    public IGovernorPermit acquire(String tenant, EndpointGroup group) throws SiteWhereException {
+	Limiter limiter = getLimiter(tenant, group);
+	long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(limiter.policy.getMaxWait());
+	try {
+	    if (!limiter.bucket.acquire(deadline)) {
+		throw new CallRejectedException(String.valueOf(group), "Rate limit for " + group + " calls exceeded.");
+	    }
+	    long generation = limiter.concurrency.acquire(deadline);
+	    if (generation < 0) {
+		throw new CallRejectedException(String.valueOf(group), "Timed out waiting to send " + group + " call.");
+	    }
+	    return new Permit(limiter, generation);
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	    throw new SiteWhereException("Interrupted while waiting to send " + group + " call.", e);
+	}
+    }
+
+    /**
+     * Get the current concurrency limit for a tenant and endpoint group.
+     *
+     * @param tenant
+     * @param group
+     * @return
+     */
+    public int getConcurrencyLimit(String tenant, EndpointGroup group) {
+	return getLimiter(tenant, group).concurrency.getLimit();
+    }
+
+    /**
+     * Get number of calls in flight for a tenant and endpoint group.
+     *
+     * @param tenant
+     * @param group
+     * @return
+     */
+    public int getInFlight(String tenant, EndpointGroup group) {
+	return getLimiter(tenant, group).concurrency.getInFlight();
+    }
+
+    /**
+     * Get the policy that applies to a tenant and endpoint group.
+     *
+     * @param tenant
+     * @param group
+     * @return
+     */
+    public GovernorPolicy getPolicy(String tenant, EndpointGroup group) {
+	GovernorPolicy policy = tenantPolicies.get(new Key(tenant != null ? tenant : GLOBAL, group));
+	if (policy == null) {
+	    policy = groupPolicies.get(group);
+	}
+	return (policy != null) ? policy : defaultPolicy;
+    }
+
+    /**
+     * Get or create limiter for a tenant and endpoint group.
+     *
+     * @param tenant
+     * @param group
+     * @return
+     */
+    protected Limiter getLimiter(String tenant, EndpointGroup group) {
+	Key key = new Key(tenant != null ? tenant : GLOBAL, group);
+	Limiter limiter = limiters.get(key);
+	if (limiter == null) {
+	    limiter = limiters.computeIfAbsent(key, k -> new Limiter(getPolicy(tenant, group)));
+	}
+	return limiter;
+    }
+
+    /**
+     * Rate and concurrency limiters for one tenant and endpoint group.
+     */
+    protected static class Limiter {
+
+	/** Policy for limiter */
+	private GovernorPolicy policy;
+
+	/** Rate limit */
+	private TokenBucket bucket;
+
+	/** Concurrency limit */
+	private AdaptiveConcurrencyLimit concurrency;
+
+	public Limiter(GovernorPolicy policy) {
+	    this.policy = policy;
+	    this.bucket = new TokenBucket(policy.getRate(), policy.getBurst());
+	    this.concurrency = new AdaptiveConcurrencyLimit(policy);
+	}
+    }
+
+    /**
+     * Permit for a call that has started.
+     */
+    protected static class Permit implements IGovernorPermit {
+
+	/** Limiter that issued the permit */
+	private Limiter limiter;
+
+	/** Concurrency limit generation when the call started */
+	private long generation;
+
+	public Permit(Limiter limiter, long generation) {
+	    this.limiter = limiter;
+	    this.generation = generation;
+	}
+
+	/*
+	 * @see com.sitewhere.spi.IThroughputGovernor.IGovernorPermit#release(com.
+	 * sitewhere.spi.CallOutcome, long, long)
+	 */
+	@Override
+	public void release(CallOutcome outcome, long latencyNanos, long retryAfterMillis) {
+	    if (retryAfterMillis > 0) {
+		limiter.bucket.pause(TimeUnit.MILLISECONDS.toNanos(retryAfterMillis));
+	    }
+	    limiter.concurrency.release(generation, outcome, latencyNanos);
+	}
+    }
+
+    /**
+     * Identifies a tenant and endpoint group.
+     */
+    protected static class Key {
+
+	/** Tenant token */
+	private String tenant;
+
+	/** Endpoint group */
+	private EndpointGroup group;
+
+	public Key(String tenant, EndpointGroup group) {
+	    this.tenant = tenant;
+	    this.group = group;
+	}
+
+	/*
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+	    return (31 * tenant.hashCode()) + group.hashCode();
+	}
+
+	/*
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+	    if (!(obj instanceof Key)) {
+		return false;
+	    }
+	    Key other = (Key) obj;
+	    return (group == other.group) && tenant.equals(other.tenant);
+	}
+    }
+
+    /**
+     * Builder class.
+     */
+    public static class Builder {
+
+	private ThroughputGovernor governor = new ThroughputGovernor();
+
+	public ThroughputGovernor build() {
+	    return governor;
+	}
+
+	/**
+	 * Set policy used for endpoint groups without a specific policy.
+	 *
+	 * @param policy
+	 * @return
+	 */
+	public Builder withDefaultPolicy(GovernorPolicy policy) {
+	    governor.defaultPolicy = policy;
+	    return this;
+	}
+
+	/**
+	 * Set policy for an endpoint group. Each tenant is governed separately
+	 * using this policy.
+	 *
+	 * @param group
+	 * @param policy
+	 * @return
+	 */
+	public Builder withPolicy(EndpointGroup group, GovernorPolicy policy) {
+	    governor.groupPolicies.put(group, policy);
+	    return this;
+	}
+
+	/**
+	 * Set policy for an endpoint group of a single tenant.
+	 *
+	 * @param tenant
+	 * @param group
+	 * @param policy
+	 * @return
+	 */
+	public Builder withTenantPolicy(String tenant, EndpointGroup group, GovernorPolicy policy) {
+	    governor.tenantPolicies.put(new Key(tenant, group), policy);
+	    return this;
+	}
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.governor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter. Tokens are added at a fixed rate up to the burst
+ * size and each call takes one. The bucket can also be paused, for instance
+ * when the server asks clients to back off with a Retry-After header.
+ */
+public class TokenBucket {
+
+    /** Tokens added per nanosecond (zero for no rate limit) */
+    private double ratePerNano;
+
+    /** Maximum number of tokens */
+    private double capacity;
+
+    /** Tokens currently available */
+    private double tokens;
+
+    /** Time tokens were last added */
+    private long lastRefill;
+
+    /** Time until which no tokens are handed out */
+    private long pausedUntil;
+
+    public TokenBucket(double rate, int burst) {
+	this.ratePerNano = Math.max(0, rate) / TimeUnit.SECONDS.toNanos(1);
+	this.capacity = Math.max(1, burst);
+	this.tokens = capacity;
+	this.lastRefill = System.nanoTime();
+	this.pausedUntil = lastRefill;
+    }
+
+    /**
+     * Take a token, waiting for one to become available.
+     *
+     * @param deadline latest time (as {@link System#nanoTime()}) to wait until
+     * @return false if no token is available before the deadline
+     * @throws InterruptedException
+     */
+    public boolean acquire(long deadline) throws InterruptedException {
+	while (true) {
+	    long wait;
+	    synchronized (this) {
+		long now = System.nanoTime();
+		long paused = pausedUntil - now;
+		if (ratePerNano == 0) {
+		    if (paused <= 0) {
+			return true;
+		    }
+		    wait = paused;
+		} else {
+		    refill(now);
+		    if ((paused <= 0) && (tokens >= 1)) {
+			tokens -= 1;
+			return true;
+		    }
+		    wait = Math.max(paused, (long) Math.ceil((1 - tokens) / ratePerNano));
+		}
+		if (now + wait - deadline > 0) {
+		    return false;
+		}
+	    }
+	    TimeUnit.NANOSECONDS.sleep(Math.max(1, wait));
+	}
+    }
+
+    /**
+     * Stop handing out tokens for a period.
+     *
+     * @param nanos
+     */
+    public synchronized void pause(long nanos) {
+	long until = System.nanoTime() + nanos;
+	if (until - pausedUntil > 0) {
+	    pausedUntil = until;
+	}
+    }
+
+    /**
+     * Add tokens for the time since the last refill.
+     *
+     * @param now
+     */
+    protected void refill(long now) {
+	tokens = Math.min(capacity, tokens + ((now - lastRefill) * ratePerNano));
+	lastRefill = now;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.isolation;
+
+import java.util.concurrent.TimeUnit;
+
+import com.sitewhere.spi.CircuitState;
+
+/**
+ * Circuit breaker driven by the failure rate of recent calls. The outcome of
+ * the most recent calls is kept in a ring buffer. Once enough calls have
+ * completed and the failure rate reaches the threshold, the circuit opens and
+ * calls are rejected. After the open duration a limited number of trial calls
+ * are let through. If they all succeed the circuit closes, otherwise it opens
+ * again.
+ */
+public class CircuitBreaker {
+
+    /** Policy for breaker */
+    private IsolationPolicy policy;
+
+    /** Current state */
+    private CircuitState state = CircuitState.Closed;
+
+    /** Outcomes of recent calls (true for failure) */
+    private boolean[] window;
+
+    /** Next slot in window */
+    private int next;
+
+    /** Number of outcomes in window */
+    private int count;
+
+    /** Number of failures in window */
+    private int failures;
+
+    /** Time circuit was opened */
+    private long openedAt;
+
+    /** Number of times circuit has opened */
+    private long openCount;
+
+    /** Trial calls started while half open */
+    private int trialsStarted;
+
+    /** Trial calls succeeded while half open */
+    private int trialsSucceeded;
+
+    public CircuitBreaker(IsolationPolicy policy) {
+	this.policy = policy;
+	this.window = new boolean[policy.getWindowSize()];
+    }
+
+    /**
+     * Ask to send a call.
+     *
+     * @return state the call was admitted in or null if rejected
+     */
+    public synchronized CircuitState tryAcquire() {
+	if (state == CircuitState.Open) {
+	    if (System.nanoTime() - openedAt < TimeUnit.MILLISECONDS.toNanos(policy.getOpenDuration())) {
+		return null;
+	    }
+	    state = CircuitState.HalfOpen;
+	    trialsStarted = 0;
+	    trialsSucceeded = 0;
+	}
+	if (state == CircuitState.HalfOpen) {
+	    if (trialsStarted >= policy.getHalfOpenCalls()) {
+		return null;
+	    }
+	    trialsStarted++;
+	}
+	return state;
+    }
+
+    /**
+     * Record the outcome of a call. Outcomes of calls admitted in an earlier
+     * state are ignored.
+     *
+     * @param admitted state returned by {@link #tryAcquire()}
+     * @param failed
+     */
+    public synchronized void record(CircuitState admitted, boolean failed) {
+	if (admitted != state) {
+	    return;
+	}
+	if (state == CircuitState.HalfOpen) {
+	    if (failed) {
+		open();
+	    } else if (++trialsSucceeded >= policy.getHalfOpenCalls()) {
+		close();
+	    }
+	    return;
+	}
+	if (count == window.length) {
+	    failures -= window[next] ? 1 : 0;
+	} else {
+	    count++;
+	}
+	window[next] = failed;
+	failures += failed ? 1 : 0;
+	next = (next + 1) % window.length;
+	if ((count >= policy.getMinimumCalls()) && (failures * 100 >= policy.getFailureRateThreshold() * count)) {
+	    open();
+	}
+    }
+
+    /**
+     * Return a trial permit for a call that was not sent.
+     *
+     * @param admitted
+     */
+    public synchronized void cancel(CircuitState admitted) {
+	if ((admitted == CircuitState.HalfOpen) && (state == CircuitState.HalfOpen)) {
+	    trialsStarted--;
+	}
+    }
+
+    /**
+     * Force the circuit closed and clear recent outcomes.
+     */
+    public synchronized void reset() {
+	close();
+    }
+
+    /**
+     * Open the circuit.
+     */
+    protected void open() {
+	state = CircuitState.Open;
+	openedAt = System.nanoTime();
+	openCount++;
+    }
+
+    /**
+     * Close the circuit and clear recent outcomes.
+     */
+    protected void close() {
+	state = CircuitState.Closed;
+	next = 0;
+	count = 0;
+	failures = 0;
+    }
+
+    public synchronized CircuitState getState() {
+	return state;
+    }
+
+    /**
+     * Get failure rate of recent calls in percent.
+     *
+     * @return
+     */
+    public synchronized int getFailureRate() {
+	return (count == 0) ? 0 : (failures * 100) / count;
+    }
+
+    /**
+     * Get number of times the circuit has opened.
+     *
+     * @return
+     */
+    public synchronized long getOpenCount() {
+	return openCount;
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.isolation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import com.sitewhere.spi.CallRejectedException;
+import com.sitewhere.spi.CircuitState;
+import com.sitewhere.spi.SiteWhereException;
+
+import okhttp3.Request;
+
+/**
+ * Isolates groups of REST endpoints from each other. Each group has its own
+ * bulkhead, which caps the calls it may have in flight, and its own circuit
+ * breaker, which rejects calls while the group's failure rate is high. A slow
+ * event store then fills only the events bulkhead, and calls such as device
+ * type lookups keep their own capacity in the shared HTTP dispatcher.
+ *
+ * Groups are named after the first segment of the REST path (for instance
+ * "devices", "areas" or "tenants"), except that calls which add, list or
+ * search device events are grouped as {@value #EVENTS}.
+ */
+public class EndpointIsolation {
+
+    /** Group for device event calls */
+    public static final String EVENTS = "events";
+
+    /** Group for calls outside the REST API */
+    public static final String OTHER = "other";
+
+    /** Path segments under an assignment that address events */
+    private static final List<String> EVENT_SEGMENTS = Arrays.asList("alerts", "invocations", "locations",
+	    "measurements", "responses", "statechanges");
+
+    /** Policy for groups without a specific policy */
+    private IsolationPolicy defaultPolicy = IsolationPolicy.newBuilder().build();
+
+    /** Policies by group */
+    private Map<String, IsolationPolicy> policies = new ConcurrentHashMap<>();
+
+    /** Compartments by group */
+    private Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+    /**
+     * Get new builder class.
+     *
+     * @return
+     */
+    public static Builder newBuilder() {
+	return new Builder();
+    }
+
+    /**
+     * Get the group for a request.
+     *
+     * @param request
+     * @return
+     */
+    public static String classify(Request request) {
+	List<String> segments = request.url().pathSegments();
+	int api = segments.indexOf("api");
+	if ((api == -1) || (api + 1 >= segments.size())) {
+	    return OTHER;
+	}
+	String resource = segments.get(api + 1);
+	int remaining = segments.size() - (api + 2);
+	if ("assignments".equals(resource) && (remaining >= 2)
+		&& ("bulk".equals(segments.get(api + 2)) || EVENT_SEGMENTS.contains(segments.get(api + 3)))) {
+	    return EVENTS;
+	}
+	if ("devices".equals(resource) && (remaining == 2) && "batch".equals(segments.get(api + 3))) {
+	    return EVENTS;
+	}
+	return resource;
+    }
+
+    /**
+     * Admit a call to a group or reject it without sending it.
+     *
+     * @param group
+     * @return
+     * @throws SiteWhereException
+     */
+    public Admission acquire(String group) throws SiteWhereException {
+	Compartment compartment = getCompartment(group);
+	try {
+	    if (!compartment.bulkhead.tryAcquire(compartment.policy.getMaxWait(), TimeUnit.MILLISECONDS)) {
+		compartment.rejectedByBulkhead.increment();
+		throw new CallRejectedException(group, "Too many calls in flight for '" + group + "' endpoints.");
+	    }
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	    throw new SiteWhereException("Interrupted while waiting to send call.", e);
+	}
+	CircuitState admitted = compartment.breaker.tryAcquire();
+	if (admitted == null) {
+	    compartment.bulkhead.release();
+	    compartment.rejectedByCircuit.increment();
+	    throw new CallRejectedException(group, "Circuit for '" + group + "' endpoints is open.");
+	}
+	return new Admission(compartment, admitted);
+    }
+
+    /**
+     * Get status for a group.
+     *
+     * @param group
+     * @return
+     */
+    public IsolationStatus getStatus(String group) {
+	return getCompartment(group).getStatus();
+    }
+
+    /**
+     * Get status for all groups that have been used, ordered by name.
+     *
+     * @return
+     */
+    public Map<String, IsolationStatus> getStatuses() {
+	return compartments.values().stream().map(Compartment::getStatus)
+		.collect(Collectors.toMap(IsolationStatus::getGroup, status -> status, (a, b) -> a, TreeMap::new));
+    }
+
+    /**
+     * Close the circuit for a group.
+     *
+     * @param group
+     */
+    public void reset(String group) {
+	getCompartment(group).breaker.reset();
+    }
+
+    /**
+     * Get or create compartment for a group.
+     *
+     * @param group
+     * @return
+     */
+    protected Compartment getCompartment(String group) {
+	Compartment compartment = compartments.get(group);
+	if (compartment == null) {
+	    compartment = compartments.computeIfAbsent(group,
+		    name -> new Compartment(name, policies.getOrDefault(name, defaultPolicy)));
+	}
+	return compartment;
+    }
+
+    /**
+     * Bulkhead and circuit breaker for one group.
+     */
+    protected static class Compartment {
+
+	/** Group name */
+	private String group;
+
+	/** Policy for group */
+	private IsolationPolicy policy;
+
+	/** Permits for calls in flight */
+	private Semaphore bulkhead;
+
+	/** Circuit breaker */
+	private CircuitBreaker breaker;
+
+	/** Calls rejected by bulkhead */
+	private LongAdder rejectedByBulkhead = new LongAdder();
+
+	/** Calls rejected by circuit breaker */
+	private LongAdder rejectedByCircuit = new LongAdder();
+
+	public Compartment(String group, IsolationPolicy policy) {
+	    this.group = group;
+	    this.policy = policy;
+	    this.bulkhead = new Semaphore(policy.getMaxConcurrent());
+	    this.breaker = new CircuitBreaker(policy);
+	}
+
+	public IsolationStatus getStatus() {
+	    return new IsolationStatus(group, breaker.getState(), breaker.getFailureRate(),
+		    policy.getMaxConcurrent() - bulkhead.availablePermits(), policy.getMaxConcurrent(),
+		    breaker.getOpenCount(), rejectedByCircuit.sum(), rejectedByBulkhead.sum());
+	}
+    }
+
+    /**
+     * Admission of a single call.
+     */
+    public static class Admission {
+
+	/** Compartment call was admitted to */
+	private Compartment compartment;
+
+	/** Circuit state call was admitted in */
+	private CircuitState admitted;
+
+	protected Admission(Compartment compartment, CircuitState admitted) {
+	    this.compartment = compartment;
+	    this.admitted = admitted;
+	}
+
+	/**
+	 * Release the admission once the call has completed.
+	 *
+	 * @param failed indicates whether the call failed in a way that counts
+	 *            against the circuit
+	 */
+	public void release(boolean failed) {
+	    compartment.breaker.record(admitted, failed);
+	    compartment.bulkhead.release();
+	}
+
+	/**
+	 * Release the admission for a call that was cancelled before it
+	 * completed.
+	 */
+	public void cancel() {
+	    compartment.breaker.cancel(admitted);
+	    compartment.bulkhead.release();
+	}
+    }
+
+    /**
+     * Builder class.
+     */
+    public static class Builder {
+
+	private EndpointIsolation isolation = new EndpointIsolation();
+
+	public EndpointIsolation build() {
+	    return isolation;
+	}
+
+	/**
+	 * Set policy for groups without a specific policy.
+	 *
+	 * @param policy
+	 * @return
+	 */
+	public Builder withDefaultPolicy(IsolationPolicy policy) {
+	    isolation.defaultPolicy = policy;
+	    return this;
+	}
+
+	/**
+	 * Set policy for a group.
+	 *
+	 * @param group
+	 * @param policy
+	 * @return
+	 */
+	public Builder withPolicy(String group, IsolationPolicy policy) {
+	    isolation.policies.put(group, policy);
+	    return this;
+	}
+    }
+}
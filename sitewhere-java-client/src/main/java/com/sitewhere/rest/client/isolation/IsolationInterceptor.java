@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.isolation;
+
+import java.io.IOException;
+
+import com.sitewhere.rest.client.governor.GovernorInterceptor;
+import com.sitewhere.rest.client.isolation.EndpointIsolation.Admission;
+import com.sitewhere.spi.CallOutcome;
+import com.sitewhere.spi.CallRejectedException;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Interceptor that admits each REST call through the bulkhead and circuit
+ * breaker of its endpoint group. Rejected calls fail with a
+ * {@link com.sitewhere.spi.CallRejectedException} without being sent. Server
+ * overload responses and I/O failures count against the circuit, while client
+ * errors such as 404 and calls refused by the throughput governor further down
+ * the chain do not.
+ */
+public class IsolationInterceptor implements Interceptor {
+
+    /** Isolation for endpoint groups */
+    private EndpointIsolation isolation;
+
+    public IsolationInterceptor(EndpointIsolation isolation) {
+	this.isolation = isolation;
+    }
+
+    /*
+     * @see okhttp3.Interceptor#intercept(okhttp3.Interceptor.Chain)
+     */
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+	Request request = chain.request();
+	Admission admission = isolation.acquire(EndpointIsolation.classify(request));
+	Response response;
+	try {
+	    response = chain.proceed(request);
+	} catch (IOException | RuntimeException e) {
+	    if (chain.call().isCanceled() || (e instanceof CallRejectedException)) {
+		admission.cancel();
+	    } else {
+		admission.release(true);
+	    }
+	    throw e;
+	}
+	admission.release(GovernorInterceptor.getOutcome(response.code()) == CallOutcome.Overload);
+	return response;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.isolation;
+
+/**
+ * Settings for the bulkhead and circuit breaker of one endpoint group.
+ */
+public class IsolationPolicy {
+
+    /** Default maximum number of calls in flight */
+    public static final int DEFAULT_MAX_CONCURRENT = 32;
+
+    /** Default number of recent calls used to compute the failure rate */
+    public static final int DEFAULT_WINDOW_SIZE = 50;
+
+    /** Default minimum number of calls before the circuit may open */
+    public static final int DEFAULT_MINIMUM_CALLS = 20;
+
+    /** Default failure rate (percent) at which the circuit opens */
+    public static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+
+    /** Default time the circuit stays open (ms) */
+    public static final long DEFAULT_OPEN_DURATION = 10 * 1000;
+
+    /** Default number of trial calls while half open */
+    public static final int DEFAULT_HALF_OPEN_CALLS = 3;
+
+    /** Maximum number of calls in flight */
+    private int maxConcurrent = DEFAULT_MAX_CONCURRENT;
+
+    /** Maximum time to wait for room in the bulkhead (ms, zero to fail fast) */
+    private long maxWait = 0;
+
+    /** Number of recent calls used to compute the failure rate */
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+
+    /** Minimum number of calls before the circuit may open */
+    private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+
+    /** Failure rate (percent) at which the circuit opens */
+    private int failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+
+    /** Time the circuit stays open (ms) */
+    private long openDuration = DEFAULT_OPEN_DURATION;
+
+    /** Number of trial calls while half open */
+    private int halfOpenCalls = DEFAULT_HALF_OPEN_CALLS;
+
+    /**
+     * Get new builder class.
+     *
+     * @return
+     */
+    public static Builder newBuilder() {
+	return new Builder();
+    }
+
+    public int getMaxConcurrent() {
+	return maxConcurrent;
+    }
+
+    public long getMaxWait() {
+	return maxWait;
+    }
+
+    public int getWindowSize() {
+	return windowSize;
+    }
+
+    public int getMinimumCalls() {
+	return minimumCalls;
+    }
+
+    public int getFailureRateThreshold() {
+	return failureRateThreshold;
+    }
+
+    public long getOpenDuration() {
+	return openDuration;
+    }
+
+    public int getHalfOpenCalls() {
+	return halfOpenCalls;
+    }
+
+    /**
+     * Builder class.
+     */
+    public static class Builder {
+
+	private IsolationPolicy policy = new IsolationPolicy();
+
+	public IsolationPolicy build() {
+	    if ((policy.maxConcurrent < 1) || (policy.windowSize < 1) || (policy.halfOpenCalls < 1)) {
+		throw new IllegalArgumentException("Invalid isolation policy.");
+	    }
+	    policy.minimumCalls = Math.max(1, Math.min(policy.minimumCalls, policy.windowSize));
+	    return policy;
+	}
+
+	/**
+	 * Set maximum number of calls in flight and how long a call waits for
+	 * room before it is rejected.
+	 *
+	 * @param maxConcurrent
+	 * @param maxWait wait in milliseconds (zero to fail fast)
+	 * @return
+	 */
+	public Builder withBulkhead(int maxConcurrent, long maxWait) {
+	    policy.maxConcurrent = maxConcurrent;
+	    policy.maxWait = maxWait;
+	    return this;
+	}
+
+	/**
+	 * Set when the circuit opens. The failure rate is computed over the most
+	 * recent calls once at least the minimum number have completed.
+	 *
+	 * @param windowSize
+	 * @param minimumCalls
+	 * @param failureRateThreshold failure rate in percent
+	 * @return
+	 */
+	public Builder withFailureRate(int windowSize, int minimumCalls, int failureRateThreshold) {
+	    policy.windowSize = windowSize;
+	    policy.minimumCalls = minimumCalls;
+	    policy.failureRateThreshold = failureRateThreshold;
+	    return this;
+	}
+
+	/**
+	 * Set how long the circuit stays open and how many trial calls must
+	 * succeed before it closes again.
+	 *
+	 * @param openDuration time in milliseconds
+	 * @param halfOpenCalls
+	 * @return
+	 */
+	public Builder withRecovery(long openDuration, int halfOpenCalls) {
+	    policy.openDuration = openDuration;
+	    policy.halfOpenCalls = halfOpenCalls;
+	    return this;
+	}
+    }
+}
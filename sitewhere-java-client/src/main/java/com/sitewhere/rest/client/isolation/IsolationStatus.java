@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.isolation;
+
+import com.sitewhere.spi.CircuitState;
+
+/**
+ * Snapshot of the bulkhead and circuit breaker for one endpoint group.
+ */
+public class IsolationStatus {
+
+    /** Endpoint group */
+    private String group;
+
+    /** Circuit breaker state */
+    private CircuitState state;
+
+    /** Failure rate of recent calls in percent */
+    private int failureRate;
+
+    /** Number of calls in flight */
+    private int inFlight;
+
+    /** Maximum number of calls in flight */
+    private int maxConcurrent;
+
+    /** Number of times the circuit has opened */
+    private long openCount;
+
+    /** Number of calls rejected by the circuit breaker */
+    private long rejectedByCircuit;
+
+    /** Number of calls rejected by the bulkhead */
+    private long rejectedByBulkhead;
+
+    public IsolationStatus(String group, CircuitState state, int failureRate, int inFlight, int maxConcurrent,
+	    long openCount, long rejectedByCircuit, long rejectedByBulkhead) {
+	this.group = group;
+	this.state = state;
+	this.failureRate = failureRate;
+	this.inFlight = inFlight;
+	this.maxConcurrent = maxConcurrent;
+	this.openCount = openCount;
+	this.rejectedByCircuit = rejectedByCircuit;
+	this.rejectedByBulkhead = rejectedByBulkhead;
+    }
+
+    public String getGroup() {
+	return group;
+    }
+
+    public CircuitState getState() {
+	return state;
+    }
+
+    public int getFailureRate() {
+	return failureRate;
+    }
+
+    public int getInFlight() {
+	return inFlight;
+    }
+
+    public int getMaxConcurrent() {
+	return maxConcurrent;
+    }
+
+    public long getOpenCount() {
+	return openCount;
+    }
+
+    public long getRejectedByCircuit() {
+	return rejectedByCircuit;
+    }
+
+    public long getRejectedByBulkhead() {
+	return rejectedByBulkhead;
+    }
+
+    /*
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+	return "IsolationStatus [group=" + group + ", state=" + state + ", failureRate=" + failureRate + "%, inFlight="
+		+ inFlight + "/" + maxConcurrent + ", openCount=" + openCount + ", rejectedByCircuit="
+		+ rejectedByCircuit + ", rejectedByBulkhead=" + rejectedByBulkhead + "]";
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.metrics;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sitewhere.spi.IClientInstrumentation;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Interceptor;
+import okhttp3.Protocol;
+import okhttp3.Response;
+
+/**
+ * Builds a {@link CallTrace} for each REST call from OkHttp call events and
+ * passes it to an {@link IClientInstrumentation} when the call ends. Must be
+ * installed both as the event listener factory and as the first application
+ * interceptor of the HTTP client. The interceptor marks when a call leaves
+ * the dispatcher queue, which gives the queue time of asynchronous calls.
+ * Calls are tracked only from when they start until they end, since OkHttp
+ * calls may be created without ever being executed.
+ */
+public class CallInstrumenter implements EventListener.Factory, Interceptor {
+
+    /** Receives completed traces */
+    private IClientInstrumentation instrumentation;
+
+    /** Maps requests to operation names */
+    private OperationResolver resolver;
+
+    /** Listeners for calls that have started and not yet ended */
+    private Map<Call, CallListener> active = new ConcurrentHashMap<>();
+
+    public CallInstrumenter(IClientInstrumentation instrumentation, OperationResolver resolver) {
+	this.instrumentation = instrumentation;
+	this.resolver = resolver;
+    }
+
+    /*
+     * @see okhttp3.EventListener.Factory#create(okhttp3.Call)
+     */
+    @Override
+    public EventListener create(Call call) {
+	return new CallListener();
+    }
+
+    /*
+     * @see okhttp3.Interceptor#intercept(okhttp3.Interceptor.Chain)
+     */
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+	CallListener listener = active.get(chain.call());
+	if (listener != null) {
+	    listener.executing();
+	}
+	return chain.proceed(chain.request());
+    }
+
+    /**
+     * Get number of calls that have started and not yet ended.
+     *
+     * @return
+     */
+    public int getActiveCount() {
+	return active.size();
+    }
+
+    public IClientInstrumentation getInstrumentation() {
+	return instrumentation;
+    }
+
+    public OperationResolver getResolver() {
+	return resolver;
+    }
+
+    /**
+     * Collects events for a single call.
+     */
+    protected class CallListener extends EventListener {
+
+	/** Trace being built */
+	private CallTrace trace = new CallTrace();
+
+	/** Time call started */
+	private long callStart;
+
+	/** Indicates call has left the dispatcher queue */
+	private boolean executing;
+
+	/** Time DNS lookup started */
+	private long dnsStart;
+
+	/** Time connection attempt started */
+	private long connectStart;
+
+	/** Time TLS handshake started */
+	private long tlsStart;
+
+	/** Indicates a new connection was opened */
+	private boolean connected;
+
+	/*
+	 * @see okhttp3.EventListener#callStart(okhttp3.Call)
+	 */
+	@Override
+	public void callStart(Call call) {
+	    active.put(call, this);
+	    callStart = System.nanoTime();
+	    trace.setMethod(call.request().method());
+	    trace.setOperation(resolver.resolve(call.request()));
+	}
+
+	/**
+	 * Called when the call leaves the dispatcher queue.
+	 */
+	protected void executing() {
+	    if (!executing) {
+		executing = true;
+		trace.setQueueNanos(System.nanoTime() - callStart);
+	    }
+	}
+
+	/*
+	 * @see okhttp3.EventListener#dnsStart(okhttp3.Call, java.lang.String)
+	 */
+	@Override
+	public void dnsStart(Call call, String domainName) {
+	    dnsStart = System.nanoTime();
+	}
+
+	/*
+	 * @see okhttp3.EventListener#dnsEnd(okhttp3.Call, java.lang.String,
+	 * java.util.List)
+	 */
+	@Override
+	public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+	    trace.setDnsNanos(trace.getDnsNanos() + (System.nanoTime() - dnsStart));
+	}
+
+	/*
+	 * @see okhttp3.EventListener#connectStart(okhttp3.Call,
+	 * java.net.InetSocketAddress, java.net.Proxy)
+	 */
+	@Override
+	public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+	    connectStart = System.nanoTime();
+	    connected = true;
+	}
+
+	/*
+	 * @see okhttp3.EventListener#secureConnectStart(okhttp3.Call)
+	 */
+	@Override
+	public void secureConnectStart(Call call) {
+	    tlsStart = System.nanoTime();
+	}
+
+	/*
+	 * @see okhttp3.EventListener#secureConnectEnd(okhttp3.Call,
+	 * okhttp3.Handshake)
+	 */
+	@Override
+	public void secureConnectEnd(Call call, Handshake handshake) {
+	    trace.setTlsNanos(trace.getTlsNanos() + (System.nanoTime() - tlsStart));
+	}
+
+	/*
+	 * @see okhttp3.EventListener#connectEnd(okhttp3.Call,
+	 * java.net.InetSocketAddress, java.net.Proxy, okhttp3.Protocol)
+	 */
+	@Override
+	public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+	    trace.setConnectNanos(trace.getConnectNanos() + (System.nanoTime() - connectStart));
+	}
+
+	/*
+	 * @see okhttp3.EventListener#connectFailed(okhttp3.Call,
+	 * java.net.InetSocketAddress, java.net.Proxy, okhttp3.Protocol,
+	 * java.io.IOException)
+	 */
+	@Override
+	public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol,
+		IOException ioe) {
+	    trace.setConnectNanos(trace.getConnectNanos() + (System.nanoTime() - connectStart));
+	}
+
+	/*
+	 * @see okhttp3.EventListener#connectionAcquired(okhttp3.Call,
+	 * okhttp3.Connection)
+	 */
+	@Override
+	public void connectionAcquired(Call call, Connection connection) {
+	    trace.setConnectionReused(!connected);
+	}
+
+	/*
+	 * @see okhttp3.EventListener#requestBodyEnd(okhttp3.Call, long)
+	 */
+	@Override
+	public void requestBodyEnd(Call call, long byteCount) {
+	    trace.setRequestBytes(trace.getRequestBytes() + byteCount);
+	}
+
+	/*
+	 * @see okhttp3.EventListener#responseHeadersEnd(okhttp3.Call,
+	 * okhttp3.Response)
+	 */
+	@Override
+	public void responseHeadersEnd(Call call, Response response) {
+	    trace.setStatusCode(response.code());
+	}
+
+	/*
+	 * @see okhttp3.EventListener#responseBodyEnd(okhttp3.Call, long)
+	 */
+	@Override
+	public void responseBodyEnd(Call call, long byteCount) {
+	    trace.setResponseBytes(trace.getResponseBytes() + byteCount);
+	}
+
+	/*
+	 * @see okhttp3.EventListener#callEnd(okhttp3.Call)
+	 */
+	@Override
+	public void callEnd(Call call) {
+	    completed(call, null);
+	}
+
+	/*
+	 * @see okhttp3.EventListener#callFailed(okhttp3.Call,
+	 * java.io.IOException)
+	 */
+	@Override
+	public void callFailed(Call call, IOException ioe) {
+	    completed(call, ioe);
+	}
+
+	/**
+	 * Pass the completed trace to the instrumentation.
+	 *
+	 * @param call
+	 * @param error
+	 */
+	protected void completed(Call call, IOException error) {
+	    active.remove(call);
+	    trace.setLatencyNanos(System.nanoTime() - callStart);
+	    if (error != null) {
+		trace.setErrorType(error.getClass().getSimpleName());
+	    }
+	    instrumentation.onCallCompleted(trace);
+	}
+    }
+}
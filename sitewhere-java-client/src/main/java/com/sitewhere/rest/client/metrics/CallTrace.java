@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.metrics;
+
+import com.sitewhere.spi.ICallTrace;
+
+/**
+ * Model object for timings and sizes recorded for a single REST call.
+ */
+public class CallTrace implements ICallTrace {
+
+    /** Name of operation */
+    private String operation;
+
+    /** HTTP method */
+    private String method;
+
+    /** Status code of last response */
+    private int statusCode = -1;
+
+    /** Type of exception that failed the call */
+    private String errorType;
+
+    /** Latency of call */
+    private long latencyNanos;
+
+    /** Time spent in dispatcher queue */
+    private long queueNanos;
+
+    /** Time spent resolving host names */
+    private long dnsNanos;
+
+    /** Time spent opening connections */
+    private long connectNanos;
+
+    /** Time spent in TLS handshakes */
+    private long tlsNanos;
+
+    /** Request body bytes sent */
+    private long requestBytes;
+
+    /** Response body bytes received */
+    private long responseBytes;
+
+    /** Indicates whether only pooled connections were used */
+    private boolean connectionReused;
+
+    /*
+     * @see com.sitewhere.spi.ICallTrace#getOperation()
+     */
+    @Override
+    public String getOperation() {
+	return operation;
+    }
+
+    public void setOperation(String operation) {
+	this.operation = operation;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ICallTrace#getMethod()
+     */
+    @Override
+    public String getMethod() {
+	return method;
+    }
+
+    public void setMethod(String method) {
+	this.method = method;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ICallTrace#getStatusCode()
+     */
+    @Override
+    public int getStatusCode() {
+	return statusCode;
+    }
+
+    public void setStatusCode(int statusCode) {
+	this.statusCode = statusCode;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ICallTrace#getErrorType()
+     */
+    @Override
+    public String getErrorType() {
+	return errorType;
+    }
+
+    public void setErrorType(String errorType) {
+	this.errorType = errorType;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ICallTrace#getLatencyNanos()
+     */
+    @Override
+    public long getLatencyNanos() {
+	return latencyNanos;
+    }
+
+    public void setLatencyNanos(long latencyNanos) {
+	this.latencyNanos = latencyNanos;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ICallTrace#getQueueNanos()
+     */
+    @Override
+    public long getQueueNanos() {
+	return queueNanos;
+    }
+
+    public void setQueueNanos(long queueNanos) {
+	this.queueNanos = queueNanos;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ICallTrace#getDnsNanos()
+     */
+    @Override
+    public long getDnsNanos() {
+	return dnsNanos;
+    }
+
+    public void setDnsNanos(long dnsNanos) {
+	this.dnsNanos = dnsNanos;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ICallTrace#getConnectNanos()
+     */
+    @Override
+    public long getConnectNanos() {
+	return connectNanos;
+    }
+
+    public void setConnectNanos(long connectNanos) {
+	this.connectNanos = connectNanos;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ICallTrace#getTlsNanos()
+     */
+    @Override
+    public long getTlsNanos() {
+	return tlsNanos;
+    }
+
+    public void setTlsNanos(long tlsNanos) {
+	this.tlsNanos = tlsNanos;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ICallTrace#getRequestBytes()
+     */
+    @Override
+    public long getRequestBytes() {
+	return requestBytes;
+    }
+
+    public void setRequestBytes(long requestBytes) {
+	this.requestBytes = requestBytes;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ICallTrace#getResponseBytes()
+     */
+    @Override
+    public long getResponseBytes() {
+	return responseBytes;
+    }
+
+    public void setResponseBytes(long responseBytes) {
+	this.responseBytes = responseBytes;
+    }
+
+    /*
+     * @see com.sitewhere.spi.ICallTrace#isConnectionReused()
+     */
+    @Override
+    public boolean isConnectionReused() {
+	return connectionReused;
+    }
+
+    public void setConnectionReused(boolean connectionReused) {
+	this.connectionReused = connectionReused;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sitewhere.spi.ICallTrace;
+import com.sitewhere.spi.IClientInstrumentation;
+
+/**
+ * {@link IClientInstrumentation} that keeps running totals and latency
+ * histograms per operation for export to a monitoring system.
+ */
+public class ClientMetrics implements IClientInstrumentation {
+
+    /** Metrics by operation */
+    private Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+
+    /*
+     * @see
+     * com.sitewhere.spi.IClientInstrumentation#onCallCompleted(com.sitewhere.
+     * spi.ICallTrace)
+     */
+    @Override
+    public void onCallCompleted(ICallTrace trace) {
+	getOperation(trace.getOperation()).record(trace);
+    }
+
+    /*
+     * @see
+     * com.sitewhere.spi.IClientInstrumentation#onResponseDecoded(java.lang.
+     * String, long)
+     */
+    @Override
+    public void onResponseDecoded(String operation, long nanos) {
+	getOperation(operation).recordDecode(nanos);
+    }
+
+    /**
+     * Take a snapshot of all operations that have been called, ordered by
+     * name.
+     *
+     * @return
+     */
+    public Map<String, OperationSnapshot> getSnapshot() {
+	Map<String, OperationSnapshot> snapshot = new TreeMap<>();
+	operations.forEach((name, metrics) -> snapshot.put(name, metrics.getSnapshot()));
+	return snapshot;
+    }
+
+    /**
+     * Take a snapshot of a single operation.
+     *
+     * @param operation
+     * @return
+     */
+    public OperationSnapshot getSnapshot(String operation) {
+	return getOperation(operation).getSnapshot();
+    }
+
+    /**
+     * Clear recorded values for all operations.
+     */
+    public void reset() {
+	operations.values().forEach(OperationMetrics::reset);
+    }
+
+    /**
+     * Get or create metrics for an operation.
+     *
+     * @param operation
+     * @return
+     */
+    protected OperationMetrics getOperation(String operation) {
+	OperationMetrics metrics = operations.get(operation);
+	if (metrics == null) {
+	    metrics = operations.computeIfAbsent(operation, OperationMetrics::new);
+	}
+	return metrics;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.metrics;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import com.sitewhere.spi.IClientInstrumentation;
+
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+
+/**
+ * Converter factory that times the conversion of response bodies by the
+ * converters registered after it. Must be added before other converter
+ * factories.
+ */
+public class DecodeTimingConverterFactory extends Converter.Factory {
+
+    /** Receives decode times */
+    private IClientInstrumentation instrumentation;
+
+    /** Maps interface methods to operation names */
+    private OperationResolver resolver;
+
+    public DecodeTimingConverterFactory(IClientInstrumentation instrumentation, OperationResolver resolver) {
+	this.instrumentation = instrumentation;
+	this.resolver = resolver;
+    }
+
+    /*
+     * @see retrofit2.Converter.Factory#responseBodyConverter(java.lang.reflect.
+     * Type, java.lang.annotation.Annotation[], retrofit2.Retrofit)
+     */
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations,
+	    Retrofit retrofit) {
+	return timed(retrofit.nextResponseBodyConverter(this, type, annotations), resolver.resolve(annotations));
+    }
+
+    /**
+     * Wrap a converter so that its conversions are timed.
+     *
+     * @param delegate
+     * @param operation
+     * @return
+     */
+    protected <T> Converter<ResponseBody, T> timed(Converter<ResponseBody, T> delegate, String operation) {
+	return body -> {
+	    long start = System.nanoTime();
+	    try {
+		return delegate.convert(body);
+	    } finally {
+		instrumentation.onResponseDecoded(operation, System.nanoTime() - start);
+	    }
+	};
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds. As in HdrHistogram, values
+ * are counted in buckets that double in width with each power of two and are
+ * split into a fixed number of sub-buckets, so every recorded value is kept
+ * to within about 3% of its true value. Recording is a single atomic
+ * increment and never allocates.
+ */
+public class LatencyHistogram {
+
+    /** Bits used for sub-buckets within a power of two */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /** Number of sub-buckets within a power of two */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Largest value that can be recorded (about 18 minutes) */
+    public static final long MAX_VALUE = (1L << 40) - 1;
+
+    /** Number of buckets */
+    private static final int BUCKET_COUNT = indexOf(MAX_VALUE) + 1;
+
+    /** Counts by bucket */
+    private AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /** Sum of recorded values */
+    private LongAdder total = new LongAdder();
+
+    /** Largest recorded value */
+    private LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record a value. Negative values are recorded as zero and values above
+     * {@link #MAX_VALUE} as {@link #MAX_VALUE}.
+     *
+     * @param nanos
+     */
+    public void record(long nanos) {
+	long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+	counts.incrementAndGet(indexOf(value));
+	total.add(value);
+	max.accumulate(value);
+    }
+
+    /**
+     * Take a snapshot of recorded values.
+     *
+     * @return
+     */
+    public LatencySnapshot getSnapshot() {
+	long[] copy = new long[BUCKET_COUNT];
+	for (int i = 0; i < BUCKET_COUNT; i++) {
+	    copy[i] = counts.get(i);
+	}
+	return new LatencySnapshot(copy, total.sum(), max.get());
+    }
+
+    /**
+     * Clear recorded values.
+     */
+    public void reset() {
+	for (int i = 0; i < BUCKET_COUNT; i++) {
+	    counts.set(i, 0);
+	}
+	total.reset();
+	max.reset();
+    }
+
+    /**
+     * Get bucket for a value.
+     *
+     * @param value
+     * @return
+     */
+    protected static int indexOf(long value) {
+	if (value < SUB_BUCKETS) {
+	    return (int) value;
+	}
+	int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+	return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    /**
+     * Get largest value counted in a bucket.
+     *
+     * @param index
+     * @return
+     */
+    protected static long highestValueAt(int index) {
+	if (index < SUB_BUCKETS) {
+	    return index;
+	}
+	int shift = (index >>> SUB_BUCKET_BITS) - 1;
+	long mantissa = SUB_BUCKETS + (index & (SUB_BUCKETS - 1));
+	return ((mantissa + 1) << shift) - 1;
+    }
+}
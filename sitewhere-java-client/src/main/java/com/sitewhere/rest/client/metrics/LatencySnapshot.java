@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point-in-time copy of a {@link LatencyHistogram}. Values are in
+ * nanoseconds.
+ */
+public class LatencySnapshot {
+
+    /** Counts by bucket */
+    private long[] counts;
+
+    /** Number of recorded values */
+    private long count;
+
+    /** Sum of recorded values */
+    private long total;
+
+    /** Largest recorded value */
+    private long max;
+
+    public LatencySnapshot(long[] counts, long total, long max) {
+	this.counts = counts;
+	this.total = total;
+	this.max = max;
+	for (long bucket : counts) {
+	    this.count += bucket;
+	}
+    }
+
+    public long getCount() {
+	return count;
+    }
+
+    public long getMax() {
+	return max;
+    }
+
+    /**
+     * Get mean of recorded values.
+     *
+     * @return
+     */
+    public long getMean() {
+	return (count == 0) ? 0 : total / count;
+    }
+
+    /**
+     * Get value at or below which the given percentage of recorded values
+     * fall.
+     *
+     * @param percentile value between 0 and 100
+     * @return
+     */
+    public long getValueAtPercentile(double percentile) {
+	if (count == 0) {
+	    return 0;
+	}
+	long target = Math.max(1, (long) Math.ceil((Math.min(percentile, 100) / 100) * count));
+	long seen = 0;
+	for (int i = 0; i < counts.length; i++) {
+	    seen += counts[i];
+	    if (seen >= target) {
+		return Math.min(LatencyHistogram.highestValueAt(i), max);
+	    }
+	}
+	return max;
+    }
+
+    /*
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+	return "[count=" + count + ", meanMs=" + toMillis(getMean()) + ", p50Ms=" + toMillis(getValueAtPercentile(50))
+		+ ", p99Ms=" + toMillis(getValueAtPercentile(99)) + ", maxMs=" + toMillis(max) + "]";
+    }
+
+    /**
+     * Convert nanoseconds to fractional milliseconds.
+     *
+     * @param nanos
+     * @return
+     */
+    protected static double toMillis(long nanos) {
+	return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
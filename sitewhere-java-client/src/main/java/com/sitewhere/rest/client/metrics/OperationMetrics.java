@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sitewhere.spi.ICallTrace;
+
+/**
+ * Running totals and latency histograms for one REST operation.
+ */
+public class OperationMetrics {
+
+    /** Name of operation */
+    private String operation;
+
+    /** Number of calls completed */
+    private LongAdder calls = new LongAdder();
+
+    /** Number of calls that failed or returned an error status */
+    private LongAdder failures = new LongAdder();
+
+    /** Failures by status code or exception type */
+    private Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    /** Request body bytes sent */
+    private LongAdder requestBytes = new LongAdder();
+
+    /** Response body bytes received */
+    private LongAdder responseBytes = new LongAdder();
+
+    /** Number of calls served over pooled connections */
+    private LongAdder reusedConnections = new LongAdder();
+
+    /** Latency of calls */
+    private LatencyHistogram latency = new LatencyHistogram();
+
+    /** Time calls waited in the dispatcher queue */
+    private LatencyHistogram queue = new LatencyHistogram();
+
+    /** Time spent converting response bodies */
+    private LatencyHistogram decode = new LatencyHistogram();
+
+    /** Time spent resolving host names */
+    private LatencyHistogram dns = new LatencyHistogram();
+
+    /** Time spent opening connections */
+    private LatencyHistogram connect = new LatencyHistogram();
+
+    /** Time spent in TLS handshakes */
+    private LatencyHistogram tls = new LatencyHistogram();
+
+    public OperationMetrics(String operation) {
+	this.operation = operation;
+    }
+
+    /**
+     * Record a completed call.
+     *
+     * @param trace
+     */
+    public void record(ICallTrace trace) {
+	calls.increment();
+	latency.record(trace.getLatencyNanos());
+	queue.record(trace.getQueueNanos());
+	requestBytes.add(trace.getRequestBytes());
+	responseBytes.add(trace.getResponseBytes());
+	if (trace.isConnectionReused()) {
+	    reusedConnections.increment();
+	}
+	if (trace.getDnsNanos() > 0) {
+	    dns.record(trace.getDnsNanos());
+	}
+	if (trace.getConnectNanos() > 0) {
+	    connect.record(trace.getConnectNanos());
+	}
+	if (trace.getTlsNanos() > 0) {
+	    tls.record(trace.getTlsNanos());
+	}
+	String error = (trace.getErrorType() != null) ? trace.getErrorType()
+		: (trace.getStatusCode() >= 400) ? String.valueOf(trace.getStatusCode()) : null;
+	if (error != null) {
+	    failures.increment();
+	    errors.computeIfAbsent(error, key -> new LongAdder()).increment();
+	}
+    }
+
+    /**
+     * Record time taken to convert a response body.
+     *
+     * @param nanos
+     */
+    public void recordDecode(long nanos) {
+	decode.record(nanos);
+    }
+
+    /**
+     * Take a snapshot of recorded values.
+     *
+     * @return
+     */
+    public OperationSnapshot getSnapshot() {
+	Map<String, Long> errorCounts = new TreeMap<>();
+	errors.forEach((error, count) -> errorCounts.put(error, count.sum()));
+	return new OperationSnapshot(operation, calls.sum(), failures.sum(), errorCounts, requestBytes.sum(),
+		responseBytes.sum(), reusedConnections.sum(), latency.getSnapshot(), queue.getSnapshot(),
+		decode.getSnapshot(), dns.getSnapshot(), connect.getSnapshot(), tls.getSnapshot());
+    }
+
+    /**
+     * Clear recorded values.
+     */
+    public void reset() {
+	calls.reset();
+	failures.reset();
+	errors.clear();
+	requestBytes.reset();
+	responseBytes.reset();
+	reusedConnections.reset();
+	latency.reset();
+	queue.reset();
+	decode.reset();
+	dns.reset();
+	connect.reset();
+	tls.reset();
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.metrics;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import retrofit2.http.DELETE;
+import retrofit2.http.GET;
+import retrofit2.http.HEAD;
+import retrofit2.http.PATCH;
+import retrofit2.http.POST;
+import retrofit2.http.PUT;
+
+/**
+ * Maps requests to the names of the methods declared in a Retrofit interface.
+ * Path templates are read from the HTTP method annotations once, and requests
+ * are matched segment by segment against the templates that share their HTTP
+ * method and first path segment. Operations that share an HTTP method and
+ * path are reported under the name that sorts first.
+ */
+public class OperationResolver {
+
+    /** Name used for requests that match no operation */
+    public static final String UNKNOWN = "unknown";
+
+    /** Key for templates whose first segment is a variable */
+    private static final String ANY_SEGMENT = "{}";
+
+    /** Number of path segments in base URL */
+    private int baseSegments;
+
+    /** Operations by HTTP method and first path segment */
+    private Map<String, List<Operation>> operations = new HashMap<>();
+
+    /** Operation names by HTTP method and path template */
+    private Map<String, String> byTemplate = new HashMap<>();
+
+    public OperationResolver(Class<?> api, HttpUrl baseUrl) {
+	List<String> base = baseUrl.pathSegments();
+	this.baseSegments = base.get(base.size() - 1).isEmpty() ? base.size() - 1 : base.size();
+	Method[] methods = api.getMethods();
+	Arrays.sort(methods, Comparator.comparing(Method::getName));
+	for (Method method : methods) {
+	    String[] endpoint = getEndpoint(method.getAnnotations());
+	    if ((endpoint != null) && (byTemplate.putIfAbsent(getKey(endpoint), method.getName()) == null)) {
+		Operation operation = new Operation(method.getName(), endpoint[1].split("/"));
+		operations.computeIfAbsent(endpoint[0] + " " + operation.getFirstSegment(), key -> new ArrayList<>())
+			.add(operation);
+	    }
+	}
+	for (List<Operation> candidates : operations.values()) {
+	    candidates.sort(Comparator.comparingInt(Operation::getLiterals).reversed());
+	}
+    }
+
+    /**
+     * Get operation name for a request.
+     *
+     * @param request
+     * @return
+     */
+    public String resolve(Request request) {
+	List<String> segments = request.url().pathSegments();
+	if (segments.size() <= baseSegments) {
+	    return UNKNOWN;
+	}
+	List<String> path = segments.subList(baseSegments, segments.size());
+	String found = match(operations.get(request.method() + " " + path.get(0)), path);
+	if (found == null) {
+	    found = match(operations.get(request.method() + " " + ANY_SEGMENT), path);
+	}
+	return (found != null) ? found : UNKNOWN;
+    }
+
+    /**
+     * Get operation name for the annotations of an interface method.
+     *
+     * @param annotations
+     * @return
+     */
+    public String resolve(Annotation[] annotations) {
+	String[] endpoint = getEndpoint(annotations);
+	String found = (endpoint != null) ? byTemplate.get(getKey(endpoint)) : null;
+	return (found != null) ? found : UNKNOWN;
+    }
+
+    /**
+     * Find first operation that matches a path.
+     *
+     * @param candidates
+     * @param path
+     * @return
+     */
+    protected static String match(List<Operation> candidates, List<String> path) {
+	if (candidates != null) {
+	    for (Operation candidate : candidates) {
+		if (candidate.matches(path)) {
+		    return candidate.getName();
+		}
+	    }
+	}
+	return null;
+    }
+
+    /**
+     * Get HTTP method and path template from method annotations.
+     *
+     * @param annotations
+     * @return
+     */
+    protected static String[] getEndpoint(Annotation[] annotations) {
+	for (Annotation annotation : annotations) {
+	    if (annotation instanceof GET) {
+		return new String[] { "GET", ((GET) annotation).value() };
+	    } else if (annotation instanceof POST) {
+		return new String[] { "POST", ((POST) annotation).value() };
+	    } else if (annotation instanceof PUT) {
+		return new String[] { "PUT", ((PUT) annotation).value() };
+	    } else if (annotation instanceof DELETE) {
+		return new String[] { "DELETE", ((DELETE) annotation).value() };
+	    } else if (annotation instanceof PATCH) {
+		return new String[] { "PATCH", ((PATCH) annotation).value() };
+	    } else if (annotation instanceof HEAD) {
+		return new String[] { "HEAD", ((HEAD) annotation).value() };
+	    }
+	}
+	return null;
+    }
+
+    /**
+     * Get key for an HTTP method and path template.
+     *
+     * @param endpoint
+     * @return
+     */
+    protected static String getKey(String[] endpoint) {
+	return endpoint[0] + " " + endpoint[1];
+    }
+
+    /**
+     * Path template for a single operation.
+     */
+    protected static class Operation {
+
+	/** Operation name */
+	private String name;
+
+	/** Literal segments, with null for variables */
+	private String[] segments;
+
+	/** Number of literal segments */
+	private int literals;
+
+	public Operation(String name, String[] template) {
+	    this.name = name;
+	    this.segments = new String[template.length];
+	    for (int i = 0; i < template.length; i++) {
+		if (!template[i].startsWith("{")) {
+		    segments[i] = template[i];
+		    literals++;
+		}
+	    }
+	}
+
+	/**
+	 * Indicates whether a path matches the template.
+	 *
+	 * @param path
+	 * @return
+	 */
+	public boolean matches(List<String> path) {
+	    if (path.size() != segments.length) {
+		return false;
+	    }
+	    for (int i = 0; i < segments.length; i++) {
+		if ((segments[i] != null) && !segments[i].equals(path.get(i))) {
+		    return false;
+		}
+	    }
+	    return true;
+	}
+
+	public String getFirstSegment() {
+	    return (segments[0] != null) ? segments[0] : ANY_SEGMENT;
+	}
+
+	public String getName() {
+	    return name;
+	}
+
+	public int getLiterals() {
+	    return literals;
+	}
+    }
+}
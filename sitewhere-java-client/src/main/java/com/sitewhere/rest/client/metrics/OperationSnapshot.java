@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.metrics;
+
+import java.util.Map;
+
+/**
+ * Point-in-time copy of the metrics for one REST operation.
+ */
+public class OperationSnapshot {
+
+    /** Name of operation */
+    private String operation;
+
+    /** Number of calls completed */
+    private long calls;
+
+    /** Number of calls that failed or returned an error status */
+    private long failures;
+
+    /** Failures by status code or exception type */
+    private Map<String, Long> errors;
+
+    /** Request body bytes sent */
+    private long requestBytes;
+
+    /** Response body bytes received */
+    private long responseBytes;
+
+    /** Number of calls served over pooled connections */
+    private long reusedConnections;
+
+    /** Latency of calls */
+    private LatencySnapshot latency;
+
+    /** Time calls waited in the dispatcher queue */
+    private LatencySnapshot queue;
+
+    /** Time spent converting response bodies */
+    private LatencySnapshot decode;
+
+    /** Time spent resolving host names */
+    private LatencySnapshot dns;
+
+    /** Time spent opening connections */
+    private LatencySnapshot connect;
+
+    /** Time spent in TLS handshakes */
+    private LatencySnapshot tls;
+
+    public OperationSnapshot(String operation, long calls, long failures, Map<String, Long> errors,
+	    long requestBytes, long responseBytes, long reusedConnections, LatencySnapshot latency,
+	    LatencySnapshot queue, LatencySnapshot decode, LatencySnapshot dns, LatencySnapshot connect,
+	    LatencySnapshot tls) {
+	this.operation = operation;
+	this.calls = calls;
+	this.failures = failures;
+	this.errors = errors;
+	this.requestBytes = requestBytes;
+	this.responseBytes = responseBytes;
+	this.reusedConnections = reusedConnections;
+	this.latency = latency;
+	this.queue = queue;
+	this.decode = decode;
+	this.dns = dns;
+	this.connect = connect;
+	this.tls = tls;
+    }
+
+    public String getOperation() {
+	return operation;
+    }
+
+    public long getCalls() {
+	return calls;
+    }
+
+    public long getFailures() {
+	return failures;
+    }
+
+    public Map<String, Long> getErrors() {
+	return errors;
+    }
+
+    public long getRequestBytes() {
+	return requestBytes;
+    }
+
+    public long getResponseBytes() {
+	return responseBytes;
+    }
+
+    public long getReusedConnections() {
+	return reusedConnections;
+    }
+
+    public LatencySnapshot getLatency() {
+	return latency;
+    }
+
+    public LatencySnapshot getQueue() {
+	return queue;
+    }
+
+    public LatencySnapshot getDecode() {
+	return decode;
+    }
+
+    public LatencySnapshot getDns() {
+	return dns;
+    }
+
+    public LatencySnapshot getConnect() {
+	return connect;
+    }
+
+    public LatencySnapshot getTls() {
+	return tls;
+    }
+
+    /*
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+	return "OperationSnapshot [operation=" + operation + ", calls=" + calls + ", failures=" + failures
+		+ ", errors=" + errors + ", requestBytes=" + requestBytes + ", responseBytes=" + responseBytes
+		+ ", reusedConnections=" + reusedConnections + ", latency=" + latency + ", queue=" + queue
+		+ ", decode=" + decode + "]";
+    }
+}
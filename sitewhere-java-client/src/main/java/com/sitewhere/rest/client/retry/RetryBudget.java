@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.retry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of retries in a fixed time window.
+ */
+public class RetryBudget {
+
+    /** Maximum retries per window */
+    private int maxRetries;
+
+    /** Window length in nanoseconds */
+    private long windowNanos;
+
+    /** Start of current window */
+    private long windowStart;
+
+    /** Retries used in current window */
+    private int used;
+
+    public RetryBudget(int maxRetries, long window) {
+	this.maxRetries = maxRetries;
+	this.windowNanos = TimeUnit.MILLISECONDS.toNanos(window);
+	this.windowStart = System.nanoTime();
+    }
+
+    /**
+     * Use one retry from the budget.
+     *
+     * @return false if the budget for the current window is used up
+     */
+    public synchronized boolean tryAcquire() {
+	long now = System.nanoTime();
+	if (now - windowStart >= windowNanos) {
+	    windowStart = now;
+	    used = 0;
+	}
+	if (used >= maxRetries) {
+	    return false;
+	}
+	used++;
+	return true;
+    }
+
+    /**
+     * Get number of retries left in the current window.
+     *
+     * @return
+     */
+    public synchronized int getRemaining() {
+	if (System.nanoTime() - windowStart >= windowNanos) {
+	    return maxRetries;
+	}
+	return maxRetries - used;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.retry;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+import com.sitewhere.spi.CallRejectedException;
+import com.sitewhere.spi.IRetryListener;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Interceptor that resends calls which fail with a transient error according
+ * to a {@link RetryPolicy}. Delays are spent on the calling thread (the
+ * dispatcher thread for asynchronous calls). A Retry-After header in seconds
+ * extends the delay; if it asks for longer than the policy's maximum delay,
+ * the failure is returned instead. Calls rejected by a circuit breaker or
+ * bulkhead are not retried.
+ */
+public class RetryInterceptor implements Interceptor {
+
+    /** Policy for retries */
+    private RetryPolicy policy;
+
+    public RetryInterceptor(RetryPolicy policy) {
+	this.policy = policy;
+    }
+
+    /*
+     * @see okhttp3.Interceptor#intercept(okhttp3.Interceptor.Chain)
+     */
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+	Request request = chain.request();
+	boolean retryable = policy.isRetryable(request);
+	IRetryListener listener = policy.getListener();
+	String method = request.method();
+	String path = request.url().encodedPath();
+	long start = System.nanoTime();
+	int attempt = 0;
+	while (true) {
+	    attempt++;
+	    long attemptStart = System.nanoTime();
+	    Response response = null;
+	    IOException error = null;
+	    try {
+		response = chain.proceed(request);
+	    } catch (CallRejectedException e) {
+		throw e;
+	    } catch (IOException e) {
+		if (chain.call().isCanceled()) {
+		    throw e;
+		}
+		error = e;
+	    }
+	    int code = (response != null) ? response.code() : -1;
+	    if (listener != null) {
+		listener.onAttempt(method, path, attempt, code, System.nanoTime() - attemptStart);
+	    }
+	    boolean failed = (error != null) || policy.isRetryableStatus(code);
+	    long delay = failed ? getDelay(attempt, response) : -1;
+	    boolean retry = retryable && (delay >= 0) && (attempt < policy.getMaxAttempts());
+	    if (retry && !policy.getBudget().tryAcquire()) {
+		if (listener != null) {
+		    listener.onBudgetExhausted(method, path);
+		}
+		retry = false;
+	    }
+	    if (!retry) {
+		if (listener != null) {
+		    listener.onCompleted(method, path, attempt, !failed, System.nanoTime() - start);
+		}
+		if (error != null) {
+		    throw error;
+		}
+		return response;
+	    }
+	    if (response != null) {
+		response.close();
+	    }
+	    sleep(delay);
+	}
+    }
+
+    /**
+     * Get delay before the next attempt or -1 if the server asked for a longer
+     * delay than the policy allows.
+     *
+     * @param attempt
+     * @param response
+     * @return
+     */
+    protected long getDelay(int attempt, Response response) {
+	long delay = policy.getDelay(attempt);
+	String retryAfter = (response != null) ? response.header("Retry-After") : null;
+	if (retryAfter != null) {
+	    try {
+		long requested = TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+		if (requested > policy.getMaxDelay()) {
+		    return -1;
+		}
+		delay = Math.max(delay, requested);
+	    } catch (NumberFormatException e) {
+		// Dates are not supported, use the backoff delay.
+	    }
+	}
+	return delay;
+    }
+
+    /**
+     * Wait before the next attempt.
+     *
+     * @param delay
+     * @throws InterruptedIOException
+     */
+    protected void sleep(long delay) throws InterruptedIOException {
+	try {
+	    Thread.sleep(delay);
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	    throw new InterruptedIOException("Interrupted while waiting to retry.");
+	}
+    }
+}
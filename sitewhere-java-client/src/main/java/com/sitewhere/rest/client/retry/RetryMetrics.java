@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.retry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sitewhere.spi.IRetryListener;
+
+/**
+ * {@link IRetryListener} that keeps running totals for export to a monitoring
+ * system.
+ */
+public class RetryMetrics implements IRetryListener {
+
+    /** Number of calls completed */
+    private LongAdder calls = new LongAdder();
+
+    /** Number of attempts made */
+    private LongAdder attempts = new LongAdder();
+
+    /** Number of calls that failed after all attempts */
+    private LongAdder failures = new LongAdder();
+
+    /** Number of calls that succeeded after a retry */
+    private LongAdder recovered = new LongAdder();
+
+    /** Number of retries refused by the retry budget */
+    private LongAdder budgetExhausted = new LongAdder();
+
+    /** Total latency of completed calls */
+    private LongAdder totalLatencyNanos = new LongAdder();
+
+    /** Highest latency of a completed call */
+    private LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    /*
+     * @see com.sitewhere.spi.IRetryListener#onAttempt(java.lang.String,
+     * java.lang.String, int, int, long)
+     */
+    @Override
+    public void onAttempt(String method, String path, int attempt, int code, long latencyNanos) {
+	attempts.increment();
+    }
+
+    /*
+     * @see com.sitewhere.spi.IRetryListener#onBudgetExhausted(java.lang.String,
+     * java.lang.String)
+     */
+    @Override
+    public void onBudgetExhausted(String method, String path) {
+	budgetExhausted.increment();
+    }
+
+    /*
+     * @see com.sitewhere.spi.IRetryListener#onCompleted(java.lang.String,
+     * java.lang.String, int, boolean, long)
+     */
+    @Override
+    public void onCompleted(String method, String path, int attempts, boolean succeeded, long latencyNanos) {
+	calls.increment();
+	if (!succeeded) {
+	    failures.increment();
+	} else if (attempts > 1) {
+	    recovered.increment();
+	}
+	totalLatencyNanos.add(latencyNanos);
+	maxLatencyNanos.accumulate(latencyNanos);
+    }
+
+    public long getCalls() {
+	return calls.sum();
+    }
+
+    public long getAttempts() {
+	return attempts.sum();
+    }
+
+    public long getRetries() {
+	return attempts.sum() - calls.sum();
+    }
+
+    public long getFailures() {
+	return failures.sum();
+    }
+
+    public long getRecovered() {
+	return recovered.sum();
+    }
+
+    public long getBudgetExhausted() {
+	return budgetExhausted.sum();
+    }
+
+    /**
+     * Get mean latency of completed calls in milliseconds.
+     *
+     * @return
+     */
+    public double getMeanLatency() {
+	long count = calls.sum();
+	return (count == 0) ? 0 : (totalLatencyNanos.sum() / (double) count) / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Get highest latency of a completed call in milliseconds.
+     *
+     * @return
+     */
+    public long getMaxLatency() {
+	return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+    }
+
+    /*
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+	return "RetryMetrics [calls=" + getCalls() + ", retries=" + getRetries() + ", failures=" + getFailures()
+		+ ", recovered=" + getRecovered() + ", budgetExhausted=" + getBudgetExhausted() + "]";
+    }
+}
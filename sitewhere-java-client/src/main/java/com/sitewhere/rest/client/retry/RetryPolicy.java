@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.sitewhere.rest.client.governor.GovernorInterceptor;
+import com.sitewhere.spi.EndpointGroup;
+import com.sitewhere.spi.IRetryListener;
+
+import okhttp3.Request;
+
+/**
+ * Settings for retrying REST calls that fail with a transient error. Calls
+ * are retried with exponential backoff and jitter, subject to a budget that
+ * caps the number of retries in a time window. GET, PUT and DELETE calls are
+ * retried automatically. Event creation is retried only when enabled, in which
+ * case the client assigns an alternate id to each event so that the server
+ * can discard duplicates.
+ */
+public class RetryPolicy {
+
+    /** Default maximum number of attempts per call (including the first) */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /** Default delay before the first retry (ms) */
+    public static final long DEFAULT_INITIAL_DELAY = 100;
+
+    /** Default maximum delay between attempts (ms) */
+    public static final long DEFAULT_MAX_DELAY = 5 * 1000;
+
+    /** Default fraction of each delay that is randomized */
+    public static final double DEFAULT_JITTER = 0.5;
+
+    /** Default maximum number of retries per budget window */
+    public static final int DEFAULT_BUDGET_RETRIES = 100;
+
+    /** Default budget window (ms) */
+    public static final long DEFAULT_BUDGET_WINDOW = 10 * 1000;
+
+    /** Maximum number of attempts per call */
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    /** Delay before the first retry (ms) */
+    private long initialDelay = DEFAULT_INITIAL_DELAY;
+
+    /** Maximum delay between attempts (ms) */
+    private long maxDelay = DEFAULT_MAX_DELAY;
+
+    /** Fraction of each delay that is randomized */
+    private double jitter = DEFAULT_JITTER;
+
+    /** Indicates whether event creation calls are retried */
+    private boolean retryEvents = false;
+
+    /** Limits retries across all calls */
+    private RetryBudget budget = new RetryBudget(DEFAULT_BUDGET_RETRIES, DEFAULT_BUDGET_WINDOW);
+
+    /** Receives attempt counts and latencies (null if not used) */
+    private IRetryListener listener;
+
+    /**
+     * Get new builder class.
+     *
+     * @return
+     */
+    public static Builder newBuilder() {
+	return new Builder();
+    }
+
+    /**
+     * Indicates whether a request may be sent more than once.
+     *
+     * @param request
+     * @return
+     */
+    public boolean isRetryable(Request request) {
+	switch (request.method()) {
+	case "GET":
+	case "HEAD":
+	case "PUT":
+	case "DELETE":
+	    return true;
+	case "POST":
+	    return isRetryEvents() && (GovernorInterceptor.classify(request) == EndpointGroup.Events);
+	default:
+	    return false;
+	}
+    }
+
+    /**
+     * Indicates whether a response code signals a transient error.
+     *
+     * @param code
+     * @return
+     */
+    public boolean isRetryableStatus(int code) {
+	return (code == 408) || (code == 429) || (code == 502) || (code == 503) || (code == 504);
+    }
+
+    /**
+     * Get delay before the next attempt. The delay doubles with each attempt up
+     * to the maximum, and the jitter fraction of it is randomized so that
+     * clients which failed together do not retry together.
+     *
+     * @param attempt number of attempts made so far
+     * @return delay in milliseconds
+     */
+    public long getDelay(int attempt) {
+	long base = initialDelay << Math.min(attempt - 1, 30);
+	long delay = ((base <= 0) || (base > maxDelay)) ? maxDelay : base;
+	double random = ThreadLocalRandom.current().nextDouble();
+	return (long) (delay * (1 - (jitter * random)));
+    }
+
+    public int getMaxAttempts() {
+	return maxAttempts;
+    }
+
+    public long getInitialDelay() {
+	return initialDelay;
+    }
+
+    public long getMaxDelay() {
+	return maxDelay;
+    }
+
+    public double getJitter() {
+	return jitter;
+    }
+
+    public boolean isRetryEvents() {
+	return retryEvents;
+    }
+
+    public RetryBudget getBudget() {
+	return budget;
+    }
+
+    public IRetryListener getListener() {
+	return listener;
+    }
+
+    /**
+     * Builder class.
+     */
+    public static class Builder {
+
+	private RetryPolicy policy = new RetryPolicy();
+
+	public RetryPolicy build() {
+	    if (policy.maxAttempts < 1) {
+		throw new IllegalArgumentException("Maximum attempts must be at least one.");
+	    }
+	    if ((policy.jitter < 0) || (policy.jitter > 1)) {
+		throw new IllegalArgumentException("Jitter must be between zero and one.");
+	    }
+	    return policy;
+	}
+
+	/**
+	 * Set maximum number of attempts per call, including the first.
+	 *
+	 * @param maxAttempts
+	 * @return
+	 */
+	public Builder withMaxAttempts(int maxAttempts) {
+	    policy.maxAttempts = maxAttempts;
+	    return this;
+	}
+
+	/**
+	 * Set exponential backoff between attempts.
+	 *
+	 * @param initialDelay delay before the first retry (ms)
+	 * @param maxDelay maximum delay (ms)
+	 * @param jitter fraction of each delay that is randomized (0 to 1)
+	 * @return
+	 */
+	public Builder withBackoff(long initialDelay, long maxDelay, double jitter) {
+	    policy.initialDelay = initialDelay;
+	    policy.maxDelay = maxDelay;
+	    policy.jitter = jitter;
+	    return this;
+	}
+
+	/**
+	 * Set maximum number of retries across all calls in a time window. Once
+	 * the budget is used up, failures are returned without retrying so that
+	 * retries do not add load to a server that is already struggling.
+	 *
+	 * @param maxRetries
+	 * @param window window length (ms)
+	 * @return
+	 */
+	public Builder withRetryBudget(int maxRetries, long window) {
+	    policy.budget = new RetryBudget(maxRetries, window);
+	    return this;
+	}
+
+	/**
+	 * Retry calls that add device events. The client assigns an alternate id
+	 * to events that do not have one so that the server can discard
+	 * duplicates.
+	 *
+	 * @param retryEvents
+	 * @return
+	 */
+	public Builder withEventRetries(boolean retryEvents) {
+	    policy.retryEvents = retryEvents;
+	    return this;
+	}
+
+	/**
+	 * Set listener that receives attempt counts and latencies.
+	 *
+	 * @param listener
+	 * @return
+	 */
+	public Builder withListener(IRetryListener listener) {
+	    policy.listener = listener;
+	    return this;
+	}
+    }
+}
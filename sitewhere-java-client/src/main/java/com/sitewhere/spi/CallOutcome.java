@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+/**
+ * Outcome of a REST call as seen by client-side flow control.
+ */
+public enum CallOutcome {
+
+    /** Call completed normally */
+    Success,
+
+    /** Server is overloaded or unreachable (429, 5xx, timeouts) */
+    Overload,
+
+    /** Call failed for reasons unrelated to server load (other 4xx) */
+    Ignore;
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+/**
+ * Thrown when the client refuses to send a call without contacting the server,
+ * because the circuit for its group is open, its bulkhead is full or the
+ * throughput governor has no permit for it.
+ */
+public class CallRejectedException extends SiteWhereException {
+
+    /** Serial version UID */
+    private static final long serialVersionUID = 4829201716230918841L;
+
+    /** Group the call belongs to */
+    private String group;
+
+    public CallRejectedException(String group, String message) {
+	super(message);
+	this.group = group;
+    }
+
+    /**
+     * Get the group the call belongs to.
+     *
+     * @return
+     */
+    public String getGroup() {
+	return group;
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+/**
+ * State of a circuit breaker.
+ */
+public enum CircuitState {
+
+    /** Calls are sent normally */
+    Closed,
+
+    /** Calls fail without being sent */
+    Open,
+
+    /** A limited number of trial calls are sent to test recovery */
+    HalfOpen;
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+/**
+ * Encoding used to compress request bodies.
+ */
+public enum ContentEncoding {
+
+    /** Gzip format (RFC 1952) */
+    Gzip("gzip"),
+
+    /** Zlib format (RFC 1950) */
+    Deflate("deflate");
+
+    /** Value of Content-Encoding header */
+    private String headerValue;
+
+    private ContentEncoding(String headerValue) {
+	this.headerValue = headerValue;
+    }
+
+    public String getHeaderValue() {
+	return headerValue;
+    }
+}
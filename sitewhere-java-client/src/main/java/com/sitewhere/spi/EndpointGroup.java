@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+/**
+ * Groups of REST endpoints with similar cost on the server. Client-side flow
+ * control is configured and tracked separately for each group.
+ */
+public enum EndpointGroup {
+
+    /** Calls that add device events */
+    Events,
+
+    /** Reads, including list and search calls */
+    Search,
+
+    /** Calls that create, update or delete entities */
+    Admin;
+}
@@ -0,0 +1,1966 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.sitewhere.rest.model.area.Area;
+import com.sitewhere.rest.model.area.AreaType;
+import com.sitewhere.rest.model.area.Zone;
+import com.sitewhere.rest.model.area.request.AreaCreateRequest;
+import com.sitewhere.rest.model.area.request.AreaTypeCreateRequest;
+import com.sitewhere.rest.model.area.request.ZoneCreateRequest;
+import com.sitewhere.rest.model.asset.Asset;
+import com.sitewhere.rest.model.asset.AssetType;
+import com.sitewhere.rest.model.asset.marshaling.MarshaledAsset;
+import com.sitewhere.rest.model.asset.request.AssetCreateRequest;
+import com.sitewhere.rest.model.asset.request.AssetTypeCreateRequest;
+import com.sitewhere.rest.model.batch.BatchElement;
+import com.sitewhere.rest.model.batch.BatchOperation;
+import com.sitewhere.rest.model.batch.request.InvocationByDeviceCriteriaRequest;
+import com.sitewhere.rest.model.batch.request.BatchCommandInvocationRequest;
+import com.sitewhere.rest.model.customer.Customer;
+import com.sitewhere.rest.model.customer.CustomerType;
+import com.sitewhere.rest.model.customer.request.CustomerCreateRequest;
+import com.sitewhere.rest.model.customer.request.CustomerTypeCreateRequest;
+import com.sitewhere.rest.model.device.Device;
+import com.sitewhere.rest.model.device.DeviceElementMapping;
+import com.sitewhere.rest.model.device.DeviceStatus;
+import com.sitewhere.rest.model.device.DeviceType;
+import com.sitewhere.rest.model.device.asset.DeviceAlertWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceCommandResponseWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceEventWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceLocationWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceMeasurementWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceStateChangeWithAsset;
+import com.sitewhere.rest.model.device.charting.ChartSeries;
+import com.sitewhere.rest.model.device.charting.MeasurementSeries;
+import com.sitewhere.rest.model.device.command.DeviceCommand;
+import com.sitewhere.rest.model.device.command.DeviceCommandNamespace;
+import com.sitewhere.rest.model.device.event.DeviceCommandInvocation;
+import com.sitewhere.rest.model.device.event.DeviceCommandResponse;
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceCommandInvocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceCommandResponseCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceStateChangeCreateRequest;
+import com.sitewhere.rest.model.device.event.view.DeviceCommandInvocationSummary;
+import com.sitewhere.rest.model.device.group.DeviceGroup;
+import com.sitewhere.rest.model.device.group.DeviceGroupElement;
+import com.sitewhere.rest.model.device.marshaling.MarshaledArea;
+import com.sitewhere.rest.model.device.marshaling.MarshaledAreaType;
+import com.sitewhere.rest.model.device.marshaling.MarshaledCustomer;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDevice;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDeviceAssignment;
+import com.sitewhere.rest.model.device.request.DeviceAssignmentBulkRequest;
+import com.sitewhere.rest.model.device.request.DeviceAssignmentCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceCommandCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceGroupCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceGroupElementCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceStatusCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceTypeCreateRequest;
+import com.sitewhere.rest.model.device.state.DeviceState;
+import com.sitewhere.rest.model.scheduling.Schedule;
+import com.sitewhere.rest.model.scheduling.ScheduledJob;
+import com.sitewhere.rest.model.scheduling.request.ScheduleCreateRequest;
+import com.sitewhere.rest.model.scheduling.request.ScheduledJobCreateRequest;
+import com.sitewhere.rest.model.search.DateRangeSearchCriteria;
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.rest.model.search.TreeNode;
+import com.sitewhere.rest.model.search.area.AreaResponseFormat;
+import com.sitewhere.rest.model.search.area.AreaSearchCriteria;
+import com.sitewhere.rest.model.search.area.AreaTypeSearchCriteria;
+import com.sitewhere.rest.model.search.asset.AssetSearchCriteria;
+import com.sitewhere.rest.model.search.asset.AssetTypeSearchCriteria;
+import com.sitewhere.rest.model.search.batch.BatchOperationSearchCriteria;
+import com.sitewhere.rest.model.search.customer.CustomerResponseFormat;
+import com.sitewhere.rest.model.search.customer.CustomerSearchCriteria;
+import com.sitewhere.rest.model.search.customer.CustomerTypeResponseFormat;
+import com.sitewhere.rest.model.search.customer.CustomerTypeSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceAssignmentResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceAssignmentSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceByGroupResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceCommandSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceGroupElementResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceGroupElementSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceGroupSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceStateResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceStateSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceStatusSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceTypeResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceTypeSearchCriteria;
+import com.sitewhere.rest.model.search.device.ZoneSearchCriteria;
+import com.sitewhere.rest.model.search.scheduling.ScheduleResponseFormat;
+import com.sitewhere.rest.model.search.scheduling.ScheduleSearchCriteria;
+import com.sitewhere.rest.model.search.scheduling.ScheduledJobResponseFormat;
+import com.sitewhere.rest.model.search.scheduling.ScheduledJobSearchCriteria;
+import com.sitewhere.rest.model.search.tenant.TenantSearchCriteria;
+import com.sitewhere.rest.model.system.Version;
+import com.sitewhere.rest.model.tenant.Tenant;
+import com.sitewhere.rest.model.tenant.request.TenantCreateRequest;
+import com.sitewhere.rest.model.user.GrantedAuthority;
+import com.sitewhere.rest.model.user.GrantedAuthorityHierarchyNode;
+import com.sitewhere.rest.model.user.User;
+import com.sitewhere.rest.model.user.request.GrantedAuthorityCreateRequest;
+import com.sitewhere.rest.model.user.request.UserCreateRequest;
+
+/**
+ * Non-blocking variant of {@link ISiteWhereClient}. Each call is queued on the
+ * HTTP dispatcher and returns immediately with a {@link CompletableFuture} that
+ * is completed when the response arrives. Failures complete the future
+ * exceptionally with a {@link SiteWhereException}.
+ */
+public interface IAsyncSiteWhereClient {
+
+    /**
+     * Initialize the client. This call blocks while the JWT is acquired from the
+     * server.
+     * 
+     * @return Initialized IAsyncSiteWhereClient.
+     * @throws SiteWhereException
+     */
+    public IAsyncSiteWhereClient initialize() throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Area Types
+    // ------------------------------------------------------------------------
+
+    /**
+     * List area types matching criteria.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria Search criteria object used for filtering Area Type results.
+     * @return <code>SearchResuts</code> object containing area type matching the criteria provided. 
+     */
+    public CompletableFuture<SearchResults<AreaType>> listAreaTypes(ITenantAuthentication tenant,
+	    AreaTypeSearchCriteria searchCriteria);
+
+    /**
+     * Get a area type by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaTypeToken
+     * @return
+     */
+    public CompletableFuture<MarshaledAreaType> getAreaTypeByToken(ITenantAuthentication tenant, String areaTypeToken);
+
+    /**
+     * Create a new area type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<AreaType> createAreaType(ITenantAuthentication tenant, AreaTypeCreateRequest request);
+
+    /**
+     * Update an existing area type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaTypeToken
+     * @param request
+     * @return
+     */
+    public CompletableFuture<AreaType> updateAreaType(ITenantAuthentication tenant, String areaTypeToken,
+	    AreaTypeCreateRequest request);
+
+    /**
+     * Delete an existing area type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaTypeToken
+     * @return
+     */
+    public CompletableFuture<AreaType> deleteAreaType(ITenantAuthentication tenant, String areaTypeToken);
+
+    /**
+     * Get label for area type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaTypeToken
+     * @param generatorId
+     * @return
+     */
+    public CompletableFuture<byte[]> getLabelForAreaType(ITenantAuthentication tenant, String areaTypeToken,
+	    String generatorId);
+
+    // ------------------------------------------------------------------------
+    // Areas
+    // ------------------------------------------------------------------------
+
+    /**
+     * List areas matching criteria.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<Area>> listAreas(ITenantAuthentication tenant,
+	    AreaSearchCriteria searchCriteria, AreaResponseFormat responseFormat);
+
+    /**
+     * Get a area by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaToken
+     * @return
+     */
+    public CompletableFuture<MarshaledArea> getAreaByToken(ITenantAuthentication tenant, String areaToken);
+
+    /**
+     * Get areas for a collection of tokens. Lookups run in parallel up to the
+     * configured bulk lookup parallelism. Tokens that can not be resolved are
+     * reported in the result errors.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param tokens
+     * @return
+     */
+    public CompletableFuture<IBulkLookupResult<MarshaledArea>> bulkGetAreasByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens);
+
+    /**
+     * Create a new area type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Area> createArea(ITenantAuthentication tenant, AreaCreateRequest request);
+
+    /**
+     * Update an existing area type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaToken
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Area> updateArea(ITenantAuthentication tenant, String areaToken,
+	    AreaCreateRequest request);
+
+    /**
+     * Delete an existing area type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaToken
+     * @return
+     */
+    public CompletableFuture<Area> deleteArea(ITenantAuthentication tenant, String areaToken);
+
+    /**
+     * List alerts for an area.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceAlertWithAsset>> listAlertsForArea(ITenantAuthentication tenant,
+	    String areaToken, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * List device assignments for an area.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<MarshaledDeviceAssignment>> listDeviceAssignmentsForArea(
+	    ITenantAuthentication tenant, String areaToken, DeviceAssignmentSearchCriteria searchCriteria,
+	    DeviceAssignmentResponseFormat responseFormat);
+
+    /**
+     * List command invocations for an area.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceCommandInvocation>> listCommandInvocationsForArea(
+	    ITenantAuthentication tenant, String areaToken, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * Get label for area.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaToken
+     * @param generatorId
+     * @return
+     */
+    public CompletableFuture<byte[]> getLabelForArea(ITenantAuthentication tenant, String areaToken,
+	    String generatorId);
+
+    /**
+     * List locations for an area.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceLocationWithAsset>> listLocationsForArea(ITenantAuthentication tenant,
+	    String areaToken, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * List locations for an area.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceMeasurementWithAsset>> listMeasurementsForArea(
+	    ITenantAuthentication tenant, String areaToken, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * List command responses for an area.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceCommandResponseWithAsset>> listCommandResponsesForArea(
+	    ITenantAuthentication tenant, String areaToken, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * List state changes for an area.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceStateChangeWithAsset>> listStateChangesForArea(
+	    ITenantAuthentication tenant, String areaToken, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * List all areas in tree format.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @return
+     */
+    public CompletableFuture<List<TreeNode>> areaTree(ITenantAuthentication tenant);
+
+    // ------------------------------------------------------------------------
+    // Asset Types
+    // ------------------------------------------------------------------------
+
+    /**
+     * List asset types matching criteria.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<AssetType>> listAssetTypes(ITenantAuthentication tenant,
+	    AssetTypeSearchCriteria searchCriteria);
+
+    /**
+     * Get a asset type by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param assetTypeToken
+     * @return
+     */
+    public CompletableFuture<AssetType> getAssetTypeByToken(ITenantAuthentication tenant, String assetTypeToken);
+
+    /**
+     * Create a new asset type type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<AssetType> createAssetType(ITenantAuthentication tenant, AssetTypeCreateRequest request);
+
+    /**
+     * Update an existing asset type type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param assetTypeToken
+     * @param request
+     * @return
+     */
+    public CompletableFuture<AssetType> updateAssetType(ITenantAuthentication tenant, String assetTypeToken,
+	    AssetTypeCreateRequest request);
+
+    /**
+     * Delete an existing asset type type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param assetTypeToken
+     * @return
+     */
+    public CompletableFuture<AssetType> deleteAssetType(ITenantAuthentication tenant, String assetTypeToken);
+
+    /**
+     * Get label for asset type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param assetTypeToken
+     * @param generatorId
+     * @return
+     */
+    public CompletableFuture<byte[]> getLabelForAssetType(ITenantAuthentication tenant, String assetTypeToken,
+	    String generatorId);
+
+    // ------------------------------------------------------------------------
+    // Asset
+    // ------------------------------------------------------------------------
+
+    /**
+     * List assets matching criteria.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<Asset>> listAssets(ITenantAuthentication tenant,
+	    AssetSearchCriteria searchCriteria);
+
+    /**
+     * Get a asset by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param assetToken
+     * @return
+     */
+    public CompletableFuture<MarshaledAsset> getAssetByToken(ITenantAuthentication tenant, String assetToken);
+
+    /**
+     * Create a new asset.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Asset> createAsset(ITenantAuthentication tenant, AssetCreateRequest request);
+
+    /**
+     * Update an existing asset.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param assetToken
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Asset> updateAsset(ITenantAuthentication tenant, String assetToken,
+	    AssetCreateRequest request);
+
+    /**
+     * Delete an existing asset.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param assetToken
+     * @return
+     */
+    public CompletableFuture<Asset> deleteAsset(ITenantAuthentication tenant, String assetToken);
+
+    /**
+     * Get label for asset.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param assetToken
+     * @param generatorId
+     * @return
+     */
+    public CompletableFuture<byte[]> getLabelForAsset(ITenantAuthentication tenant, String assetToken,
+	    String generatorId);
+
+    // ------------------------------------------------------------------------
+    // Assignments
+    // ------------------------------------------------------------------------
+
+    /**
+     * List device assignment matching criteria.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param format
+     * @return
+     */
+    public CompletableFuture<SearchResults<MarshaledDeviceAssignment>> listDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentSearchCriteria searchCriteria,
+	    DeviceAssignmentResponseFormat format);
+
+    /**
+     * Get a device assignment by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<MarshaledDeviceAssignment> getDeviceAssignmentByToken(ITenantAuthentication tenant,
+	    String token);
+
+    /**
+     * Get device assignments for a collection of tokens. Lookups run in parallel up to the
+     * configured bulk lookup parallelism. Tokens that can not be resolved are
+     * reported in the result errors.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param tokens
+     * @return
+     */
+    public CompletableFuture<IBulkLookupResult<MarshaledDeviceAssignment>> bulkGetDeviceAssignmentsByToken(
+	    ITenantAuthentication tenant, Collection<String> tokens);
+
+    /**
+     * Create a new device assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<MarshaledDeviceAssignment> createDeviceAssignment(ITenantAuthentication tenant,
+	    DeviceAssignmentCreateRequest request);
+
+    /**
+     * Update an existing device assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param request
+     * @return
+     */
+    public CompletableFuture<MarshaledDeviceAssignment> updateDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DeviceAssignmentCreateRequest request);
+
+    /**
+     * Delete an existing device assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<MarshaledDeviceAssignment> deleteDeviceAssignment(ITenantAuthentication tenant,
+	    String token);
+
+    /**
+     * List alerts for a device assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceAlertWithAsset>> listAlertsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * Create alert event for device assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceAlertWithAsset> createAlertForDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DeviceAlertCreateRequest request);
+
+    /**
+     * Release an active device assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<MarshaledDeviceAssignment> releaseDeviceAssignment(ITenantAuthentication tenant,
+	    String token);
+
+    /**
+     * List command invocations for a device assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param includeCommand
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceCommandInvocation>> listCommandInvocationsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, Boolean includeCommand, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * Create command invocation event for assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceCommandInvocation> createCommandInvocationForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DeviceCommandInvocationCreateRequest request);
+
+    /**
+     * Schedule command invocation.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param scheduleToken
+     * @param request
+     * @return
+     */
+    public CompletableFuture<ScheduledJob> scheduleCommandInvocation(ITenantAuthentication tenant, String token,
+	    String scheduleToken, DeviceCommandInvocationCreateRequest request);
+
+    /**
+     * Get label for device assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param generatorId
+     * @return
+     */
+    public CompletableFuture<byte[]> getLabelForDeviceAssignment(ITenantAuthentication tenant, String token,
+	    String generatorId);
+
+    /**
+     * List location events for device assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceLocationWithAsset>> listLocationsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * Create location event for assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceLocationWithAsset> createLocationForDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DeviceLocationCreateRequest request);
+
+    /**
+     * List measurement events for device assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceMeasurementWithAsset>> listMeasurementsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * Create location event for assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceMeasurementWithAsset> createMeasurementForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DeviceMeasurementCreateRequest request);
+
+    /**
+     * List assignment measurements as chart series.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<List<ChartSeries<Double>>> listMeasurementsForDeviceAssignmentAsChartSeries(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * List assignment measurements as columnar measurement series.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param token
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<List<MeasurementSeries>> listMeasurementsForDeviceAssignmentAsMeasurementSeries(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * Mark device assignment as missing.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<MarshaledDeviceAssignment> markMissingDeviceAssignment(ITenantAuthentication tenant,
+	    String token);
+
+    /**
+     * List command response events for assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceCommandResponseWithAsset>> listCommandResponsesForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * Create command response event for assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceCommandResponseWithAsset> createCommandResponseForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DeviceCommandResponseCreateRequest request);
+
+    /**
+     * List state change events for assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceStateChangeWithAsset>> listStateChangesForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * Create state change event for assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceStateChangeWithAsset> createStateChangeForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DeviceStateChangeCreateRequest request);
+
+    /**
+     * List alert events for device assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceAlertWithAsset>> bulkListAlertsForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request);
+
+    /**
+     * List command invocation events for assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceCommandInvocation>> bulkListCommandInvocationsForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request);
+
+    /**
+     * List location events for device assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceLocationWithAsset>> bulkListLocationsForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request);
+
+    /**
+     * List measurement events for multiple assignments.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceMeasurementWithAsset>> bulkListMeasurementsForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request);
+
+    /**
+     * List measurements for multiple assignments as chart series.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Map<String, List<ChartSeries<Double>>>> bulkListMeasurementsForDeviceAssignmentsAsChartSeries(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request);
+
+    /**
+     * List measurements for multiple assignments as columnar measurement series.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Map<String, List<MeasurementSeries>>> bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request);
+
+    /**
+     * List command response events for assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceCommandResponseWithAsset>> bulkListCommandResponsesForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request);
+
+    /**
+     * List state change events for a device assignment.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceStateChangeWithAsset>> bulkListStateChangesForDeviceAssignments(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request);
+
+    // ------------------------------------------------------------------------
+    // Authorities
+    // ------------------------------------------------------------------------
+
+    /**
+     * List authorities that match criteria.
+     * 
+     * @return
+     */
+    public CompletableFuture<SearchResults<GrantedAuthority>> listAuthorities(ITenantAuthentication tenant);
+
+    /**
+     * Get authority by name.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param name
+     * @return
+     */
+    public CompletableFuture<GrantedAuthority> getAuthorityByName(ITenantAuthentication tenant, String name);
+
+    /**
+     * Create a new authority.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<GrantedAuthority> createAuthority(ITenantAuthentication tenant,
+	    GrantedAuthorityCreateRequest request);
+
+    /**
+     * Get authorities hierarchy.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @return
+     */
+    public CompletableFuture<List<GrantedAuthorityHierarchyNode>> getAuthoritiesHierarchy(ITenantAuthentication tenant);
+
+    // ------------------------------------------------------------------------
+    // Batch Operations
+    // ------------------------------------------------------------------------
+
+    /**
+     * List batch operations.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<BatchOperation>> listBatchOperations(ITenantAuthentication tenant,
+	    BatchOperationSearchCriteria searchCriteria);
+
+    /**
+     * Get a batch operation by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param batchToken
+     * @return
+     */
+    public CompletableFuture<BatchOperation> getBatchOperationByToken(ITenantAuthentication tenant, String batchToken);
+
+    /**
+     * List batch operation elements.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param operationToken
+     * @return
+     */
+    public CompletableFuture<SearchResults<BatchElement>> listBatchOperationElements(ITenantAuthentication tenant,
+	    String operationToken);
+
+    /**
+     * Create new batch command invocation.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<BatchOperation> createBatchCommandInvocation(ITenantAuthentication tenant,
+	    BatchCommandInvocationRequest request);
+
+    /**
+     * Create batch command operation based on criteria.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Object> createBatchCommandOperationForCriteria(ITenantAuthentication tenant,
+	    InvocationByDeviceCriteriaRequest request);
+
+    // ------------------------------------------------------------------------
+    // Command Invocations
+    // ------------------------------------------------------------------------
+
+    /**
+     * Get command invocation by unique id.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param id
+     * @return
+     */
+    public CompletableFuture<DeviceCommandInvocation> getDeviceCommandInvocation(ITenantAuthentication tenant,
+	    String id);
+
+    /**
+     * Get command invocation summary.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param id
+     * @return
+     */
+    public CompletableFuture<DeviceCommandInvocationSummary> getDeviceCommandInvocationSummary(
+	    ITenantAuthentication tenant, String id);
+
+    /**
+     * List responses for command invocation.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param id
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceCommandResponse>> listCommandResponsesForCommandInvocation(
+	    ITenantAuthentication tenant, String id);
+
+    // ------------------------------------------------------------------------
+    // Customer Types
+    // ------------------------------------------------------------------------
+
+    /**
+     * List customer types matching criteria.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<CustomerType>> listCustomerTypes(ITenantAuthentication tenant,
+	    CustomerTypeSearchCriteria searchCriteria, CustomerTypeResponseFormat responseFormat);
+
+    /**
+     * Get a customer type by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerTypeToken
+     * @return
+     */
+    public CompletableFuture<CustomerType> getCustomerTypeByToken(ITenantAuthentication tenant,
+	    String customerTypeToken);
+
+    /**
+     * Create a new customer type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<CustomerType> createCustomerType(ITenantAuthentication tenant,
+	    CustomerTypeCreateRequest request);
+
+    /**
+     * Update an existing customer type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerTypeToken
+     * @param request
+     * @return
+     */
+    public CompletableFuture<CustomerType> updateCustomerType(ITenantAuthentication tenant, String customerTypeToken,
+	    CustomerTypeCreateRequest request);
+
+    /**
+     * Delete an existing customer type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerTypeToken
+     * @return
+     */
+    public CompletableFuture<CustomerType> deleteCustomerType(ITenantAuthentication tenant, String customerTypeToken);
+
+    /**
+     * Get label for customer type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerTypeToken
+     * @param generatorId
+     * @return
+     */
+    public CompletableFuture<byte[]> getLabelForCustomerType(ITenantAuthentication tenant, String customerTypeToken,
+	    String generatorId);
+
+    // ------------------------------------------------------------------------
+    // Customer
+    // ------------------------------------------------------------------------
+
+    /**
+     * List customers matching criteria.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<Customer>> listCustomers(ITenantAuthentication tenant,
+	    CustomerSearchCriteria searchCriteria, CustomerResponseFormat responseFormat);
+
+    /**
+     * Get a customer by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerToken
+     * @return
+     */
+    public CompletableFuture<MarshaledCustomer> getCustomerByToken(ITenantAuthentication tenant, String customerToken);
+
+    /**
+     * Create a new customer.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Customer> createCustomer(ITenantAuthentication tenant, CustomerCreateRequest request);
+
+    /**
+     * Update an existing customer.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerToken
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Customer> updateCustomer(ITenantAuthentication tenant, String customerToken,
+	    CustomerCreateRequest request);
+
+    /**
+     * Delete an existing customer.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerToken
+     * @return
+     */
+    public CompletableFuture<Customer> deleteCustomer(ITenantAuthentication tenant, String customerToken);
+
+    /**
+     * List alerts for a customer.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceAlertWithAsset>> listAlertsForCustomer(ITenantAuthentication tenant,
+	    String customerToken, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * List device assignments for a customer.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<MarshaledDeviceAssignment>> listDeviceAssignmentsForCustomer(
+	    ITenantAuthentication tenant, String customerToken, DeviceAssignmentSearchCriteria searchCriteria,
+	    DeviceAssignmentResponseFormat responseFormat);
+
+    /**
+     * List command invocations for a customer.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceCommandInvocation>> listCommandInvocationsForCustomer(
+	    ITenantAuthentication tenant, String customerToken, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * Get label for customer.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerTypeToken
+     * @param generatorId
+     * @return
+     */
+    public CompletableFuture<byte[]> getLabelForCustomer(ITenantAuthentication tenant, String customerTypeToken,
+	    String generatorId);
+
+    /**
+     * List locations for a customer.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceLocationWithAsset>> listLocationsForCustomer(
+	    ITenantAuthentication tenant, String customerToken, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * List locations for a customer.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceMeasurementWithAsset>> listMeasurementsForCustomer(
+	    ITenantAuthentication tenant, String customerToken, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * List command responses for a customer.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceCommandResponseWithAsset>> listCommandResponsesForCustomer(
+	    ITenantAuthentication tenant, String customerToken, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * List state changes for a customer.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceStateChangeWithAsset>> listStateChangesForCustomer(
+	    ITenantAuthentication tenant, String customerToken, DateRangeSearchCriteria searchCriteria);
+
+    /**
+     * List all customer in tree format.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @return
+     */
+    public CompletableFuture<List<TreeNode>> customerTree(ITenantAuthentication tenant);
+
+    // ------------------------------------------------------------------------
+    // Device Commands
+    // ------------------------------------------------------------------------
+
+    /**
+     * List device commands matching criteria.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceCommand>> listDeviceCommands(ITenantAuthentication tenant,
+	    DeviceCommandSearchCriteria searchCriteria);
+
+    /**
+     * Get a device command by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<DeviceCommand> getDeviceCommandByToken(ITenantAuthentication tenant, String token);
+
+    /**
+     * Create a new device command.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceCommand> createDeviceCommand(ITenantAuthentication tenant,
+	    DeviceCommandCreateRequest request);
+
+    /**
+     * Update an existing device command.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceCommand> updateDeviceCommand(ITenantAuthentication tenant, String token,
+	    DeviceCommandCreateRequest request);
+
+    /**
+     * Delete an existing device command.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<DeviceCommand> deleteDeviceCommand(ITenantAuthentication tenant, String token);
+
+    /**
+     * List device commands by namespace.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceCommandNamespace>> listDeviceCommandsByNamesapce(
+	    ITenantAuthentication tenant, DeviceCommandSearchCriteria searchCriteria);
+
+    // ------------------------------------------------------------------------
+    // Device Events
+    // ------------------------------------------------------------------------
+
+    /**
+     * Get a device event by alternate Id.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param alternateId
+     * @return
+     */
+    public CompletableFuture<DeviceEventWithAsset> getDeviceEventByAlternateId(ITenantAuthentication tenant,
+	    String alternateId);
+
+    /**
+     * Get a device event by Id.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param eventId
+     * @return
+     */
+    public CompletableFuture<DeviceEventWithAsset> getDeviceEventById(ITenantAuthentication tenant, String eventId);
+
+    // ------------------------------------------------------------------------
+    // Device Groups
+    // ------------------------------------------------------------------------
+
+    /**
+     * List device groups matching criteria.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceGroup>> listDeviceGroups(ITenantAuthentication tenant,
+	    DeviceGroupSearchCriteria searchCriteria);
+
+    /**
+     * Get a device group by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param groupToken
+     * @return
+     */
+    public CompletableFuture<DeviceGroup> getDeviceGroupByToken(ITenantAuthentication tenant, String groupToken);
+
+    /**
+     * Create a new device group.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceGroup> createDeviceGroup(ITenantAuthentication tenant,
+	    DeviceGroupCreateRequest request);
+
+    /**
+     * Update an existing device group.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param groupToken
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceGroup> updateDeviceGroup(ITenantAuthentication tenant, String groupToken,
+	    DeviceGroupCreateRequest request);
+
+    /**
+     * Delete an existing device group.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param groupToken
+     * @return
+     */
+    public CompletableFuture<DeviceGroup> deleteDeviceGroup(ITenantAuthentication tenant, String groupToken);
+
+    /**
+     * List elements in a device group.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceGroupElement>> listDeviceGroupElements(ITenantAuthentication tenant,
+	    DeviceGroupElementSearchCriteria searchCriteria, DeviceGroupElementResponseFormat responseFormat);
+
+    /**
+     * Add elements to device group.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param groupToken
+     * @param requests
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceGroupElement>> addElementsToDdeviceGroup(ITenantAuthentication tenant,
+	    String groupToken, List<DeviceGroupElementCreateRequest> requests);
+
+    /**
+     * Delete elements from device group.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param groupToken
+     * @param elementIds
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceGroupElement>> deleteDeviceGroupElements(ITenantAuthentication tenant,
+	    String groupToken, List<String> elementIds);
+
+    /**
+     * Delete elements from device group.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param groupToken
+     * @param elementId
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceGroupElement>> deleteDeviceGroupElement(ITenantAuthentication tenant,
+	    String groupToken, String elementId);
+
+    /**
+     * Get label for device group.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param groupToken
+     * @param generatorId
+     * @return
+     */
+    public CompletableFuture<byte[]> getLabelForDeviceGroup(ITenantAuthentication tenant, String groupToken,
+	    String generatorId);
+
+    // ------------------------------------------------------------------------
+    // Device States
+    // ------------------------------------------------------------------------
+
+    /**
+     * List device states matching criteria.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceState>> listDeviceStates(ITenantAuthentication tenant,
+	    DeviceStateSearchCriteria searchCriteria, DeviceStateResponseFormat responseFormat);
+
+    // ------------------------------------------------------------------------
+    // Device Statuses
+    // ------------------------------------------------------------------------
+
+    /**
+     * List device statuses that match criteria..
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceStatus>> listDeviceStatuses(ITenantAuthentication tenant,
+	    DeviceStatusSearchCriteria searchCriteria);
+
+    /**
+     * Get a device status by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<DeviceStatus> getDeviceStatusByToken(ITenantAuthentication tenant, String token);
+
+    /**
+     * Create a new device status.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceStatus> createDeviceStatus(ITenantAuthentication tenant,
+	    DeviceStatusCreateRequest request);
+
+    /**
+     * Update an existing device status.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceStatus> updateDeviceStatus(ITenantAuthentication tenant, String token,
+	    DeviceStatusCreateRequest request);
+
+    /**
+     * Delete an existing device status.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<DeviceStatus> deleteDeviceStatus(ITenantAuthentication tenant, String token);
+
+    // ------------------------------------------------------------------------
+    // Device Types
+    // ------------------------------------------------------------------------
+
+    /**
+     * List device types that match criteria..
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<DeviceType>> listDeviceTypes(ITenantAuthentication tenant,
+	    DeviceTypeSearchCriteria searchCriteria, DeviceTypeResponseFormat responseFormat);
+
+    /**
+     * Get a device type by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<DeviceType> getDeviceTypeByToken(ITenantAuthentication tenant, String token);
+
+    /**
+     * Get device types for a collection of tokens. Lookups run in parallel up to the
+     * configured bulk lookup parallelism. Tokens that can not be resolved are
+     * reported in the result errors.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param tokens
+     * @return
+     */
+    public CompletableFuture<IBulkLookupResult<DeviceType>> bulkGetDeviceTypesByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens);
+
+    /**
+     * Create a new device type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceType> createDeviceType(ITenantAuthentication tenant,
+	    DeviceTypeCreateRequest request);
+
+    /**
+     * Update an existing device type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param request
+     * @return
+     */
+    public CompletableFuture<DeviceType> updateDeviceType(ITenantAuthentication tenant, String token,
+	    DeviceTypeCreateRequest request);
+
+    /**
+     * Delete an existing device type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<DeviceType> deleteDeviceType(ITenantAuthentication tenant, String token);
+
+    /**
+     * Get label for device type.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param generatorId
+     * @return
+     */
+    public CompletableFuture<byte[]> getLabelForDeviceType(ITenantAuthentication tenant, String token,
+	    String generatorId);
+
+    /**
+     * Get device type specification GPB by unique token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<String> getDeviceTypeGPBSpecification(ITenantAuthentication tenant, String token);
+
+    /**
+     * Download device type specification GPB by unique token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<File> downlaodDeviceTypeGPBSpecification(ITenantAuthentication tenant, String token);
+
+    // ------------------------------------------------------------------------
+    // Devices
+    // ------------------------------------------------------------------------
+
+    /**
+     * List devices that match criteria..
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<Device>> listDevices(ITenantAuthentication tenant,
+	    DeviceSearchCriteria searchCriteria, DeviceResponseFormat responseFormat);
+
+    /**
+     * Get a device by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param deviceToken
+     * @return
+     */
+    public CompletableFuture<MarshaledDevice> getDeviceByToken(ITenantAuthentication tenant, String deviceToken);
+
+    /**
+     * Get devices for a collection of tokens. Lookups run in parallel up to the
+     * configured bulk lookup parallelism. Tokens that can not be resolved are
+     * reported in the result errors.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param tokens
+     * @return
+     */
+    public CompletableFuture<IBulkLookupResult<MarshaledDevice>> bulkGetDevicesByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens);
+
+    /**
+     * Create a new device.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<MarshaledDevice> createDevice(ITenantAuthentication tenant, DeviceCreateRequest request);
+
+    /**
+     * Update an existing device.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param deviceToken
+     * @param request
+     * @return
+     */
+    public CompletableFuture<MarshaledDevice> updateDevice(ITenantAuthentication tenant, String deviceToken,
+	    DeviceCreateRequest request);
+
+    /**
+     * Delete an existing device.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param deviceToken
+     * @return
+     */
+    public CompletableFuture<MarshaledDevice> deleteDevice(ITenantAuthentication tenant, String deviceToken);
+
+    /**
+     * List assignment history for device.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param deviceToken
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<MarshaledDeviceAssignment>> listDeviceAssignmentsForDevice(
+	    ITenantAuthentication tenant, String deviceToken, DeviceAssignmentSearchCriteria searchCriteria,
+	    DeviceAssignmentResponseFormat responseFormat);
+
+    /**
+     * Add multiple events for device.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param deviceToken
+     * @param batch
+     * @return
+     */
+    public CompletableFuture<DeviceEventBatchResponse> addMultipleEventsForDevice(ITenantAuthentication tenant,
+	    String deviceToken, DeviceEventBatch batch);
+
+    /**
+     * Get label for device.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param deviceToken
+     * @param generatorId
+     * @return
+     */
+    public CompletableFuture<byte[]> getLabelForDevice(ITenantAuthentication tenant, String deviceToken,
+	    String generatorId);
+
+    /**
+     * Create new device element mapping.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param deviceToken
+     * @param request
+     * @return
+     */
+    public CompletableFuture<MarshaledDevice> createDeviceMappings(ITenantAuthentication tenant, String deviceToken,
+	    DeviceElementMapping request);
+
+    /**
+     * Delete existing device element mapping.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param deviceToken
+     * @param path
+     * @return
+     */
+    public CompletableFuture<MarshaledDevice> deleteDeviceMappings(ITenantAuthentication tenant, String deviceToken,
+	    String path);
+
+    /**
+     * List devices in device group.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param groupToken
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<Device>> listDevicesByDeviceGroup(ITenantAuthentication tenant,
+	    String groupToken, DeviceSearchCriteria searchCriteria, DeviceByGroupResponseFormat responseFormat);
+
+    /**
+     * List devices in device group with role.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param role
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<Device>> listDevicesByDeviceGroupWithRole(ITenantAuthentication tenant,
+	    String role, DeviceSearchCriteria searchCriteria, DeviceByGroupResponseFormat responseFormat);
+
+    // ------------------------------------------------------------------------
+    // External Search
+    // ------------------------------------------------------------------------
+
+    // ------------------------------------------------------------------------
+    // Instance
+    // ------------------------------------------------------------------------
+
+    // ------------------------------------------------------------------------
+    // Scheduled Jobs
+    // ------------------------------------------------------------------------
+
+    /**
+     * List scheduled jobs matching criteria.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<ScheduledJob>> listScheduledJobs(ITenantAuthentication tenant,
+	    ScheduledJobSearchCriteria searchCriteria, ScheduledJobResponseFormat responseFormat);
+
+    /**
+     * Get a schedule job by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<ScheduledJob> getScheduledJobByToken(ITenantAuthentication tenant, String token);
+
+    /**
+     * Create a new schedule job.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<ScheduledJob> createScheduledJob(ITenantAuthentication tenant,
+	    ScheduledJobCreateRequest request);
+
+    /**
+     * Update an existing schedule job.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param request
+     * @return
+     */
+    public CompletableFuture<ScheduledJob> updateScheduledJob(ITenantAuthentication tenant, String token,
+	    ScheduledJobCreateRequest request);
+
+    /**
+     * Delete an existing schedule job.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<ScheduledJob> deleteScheduledJob(ITenantAuthentication tenant, String token);
+
+    // ------------------------------------------------------------------------
+    // Schedules
+    // ------------------------------------------------------------------------
+
+    /**
+     * List schedules matching criteria.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     */
+    public CompletableFuture<SearchResults<Schedule>> listSchedules(ITenantAuthentication tenant,
+	    ScheduleSearchCriteria searchCriteria, ScheduleResponseFormat responseFormat);
+
+    /**
+     * Get a schedule by token.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<Schedule> getScheduleByToken(ITenantAuthentication tenant, String token);
+
+    /**
+     * Create a new schedule.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Schedule> createSchedule(ITenantAuthentication tenant, ScheduleCreateRequest request);
+
+    /**
+     * Update an existing schedule.
+     * 
+     * @param tenant Tenant authentication information. Tenant authentication information.
+     * @param token
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Schedule> updateSchedule(ITenantAuthentication tenant, String token,
+	    ScheduleCreateRequest request);
+
+    /**
+     * Delete an existing schedule.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param token
+     * @return
+     */
+    public CompletableFuture<Schedule> deleteSchedule(ITenantAuthentication tenant, String token);
+
+    // ------------------------------------------------------------------------
+    // System
+    // ------------------------------------------------------------------------
+
+    /**
+     * Get SiteWhere version information.
+     * 
+     * @return
+     */
+    public CompletableFuture<Version> getSiteWhereVersion();
+
+    // ------------------------------------------------------------------------
+    // Tenants
+    // ------------------------------------------------------------------------
+
+    /**
+     * List tenants that match criteria.
+     * 
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<Tenant>> listTenants(TenantSearchCriteria searchCriteria);
+
+    /**
+     * Get a tenant by token.
+     * 
+     * @param tenant Tenant authentication information.Token
+     * @return
+     */
+    public CompletableFuture<Tenant> getTenantByToken(String tenantToken);
+
+    /**
+     * Create a new tenant.
+     * 
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Tenant> createTenant(TenantCreateRequest request);
+
+    /**
+     * Update an existing tenant.
+     * 
+     * @param tenant Tenant authentication information.Token
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Tenant> updateTenant(String tenantToken, TenantCreateRequest request);
+
+    /**
+     * Delete an existing tenant.
+     * 
+     * @param tenant Tenant authentication information.Token
+     * @return
+     */
+    public CompletableFuture<Tenant> deleteTenant(String tenantToken);
+
+    // ------------------------------------------------------------------------
+    // Users
+    // ------------------------------------------------------------------------
+
+    /**
+     * List users matching criteria.
+     * 
+     * @param tenant Tenant authentication information.
+     * @return
+     */
+    public CompletableFuture<SearchResults<User>> listUsers();
+
+    /**
+     * Get a user by username.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param username
+     * @return
+     */
+    public CompletableFuture<User> getUserByUsername(String username);
+
+    /**
+     * Create a new user.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<User> createUser(UserCreateRequest request);
+
+    /**
+     * Update an existing user.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param username
+     * @param request
+     * @return
+     */
+    public CompletableFuture<User> updateUser(String username, UserCreateRequest request);
+
+    /**
+     * Delete an existing user.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param username
+     * @return
+     */
+    public CompletableFuture<User> deleteUser(String username);
+
+    /**
+     * Get authorities for user.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param username
+     * @return
+     */
+    public CompletableFuture<SearchResults<GrantedAuthority>> listUserAuthorities(String username);
+
+    // ------------------------------------------------------------------------
+    // Zones
+    // ------------------------------------------------------------------------
+
+    /**
+     * List zones matching criteria.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param searchCriteria
+     * @return
+     */
+    public CompletableFuture<SearchResults<Zone>> listZones(ITenantAuthentication tenant,
+	    ZoneSearchCriteria searchCriteria);
+
+    /**
+     * Get a zone by token.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param zoneToken
+     * @return
+     */
+    public CompletableFuture<Zone> getZoneByToken(ITenantAuthentication tenant, String zoneToken);
+
+    /**
+     * Create a new zone.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Zone> createZone(ITenantAuthentication tenant, ZoneCreateRequest request);
+
+    /**
+     * Update an existing zone.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param zoneToken
+     * @param request
+     * @return
+     */
+    public CompletableFuture<Zone> updateZone(ITenantAuthentication tenant, String zoneToken,
+	    ZoneCreateRequest request);
+
+    /**
+     * Delete an existing zone.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param zoneToken
+     * @return
+     */
+    public CompletableFuture<Zone> deleteZone(ITenantAuthentication tenant, String zoneToken);
+
+}
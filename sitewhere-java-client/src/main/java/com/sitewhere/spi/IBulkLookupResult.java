@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+import java.util.Map;
+
+/**
+ * Result of looking up a collection of entities by token. Each requested token
+ * appears in exactly one of the two maps. Both maps iterate in the order the
+ * tokens were requested.
+ */
+public interface IBulkLookupResult<T> {
+
+    /**
+     * Get entities that were found, keyed by token.
+     *
+     * @return
+     */
+    public Map<String, T> getResults();
+
+    /**
+     * Get errors for tokens that could not be resolved, keyed by token.
+     *
+     * @return
+     */
+    public Map<String, SiteWhereException> getErrors();
+
+    /**
+     * Indicates whether any token could not be resolved.
+     *
+     * @return
+     */
+    public boolean hasErrors();
+}
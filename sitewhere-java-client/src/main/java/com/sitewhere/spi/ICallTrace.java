@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+/**
+ * Timings and sizes recorded for a single REST call. Times are in
+ * nanoseconds. If the call was retried, connection timings and byte counts
+ * cover all attempts and the status code is that of the last response.
+ */
+public interface ICallTrace {
+
+    /**
+     * Get name of operation (the method name in the REST interface).
+     *
+     * @return
+     */
+    public String getOperation();
+
+    /**
+     * Get HTTP method.
+     *
+     * @return
+     */
+    public String getMethod();
+
+    /**
+     * Get status code of the last response or -1 if none was received.
+     *
+     * @return
+     */
+    public int getStatusCode();
+
+    /**
+     * Get simple class name of the exception that failed the call or null if
+     * a response was received.
+     *
+     * @return
+     */
+    public String getErrorType();
+
+    /**
+     * Get time from the start of the call until the response body was
+     * consumed.
+     *
+     * @return
+     */
+    public long getLatencyNanos();
+
+    /**
+     * Get time the call waited in the dispatcher queue before it was
+     * executed.
+     *
+     * @return
+     */
+    public long getQueueNanos();
+
+    /**
+     * Get time spent resolving host names.
+     *
+     * @return
+     */
+    public long getDnsNanos();
+
+    /**
+     * Get time spent opening new connections, including TLS handshakes.
+     *
+     * @return
+     */
+    public long getConnectNanos();
+
+    /**
+     * Get time spent in TLS handshakes.
+     *
+     * @return
+     */
+    public long getTlsNanos();
+
+    /**
+     * Get number of request body bytes sent.
+     *
+     * @return
+     */
+    public long getRequestBytes();
+
+    /**
+     * Get number of response body bytes received.
+     *
+     * @return
+     */
+    public long getResponseBytes();
+
+    /**
+     * Indicates whether the call was served entirely over pooled connections.
+     *
+     * @return
+     */
+    public boolean isConnectionReused();
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+/**
+ * Receives timings and sizes for REST calls made by a client. Called on the
+ * thread executing the call, so implementations must be fast and thread safe.
+ */
+public interface IClientInstrumentation {
+
+    /**
+     * Called once a call has completed or failed and its response body has
+     * been consumed.
+     *
+     * @param trace
+     */
+    public void onCallCompleted(ICallTrace trace);
+
+    /**
+     * Called after a response body has been converted to an object.
+     *
+     * @param operation name of operation
+     * @param nanos time taken to convert the body
+     */
+    public void onResponseDecoded(String operation, long nanos);
+}
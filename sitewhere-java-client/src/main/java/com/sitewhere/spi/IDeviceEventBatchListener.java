@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+
+/**
+ * Receives the outcome of batches sent by an {@link IDeviceEventBatcher}.
+ */
+public interface IDeviceEventBatchListener {
+
+    /**
+     * Called after a batch was accepted by the server.
+     * 
+     * @param deviceToken
+     * @param batch
+     * @param response
+     */
+    public void onBatchSent(String deviceToken, DeviceEventBatch batch, DeviceEventBatchResponse response);
+
+    /**
+     * Called when a batch could not be delivered. Unexpected runtime exceptions
+     * are passed as the cause of a {@link SiteWhereException}.
+     * 
+     * @param deviceToken
+     * @param batch
+     *            batch that failed or null if it could not be built
+     * @param error
+     */
+    public void onBatchFailed(String deviceToken, DeviceEventBatch batch, SiteWhereException error);
+}
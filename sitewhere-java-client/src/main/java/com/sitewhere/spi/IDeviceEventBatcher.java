@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+import java.io.Closeable;
+
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+
+/**
+ * Accumulates device events and sends them to the server in batches rather
+ * than one call per event. Events are grouped per device and sent with
+ * {@link ISiteWhereClient#addMultipleEventsForDevice} when a batch reaches its
+ * size or byte limit, or when it has been waiting longer than the linger time.
+ */
+public interface IDeviceEventBatcher extends Closeable {
+
+    /**
+     * Queue a measurement for a device. Blocks if the buffer is full.
+     * 
+     * @param deviceToken
+     * @param request
+     * @throws SiteWhereException if the batcher is closed or buffer space did not
+     *                            become available in time
+     */
+    public void addMeasurement(String deviceToken, DeviceMeasurementCreateRequest request)
+	    throws SiteWhereException;
+
+    /**
+     * Queue a location for a device. Blocks if the buffer is full.
+     * 
+     * @param deviceToken
+     * @param request
+     * @throws SiteWhereException if the batcher is closed or buffer space did not
+     *                            become available in time
+     */
+    public void addLocation(String deviceToken, DeviceLocationCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Queue an alert for a device. Blocks if the buffer is full.
+     * 
+     * @param deviceToken
+     * @param request
+     * @throws SiteWhereException if the batcher is closed or buffer space did not
+     *                            become available in time
+     */
+    public void addAlert(String deviceToken, DeviceAlertCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Send all pending batches without waiting for thresholds to be reached.
+     */
+    public void flush();
+
+    /**
+     * Get number of events that have been queued but not yet acknowledged by the
+     * server.
+     * 
+     * @return
+     */
+    public int getBufferedEventCount();
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+/**
+ * Holds JWTs obtained from the authentication API. Clients that are given the
+ * same store and connect with the same credentials share a single JWT, and a
+ * refresh started by one of them is reused by the others rather than
+ * repeated.
+ */
+public interface IJwtStore {
+
+    /**
+     * Get the current JWT for a key.
+     * 
+     * @param key identifies server and credentials
+     * @return JWT or null if none has been obtained
+     */
+    public String getJwt(String key);
+
+    /**
+     * Set the JWT for a key.
+     * 
+     * @param key
+     * @param jwt
+     */
+    public void putJwt(String key, String jwt);
+
+    /**
+     * Replace a stale JWT. If the stored JWT differs from the stale one it was
+     * already replaced and is returned as is. Otherwise a new JWT is loaded and
+     * stored. Concurrent refreshes of the same key must load at most once.
+     * 
+     * @param key
+     * @param stale JWT that was rejected or is about to expire (null if none)
+     * @param loader
+     * @return
+     * @throws SiteWhereException
+     */
+    public String refresh(String key, String stale, IJwtLoader loader) throws SiteWhereException;
+
+    /**
+     * Loads a new JWT from the authentication API.
+     */
+    public static interface IJwtLoader {
+
+	/**
+	 * Load a new JWT.
+	 * 
+	 * @return
+	 * @throws SiteWhereException
+	 */
+	public String load() throws SiteWhereException;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+import com.sitewhere.rest.model.search.SearchResults;
+
+/**
+ * Fetches a single page of results for a list query. Usually implemented as a
+ * lambda that builds search criteria for the requested page and invokes one of
+ * the list methods on {@link ISiteWhereClient}, for instance:
+ * 
+ * <pre>
+ * (page, size) -&gt; client.listDevices(tenant, new DeviceSearchCriteria(page, size, null, null), format)
+ * </pre>
+ */
+@FunctionalInterface
+public interface IPagedQuery<T> {
+
+    /**
+     * Get a page of results.
+     * 
+     * @param pageNumber Page number (starting with 1).
+     * @param pageSize Number of results in a page.
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<T> getPage(int pageNumber, int pageSize) throws SiteWhereException;
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+/**
+ * Receives attempt counts and latencies for REST calls sent under a retry
+ * policy. Called on the thread executing the call, so implementations must be
+ * fast and thread safe.
+ */
+public interface IRetryListener {
+
+    /**
+     * Called after each attempt.
+     *
+     * @param method HTTP method
+     * @param path request path
+     * @param attempt attempt number, starting at one
+     * @param code response code or -1 if no response was received
+     * @param latencyNanos latency of the attempt
+     */
+    public void onAttempt(String method, String path, int attempt, int code, long latencyNanos);
+
+    /**
+     * Called when a transient failure could not be retried because the retry
+     * budget was used up.
+     *
+     * @param method
+     * @param path
+     */
+    public void onBudgetExhausted(String method, String path);
+
+    /**
+     * Called once a call has completed, after all attempts.
+     *
+     * @param method HTTP method
+     * @param path request path
+     * @param attempts number of attempts made
+     * @param succeeded false if the last attempt failed
+     * @param latencyNanos total latency including delays between attempts
+     */
+    public void onCompleted(String method, String path, int attempts, boolean succeeded, long latencyNanos);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+import java.util.Iterator;
+
+/**
+ * Iterates over the results of a list call while the response body is still
+ * being read. Elements are decoded one at a time, so only the current element
+ * is held in memory. The stream holds an open HTTP response and must be closed
+ * when the caller is done with it, whether or not all results were consumed.
+ *
+ * Iteration failures are reported as {@link java.io.UncheckedIOException}
+ * wrapping a {@link SiteWhereException}.
+ */
+public interface ISearchResultsStream<T> extends Iterator<T>, AutoCloseable {
+
+    /** Value returned by {@link #getNumResults()} before the count is known */
+    public static final long NUM_RESULTS_UNKNOWN = -1;
+
+    /**
+     * Get the total number of results reported by the server. The count is
+     * usually sent ahead of the results and is available as soon as the stream
+     * is opened. If the server sends it after the results, it is available once
+     * iteration has finished.
+     *
+     * @return total results or {@link #NUM_RESULTS_UNKNOWN}
+     */
+    public long getNumResults();
+
+    /*
+     * @see java.lang.AutoCloseable#close()
+     */
+    @Override
+    public void close();
+}
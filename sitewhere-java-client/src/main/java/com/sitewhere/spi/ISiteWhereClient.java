@@ -8,6 +8,7 @@
 package com.sitewhere.spi;
 
 import java.io.File;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +42,7 @@ import com.sitewhere.rest.model.device.asset.DeviceLocationWithAsset;
 import com.sitewhere.rest.model.device.asset.DeviceMeasurementWithAsset;
 import com.sitewhere.rest.model.device.asset.DeviceStateChangeWithAsset;
 import com.sitewhere.rest.model.device.charting.ChartSeries;
+import com.sitewhere.rest.model.device.charting.MeasurementSeries;
 import com.sitewhere.rest.model.device.command.DeviceCommand;
 import com.sitewhere.rest.model.device.command.DeviceCommandNamespace;
 import com.sitewhere.rest.model.device.event.DeviceCommandInvocation;
@@ -129,6 +131,15 @@ public interface ISiteWhereClient {
      */
     public ISiteWhereClient initialize() throws SiteWhereException;
 
+    /**
+     * Get a view of this client bound to a single tenant. Tenant headers are
+     * computed once when the view is created rather than on every call.
+     * 
+     * @param tenant Tenant authentication information.
+     * @return
+     */
+    public ITenantSiteWhereClient withTenant(ITenantAuthentication tenant);
+
     // ------------------------------------------------------------------------
     // Area Types
     // ------------------------------------------------------------------------
@@ -226,6 +237,19 @@ public interface ISiteWhereClient {
      */
     public MarshaledArea getAreaByToken(ITenantAuthentication tenant, String areaToken) throws SiteWhereException;
 
+    /**
+     * Get areas for a collection of tokens. Lookups run in parallel up to the
+     * configured bulk lookup parallelism. Tokens that can not be resolved are
+     * reported in the result errors.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param tokens
+     * @return
+     * @throws SiteWhereException
+     */
+    public IBulkLookupResult<MarshaledArea> bulkGetAreasByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException;
+
     /**
      * Create a new area type.
      * 
@@ -531,6 +555,19 @@ public interface ISiteWhereClient {
     public MarshaledDeviceAssignment getDeviceAssignmentByToken(ITenantAuthentication tenant, String token)
 	    throws SiteWhereException;
 
+    /**
+     * Get device assignments for a collection of tokens. Lookups run in parallel up to the
+     * configured bulk lookup parallelism. Tokens that can not be resolved are
+     * reported in the result errors.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param tokens
+     * @return
+     * @throws SiteWhereException
+     */
+    public IBulkLookupResult<MarshaledDeviceAssignment> bulkGetDeviceAssignmentsByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException;
+
     /**
      * Create a new device assignment.
      * 
@@ -577,6 +614,20 @@ public interface ISiteWhereClient {
     public SearchResults<DeviceAlertWithAsset> listAlertsForDeviceAssignment(ITenantAuthentication tenant, String token,
 	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
 
+    /**
+     * Stream alerts for a device assignment. Results are decoded while the
+     * response is read rather than collected into a list. The stream must be
+     * closed after use.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public ISearchResultsStream<DeviceAlertWithAsset> streamAlertsForDeviceAssignment(ITenantAuthentication tenant,
+	    String token, DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
     /**
      * Create alert event for device assignment.
      * 
@@ -663,6 +714,21 @@ public interface ISiteWhereClient {
     public SearchResults<DeviceLocationWithAsset> listLocationsForDeviceAssignment(ITenantAuthentication tenant,
 	    String token, DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
 
+    /**
+     * Stream location events for device assignment. Results are decoded while
+     * the response is read rather than collected into a list. The stream must
+     * be closed after use.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public ISearchResultsStream<DeviceLocationWithAsset> streamLocationsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria)
+	    throws SiteWhereException;
+
     /**
      * Create location event for assignment.
      * 
@@ -687,6 +753,21 @@ public interface ISiteWhereClient {
     public SearchResults<DeviceMeasurementWithAsset> listMeasurementsForDeviceAssignment(ITenantAuthentication tenant,
 	    String token, DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
 
+    /**
+     * Stream measurement events for device assignment. Results are decoded
+     * while the response is read rather than collected into a list. The stream
+     * must be closed after use.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public ISearchResultsStream<DeviceMeasurementWithAsset> streamMeasurementsForDeviceAssignment(
+	    ITenantAuthentication tenant, String token, DateRangeSearchCriteria searchCriteria)
+	    throws SiteWhereException;
+
     /**
      * Create location event for assignment.
      * 
@@ -711,6 +792,19 @@ public interface ISiteWhereClient {
     public List<ChartSeries<Double>> listMeasurementsForDeviceAssignmentAsChartSeries(ITenantAuthentication tenant,
 	    String token, DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
 
+    /**
+     * List assignment measurements as columnar measurement series. Decodes the
+     * chart series response without creating an object per entry.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public List<MeasurementSeries> listMeasurementsForDeviceAssignmentAsMeasurementSeries(ITenantAuthentication tenant,
+	    String token, DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
     /**
      * Mark device assignment as missing.
      * 
@@ -826,6 +920,18 @@ public interface ISiteWhereClient {
     public Map<String, List<ChartSeries<Double>>> bulkListMeasurementsForDeviceAssignmentsAsChartSeries(
 	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) throws SiteWhereException;
 
+    /**
+     * List measurements for multiple assignments as columnar measurement series.
+     * Decodes the chart series response without creating an object per entry.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Map<String, List<MeasurementSeries>> bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries(
+	    ITenantAuthentication tenant, DeviceAssignmentBulkRequest request) throws SiteWhereException;
+
     /**
      * List command response events for assignment.
      * 
@@ -1545,6 +1651,19 @@ public interface ISiteWhereClient {
      */
     public DeviceType getDeviceTypeByToken(ITenantAuthentication tenant, String token) throws SiteWhereException;
 
+    /**
+     * Get device types for a collection of tokens. Lookups run in parallel up to the
+     * configured bulk lookup parallelism. Tokens that can not be resolved are
+     * reported in the result errors.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param tokens
+     * @return
+     * @throws SiteWhereException
+     */
+    public IBulkLookupResult<DeviceType> bulkGetDeviceTypesByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException;
+
     /**
      * Create a new device type.
      * 
@@ -1637,6 +1756,19 @@ public interface ISiteWhereClient {
      */
     public MarshaledDevice getDeviceByToken(ITenantAuthentication tenant, String deviceToken) throws SiteWhereException;
 
+    /**
+     * Get devices for a collection of tokens. Lookups run in parallel up to the
+     * configured bulk lookup parallelism. Tokens that can not be resolved are
+     * reported in the result errors.
+     * 
+     * @param tenant Tenant authentication information.
+     * @param tokens
+     * @return
+     * @throws SiteWhereException
+     */
+    public IBulkLookupResult<MarshaledDevice> bulkGetDevicesByToken(ITenantAuthentication tenant,
+	    Collection<String> tokens) throws SiteWhereException;
+
     /**
      * Create a new device.
      * 
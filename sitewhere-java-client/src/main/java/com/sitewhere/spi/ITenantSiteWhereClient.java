@@ -0,0 +1,1835 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.sitewhere.rest.model.area.Area;
+import com.sitewhere.rest.model.area.AreaType;
+import com.sitewhere.rest.model.area.Zone;
+import com.sitewhere.rest.model.area.request.AreaCreateRequest;
+import com.sitewhere.rest.model.area.request.AreaTypeCreateRequest;
+import com.sitewhere.rest.model.area.request.ZoneCreateRequest;
+import com.sitewhere.rest.model.asset.Asset;
+import com.sitewhere.rest.model.asset.AssetType;
+import com.sitewhere.rest.model.asset.marshaling.MarshaledAsset;
+import com.sitewhere.rest.model.asset.request.AssetCreateRequest;
+import com.sitewhere.rest.model.asset.request.AssetTypeCreateRequest;
+import com.sitewhere.rest.model.batch.BatchElement;
+import com.sitewhere.rest.model.batch.BatchOperation;
+import com.sitewhere.rest.model.batch.request.BatchCommandInvocationRequest;
+import com.sitewhere.rest.model.batch.request.InvocationByDeviceCriteriaRequest;
+import com.sitewhere.rest.model.customer.Customer;
+import com.sitewhere.rest.model.customer.CustomerType;
+import com.sitewhere.rest.model.customer.request.CustomerCreateRequest;
+import com.sitewhere.rest.model.customer.request.CustomerTypeCreateRequest;
+import com.sitewhere.rest.model.device.Device;
+import com.sitewhere.rest.model.device.DeviceElementMapping;
+import com.sitewhere.rest.model.device.DeviceStatus;
+import com.sitewhere.rest.model.device.DeviceType;
+import com.sitewhere.rest.model.device.asset.DeviceAlertWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceCommandResponseWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceEventWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceLocationWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceMeasurementWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceStateChangeWithAsset;
+import com.sitewhere.rest.model.device.charting.ChartSeries;
+import com.sitewhere.rest.model.device.charting.MeasurementSeries;
+import com.sitewhere.rest.model.device.command.DeviceCommand;
+import com.sitewhere.rest.model.device.command.DeviceCommandNamespace;
+import com.sitewhere.rest.model.device.event.DeviceCommandInvocation;
+import com.sitewhere.rest.model.device.event.DeviceCommandResponse;
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceCommandInvocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceCommandResponseCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceStateChangeCreateRequest;
+import com.sitewhere.rest.model.device.event.view.DeviceCommandInvocationSummary;
+import com.sitewhere.rest.model.device.group.DeviceGroup;
+import com.sitewhere.rest.model.device.group.DeviceGroupElement;
+import com.sitewhere.rest.model.device.marshaling.MarshaledArea;
+import com.sitewhere.rest.model.device.marshaling.MarshaledAreaType;
+import com.sitewhere.rest.model.device.marshaling.MarshaledCustomer;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDevice;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDeviceAssignment;
+import com.sitewhere.rest.model.device.request.DeviceAssignmentBulkRequest;
+import com.sitewhere.rest.model.device.request.DeviceAssignmentCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceCommandCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceGroupCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceGroupElementCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceStatusCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceTypeCreateRequest;
+import com.sitewhere.rest.model.device.state.DeviceState;
+import com.sitewhere.rest.model.scheduling.Schedule;
+import com.sitewhere.rest.model.scheduling.ScheduledJob;
+import com.sitewhere.rest.model.scheduling.request.ScheduleCreateRequest;
+import com.sitewhere.rest.model.scheduling.request.ScheduledJobCreateRequest;
+import com.sitewhere.rest.model.search.DateRangeSearchCriteria;
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.rest.model.search.TreeNode;
+import com.sitewhere.rest.model.search.area.AreaResponseFormat;
+import com.sitewhere.rest.model.search.area.AreaSearchCriteria;
+import com.sitewhere.rest.model.search.area.AreaTypeSearchCriteria;
+import com.sitewhere.rest.model.search.asset.AssetSearchCriteria;
+import com.sitewhere.rest.model.search.asset.AssetTypeSearchCriteria;
+import com.sitewhere.rest.model.search.batch.BatchOperationSearchCriteria;
+import com.sitewhere.rest.model.search.customer.CustomerResponseFormat;
+import com.sitewhere.rest.model.search.customer.CustomerSearchCriteria;
+import com.sitewhere.rest.model.search.customer.CustomerTypeResponseFormat;
+import com.sitewhere.rest.model.search.customer.CustomerTypeSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceAssignmentResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceAssignmentSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceByGroupResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceCommandSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceGroupElementResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceGroupElementSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceGroupSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceStateResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceStateSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceStatusSearchCriteria;
+import com.sitewhere.rest.model.search.device.DeviceTypeResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceTypeSearchCriteria;
+import com.sitewhere.rest.model.search.device.ZoneSearchCriteria;
+import com.sitewhere.rest.model.search.scheduling.ScheduleResponseFormat;
+import com.sitewhere.rest.model.search.scheduling.ScheduleSearchCriteria;
+import com.sitewhere.rest.model.search.scheduling.ScheduledJobResponseFormat;
+import com.sitewhere.rest.model.search.scheduling.ScheduledJobSearchCriteria;
+import com.sitewhere.rest.model.user.GrantedAuthority;
+import com.sitewhere.rest.model.user.GrantedAuthorityHierarchyNode;
+import com.sitewhere.rest.model.user.request.GrantedAuthorityCreateRequest;
+
+/**
+ * View of an {@link ISiteWhereClient} bound to a single tenant. Offers the
+ * tenant-scoped calls of the client without the tenant argument. Calls that
+ * are not scoped to a tenant, such as tenant and user management, remain on
+ * the client itself.
+ */
+public interface ITenantSiteWhereClient {
+
+    /**
+     * Get tenant the view is bound to.
+     * 
+     * @return
+     */
+    public ITenantAuthentication getTenant();
+
+    /**
+     * Get client that calls are passed to.
+     * 
+     * @return
+     */
+    public ISiteWhereClient getClient();
+
+    // ------------------------------------------------------------------------
+    // Area Types
+    // ------------------------------------------------------------------------
+
+    /**
+     * List area types matching criteria.
+     * 
+     * @param searchCriteria Search criteria object used for filtering Area Type results.
+     * @return <code>SearchResuts</code> object containing area type matching the criteria provided. 
+     * @throws SiteWhereException
+     */
+    public SearchResults<AreaType> listAreaTypes(AreaTypeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Get a area type by token.
+     * 
+     * @param areaTypeToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledAreaType getAreaTypeByToken(String areaTypeToken) throws SiteWhereException;
+
+    /**
+     * Create a new area type.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public AreaType createAreaType(AreaTypeCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing area type.
+     * 
+     * @param areaTypeToken
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public AreaType updateAreaType(String areaTypeToken, AreaTypeCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Delete an existing area type.
+     * 
+     * @param areaTypeToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public AreaType deleteAreaType(String areaTypeToken) throws SiteWhereException;
+
+    /**
+     * Get label for area type.
+     * 
+     * @param areaTypeToken
+     * @param generatorId
+     * @return
+     * @throws SiteWhereException
+     */
+    public byte[] getLabelForAreaType(String areaTypeToken, String generatorId) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Areas
+    // ------------------------------------------------------------------------
+
+    /**
+     * List areas matching criteria.
+     * 
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<Area> listAreas(AreaSearchCriteria searchCriteria, AreaResponseFormat responseFormat)
+	    throws SiteWhereException;
+
+    /**
+     * Get a area by token.
+     * 
+     * @param areaToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledArea getAreaByToken(String areaToken) throws SiteWhereException;
+
+    /**
+     * Get areas for a collection of tokens. Lookups run in parallel up to the
+     * configured bulk lookup parallelism. Tokens that can not be resolved are
+     * reported in the result errors.
+     * 
+     * @param tokens
+     * @return
+     * @throws SiteWhereException
+     */
+    public IBulkLookupResult<MarshaledArea> bulkGetAreasByToken(Collection<String> tokens) throws SiteWhereException;
+
+    /**
+     * Create a new area type.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Area createArea(AreaCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing area type.
+     * 
+     * @param areaToken
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Area updateArea(String areaToken, AreaCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Delete an existing area type.
+     * 
+     * @param areaToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public Area deleteArea(String areaToken) throws SiteWhereException;
+
+    /**
+     * List alerts for an area.
+     * 
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceAlertWithAsset> listAlertsForArea(String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * List device assignments for an area.
+     * 
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<MarshaledDeviceAssignment> listDeviceAssignmentsForArea(String areaToken,
+	    DeviceAssignmentSearchCriteria searchCriteria, DeviceAssignmentResponseFormat responseFormat)
+	    throws SiteWhereException;
+
+    /**
+     * List command invocations for an area.
+     * 
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceCommandInvocation> listCommandInvocationsForArea(String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Get label for area.
+     * 
+     * @param areaToken
+     * @param generatorId
+     * @return
+     * @throws SiteWhereException
+     */
+    public byte[] getLabelForArea(String areaToken, String generatorId) throws SiteWhereException;
+
+    /**
+     * List locations for an area.
+     * 
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceLocationWithAsset> listLocationsForArea(String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * List locations for an area.
+     * 
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceMeasurementWithAsset> listMeasurementsForArea(String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * List command responses for an area.
+     * 
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceCommandResponseWithAsset> listCommandResponsesForArea(String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * List state changes for an area.
+     * 
+     * @param areaToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceStateChangeWithAsset> listStateChangesForArea(String areaToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * List all areas in tree format.
+     * 
+     * @return
+     * @throws SiteWhereException
+     */
+    public List<TreeNode> areaTree() throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Asset Types
+    // ------------------------------------------------------------------------
+
+    /**
+     * List asset types matching criteria.
+     * 
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<AssetType> listAssetTypes(AssetTypeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Get a asset type by token.
+     * 
+     * @param assetTypeToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public AssetType getAssetTypeByToken(String assetTypeToken) throws SiteWhereException;
+
+    /**
+     * Create a new asset type type.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public AssetType createAssetType(AssetTypeCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing asset type type.
+     * 
+     * @param assetTypeToken
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public AssetType updateAssetType(String assetTypeToken, AssetTypeCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Delete an existing asset type type.
+     * 
+     * @param assetTypeToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public AssetType deleteAssetType(String assetTypeToken) throws SiteWhereException;
+
+    /**
+     * Get label for asset type.
+     * 
+     * @param assetTypeToken
+     * @param generatorId
+     * @return
+     * @throws SiteWhereException
+     */
+    public byte[] getLabelForAssetType(String assetTypeToken, String generatorId) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Asset
+    // ------------------------------------------------------------------------
+
+    /**
+     * List assets matching criteria.
+     * 
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<Asset> listAssets(AssetSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Get a asset by token.
+     * 
+     * @param assetToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledAsset getAssetByToken(String assetToken) throws SiteWhereException;
+
+    /**
+     * Create a new asset.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Asset createAsset(AssetCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing asset.
+     * 
+     * @param assetToken
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Asset updateAsset(String assetToken, AssetCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Delete an existing asset.
+     * 
+     * @param assetToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public Asset deleteAsset(String assetToken) throws SiteWhereException;
+
+    /**
+     * Get label for asset.
+     * 
+     * @param assetToken
+     * @param generatorId
+     * @return
+     * @throws SiteWhereException
+     */
+    public byte[] getLabelForAsset(String assetToken, String generatorId) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Assignments
+    // ------------------------------------------------------------------------
+
+    /**
+     * List device assignment matching criteria.
+     * 
+     * @param searchCriteria
+     * @param format
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<MarshaledDeviceAssignment> listDeviceAssignments(DeviceAssignmentSearchCriteria searchCriteria,
+	    DeviceAssignmentResponseFormat format) throws SiteWhereException;
+
+    /**
+     * Get a device assignment by token.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledDeviceAssignment getDeviceAssignmentByToken(String token) throws SiteWhereException;
+
+    /**
+     * Get device assignments for a collection of tokens. Lookups run in parallel up to the
+     * configured bulk lookup parallelism. Tokens that can not be resolved are
+     * reported in the result errors.
+     * 
+     * @param tokens
+     * @return
+     * @throws SiteWhereException
+     */
+    public IBulkLookupResult<MarshaledDeviceAssignment> bulkGetDeviceAssignmentsByToken(Collection<String> tokens)
+	    throws SiteWhereException;
+
+    /**
+     * Create a new device assignment.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledDeviceAssignment createDeviceAssignment(DeviceAssignmentCreateRequest request)
+	    throws SiteWhereException;
+
+    /**
+     * Update an existing device assignment.
+     * 
+     * @param token
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledDeviceAssignment updateDeviceAssignment(String token, DeviceAssignmentCreateRequest request)
+	    throws SiteWhereException;
+
+    /**
+     * Delete an existing device assignment.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledDeviceAssignment deleteDeviceAssignment(String token) throws SiteWhereException;
+
+    /**
+     * List alerts for a device assignment.
+     * 
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceAlertWithAsset> listAlertsForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Stream alerts for a device assignment. Results are decoded while the
+     * response is read rather than collected into a list. The stream must be
+     * closed after use.
+     * 
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public ISearchResultsStream<DeviceAlertWithAsset> streamAlertsForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Create alert event for device assignment.
+     * 
+     * @param token
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceAlertWithAsset createAlertForDeviceAssignment(String token, DeviceAlertCreateRequest request)
+	    throws SiteWhereException;
+
+    /**
+     * Release an active device assignment.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledDeviceAssignment releaseDeviceAssignment(String token) throws SiteWhereException;
+
+    /**
+     * List command invocations for a device assignment.
+     * 
+     * @param token
+     * @param includeCommand
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceCommandInvocation> listCommandInvocationsForDeviceAssignment(String token,
+	    Boolean includeCommand, DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Create command invocation event for assignment.
+     * 
+     * @param token
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceCommandInvocation createCommandInvocationForDeviceAssignment(String token,
+	    DeviceCommandInvocationCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Schedule command invocation.
+     * 
+     * @param token
+     * @param scheduleToken
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public ScheduledJob scheduleCommandInvocation(String token, String scheduleToken,
+	    DeviceCommandInvocationCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Get label for device assignment.
+     * 
+     * @param token
+     * @param generatorId
+     * @return
+     * @throws SiteWhereException
+     */
+    public byte[] getLabelForDeviceAssignment(String token, String generatorId) throws SiteWhereException;
+
+    /**
+     * List location events for device assignment.
+     * 
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceLocationWithAsset> listLocationsForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Stream location events for device assignment. Results are decoded while
+     * the response is read rather than collected into a list. The stream must
+     * be closed after use.
+     * 
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public ISearchResultsStream<DeviceLocationWithAsset> streamLocationsForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Create location event for assignment.
+     * 
+     * @param token
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceLocationWithAsset createLocationForDeviceAssignment(String token, DeviceLocationCreateRequest request)
+	    throws SiteWhereException;
+
+    /**
+     * List measurement events for device assignment.
+     * 
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceMeasurementWithAsset> listMeasurementsForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Stream measurement events for device assignment. Results are decoded
+     * while the response is read rather than collected into a list. The stream
+     * must be closed after use.
+     * 
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public ISearchResultsStream<DeviceMeasurementWithAsset> streamMeasurementsForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Create location event for assignment.
+     * 
+     * @param token
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceMeasurementWithAsset createMeasurementForDeviceAssignment(String token,
+	    DeviceMeasurementCreateRequest request) throws SiteWhereException;
+
+    /**
+     * List assignment measurements as chart series.
+     * 
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public List<ChartSeries<Double>> listMeasurementsForDeviceAssignmentAsChartSeries(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * List assignment measurements as columnar measurement series. Decodes the
+     * chart series response without creating an object per entry.
+     * 
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public List<MeasurementSeries> listMeasurementsForDeviceAssignmentAsMeasurementSeries(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Mark device assignment as missing.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledDeviceAssignment markMissingDeviceAssignment(String token) throws SiteWhereException;
+
+    /**
+     * List command response events for assignment.
+     * 
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceCommandResponseWithAsset> listCommandResponsesForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Create command response event for assignment.
+     * 
+     * @param token
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceCommandResponseWithAsset createCommandResponseForDeviceAssignment(String token,
+	    DeviceCommandResponseCreateRequest request) throws SiteWhereException;
+
+    /**
+     * List state change events for assignment.
+     * 
+     * @param token
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceStateChangeWithAsset> listStateChangesForDeviceAssignment(String token,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Create state change event for assignment.
+     * 
+     * @param token
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceStateChangeWithAsset createStateChangeForDeviceAssignment(String token,
+	    DeviceStateChangeCreateRequest request) throws SiteWhereException;
+
+    /**
+     * List alert events for device assignment.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceAlertWithAsset> bulkListAlertsForDeviceAssignments(DeviceAssignmentBulkRequest request)
+	    throws SiteWhereException;
+
+    /**
+     * List command invocation events for assignment.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceCommandInvocation> bulkListCommandInvocationsForDeviceAssignments(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException;
+
+    /**
+     * List location events for device assignment.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceLocationWithAsset> bulkListLocationsForDeviceAssignments(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException;
+
+    /**
+     * List measurement events for multiple assignments.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceMeasurementWithAsset> bulkListMeasurementsForDeviceAssignments(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException;
+
+    /**
+     * List measurements for multiple assignments as chart series.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Map<String, List<ChartSeries<Double>>> bulkListMeasurementsForDeviceAssignmentsAsChartSeries(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException;
+
+    /**
+     * List measurements for multiple assignments as columnar measurement series.
+     * Decodes the chart series response without creating an object per entry.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Map<String, List<MeasurementSeries>> bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException;
+
+    /**
+     * List command response events for assignment.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceCommandResponseWithAsset> bulkListCommandResponsesForDeviceAssignments(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException;
+
+    /**
+     * List state change events for a device assignment.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceStateChangeWithAsset> bulkListStateChangesForDeviceAssignments(
+	    DeviceAssignmentBulkRequest request) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Authorities
+    // ------------------------------------------------------------------------
+
+    /**
+     * List authorities that match criteria.
+     * 
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<GrantedAuthority> listAuthorities() throws SiteWhereException;
+
+    /**
+     * Get authority by name.
+     * 
+     * @param name
+     * @return
+     * @throws SiteWhereException
+     */
+    public GrantedAuthority getAuthorityByName(String name) throws SiteWhereException;
+
+    /**
+     * Create a new authority.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public GrantedAuthority createAuthority(GrantedAuthorityCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Get authorities hierarchy.
+     * 
+     * @return
+     * @throws SiteWhereException
+     */
+    public List<GrantedAuthorityHierarchyNode> getAuthoritiesHierarchy() throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Batch Operations
+    // ------------------------------------------------------------------------
+
+    /**
+     * List batch operations.
+     * 
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<BatchOperation> listBatchOperations(BatchOperationSearchCriteria searchCriteria)
+	    throws SiteWhereException;
+
+    /**
+     * Get a batch operation by token.
+     * 
+     * @param batchToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public BatchOperation getBatchOperationByToken(String batchToken) throws SiteWhereException;
+
+    /**
+     * List batch operation elements.
+     * 
+     * @param operationToken
+     * @return
+     */
+    public SearchResults<BatchElement> listBatchOperationElements(String operationToken) throws SiteWhereException;
+
+    /**
+     * Create new batch command invocation.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public BatchOperation createBatchCommandInvocation(BatchCommandInvocationRequest request) throws SiteWhereException;
+
+    /**
+     * Create batch command operation based on criteria.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Object createBatchCommandOperationForCriteria(InvocationByDeviceCriteriaRequest request)
+	    throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Command Invocations
+    // ------------------------------------------------------------------------
+
+    /**
+     * Get command invocation by unique id.
+     * 
+     * @param id
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceCommandInvocation getDeviceCommandInvocation(String id) throws SiteWhereException;
+
+    /**
+     * Get command invocation summary.
+     * 
+     * @param id
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceCommandInvocationSummary getDeviceCommandInvocationSummary(String id) throws SiteWhereException;
+
+    /**
+     * List responses for command invocation.
+     * 
+     * @param id
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceCommandResponse> listCommandResponsesForCommandInvocation(String id)
+	    throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Customer Types
+    // ------------------------------------------------------------------------
+
+    /**
+     * List customer types matching criteria.
+     * 
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<CustomerType> listCustomerTypes(CustomerTypeSearchCriteria searchCriteria,
+	    CustomerTypeResponseFormat responseFormat) throws SiteWhereException;
+
+    /**
+     * Get a customer type by token.
+     * 
+     * @param customerTypeToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public CustomerType getCustomerTypeByToken(String customerTypeToken) throws SiteWhereException;
+
+    /**
+     * Create a new customer type.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public CustomerType createCustomerType(CustomerTypeCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing customer type.
+     * 
+     * @param customerTypeToken
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public CustomerType updateCustomerType(String customerTypeToken, CustomerTypeCreateRequest request)
+	    throws SiteWhereException;
+
+    /**
+     * Delete an existing customer type.
+     * 
+     * @param customerTypeToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public CustomerType deleteCustomerType(String customerTypeToken) throws SiteWhereException;
+
+    /**
+     * Get label for customer type.
+     * 
+     * @param customerTypeToken
+     * @param generatorId
+     * @return
+     * @throws SiteWhereException
+     */
+    public byte[] getLabelForCustomerType(String customerTypeToken, String generatorId) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Customer
+    // ------------------------------------------------------------------------
+
+    /**
+     * List customers matching criteria.
+     * 
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<Customer> listCustomers(CustomerSearchCriteria searchCriteria,
+	    CustomerResponseFormat responseFormat) throws SiteWhereException;
+
+    /**
+     * Get a customer by token.
+     * 
+     * @param customerToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledCustomer getCustomerByToken(String customerToken) throws SiteWhereException;
+
+    /**
+     * Create a new customer.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Customer createCustomer(CustomerCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing customer.
+     * 
+     * @param customerToken
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Customer updateCustomer(String customerToken, CustomerCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Delete an existing customer.
+     * 
+     * @param customerToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public Customer deleteCustomer(String customerToken) throws SiteWhereException;
+
+    /**
+     * List alerts for a customer.
+     * 
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceAlertWithAsset> listAlertsForCustomer(String customerToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * List device assignments for a customer.
+     * 
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<MarshaledDeviceAssignment> listDeviceAssignmentsForCustomer(String customerToken,
+	    DeviceAssignmentSearchCriteria searchCriteria, DeviceAssignmentResponseFormat responseFormat)
+	    throws SiteWhereException;
+
+    /**
+     * List command invocations for a customer.
+     * 
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceCommandInvocation> listCommandInvocationsForCustomer(String customerToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Get label for customer.
+     * 
+     * @param customerTypeToken
+     * @param generatorId
+     * @return
+     * @throws SiteWhereException
+     */
+    public byte[] getLabelForCustomer(String customerTypeToken, String generatorId) throws SiteWhereException;
+
+    /**
+     * List locations for a customer.
+     * 
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceLocationWithAsset> listLocationsForCustomer(String customerToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * List locations for a customer.
+     * 
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceMeasurementWithAsset> listMeasurementsForCustomer(String customerToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * List command responses for a customer.
+     * 
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceCommandResponseWithAsset> listCommandResponsesForCustomer(String customerToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * List state changes for a customer.
+     * 
+     * @param customerToken
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceStateChangeWithAsset> listStateChangesForCustomer(String customerToken,
+	    DateRangeSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * List all customer in tree format.
+     * 
+     * @return
+     * @throws SiteWhereException
+     */
+    public List<TreeNode> customerTree() throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Device Commands
+    // ------------------------------------------------------------------------
+
+    /**
+     * List device commands matching criteria.
+     * 
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceCommand> listDeviceCommands(DeviceCommandSearchCriteria searchCriteria)
+	    throws SiteWhereException;
+
+    /**
+     * Get a device command by token.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceCommand getDeviceCommandByToken(String token) throws SiteWhereException;
+
+    /**
+     * Create a new device command.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceCommand createDeviceCommand(DeviceCommandCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing device command.
+     * 
+     * @param token
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceCommand updateDeviceCommand(String token, DeviceCommandCreateRequest request)
+	    throws SiteWhereException;
+
+    /**
+     * Delete an existing device command.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceCommand deleteDeviceCommand(String token) throws SiteWhereException;
+
+    /**
+     * List device commands by namespace.
+     * 
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceCommandNamespace> listDeviceCommandsByNamesapce(
+	    DeviceCommandSearchCriteria searchCriteria) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Device Events
+    // ------------------------------------------------------------------------
+
+    /**
+     * Get a device event by alternate Id.
+     * 
+     * @param alternateId
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceEventWithAsset getDeviceEventByAlternateId(String alternateId) throws SiteWhereException;
+
+    /**
+     * Get a device event by Id.
+     * 
+     * @param eventId
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceEventWithAsset getDeviceEventById(String eventId) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Device Groups
+    // ------------------------------------------------------------------------
+
+    /**
+     * List device groups matching criteria.
+     * 
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceGroup> listDeviceGroups(DeviceGroupSearchCriteria searchCriteria)
+	    throws SiteWhereException;
+
+    /**
+     * Get a device group by token.
+     * 
+     * @param groupToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceGroup getDeviceGroupByToken(String groupToken) throws SiteWhereException;
+
+    /**
+     * Create a new device group.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceGroup createDeviceGroup(DeviceGroupCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing device group.
+     * 
+     * @param groupToken
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceGroup updateDeviceGroup(String groupToken, DeviceGroupCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Delete an existing device group.
+     * 
+     * @param groupToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceGroup deleteDeviceGroup(String groupToken) throws SiteWhereException;
+
+    /**
+     * List elements in a device group.
+     * 
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceGroupElement> listDeviceGroupElements(DeviceGroupElementSearchCriteria searchCriteria,
+	    DeviceGroupElementResponseFormat responseFormat) throws SiteWhereException;
+
+    /**
+     * Add elements to device group.
+     * 
+     * @param groupToken
+     * @param requests
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceGroupElement> addElementsToDdeviceGroup(String groupToken,
+	    List<DeviceGroupElementCreateRequest> requests) throws SiteWhereException;
+
+    /**
+     * Delete elements from device group.
+     * 
+     * @param groupToken
+     * @param elementIds
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceGroupElement> deleteDeviceGroupElements(String groupToken, List<String> elementIds)
+	    throws SiteWhereException;
+
+    /**
+     * Delete elements from device group.
+     * 
+     * @param groupToken
+     * @param elementId
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceGroupElement> deleteDeviceGroupElement(String groupToken, String elementId)
+	    throws SiteWhereException;
+
+    /**
+     * Get label for device group.
+     * 
+     * @param groupToken
+     * @param generatorId
+     * @return
+     * @throws SiteWhereException
+     */
+    public byte[] getLabelForDeviceGroup(String groupToken, String generatorId) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Device States
+    // ------------------------------------------------------------------------
+
+    /**
+     * List device states matching criteria.
+     * 
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceState> listDeviceStates(DeviceStateSearchCriteria searchCriteria,
+	    DeviceStateResponseFormat responseFormat) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Device Statuses
+    // ------------------------------------------------------------------------
+
+    /**
+     * List device statuses that match criteria..
+     * 
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceStatus> listDeviceStatuses(DeviceStatusSearchCriteria searchCriteria)
+	    throws SiteWhereException;
+
+    /**
+     * Get a device status by token.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceStatus getDeviceStatusByToken(String token) throws SiteWhereException;
+
+    /**
+     * Create a new device status.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceStatus createDeviceStatus(DeviceStatusCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing device status.
+     * 
+     * @param token
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceStatus updateDeviceStatus(String token, DeviceStatusCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Delete an existing device status.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceStatus deleteDeviceStatus(String token) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Device Types
+    // ------------------------------------------------------------------------
+
+    /**
+     * List device types that match criteria..
+     * 
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<DeviceType> listDeviceTypes(DeviceTypeSearchCriteria searchCriteria,
+	    DeviceTypeResponseFormat responseFormat) throws SiteWhereException;
+
+    /**
+     * Get a device type by token.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceType getDeviceTypeByToken(String token) throws SiteWhereException;
+
+    /**
+     * Get device types for a collection of tokens. Lookups run in parallel up to the
+     * configured bulk lookup parallelism. Tokens that can not be resolved are
+     * reported in the result errors.
+     * 
+     * @param tokens
+     * @return
+     * @throws SiteWhereException
+     */
+    public IBulkLookupResult<DeviceType> bulkGetDeviceTypesByToken(Collection<String> tokens) throws SiteWhereException;
+
+    /**
+     * Create a new device type.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceType createDeviceType(DeviceTypeCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing device type.
+     * 
+     * @param token
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceType updateDeviceType(String token, DeviceTypeCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Delete an existing device type.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceType deleteDeviceType(String token) throws SiteWhereException;
+
+    /**
+     * Get label for device type.
+     * 
+     * @param token
+     * @param generatorId
+     * @return
+     * @throws SiteWhereException
+     */
+    public byte[] getLabelForDeviceType(String token, String generatorId) throws SiteWhereException;
+
+    /**
+     * Get device type specification GPB by unique token.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public String getDeviceTypeGPBSpecification(String token) throws SiteWhereException;
+
+    /**
+     * Download device type specification GPB by unique token.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public File downlaodDeviceTypeGPBSpecification(String token) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Devices
+    // ------------------------------------------------------------------------
+
+    /**
+     * List devices that match criteria..
+     * 
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<Device> listDevices(DeviceSearchCriteria searchCriteria, DeviceResponseFormat responseFormat)
+	    throws SiteWhereException;
+
+    /**
+     * Get a device by token.
+     * 
+     * @param deviceToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledDevice getDeviceByToken(String deviceToken) throws SiteWhereException;
+
+    /**
+     * Get devices for a collection of tokens. Lookups run in parallel up to the
+     * configured bulk lookup parallelism. Tokens that can not be resolved are
+     * reported in the result errors.
+     * 
+     * @param tokens
+     * @return
+     * @throws SiteWhereException
+     */
+    public IBulkLookupResult<MarshaledDevice> bulkGetDevicesByToken(Collection<String> tokens)
+	    throws SiteWhereException;
+
+    /**
+     * Create a new device.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledDevice createDevice(DeviceCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing device.
+     * 
+     * @param deviceToken
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledDevice updateDevice(String deviceToken, DeviceCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Delete an existing device.
+     * 
+     * @param deviceToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledDevice deleteDevice(String deviceToken) throws SiteWhereException;
+
+    /**
+     * List assignment history for device.
+     * 
+     * @param deviceToken
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<MarshaledDeviceAssignment> listDeviceAssignmentsForDevice(String deviceToken,
+	    DeviceAssignmentSearchCriteria searchCriteria, DeviceAssignmentResponseFormat responseFormat)
+	    throws SiteWhereException;
+
+    /**
+     * Add multiple events for device.
+     * 
+     * @param deviceToken
+     * @param batch
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceEventBatchResponse addMultipleEventsForDevice(String deviceToken, DeviceEventBatch batch)
+	    throws SiteWhereException;
+
+    /**
+     * Get label for device.
+     * 
+     * @param deviceToken
+     * @param generatorId
+     * @return
+     * @throws SiteWhereException
+     */
+    public byte[] getLabelForDevice(String deviceToken, String generatorId) throws SiteWhereException;
+
+    /**
+     * Create new device element mapping.
+     * 
+     * @param deviceToken
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledDevice createDeviceMappings(String deviceToken, DeviceElementMapping request)
+	    throws SiteWhereException;
+
+    /**
+     * Delete existing device element mapping.
+     * 
+     * @param deviceToken
+     * @param path
+     * @return
+     * @throws SiteWhereException
+     */
+    public MarshaledDevice deleteDeviceMappings(String deviceToken, String path) throws SiteWhereException;
+
+    /**
+     * List devices in device group.
+     * 
+     * @param groupToken
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<Device> listDevicesByDeviceGroup(String groupToken, DeviceSearchCriteria searchCriteria,
+	    DeviceByGroupResponseFormat responseFormat) throws SiteWhereException;
+
+    /**
+     * List devices in device group with role.
+     * 
+     * @param role
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<Device> listDevicesByDeviceGroupWithRole(String role, DeviceSearchCriteria searchCriteria,
+	    DeviceByGroupResponseFormat responseFormat) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Scheduled Jobs
+    // ------------------------------------------------------------------------
+
+    /**
+     * List scheduled jobs matching criteria.
+     * 
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<ScheduledJob> listScheduledJobs(ScheduledJobSearchCriteria searchCriteria,
+	    ScheduledJobResponseFormat responseFormat) throws SiteWhereException;
+
+    /**
+     * Get a schedule job by token.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public ScheduledJob getScheduledJobByToken(String token) throws SiteWhereException;
+
+    /**
+     * Create a new schedule job.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public ScheduledJob createScheduledJob(ScheduledJobCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing schedule job.
+     * 
+     * @param token
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public ScheduledJob updateScheduledJob(String token, ScheduledJobCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Delete an existing schedule job.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public ScheduledJob deleteScheduledJob(String token) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Schedules
+    // ------------------------------------------------------------------------
+
+    /**
+     * List schedules matching criteria.
+     * 
+     * @param searchCriteria
+     * @param responseFormat
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<Schedule> listSchedules(ScheduleSearchCriteria searchCriteria,
+	    ScheduleResponseFormat responseFormat) throws SiteWhereException;
+
+    /**
+     * Get a schedule by token.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public Schedule getScheduleByToken(String token) throws SiteWhereException;
+
+    /**
+     * Create a new schedule.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Schedule createSchedule(ScheduleCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing schedule.
+     * 
+     * @param token
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Schedule updateSchedule(String token, ScheduleCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Delete an existing schedule.
+     * 
+     * @param token
+     * @return
+     * @throws SiteWhereException
+     */
+    public Schedule deleteSchedule(String token) throws SiteWhereException;
+
+    // ------------------------------------------------------------------------
+    // Zones
+    // ------------------------------------------------------------------------
+
+    /**
+     * List zones matching criteria.
+     * 
+     * @param searchCriteria
+     * @return
+     * @throws SiteWhereException
+     */
+    public SearchResults<Zone> listZones(ZoneSearchCriteria searchCriteria) throws SiteWhereException;
+
+    /**
+     * Get a zone by token.
+     * 
+     * @param zoneToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public Zone getZoneByToken(String zoneToken) throws SiteWhereException;
+
+    /**
+     * Create a new zone.
+     * 
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Zone createZone(ZoneCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Update an existing zone.
+     * 
+     * @param zoneToken
+     * @param request
+     * @return
+     * @throws SiteWhereException
+     */
+    public Zone updateZone(String zoneToken, ZoneCreateRequest request) throws SiteWhereException;
+
+    /**
+     * Delete an existing zone.
+     * 
+     * @param zoneToken
+     * @return
+     * @throws SiteWhereException
+     */
+    public Zone deleteZone(String zoneToken) throws SiteWhereException;
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+/**
+ * Controls the rate and concurrency of REST calls sent by a client. Every call
+ * acquires a permit before it is sent and releases it with the outcome once
+ * the response arrives, so implementations can adapt to server load.
+ */
+public interface IThroughputGovernor {
+
+    /**
+     * Wait until a call may be sent.
+     *
+     * @param tenant tenant token or null for global calls
+     * @param group endpoint group of the call
+     * @return permit to release when the call completes
+     * @throws CallRejectedException if no permit could be acquired in time
+     * @throws SiteWhereException
+     */
+    public IGovernorPermit acquire(String tenant, EndpointGroup group) throws SiteWhereException;
+
+    /**
+     * Permit for a single call.
+     */
+    public static interface IGovernorPermit {
+
+	/**
+	 * Release the permit once the call has completed.
+	 *
+	 * @param outcome outcome of the call
+	 * @param latencyNanos time from sending the call to receiving the response
+	 * @param retryAfterMillis delay requested by the server (or zero)
+	 */
+	public void release(CallOutcome outcome, long latencyNanos, long retryAfterMillis);
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.spi;
+
+/**
+ * Strategy used to choose the server endpoint for a REST call.
+ */
+public enum LoadBalancingStrategy {
+
+    /** Endpoint with the fewest calls in flight */
+    LeastOutstanding,
+
+    /** Endpoint with fewer calls in flight of two chosen at random */
+    PowerOfTwoChoices;
+}
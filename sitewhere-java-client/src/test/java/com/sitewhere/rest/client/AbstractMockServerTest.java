@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+
+import com.sitewhere.spi.ITenantAuthentication;
+import com.sitewhere.spi.web.ISiteWhereWebConstants;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Base class for tests that run the client against a local stand-in server
+ * rather than a live SiteWhere instance.
+ */
+public abstract class AbstractMockServerTest {
+
+    /** JWT handed out by the stand-in authentication API */
+    public static final String TEST_JWT = "test.jwt.token";
+
+    /** Local stand-in server */
+    private MockWebServer server;
+
+    /** Canned responses by request path */
+    private Map<String, MockResponse> responses = new ConcurrentHashMap<>();
+
+    /** Number of requests received by method and path */
+    private Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+
+    @Before
+    public void startServer() throws IOException {
+	this.server = new MockWebServer();
+	server.setDispatcher(new Dispatcher() {
+
+	    @Override
+	    public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+		return respondTo(request);
+	    }
+	});
+	server.start();
+    }
+
+    @After
+    public void stopServer() throws IOException {
+	server.shutdown();
+    }
+
+    /**
+     * Choose the response for a request. The JWT endpoint is always available.
+     * 
+     * @param request
+     * @return
+     * @throws InterruptedException
+     */
+    protected MockResponse respondTo(RecordedRequest request) throws InterruptedException {
+	String path = request.getPath();
+	if (path.startsWith(SiteWhereClient.AUTH_RELATIVE_URL + "jwt")) {
+	    return new MockResponse().setHeader(ISiteWhereWebConstants.HEADER_JWT, TEST_JWT);
+	}
+	int query = path.indexOf('?');
+	path = (query == -1) ? path : path.substring(0, query);
+	requestCounts.computeIfAbsent(request.getMethod() + " " + path, key -> new AtomicInteger()).incrementAndGet();
+	MockResponse response = responses.get(path);
+	return (response != null) ? response : new MockResponse().setResponseCode(404);
+    }
+
+    /**
+     * Get number of requests received for a path relative to the REST API root.
+     * 
+     * @param method
+     * @param relativePath
+     * @return
+     */
+    protected int getRequestCount(String method, String relativePath) {
+	AtomicInteger count = requestCounts.get(method + " " + SiteWhereClient.REST_RELATIVE_URL + relativePath);
+	return (count != null) ? count.get() : 0;
+    }
+
+    /**
+     * Register a JSON response for a path relative to the REST API root.
+     * 
+     * @param relativePath
+     * @param json
+     */
+    protected void respondWithJson(String relativePath, String json) {
+	responses.put(SiteWhereClient.REST_RELATIVE_URL + relativePath,
+		new MockResponse().setHeader("Content-Type", "application/json").setBody(json));
+    }
+
+    /**
+     * Register an arbitrary response for a path relative to the REST API root.
+     * 
+     * @param relativePath
+     * @param response
+     */
+    protected void respondWith(String relativePath, MockResponse response) {
+	responses.put(SiteWhereClient.REST_RELATIVE_URL + relativePath, response);
+    }
+
+    /**
+     * Get a client builder pointed at the stand-in server.
+     * 
+     * @return
+     */
+    protected SiteWhereClient.Builder newClientBuilder() {
+	return SiteWhereClient.newBuilder().withConnectionTo("http", server.getHostName(), server.getPort());
+    }
+
+    protected ITenantAuthentication getTenant() {
+	return SiteWhereClient.defaultTenant();
+    }
+
+    protected MockWebServer getServer() {
+	return server;
+    }
+}
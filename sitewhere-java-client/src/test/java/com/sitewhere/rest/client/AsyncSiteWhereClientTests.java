@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.model.device.DeviceType;
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.rest.model.search.device.DeviceTypeResponseFormat;
+import com.sitewhere.rest.model.search.device.DeviceTypeSearchCriteria;
+import com.sitewhere.spi.IAsyncSiteWhereClient;
+import com.sitewhere.spi.SiteWhereException;
+import com.sitewhere.spi.web.ISiteWhereWebConstants;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Tests for {@link AsyncSiteWhereClient}.
+ */
+public class AsyncSiteWhereClientTests extends AbstractMockServerTest {
+
+    @Test
+    public void testManyCallsInFlight() throws Exception {
+	respondWithJson("devicetypes/galaxytab3", "{\"token\":\"galaxytab3\",\"name\":\"Galaxy Tab 3\"}");
+	IAsyncSiteWhereClient client = newClientBuilder().buildAsync().initialize();
+
+	List<CompletableFuture<DeviceType>> futures = new ArrayList<>();
+	for (int i = 0; i < 50; i++) {
+	    futures.add(client.getDeviceTypeByToken(getTenant(), "galaxytab3"));
+	}
+	CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get();
+	for (CompletableFuture<DeviceType> future : futures) {
+	    assertEquals("Galaxy Tab 3", future.get().getName());
+	}
+
+	// Skip JWT request and verify tenant headers were sent.
+	getServer().takeRequest();
+	RecordedRequest request = getServer().takeRequest();
+	assertEquals("Bearer " + TEST_JWT, request.getHeader("Authorization"));
+	assertEquals("default", request.getHeader(ISiteWhereWebConstants.HEADER_TENANT_ID));
+    }
+
+    @Test
+    public void testListResults() throws Exception {
+	respondWithJson("devicetypes", "{\"numResults\":2,\"results\":[{\"token\":\"a\"},{\"token\":\"b\"}]}");
+	IAsyncSiteWhereClient client = newClientBuilder().buildAsync().initialize();
+
+	SearchResults<DeviceType> results = client.listDeviceTypes(getTenant(), new DeviceTypeSearchCriteria(1, 10),
+		new DeviceTypeResponseFormat()).get();
+	assertEquals(2, results.getNumResults());
+	assertEquals("b", results.getResults().get(1).getToken());
+    }
+
+    @Test
+    public void testErrorCompletesExceptionally() throws Exception {
+	respondWith("devicetypes/missing", new MockResponse().setResponseCode(500));
+	IAsyncSiteWhereClient client = newClientBuilder().buildAsync().initialize();
+
+	try {
+	    client.getDeviceTypeByToken(getTenant(), "missing").get();
+	} catch (ExecutionException e) {
+	    assertTrue(e.getCause() instanceof SiteWhereException);
+	    return;
+	}
+	throw new AssertionError("Expected call to fail.");
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.DeviceMeasurement;
+import com.sitewhere.rest.model.device.event.binary.BinaryEventCodec;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.spi.ISiteWhereClient;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+/**
+ * Tests for sending event batches in the binary event format.
+ */
+public class BinaryEventConverterTests extends AbstractMockServerTest {
+
+    @Test
+    public void testBinaryRequestAndResponse() throws Exception {
+	DeviceMeasurement created = new DeviceMeasurement();
+	created.setName("engine.temp");
+	created.setValue(88.5);
+	DeviceEventBatchResponse response = new DeviceEventBatchResponse();
+	response.setCreatedMeasurements(Arrays.asList(created));
+	respondWith("devices/gateway-1/batch", new MockResponse().setHeader("Content-Type", BinaryEventCodec.MEDIA_TYPE)
+		.setBody(new Buffer().write(BinaryEventCodec.encode(response))));
+
+	ISiteWhereClient client = newClientBuilder().withBinaryEvents(true).build().initialize();
+	DeviceEventBatchResponse result = client.addMultipleEventsForDevice(getTenant(), "gateway-1", createBatch());
+	assertEquals("engine.temp", result.getCreatedMeasurements().get(0).getName());
+
+	RecordedRequest request = takeBatchRequest();
+	assertEquals(BinaryEventCodec.MEDIA_TYPE, request.getHeader("Content-Type"));
+	assertTrue(request.getHeader("Accept").startsWith(BinaryEventCodec.MEDIA_TYPE));
+	DeviceEventBatch sent = BinaryEventCodec.decodeBatch(request.getBody().readByteArray());
+	assertEquals("gateway-1", sent.getDeviceToken());
+	assertEquals(88.5, sent.getMeasurements().get(0).getValue(), 0);
+    }
+
+    @Test
+    public void testJsonResponseAccepted() throws Exception {
+	respondWithJson("devices/gateway-1/batch",
+		"{\"createdMeasurements\":[{\"name\":\"engine.temp\",\"value\":88.5}],\"createdLocations\":[],"
+			+ "\"createdAlerts\":[]}");
+	ISiteWhereClient client = newClientBuilder().withBinaryEvents(true).build().initialize();
+	DeviceEventBatchResponse result = client.addMultipleEventsForDevice(getTenant(), "gateway-1", createBatch());
+	assertEquals(88.5, result.getCreatedMeasurements().get(0).getValue(), 0);
+    }
+
+    @Test
+    public void testJsonByDefault() throws Exception {
+	respondWithJson("devices/gateway-1/batch", "{}");
+	newClientBuilder().build().initialize().addMultipleEventsForDevice(getTenant(), "gateway-1", createBatch());
+	assertTrue(takeBatchRequest().getHeader("Content-Type").startsWith("application/json"));
+    }
+
+    /**
+     * Skip the authentication request and return the batch request.
+     * 
+     * @return
+     * @throws InterruptedException
+     */
+    protected RecordedRequest takeBatchRequest() throws InterruptedException {
+	RecordedRequest request = getServer().takeRequest();
+	while (!request.getPath().endsWith("/batch")) {
+	    request = getServer().takeRequest();
+	}
+	return request;
+    }
+
+    protected DeviceEventBatch createBatch() {
+	DeviceEventBatch batch = new DeviceEventBatch();
+	batch.setDeviceToken("gateway-1");
+	batch.getMeasurements().add(new DeviceMeasurementCreateRequest.Builder().measurement("engine.temp", 88.5)
+		.on(new Date()).build());
+	return batch;
+    }
+}
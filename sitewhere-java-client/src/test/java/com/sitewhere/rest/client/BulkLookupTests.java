@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.model.device.marshaling.MarshaledDevice;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDeviceAssignment;
+import com.sitewhere.spi.IBulkLookupResult;
+import com.sitewhere.spi.ISiteWhereClient;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Tests for looking up entities for a collection of tokens.
+ */
+public class BulkLookupTests extends AbstractMockServerTest {
+
+    /** Requests currently being answered */
+    private AtomicInteger active = new AtomicInteger();
+
+    /** Highest number of requests answered at once */
+    private AtomicInteger maxActive = new AtomicInteger();
+
+    /*
+     * @see com.sitewhere.rest.client.AbstractMockServerTest#respondTo(okhttp3.
+     * mockwebserver.RecordedRequest)
+     */
+    @Override
+    protected MockResponse respondTo(RecordedRequest request) throws InterruptedException {
+	int current = active.incrementAndGet();
+	maxActive.accumulateAndGet(current, Math::max);
+	try {
+	    Thread.sleep(10);
+	    return super.respondTo(request);
+	} finally {
+	    active.decrementAndGet();
+	}
+    }
+
+    @Test
+    public void testResultsAndErrorsByToken() throws Exception {
+	List<String> tokens = new ArrayList<>();
+	for (int i = 0; i < 40; i++) {
+	    tokens.add("d" + i);
+	    if (i % 5 != 0) {
+		respondWithJson("devices/d" + i, "{\"token\":\"d" + i + "\"}");
+	    }
+	}
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	IBulkLookupResult<MarshaledDevice> result = client.bulkGetDevicesByToken(getTenant(), tokens);
+	assertTrue(result.hasErrors());
+	assertEquals(32, result.getResults().size());
+	assertEquals(8, result.getErrors().size());
+	assertEquals("d7", result.getResults().get("d7").getToken());
+	assertTrue(result.getErrors().containsKey("d10"));
+	assertEquals("d1", result.getResults().keySet().iterator().next());
+	assertEquals("d0", result.getErrors().keySet().iterator().next());
+    }
+
+    @Test
+    public void testParallelismBounded() throws Exception {
+	List<String> tokens = new ArrayList<>();
+	for (int i = 0; i < 30; i++) {
+	    tokens.add("a" + i);
+	    respondWithJson("assignments/a" + i, "{\"token\":\"a" + i + "\"}");
+	}
+	ISiteWhereClient client = newClientBuilder().withBulkLookupParallelism(4).build().initialize();
+	IBulkLookupResult<MarshaledDeviceAssignment> result = client.bulkGetDeviceAssignmentsByToken(getTenant(),
+		tokens);
+	assertFalse(result.hasErrors());
+	assertEquals(30, result.getResults().size());
+	assertTrue("Max in flight was " + maxActive.get(), maxActive.get() <= 4);
+    }
+
+    @Test
+    public void testDuplicateTokensLookedUpOnce() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	IBulkLookupResult<MarshaledDevice> result = client.bulkGetDevicesByToken(getTenant(),
+		Arrays.asList("d1", "d1", "d1"));
+	assertEquals(1, result.getResults().size());
+	assertEquals(1, getRequestCount("GET", "devices/d1"));
+    }
+
+    @Test
+    public void testEmptyTokens() throws Exception {
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	IBulkLookupResult<MarshaledDevice> result = client.bulkGetDevicesByToken(getTenant(),
+		Collections.emptyList());
+	assertTrue(result.getResults().isEmpty());
+	assertFalse(result.hasErrors());
+    }
+
+    @Test
+    public void testAsyncBulkLookup() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	respondWithJson("devices/d2", "{\"token\":\"d2\"}");
+	IBulkLookupResult<MarshaledDevice> result = newClientBuilder().buildAsync().initialize()
+		.bulkGetDevicesByToken(getTenant(), Arrays.asList("d1", "d2", "d3")).get();
+	assertEquals(Arrays.asList("d1", "d2"), new ArrayList<>(result.getResults().keySet()));
+	assertEquals(Arrays.asList("d3"), new ArrayList<>(result.getErrors().keySet()));
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.model.device.DeviceType;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDevice;
+import com.sitewhere.rest.model.device.request.DeviceCreateRequest;
+import com.sitewhere.spi.IBulkLookupResult;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.SiteWhereException;
+
+import okhttp3.mockwebserver.MockResponse;
+
+/**
+ * Tests for caching of token lookups.
+ */
+public class CachingSiteWhereClientTests extends AbstractMockServerTest {
+
+    @Test
+    public void testRepeatedLookups() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\",\"comments\":\"first\"}");
+	respondWithJson("devicetypes/t1", "{\"token\":\"t1\",\"name\":\"Truck\"}");
+	ISiteWhereClient client = newClientBuilder().withEntityCache(100, 60000).build().initialize();
+	assertTrue(client instanceof CachingSiteWhereClient);
+
+	MarshaledDevice device = client.getDeviceByToken(getTenant(), "d1");
+	assertSame(device, client.getDeviceByToken(getTenant(), "d1"));
+	DeviceType type = client.getDeviceTypeByToken(getTenant(), "t1");
+	assertSame(type, client.getDeviceTypeByToken(getTenant(), "t1"));
+	assertEquals(1, getRequestCount("GET", "devices/d1"));
+	assertEquals(1, getRequestCount("GET", "devicetypes/t1"));
+
+	// Other tenants are cached separately.
+	client.getDeviceByToken(SiteWhereClient.forTenant("other", "other"), "d1");
+	assertEquals(2, getRequestCount("GET", "devices/d1"));
+
+	EntityCacheStats stats = ((CachingSiteWhereClient) client).getCache().getStats();
+	assertEquals(2, stats.getHitCount());
+	assertEquals(3, stats.getMissCount());
+	assertEquals(3, stats.getSize());
+    }
+
+    @Test
+    public void testInvalidation() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	respondWithJson("devicetypes/t1", "{\"token\":\"t1\"}");
+	respondWithJson("commands/c1", "{\"token\":\"c1\"}");
+	ISiteWhereClient client = newClientBuilder().withEntityCache(100, 60000).build().initialize();
+	client.getDeviceByToken(getTenant(), "d1");
+	client.getDeviceTypeByToken(getTenant(), "t1");
+	client.getDeviceCommandByToken(getTenant(), "c1");
+
+	// Update of a device only reloads the device.
+	client.updateDevice(getTenant(), "d1", new DeviceCreateRequest());
+	client.getDeviceByToken(getTenant(), "d1");
+	client.getDeviceTypeByToken(getTenant(), "t1");
+	assertEquals(2, getRequestCount("GET", "devices/d1"));
+	assertEquals(1, getRequestCount("GET", "devicetypes/t1"));
+
+	// Devices embed their type, so a type change reloads both.
+	client.deleteDeviceType(getTenant(), "t1");
+	client.getDeviceByToken(getTenant(), "d1");
+	client.getDeviceTypeByToken(getTenant(), "t1");
+	client.getDeviceCommandByToken(getTenant(), "c1");
+	assertEquals(3, getRequestCount("GET", "devices/d1"));
+	assertEquals(2, getRequestCount("GET", "devicetypes/t1"));
+	assertEquals(1, getRequestCount("GET", "commands/c1"));
+    }
+
+    @Test
+    public void testBulkLookupUsesCache() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	respondWithJson("devices/d2", "{\"token\":\"d2\"}");
+	ISiteWhereClient client = newClientBuilder().withEntityCache(100, 60000).build().initialize();
+	MarshaledDevice d1 = client.getDeviceByToken(getTenant(), "d1");
+
+	IBulkLookupResult<MarshaledDevice> result = client.bulkGetDevicesByToken(getTenant(),
+		Arrays.asList("d1", "d2", "d3"));
+	assertSame(d1, result.getResults().get("d1"));
+	assertEquals(Arrays.asList("d1", "d2"), new ArrayList<>(result.getResults().keySet()));
+	assertTrue(result.getErrors().containsKey("d3"));
+	assertSame(result.getResults().get("d2"), client.getDeviceByToken(getTenant(), "d2"));
+	assertEquals(1, getRequestCount("GET", "devices/d1"));
+	assertEquals(1, getRequestCount("GET", "devices/d2"));
+    }
+
+    @Test
+    public void testConcurrentMissesCollapse() throws Exception {
+	respondWith("devices/d1", new MockResponse().setHeader("Content-Type", "application/json")
+		.setBody("{\"token\":\"d1\"}").setBodyDelay(200, TimeUnit.MILLISECONDS));
+	ISiteWhereClient client = newClientBuilder().withEntityCache(100, 60000).build().initialize();
+	ExecutorService executor = Executors.newFixedThreadPool(8);
+	try {
+	    List<Future<MarshaledDevice>> results = new ArrayList<>();
+	    for (int i = 0; i < 8; i++) {
+		results.add(executor.submit(() -> client.getDeviceByToken(getTenant(), "d1")));
+	    }
+	    MarshaledDevice first = results.get(0).get();
+	    for (Future<MarshaledDevice> result : results) {
+		assertSame(first, result.get());
+	    }
+	} finally {
+	    executor.shutdownNow();
+	}
+	assertEquals(1, getRequestCount("GET", "devices/d1"));
+    }
+
+    @Test
+    public void testFailuresNotCached() throws Exception {
+	respondWith("devices/d1", new MockResponse().setResponseCode(503));
+	ISiteWhereClient client = newClientBuilder().withEntityCache(100, 60000).build().initialize();
+	for (int i = 0; i < 2; i++) {
+	    try {
+		client.getDeviceByToken(getTenant(), "d1");
+		fail("Expected server error.");
+	    } catch (SiteWhereException e) {
+		// Expected.
+	    }
+	}
+	assertEquals(2, getRequestCount("GET", "devices/d1"));
+	assertEquals(2, ((CachingSiteWhereClient) client).getCache().getStats().getLoadFailureCount());
+    }
+
+    @Test
+    public void testExpirationAndEviction() throws Exception {
+	AtomicLong now = new AtomicLong();
+	EntityCache cache = new EntityCache(10, 1000) {
+
+	    @Override
+	    protected long currentTime() {
+		return now.get();
+	    }
+	};
+	AtomicInteger loads = new AtomicInteger();
+	EntityCache.Loader<Integer> loader = () -> loads.incrementAndGet();
+
+	cache.get("tenant", CachedEntityType.Device, "d0", loader);
+	now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+	cache.get("tenant", CachedEntityType.Device, "d0", loader);
+	assertEquals(1, loads.get());
+	now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+	cache.get("tenant", CachedEntityType.Device, "d0", loader);
+	assertEquals(2, loads.get());
+
+	// Least recently used entries are evicted first.
+	for (int i = 1; i <= 10; i++) {
+	    now.incrementAndGet();
+	    cache.get("tenant", CachedEntityType.Device, "d" + i, loader);
+	    if (i == 5) {
+		now.incrementAndGet();
+		cache.get("tenant", CachedEntityType.Device, "d0", loader);
+	    }
+	}
+	assertEquals(9, cache.size());
+	assertEquals(2, cache.getStats().getEvictionCount());
+	int before = loads.get();
+	cache.get("tenant", CachedEntityType.Device, "d0", loader);
+	assertEquals(before, loads.get());
+	cache.get("tenant", CachedEntityType.Device, "d1", loader);
+	assertEquals(before + 1, loads.get());
+    }
+}
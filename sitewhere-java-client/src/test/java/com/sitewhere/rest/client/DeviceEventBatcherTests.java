@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.spi.IDeviceEventBatchListener;
+import com.sitewhere.spi.IDeviceEventBatcher;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Tests for {@link DeviceEventBatcher}.
+ */
+public class DeviceEventBatcherTests extends AbstractMockServerTest {
+
+    @Test
+    public void testBatchesBySize() throws Exception {
+	respondWithJson("devices/dev-1/batch", "{}");
+	respondWithJson("devices/dev-2/batch", "{}");
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	CountingListener listener = new CountingListener();
+
+	IDeviceEventBatcher batcher = DeviceEventBatcher.newBuilder(client, getTenant())
+		.withMaxBatchSize(10, 1024 * 1024).withLinger(60 * 1000).withListener(listener).build();
+	for (int i = 0; i < 50; i++) {
+	    batcher.addMeasurement("dev-1", measurement(i));
+	    batcher.addMeasurement("dev-2", measurement(i));
+	}
+	batcher.close();
+
+	assertEquals(10, listener.sent.get());
+	assertEquals(100, listener.events.get());
+	assertEquals(0, batcher.getBufferedEventCount());
+	assertEquals(11, getServer().getRequestCount());
+    }
+
+    @Test
+    public void testLingerSendsPartialBatch() throws Exception {
+	respondWithJson("devices/dev-1/batch", "{}");
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	CountingListener listener = new CountingListener();
+
+	IDeviceEventBatcher batcher = DeviceEventBatcher.newBuilder(client, getTenant()).withLinger(20)
+		.withListener(listener).build();
+	DeviceLocationCreateRequest location = new DeviceLocationCreateRequest();
+	location.setLatitude(33.7);
+	location.setLongitude(-84.4);
+	batcher.addLocation("dev-1", location);
+
+	long deadline = System.currentTimeMillis() + 5000;
+	while ((listener.sent.get() == 0) && (System.currentTimeMillis() < deadline)) {
+	    Thread.sleep(10);
+	}
+	assertEquals(1, listener.sent.get());
+	batcher.close();
+    }
+
+    @Test
+    public void testFailedBatchReleasesBuffer() throws Exception {
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	CountingListener listener = new CountingListener();
+
+	IDeviceEventBatcher batcher = DeviceEventBatcher.newBuilder(client, getTenant()).withMaxBatchSize(5, 1024)
+		.withBuffer(5, 5000).withListener(listener).build();
+	for (int i = 0; i < 20; i++) {
+	    batcher.addMeasurement("missing", measurement(i));
+	}
+	batcher.close();
+
+	assertEquals(4, listener.failed.get());
+	assertEquals(0, batcher.getBufferedEventCount());
+    }
+
+    @Test
+    public void testRuntimeFailureReported() throws Exception {
+	ISiteWhereClient client = (ISiteWhereClient) Proxy.newProxyInstance(getClass().getClassLoader(),
+		new Class<?>[] { ISiteWhereClient.class }, (proxy, method, args) -> {
+		    throw new IllegalStateException("Client not initialized.");
+		});
+	CountingListener listener = new CountingListener();
+
+	IDeviceEventBatcher batcher = DeviceEventBatcher.newBuilder(client, getTenant()).withMaxBatchSize(5, 1024)
+		.withBuffer(5, 5000).withListener(listener).build();
+	for (int i = 0; i < 20; i++) {
+	    batcher.addMeasurement("dev-1", measurement(i));
+	}
+	batcher.close();
+
+	assertEquals(4, listener.failed.get());
+	assertTrue(listener.error.get().getCause() instanceof IllegalStateException);
+	assertEquals(0, batcher.getBufferedEventCount());
+    }
+
+    protected static DeviceMeasurementCreateRequest measurement(double value) {
+	return new DeviceMeasurementCreateRequest.Builder().measurement("temp", value).build();
+    }
+
+    /**
+     * Counts batch outcomes.
+     */
+    private static class CountingListener implements IDeviceEventBatchListener {
+
+	AtomicInteger sent = new AtomicInteger();
+
+	AtomicInteger failed = new AtomicInteger();
+
+	AtomicInteger events = new AtomicInteger();
+
+	AtomicReference<SiteWhereException> error = new AtomicReference<>();
+
+	@Override
+	public void onBatchSent(String deviceToken, DeviceEventBatch batch, DeviceEventBatchResponse response) {
+	    sent.incrementAndGet();
+	    events.addAndGet(batch.getMeasurements().size());
+	}
+
+	@Override
+	public void onBatchFailed(String deviceToken, DeviceEventBatch batch, SiteWhereException error) {
+	    this.error.set(error);
+	    failed.incrementAndGet();
+	}
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.model.device.charting.MeasurementSeries;
+import com.sitewhere.rest.model.device.request.DeviceAssignmentBulkRequest;
+import com.sitewhere.rest.model.search.DateRangeSearchCriteria;
+import com.sitewhere.spi.ISiteWhereClient;
+
+/**
+ * Tests for decoding chart series responses into {@link MeasurementSeries}.
+ */
+public class MeasurementSeriesClientTests extends AbstractMockServerTest {
+
+    /** Chart series response body */
+    private static final String SERIES = "[{\"measurementId\":\"engine.temp\",\"entries\":["
+	    + "{\"value\":80.5,\"measurementDate\":\"2019-01-01T00:00:00.000Z\"},"
+	    + "{\"value\":81.5,\"measurementDate\":\"2019-01-01T00:00:01.000Z\"}]}]";
+
+    @Test
+    public void testListAsMeasurementSeries() throws Exception {
+	respondWithJson("assignments/a1/measurements/series", SERIES);
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	List<MeasurementSeries> series = client.listMeasurementsForDeviceAssignmentAsMeasurementSeries(getTenant(),
+		"a1", new DateRangeSearchCriteria(1, 0, null, null));
+	assertEquals(1, series.size());
+	assertEquals(2, series.get(0).size());
+	assertEquals(1546300801000L, series.get(0).getTimestamp(1));
+	assertEquals(81.5, series.get(0).getValue(1), 0);
+    }
+
+    @Test
+    public void testBulkListAsMeasurementSeries() throws Exception {
+	respondWithJson("assignments/bulk/measurements/series", "{\"a1\":" + SERIES + ",\"a2\":[]}");
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	Map<String, List<MeasurementSeries>> series = client
+		.bulkListMeasurementsForDeviceAssignmentsAsMeasurementSeries(getTenant(),
+			new DeviceAssignmentBulkRequest());
+	assertEquals(80.5, series.get("a1").get(0).getValue(0), 0);
+	assertEquals(0, series.get("a2").size());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.spi.IPagedQuery;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Tests for {@link PagedResults} and {@link SearchResultsIterator}.
+ */
+public class PagedResultsTests {
+
+    @Test
+    public void testStreamVisitsAllResultsInOrder() {
+	CountingQuery query = new CountingQuery(1050);
+	List<Integer> all;
+	try (Stream<Integer> stream = PagedResults.stream(query, 100)) {
+	    all = stream.collect(Collectors.toList());
+	}
+	assertEquals(1050, all.size());
+	for (int i = 0; i < all.size(); i++) {
+	    assertEquals(i, all.get(i).intValue());
+	}
+	assertEquals(11, query.calls.get());
+    }
+
+    @Test
+    public void testExactMultipleOfPageSize() {
+	CountingQuery query = new CountingQuery(300);
+	SearchResultsIterator<Integer> it = PagedResults.iterator(query, 100, null);
+	int count = 0;
+	while (it.hasNext()) {
+	    it.next();
+	    count++;
+	}
+	assertEquals(300, count);
+	assertEquals(3, query.calls.get());
+	assertEquals(300, it.getTotalResults());
+    }
+
+    @Test
+    public void testEmptyResults() {
+	assertFalse(PagedResults.iterator(new CountingQuery(0), 100).hasNext());
+    }
+
+    @Test
+    public void testErrorsAreRethrown() {
+	SearchResultsIterator<Integer> it = PagedResults.iterator((page, size) -> {
+	    if (page > 1) {
+		throw new SiteWhereException("Server unavailable.");
+	    }
+	    return new CountingQuery(20).getPage(page, size);
+	}, 10);
+	try {
+	    for (int i = 0; i < 20; i++) {
+		it.next();
+	    }
+	} catch (UncheckedIOException e) {
+	    assertTrue(e.getCause() instanceof SiteWhereException);
+	    return;
+	}
+	throw new AssertionError("Expected failure on second page.");
+    }
+
+    /**
+     * Simulates a server holding a fixed number of integer results.
+     */
+    private static class CountingQuery implements IPagedQuery<Integer> {
+
+	private int total;
+
+	AtomicInteger calls = new AtomicInteger();
+
+	CountingQuery(int total) {
+	    this.total = total;
+	}
+
+	@Override
+	public SearchResults<Integer> getPage(int pageNumber, int pageSize) throws SiteWhereException {
+	    calls.incrementAndGet();
+	    List<Integer> page = new ArrayList<>();
+	    for (int i = (pageNumber - 1) * pageSize; (i < pageNumber * pageSize) && (i < total); i++) {
+		page.add(i);
+	    }
+	    return new SearchResults<Integer>(page, total);
+	}
+    }
+}
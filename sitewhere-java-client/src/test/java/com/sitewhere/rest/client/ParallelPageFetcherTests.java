@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.spi.IPagedQuery;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Tests for {@link ParallelPageFetcher}.
+ */
+public class ParallelPageFetcherTests {
+
+    /** Executor for page requests */
+    private ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @After
+    public void shutdown() {
+	executor.shutdownNow();
+    }
+
+    @Test
+    public void testOrderedResults() throws Exception {
+	SlowQuery query = new SlowQuery(1050);
+	List<Integer> all = new ParallelPageFetcher<>(query, 100, 4, executor).fetchAll(true);
+	assertEquals(1050, all.size());
+	for (int i = 0; i < all.size(); i++) {
+	    assertEquals(i, all.get(i).intValue());
+	}
+	assertEquals(11, query.calls.get());
+	assertTrue(query.maxConcurrent.get() <= 4);
+    }
+
+    @Test
+    public void testUnorderedResults() {
+	SlowQuery query = new SlowQuery(2000);
+	List<Integer> all;
+	try (Stream<Integer> stream = new ParallelPageFetcher<>(query, 100, 3, executor).stream(false)) {
+	    all = stream.collect(Collectors.toList());
+	}
+	assertEquals(2000, all.size());
+	assertEquals(2000, new HashSet<>(all).size());
+	assertTrue(query.maxConcurrent.get() <= 3);
+    }
+
+    @Test
+    public void testSinglePage() throws Exception {
+	SlowQuery query = new SlowQuery(40);
+	assertEquals(40, new ParallelPageFetcher<>(query, 100, 4, executor).fetchAll(false).size());
+	assertEquals(1, query.calls.get());
+    }
+
+    @Test
+    public void testErrorsAreRethrown() {
+	ParallelPageFetcher<Integer> fetcher = new ParallelPageFetcher<>((page, size) -> {
+	    if (page == 3) {
+		throw new SiteWhereException("Server unavailable.");
+	    }
+	    return new SlowQuery(100).getPage(page, size);
+	}, 10, 2, executor);
+	try {
+	    fetcher.fetchAll(true);
+	} catch (SiteWhereException e) {
+	    assertEquals("Server unavailable.", e.getMessage());
+	    return;
+	}
+	throw new AssertionError("Expected failure on third page.");
+    }
+
+    @Test
+    public void testStreamNotSizedByReportedTotal() {
+	IPagedQuery<Integer> query = (page, size) -> {
+	    SearchResults<Integer> results = new SlowQuery(450).getPage(page, size);
+	    return new SearchResults<Integer>(results.getResults(), 500);
+	};
+	try (Stream<Integer> stream = new ParallelPageFetcher<>(query, 100, 4, executor).stream(true)) {
+	    assertEquals(450, stream.toArray().length);
+	}
+	try (Stream<Integer> stream = new ParallelPageFetcher<>(query, 100, 4, executor).stream(false)) {
+	    assertEquals(450, stream.count());
+	}
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void testStreamErrorsAreUnchecked() {
+	new ParallelPageFetcher<Integer>((page, size) -> {
+	    throw new SiteWhereException("Server unavailable.");
+	}, 10, 2, executor).stream(true);
+    }
+
+    /**
+     * Simulates a slow server holding a fixed number of integer results.
+     */
+    private static class SlowQuery implements IPagedQuery<Integer> {
+
+	private int total;
+
+	AtomicInteger calls = new AtomicInteger();
+
+	AtomicInteger concurrent = new AtomicInteger();
+
+	AtomicInteger maxConcurrent = new AtomicInteger();
+
+	SlowQuery(int total) {
+	    this.total = total;
+	}
+
+	@Override
+	public SearchResults<Integer> getPage(int pageNumber, int pageSize) throws SiteWhereException {
+	    calls.incrementAndGet();
+	    maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+	    try {
+		Thread.sleep((pageNumber * 7) % 13);
+	    } catch (InterruptedException e) {
+		throw new SiteWhereException(e);
+	    } finally {
+		concurrent.decrementAndGet();
+	    }
+	    List<Integer> page = new ArrayList<>();
+	    for (int i = (pageNumber - 1) * pageSize; (i < pageNumber * pageSize) && (i < total); i++) {
+		page.add(i);
+	    }
+	    return new SearchResults<Integer>(page, total);
+	}
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.model.device.marshaling.MarshaledDevice;
+import com.sitewhere.rest.model.device.marshaling.MarshaledDeviceAssignment;
+import com.sitewhere.spi.IAsyncSiteWhereClient;
+import com.sitewhere.spi.ISiteWhereClient;
+
+import okhttp3.mockwebserver.MockResponse;
+
+/**
+ * Tests for combining concurrent identical GET calls.
+ */
+public class RequestCoalescerTests extends AbstractMockServerTest {
+
+    /** Number of concurrent callers */
+    private static final int CALLERS = 8;
+
+    @Test
+    public void testConcurrentLookupsShareCall() throws Exception {
+	respondSlowly("assignments/a1", "{\"token\":\"a1\"}");
+	SiteWhereClient client = (SiteWhereClient) newClientBuilder().withRequestCoalescing(true).build().initialize();
+	List<MarshaledDeviceAssignment> results = runConcurrently(
+		() -> client.getDeviceAssignmentByToken(getTenant(), "a1"));
+	for (MarshaledDeviceAssignment result : results) {
+	    assertSame(results.get(0), result);
+	}
+	assertEquals(1, getRequestCount("GET", "assignments/a1"));
+	assertEquals(1, client.getRequestCoalescer().getExecutedCount());
+	assertEquals(CALLERS - 1, client.getRequestCoalescer().getCoalescedCount());
+	assertEquals(0, client.getRequestCoalescer().getInFlightCount());
+    }
+
+    @Test
+    public void testTenantsNotCombined() throws Exception {
+	respondSlowly("assignments/a1", "{\"token\":\"a1\"}");
+	ISiteWhereClient client = newClientBuilder().withRequestCoalescing(true).build().initialize();
+	AtomicInteger caller = new AtomicInteger();
+	runConcurrently(() -> client.getDeviceAssignmentByToken(
+		SiteWhereClient.forTenant("tenant" + (caller.incrementAndGet() % 2), "auth"), "a1"));
+	assertEquals(2, getRequestCount("GET", "assignments/a1"));
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+	respondSlowly("assignments/a1", "{\"token\":\"a1\"}");
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	runConcurrently(() -> client.getDeviceAssignmentByToken(getTenant(), "a1"));
+	assertEquals(CALLERS, getRequestCount("GET", "assignments/a1"));
+    }
+
+    @Test
+    public void testRawBodiesCopied() throws Exception {
+	respondWith("devices/d1/label/qrcode",
+		new MockResponse().setBody("label-bytes").setBodyDelay(200, TimeUnit.MILLISECONDS));
+	ISiteWhereClient client = newClientBuilder().withRequestCoalescing(true).build().initialize();
+	List<byte[]> labels = runConcurrently(() -> client.getLabelForDevice(getTenant(), "d1", "qrcode"));
+	for (byte[] label : labels) {
+	    assertArrayEquals("label-bytes".getBytes(), label);
+	}
+	assertEquals(1, getRequestCount("GET", "devices/d1/label/qrcode"));
+    }
+
+    @Test
+    public void testAsyncLookupsShareCall() throws Exception {
+	respondSlowly("devices/d1", "{\"token\":\"d1\"}");
+	IAsyncSiteWhereClient client = newClientBuilder().withRequestCoalescing(true).buildAsync().initialize();
+	List<CompletableFuture<MarshaledDevice>> futures = new ArrayList<>();
+	for (int i = 0; i < CALLERS; i++) {
+	    futures.add(client.getDeviceByToken(getTenant(), "d1"));
+	}
+	for (CompletableFuture<MarshaledDevice> future : futures) {
+	    assertSame(futures.get(0).get(), future.get());
+	}
+	assertEquals(1, getRequestCount("GET", "devices/d1"));
+    }
+
+    /**
+     * Register a JSON response that is delayed long enough for concurrent
+     * callers to overlap.
+     *
+     * @param relativePath
+     * @param json
+     */
+    protected void respondSlowly(String relativePath, String json) {
+	respondWith(relativePath, new MockResponse().setHeader("Content-Type", "application/json").setBody(json)
+		.setBodyDelay(200, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Run a call from several threads at once and collect the results.
+     *
+     * @param call
+     * @return
+     * @throws Exception
+     */
+    protected <T> List<T> runConcurrently(Callable<T> call) throws Exception {
+	ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+	CountDownLatch start = new CountDownLatch(1);
+	try {
+	    List<Future<T>> futures = new ArrayList<>();
+	    for (int i = 0; i < CALLERS; i++) {
+		futures.add(executor.submit(() -> {
+		    start.await();
+		    return call.call();
+		}));
+	    }
+	    start.countDown();
+	    List<T> results = new ArrayList<>();
+	    for (Future<T> future : futures) {
+		results.add(future.get());
+	    }
+	    return results;
+	} finally {
+	    executor.shutdownNow();
+	}
+    }
+}
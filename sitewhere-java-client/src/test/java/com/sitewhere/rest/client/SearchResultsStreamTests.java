@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.model.device.asset.DeviceAlertWithAsset;
+import com.sitewhere.rest.model.device.asset.DeviceMeasurementWithAsset;
+import com.sitewhere.rest.model.search.DateRangeSearchCriteria;
+import com.sitewhere.rest.model.search.SearchResults;
+import com.sitewhere.spi.ISearchResultsStream;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.SiteWhereException;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Call;
+
+/**
+ * Tests for decoding list responses incrementally.
+ */
+public class SearchResultsStreamTests extends AbstractMockServerTest {
+
+    /** Measurements response with count ahead of results */
+    private static final String MEASUREMENTS = "{\"numResults\":120,\"results\":["
+	    + "{\"name\":\"engine.temp\",\"value\":80.5,\"assetName\":\"Truck\"},"
+	    + "{\"name\":\"engine.temp\",\"value\":81.5,\"metadata\":{\"unit\":\"C\"}},"
+	    + "{\"name\":\"fuel.level\",\"value\":0.25}]}";
+
+    @Test
+    public void testStreamMeasurements() throws Exception {
+	respondWithJson("assignments/a1/measurements", MEASUREMENTS);
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	try (ISearchResultsStream<DeviceMeasurementWithAsset> stream = client.streamMeasurementsForDeviceAssignment(
+		getTenant(), "a1", new DateRangeSearchCriteria(1, 3, null, null))) {
+	    assertEquals(120, stream.getNumResults());
+	    DeviceMeasurementWithAsset first = stream.next();
+	    assertEquals("engine.temp", first.getName());
+	    assertEquals("Truck", first.getAssetName());
+	    assertEquals("C", stream.next().getMetadata().get("unit"));
+	    assertEquals(0.25, stream.next().getValue(), 0);
+	    assertFalse(stream.hasNext());
+	}
+	getServer().takeRequest();
+	RecordedRequest request = getServer().takeRequest();
+	assertEquals("Bearer " + TEST_JWT, request.getHeader("Authorization"));
+    }
+
+    @Test
+    public void testCountAfterResults() throws Exception {
+	respondWithJson("assignments/a1/alerts",
+		"{\"results\":[{\"type\":\"overheat\"},{\"type\":\"low.fuel\"}],\"extra\":[1,{}],\"numResults\":2}");
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	try (ISearchResultsStream<DeviceAlertWithAsset> stream = client.streamAlertsForDeviceAssignment(getTenant(),
+		"a1", new DateRangeSearchCriteria(1, 0, null, null))) {
+	    assertEquals(ISearchResultsStream.NUM_RESULTS_UNKNOWN, stream.getNumResults());
+	    assertEquals("overheat", stream.next().getType());
+	    assertEquals("low.fuel", stream.next().getType());
+	    assertFalse(stream.hasNext());
+	    assertEquals(2, stream.getNumResults());
+	}
+    }
+
+    @Test
+    public void testForEachSearchResult() throws Exception {
+	respondWithJson("assignments/a1/measurements", MEASUREMENTS);
+	SiteWhereClient client = (SiteWhereClient) newClientBuilder().build().initialize();
+	Call<SearchResults<DeviceMeasurementWithAsset>> call = client.getRestRetrofit()
+		.listMeasurementsForDeviceAssignment("a1", null, null, 1, 3, client.createHeadersFor(getTenant()));
+	List<String> names = new ArrayList<>();
+	long total = client.forEachSearchResult(call, DeviceMeasurementWithAsset.class, m -> names.add(m.getName()));
+	assertEquals(120, total);
+	assertEquals(3, names.size());
+	assertEquals("fuel.level", names.get(2));
+    }
+
+    @Test
+    public void testEmptyAndMissingResults() throws Exception {
+	respondWithJson("assignments/a1/measurements", "{\"numResults\":0,\"results\":[]}");
+	respondWithJson("assignments/a2/measurements", "{\"numResults\":0}");
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	for (String token : new String[] { "a1", "a2" }) {
+	    try (ISearchResultsStream<DeviceMeasurementWithAsset> stream = client.streamMeasurementsForDeviceAssignment(
+		    getTenant(), token, new DateRangeSearchCriteria(1, 0, null, null))) {
+		assertEquals(0, stream.getNumResults());
+		assertFalse(stream.hasNext());
+	    }
+	}
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+	respondWith("assignments/a1/measurements", new MockResponse().setResponseCode(500));
+	respondWithJson("assignments/a2/measurements", "{\"numResults\":2,\"results\":[{\"name\":\"a\"},");
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	try {
+	    client.streamMeasurementsForDeviceAssignment(getTenant(), "a1",
+		    new DateRangeSearchCriteria(1, 0, null, null));
+	    fail("Expected server error.");
+	} catch (SiteWhereException e) {
+	    // Expected.
+	}
+	try (ISearchResultsStream<DeviceMeasurementWithAsset> stream = client.streamMeasurementsForDeviceAssignment(
+		getTenant(), "a2", new DateRangeSearchCriteria(1, 0, null, null))) {
+	    assertEquals("a", stream.next().getName());
+	    stream.hasNext();
+	    fail("Expected truncated response to fail.");
+	} catch (UncheckedIOException e) {
+	    assertTrue(e.getCause() instanceof SiteWhereException);
+	}
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sitewhere.rest.model.datatype.ModelObjectMapperFactory;
+
+import okhttp3.OkHttpClient;
+
+/**
+ * Tests for HTTP settings applied through {@link SiteWhereClient.Builder}.
+ */
+public class SiteWhereClientBuilderTests extends AbstractMockServerTest {
+
+    @Test
+    public void testHttpSettingsApplied() throws Exception {
+	SiteWhereClient client = (SiteWhereClient) newClientBuilder().withTimeouts(1000, 2000, 3000)
+		.withConnectionPool(20, 60000).withMaxRequests(256, 128).build().initialize();
+
+	OkHttpClient http = client.getHttpClient();
+	assertEquals(1000, http.connectTimeoutMillis());
+	assertEquals(2000, http.readTimeoutMillis());
+	assertEquals(3000, http.writeTimeoutMillis());
+	assertEquals(256, http.dispatcher().getMaxRequests());
+	assertEquals(128, http.dispatcher().getMaxRequestsPerHost());
+    }
+
+    @Test
+    public void testPoolSharedWithRestCalls() throws Exception {
+	respondWithJson("system/version", "{\"versionIdentifier\":\"2.1.0\"}");
+	SiteWhereClient client = (SiteWhereClient) newClientBuilder().build().initialize();
+	client.getSiteWhereVersion();
+
+	// JWT and REST calls reuse the same pooled connection.
+	assertEquals(1, client.getHttpClient().connectionPool().connectionCount());
+	getServer().takeRequest();
+	assertEquals(1, getServer().takeRequest().getSequenceNumber());
+    }
+
+    @Test
+    public void testObjectMapperNotShared() throws Exception {
+	SiteWhereClient first = (SiteWhereClient) newClientBuilder().build().initialize();
+	SiteWhereClient second = (SiteWhereClient) newClientBuilder().build().initialize();
+	assertNotSame(first.getObjectMapper(), second.getObjectMapper());
+	assertNotSame(ModelObjectMapperFactory.getShared(), first.getObjectMapper());
+
+	ObjectMapper mapper = ModelObjectMapperFactory.create();
+	SiteWhereClient custom = (SiteWhereClient) newClientBuilder().withObjectMapper(mapper).build().initialize();
+	assertSame(mapper, custom.getObjectMapper());
+    }
+}
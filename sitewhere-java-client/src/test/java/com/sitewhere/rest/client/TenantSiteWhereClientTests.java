@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.ITenantSiteWhereClient;
+import com.sitewhere.spi.web.ISiteWhereWebConstants;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Tests for client views bound to a single tenant.
+ */
+public class TenantSiteWhereClientTests extends AbstractMockServerTest {
+
+    /** Tenant ids sent with REST calls */
+    private List<String> tenantIds = new CopyOnWriteArrayList<>();
+
+    /*
+     * @see com.sitewhere.rest.client.AbstractMockServerTest#respondTo(okhttp3.
+     * mockwebserver.RecordedRequest)
+     */
+    @Override
+    protected MockResponse respondTo(RecordedRequest request) throws InterruptedException {
+	if (request.getPath().startsWith(SiteWhereClient.REST_RELATIVE_URL)) {
+	    tenantIds.add(request.getHeader(ISiteWhereWebConstants.HEADER_TENANT_ID));
+	}
+	return super.respondTo(request);
+    }
+
+    @Test
+    public void testViewSendsTenantHeaders() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	SiteWhereClient client = (SiteWhereClient) newClientBuilder().build().initialize();
+	ITenantSiteWhereClient view = client.withTenant(SiteWhereClient.forTenant("t1", "auth1"));
+	assertEquals("d1", view.getDeviceByToken("d1").getToken());
+	assertEquals("d1", view.getDeviceByToken("d1").getToken());
+	assertEquals(2, tenantIds.size());
+	assertEquals("t1", tenantIds.get(0));
+	assertEquals("t1", view.getTenant().getTenantToken());
+	assertSame(client, view.getClient());
+    }
+
+    @Test
+    public void testHeadersComputedOnce() {
+	SiteWhereClient client = new SiteWhereClient();
+	ITenantSiteWhereClient view = client.withTenant(SiteWhereClient.forTenant("t1", "auth1"));
+	Map<String, String> headers = client.createHeadersFor(view.getTenant());
+	assertSame(headers, client.createHeadersFor(view.getTenant()));
+	assertEquals("auth1", headers.get(ISiteWhereWebConstants.HEADER_TENANT_AUTH));
+
+	// Changing the tenant recomputes the headers.
+	TenantAuthentication tenant = (TenantAuthentication) SiteWhereClient.forTenant("t2", "auth2");
+	Map<String, String> before = client.createHeadersFor(tenant);
+	tenant.setTenantToken("t3");
+	assertNotSame(before, client.createHeadersFor(tenant));
+	assertEquals("t3", client.createHeadersFor(tenant).get(ISiteWhereWebConstants.HEADER_TENANT_ID));
+    }
+
+    @Test
+    public void testViewOfDecoratorUsesDecorator() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	ISiteWhereClient caching = newClientBuilder().withEntityCache(100, 60000).build().initialize();
+	ITenantSiteWhereClient view = caching.withTenant(getTenant());
+	view.getDeviceByToken("d1");
+	view.getDeviceByToken("d1");
+	assertEquals(1, getRequestCount("GET", "devices/d1"));
+    }
+}
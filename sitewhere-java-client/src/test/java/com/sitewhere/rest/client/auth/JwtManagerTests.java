@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.auth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.client.AbstractMockServerTest;
+import com.sitewhere.rest.client.SiteWhereClient;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.web.ISiteWhereWebConstants;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Tests for JWT refresh and sharing.
+ */
+public class JwtManagerTests extends AbstractMockServerTest {
+
+    /** Number of JWTs issued */
+    private AtomicInteger issued = new AtomicInteger();
+
+    /** Seconds until issued JWTs expire (zero for no expiration) */
+    private volatile long lifetime;
+
+    /** Most recently issued JWT */
+    private volatile String latest;
+
+    /*
+     * @see com.sitewhere.rest.client.AbstractMockServerTest#respondTo(okhttp3.
+     * mockwebserver.RecordedRequest)
+     */
+    @Override
+    protected MockResponse respondTo(RecordedRequest request) throws InterruptedException {
+	if (request.getPath().startsWith(SiteWhereClient.AUTH_RELATIVE_URL + "jwt")) {
+	    Thread.sleep(50);
+	    latest = createJwt(issued.incrementAndGet(), lifetime);
+	    return new MockResponse().setHeader(ISiteWhereWebConstants.HEADER_JWT, latest);
+	}
+	if (!("Bearer " + latest).equals(request.getHeader("Authorization"))) {
+	    return new MockResponse().setResponseCode(401);
+	}
+	return super.respondTo(request);
+    }
+
+    @Test
+    public void testRejectedJwtRefreshedAndRetried() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	ISiteWhereClient client = newClientBuilder().withJwtRefreshMargin(0).build().initialize();
+	assertEquals(1, issued.get());
+
+	// Server stops accepting the first JWT.
+	latest = "revoked";
+	assertEquals("d1", client.getDeviceByToken(getTenant(), "d1").getToken());
+	assertEquals(2, issued.get());
+	assertEquals(latest, ((SiteWhereClient) client).getJwt());
+    }
+
+    @Test
+    public void testConcurrentRejectionsShareRefresh() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	ISiteWhereClient client = newClientBuilder().withJwtRefreshMargin(0).build().initialize();
+	latest = "revoked";
+	ExecutorService executor = Executors.newFixedThreadPool(8);
+	try {
+	    List<Future<?>> futures = new ArrayList<>();
+	    for (int i = 0; i < 8; i++) {
+		futures.add(executor.submit(() -> client.getDeviceByToken(getTenant(), "d1")));
+	    }
+	    for (Future<?> future : futures) {
+		future.get();
+	    }
+	} finally {
+	    executor.shutdown();
+	}
+	assertEquals(2, issued.get());
+    }
+
+    @Test
+    public void testSharedStoreLoadsOnce() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	InMemoryJwtStore store = new InMemoryJwtStore();
+	ISiteWhereClient first = newClientBuilder().withJwtStore(store).build().initialize();
+	ISiteWhereClient second = newClientBuilder().withJwtStore(store).build().initialize();
+	assertEquals(1, issued.get());
+
+	// A refresh by one client is picked up by the other.
+	latest = "revoked";
+	first.getDeviceByToken(getTenant(), "d1");
+	second.getDeviceByToken(getTenant(), "d1");
+	assertEquals(2, issued.get());
+    }
+
+    @Test
+    public void testRefreshedBeforeExpiry() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	lifetime = 3;
+	ISiteWhereClient client = newClientBuilder().build().initialize();
+	String initial = ((SiteWhereClient) client).getJwt();
+	client.getDeviceByToken(getTenant(), "d1");
+	long deadline = System.currentTimeMillis() + 5000;
+	while ((issued.get() < 2) && (System.currentTimeMillis() < deadline)) {
+	    Thread.sleep(50);
+	}
+	assertEquals(2, issued.get());
+	assertNotEquals(initial, ((SiteWhereClient) client).getJwt());
+	client.getDeviceByToken(getTenant(), "d1");
+    }
+
+    @Test
+    public void testExpirationParsed() {
+	long now = System.currentTimeMillis() / 1000;
+	assertEquals((now + 60) * 1000, JwtManager.getExpiration(createJwt(1, 60)));
+	assertEquals(-1, JwtManager.getExpiration(createJwt(1, 0)));
+	assertEquals(-1, JwtManager.getExpiration("not-a-jwt"));
+	assertEquals(-1, JwtManager.getExpiration("a.%%%.c"));
+    }
+
+    /**
+     * Create an unsigned JWT.
+     *
+     * @param id
+     * @param lifetime seconds until expiration (zero for no expiration)
+     * @return
+     */
+    protected static String createJwt(int id, long lifetime) {
+	String claims = "{\"sub\":\"admin\",\"jti\":\"" + id + "\""
+		+ ((lifetime > 0) ? ",\"exp\":" + (System.currentTimeMillis() / 1000 + lifetime) : "") + "}";
+	Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+	return encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8)) + "."
+		+ encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8)) + ".";
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.balance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sitewhere.rest.client.AbstractMockServerTest;
+import com.sitewhere.rest.client.SiteWhereClient;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.LoadBalancingStrategy;
+import com.sitewhere.spi.web.ISiteWhereWebConstants;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Tests for spreading calls over several servers.
+ */
+public class LoadBalancerTests extends AbstractMockServerTest {
+
+    /** Second stand-in server */
+    private MockWebServer second;
+
+    /** REST calls received by second server */
+    private AtomicInteger secondCalls = new AtomicInteger();
+
+    /** Status code returned by second server for REST calls */
+    private volatile int secondStatus = 200;
+
+    @Before
+    public void startSecondServer() throws IOException {
+	this.second = new MockWebServer();
+	second.setDispatcher(new Dispatcher() {
+
+	    @Override
+	    public MockResponse dispatch(RecordedRequest request) {
+		if (request.getPath().startsWith(SiteWhereClient.AUTH_RELATIVE_URL)) {
+		    return new MockResponse().setHeader(ISiteWhereWebConstants.HEADER_JWT, TEST_JWT);
+		}
+		secondCalls.incrementAndGet();
+		return new MockResponse().setResponseCode(secondStatus).setHeader("Content-Type", "application/json")
+			.setBody("{\"token\":\"d1\"}");
+	    }
+	});
+	second.start();
+    }
+
+    @After
+    public void stopSecondServer() throws IOException {
+	second.shutdown();
+    }
+
+    @Test
+    public void testCallsSpreadOverEndpoints() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	ISiteWhereClient client = newClientBuilder().withLoadBalancer(newBalancer(second.getPort()).build()).build()
+		.initialize();
+	for (int i = 0; i < 10; i++) {
+	    assertEquals("d1", client.getDeviceByToken(getTenant(), "d1").getToken());
+	}
+	assertEquals(5, getRequestCount("GET", "devices/d1"));
+	assertEquals(5, secondCalls.get());
+    }
+
+    @Test
+    public void testUnreachableEndpointFailsOverAndIsEjected() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	LoadBalancer balancer = newBalancer(getClosedPort()).withOutlierEjection(2, 60 * 1000).build();
+	ISiteWhereClient client = newClientBuilder().withLoadBalancer(balancer).build().initialize();
+	for (int i = 0; i < 10; i++) {
+	    assertEquals("d1", client.getDeviceByToken(getTenant(), "d1").getToken());
+	}
+	assertEquals(10, getRequestCount("GET", "devices/d1"));
+	EndpointStatus dead = balancer.getStatuses().get(1);
+	assertTrue(dead.isEjected());
+	assertEquals(2, dead.getFailures());
+	assertFalse(balancer.getStatuses().get(0).isEjected());
+    }
+
+    @Test
+    public void testOverloadedEndpointIsEjected() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	secondStatus = 503;
+	LoadBalancer balancer = newBalancer(second.getPort()).withOutlierEjection(2, 60 * 1000).build();
+	ISiteWhereClient client = newClientBuilder().withLoadBalancer(balancer).build().initialize();
+	int failures = 0;
+	for (int i = 0; i < 10; i++) {
+	    try {
+		client.getDeviceByToken(getTenant(), "d1");
+	    } catch (Exception e) {
+		failures++;
+	    }
+	}
+	assertEquals(2, failures);
+	assertEquals(2, secondCalls.get());
+	assertTrue(balancer.getStatuses().get(1).isEjected());
+    }
+
+    @Test
+    public void testHealthCheckMarksEndpointDown() throws Exception {
+	LoadBalancer balancer = newBalancer(getClosedPort()).withHealthCheck("/", 50).build();
+	newClientBuilder().withLoadBalancer(balancer).build().initialize();
+	long deadline = System.currentTimeMillis() + 5000;
+	while (balancer.getStatuses().get(1).isHealthy() && (System.currentTimeMillis() < deadline)) {
+	    Thread.sleep(20);
+	}
+	balancer.stop();
+	assertFalse(balancer.getStatuses().get(1).isHealthy());
+	assertTrue(balancer.getStatuses().get(0).isHealthy());
+    }
+
+    @Test
+    public void testStrategiesPreferFewerOutstanding() {
+	for (LoadBalancingStrategy strategy : LoadBalancingStrategy.values()) {
+	    LoadBalancer balancer = newBalancer(second.getPort()).withStrategy(strategy).build();
+	    ServerEndpoint busy = balancer.getEndpoints().get(0);
+	    ServerEndpoint idle = balancer.getEndpoints().get(1);
+	    busy.start();
+	    for (int i = 0; i < 20; i++) {
+		assertSame(idle, balancer.choose(null));
+	    }
+	    assertSame(busy, balancer.choose(Collections.singleton(idle)));
+
+	    // Unavailable endpoints are used when nothing else is left.
+	    idle.setHealthy(false);
+	    assertSame(busy, balancer.choose(null));
+	    busy.setHealthy(false);
+	    assertSame(idle, balancer.choose(Collections.singleton(busy)));
+	}
+    }
+
+    /**
+     * Create a balancer for the stand-in server and another endpoint.
+     *
+     * @param port
+     * @return
+     */
+    protected LoadBalancer.Builder newBalancer(int port) {
+	return LoadBalancer.newBuilder().withEndpoint("http", getServer().getHostName(), getServer().getPort())
+		.withEndpoint("http", getServer().getHostName(), port).withHealthCheck("/", 0);
+    }
+
+    /**
+     * Get a local port with nothing listening on it.
+     *
+     * @return
+     * @throws IOException
+     */
+    protected static int getClosedPort() throws IOException {
+	MockWebServer closed = new MockWebServer();
+	closed.start();
+	int port = closed.getPort();
+	closed.shutdown();
+	return port;
+    }
+}
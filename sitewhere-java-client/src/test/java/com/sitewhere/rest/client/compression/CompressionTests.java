@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.compression;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.client.AbstractMockServerTest;
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceGroupElementCreateRequest;
+import com.sitewhere.spi.ContentEncoding;
+import com.sitewhere.spi.ISiteWhereClient;
+
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Tests for compression of request bodies.
+ */
+public class CompressionTests extends AbstractMockServerTest {
+
+    @Test
+    public void testGzipRoundTrip() throws Exception {
+	respondWithJson("devices/gateway-1/batch", "{}");
+	ISiteWhereClient client = newClientBuilder().withCompression(CompressionPolicy.newBuilder().build()).build()
+		.initialize();
+	client.addMultipleEventsForDevice(getTenant(), "gateway-1", createBatch(200));
+	RecordedRequest request = takeRequest("/batch");
+	assertEquals("gzip", request.getHeader("Content-Encoding"));
+	assertTrue(request.getHeader("Content-Type").startsWith("application/json"));
+	assertEquals("chunked", request.getHeader("Transfer-Encoding"));
+	byte[] compressed = request.getBody().readByteArray();
+	String json = inflate(new GZIPInputStream(new ByteArrayInputStream(compressed)));
+	assertEquals(200, json.split("engine.temp", -1).length - 1);
+	assertTrue(compressed.length < json.length() / 4);
+    }
+
+    @Test
+    public void testDeflateRoundTrip() throws Exception {
+	respondWithJson("devicegroups/g1/elements", "{\"numResults\":0,\"results\":[]}");
+	ISiteWhereClient client = newClientBuilder()
+		.withCompression(CompressionPolicy.newBuilder().withEncoding(ContentEncoding.Deflate).build()).build()
+		.initialize();
+	List<DeviceGroupElementCreateRequest> elements = new ArrayList<>();
+	for (int i = 0; i < 100; i++) {
+	    DeviceGroupElementCreateRequest element = new DeviceGroupElementCreateRequest();
+	    element.setDeviceToken("device-" + i);
+	    elements.add(element);
+	}
+	client.addElementsToDdeviceGroup(getTenant(), "g1", elements);
+	RecordedRequest request = takeRequest("/elements");
+	assertEquals("deflate", request.getHeader("Content-Encoding"));
+	String json = inflate(new InflaterInputStream(request.getBody().inputStream()));
+	assertTrue(json.contains("\"device-99\""));
+    }
+
+    @Test
+    public void testSmallBodyNotCompressed() throws Exception {
+	respondWithJson("devices/gateway-1/batch", "{}");
+	ISiteWhereClient client = newClientBuilder()
+		.withCompression(CompressionPolicy.newBuilder().withMinimumSize(64 * 1024).build()).build()
+		.initialize();
+	client.addMultipleEventsForDevice(getTenant(), "gateway-1", createBatch(1));
+	RecordedRequest request = takeRequest("/batch");
+	assertNull(request.getHeader("Content-Encoding"));
+	assertTrue(request.getBody().readUtf8().contains("engine.temp"));
+    }
+
+    @Test
+    public void testOnlyEnabledOperationsCompressed() throws Exception {
+	respondWithJson("devices/gateway-1/batch", "{}");
+	respondWithJson("devicegroups/g1/elements", "{\"numResults\":0,\"results\":[]}");
+	ISiteWhereClient client = newClientBuilder()
+		.withCompression(CompressionPolicy.newBuilder().withMinimumSize(0)
+			.withOperations("addMultipleEventsForDevice").build())
+		.build().initialize();
+	client.addElementsToDdeviceGroup(getTenant(), "g1", new ArrayList<>());
+	assertNull(takeRequest("/elements").getHeader("Content-Encoding"));
+	client.addMultipleEventsForDevice(getTenant(), "gateway-1", createBatch(1));
+	assertEquals("gzip", takeRequest("/batch").getHeader("Content-Encoding"));
+    }
+
+    /**
+     * Take requests until one for a path with the given suffix arrives.
+     * 
+     * @param suffix
+     * @return
+     * @throws InterruptedException
+     */
+    protected RecordedRequest takeRequest(String suffix) throws InterruptedException {
+	RecordedRequest request = getServer().takeRequest();
+	while (!request.getPath().endsWith(suffix)) {
+	    request = getServer().takeRequest();
+	}
+	return request;
+    }
+
+    /**
+     * Read a decompressing stream into a string.
+     * 
+     * @param input
+     * @return
+     * @throws IOException
+     */
+    protected static String inflate(InputStream input) throws IOException {
+	ByteArrayOutputStream output = new ByteArrayOutputStream();
+	byte[] buffer = new byte[4096];
+	int read;
+	while ((read = input.read(buffer)) != -1) {
+	    output.write(buffer, 0, read);
+	}
+	return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    protected static DeviceEventBatch createBatch(int measurements) {
+	DeviceEventBatch batch = new DeviceEventBatch();
+	batch.setDeviceToken("gateway-1");
+	for (int i = 0; i < measurements; i++) {
+	    batch.getMeasurements().add(new DeviceMeasurementCreateRequest.Builder().measurement("engine.temp", i)
+		    .on(new Date()).build());
+	}
+	return batch;
+    }
+}
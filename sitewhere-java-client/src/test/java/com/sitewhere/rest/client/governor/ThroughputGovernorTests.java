@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.governor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.client.AbstractMockServerTest;
+import com.sitewhere.spi.CallOutcome;
+import com.sitewhere.spi.EndpointGroup;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.IThroughputGovernor.IGovernorPermit;
+import com.sitewhere.spi.SiteWhereException;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.mockwebserver.MockResponse;
+
+/**
+ * Tests for client-side rate and concurrency limits.
+ */
+public class ThroughputGovernorTests extends AbstractMockServerTest {
+
+    @Test
+    public void testClassify() {
+	assertEquals(EndpointGroup.Search, GovernorInterceptor.classify(request("GET", "devices/d1")));
+	assertEquals(EndpointGroup.Events,
+		GovernorInterceptor.classify(request("POST", "assignments/a1/measurements")));
+	assertEquals(EndpointGroup.Events, GovernorInterceptor.classify(request("POST", "devices/d1/batch")));
+	assertEquals(EndpointGroup.Search, GovernorInterceptor.classify(request("POST", "assignments/bulk/alerts")));
+	assertEquals(EndpointGroup.Admin, GovernorInterceptor.classify(request("POST", "devices")));
+	assertEquals(EndpointGroup.Admin, GovernorInterceptor.classify(request("PUT", "devices/d1")));
+	assertEquals(EndpointGroup.Admin, GovernorInterceptor.classify(request("DELETE", "devices/d1")));
+    }
+
+    @Test
+    public void testRateLimit() throws Exception {
+	ThroughputGovernor governor = ThroughputGovernor.newBuilder()
+		.withPolicy(EndpointGroup.Events, GovernorPolicy.newBuilder().withRateLimit(20, 1).build()).build();
+	long start = System.nanoTime();
+	for (int i = 0; i < 6; i++) {
+	    governor.acquire("t1", EndpointGroup.Events).release(CallOutcome.Success, 0, 0);
+	}
+	long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	assertTrue("Elapsed " + elapsed, elapsed >= 200);
+
+	// Other groups are not limited.
+	start = System.nanoTime();
+	for (int i = 0; i < 6; i++) {
+	    governor.acquire("t1", EndpointGroup.Search).release(CallOutcome.Success, 0, 0);
+	}
+	assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 200);
+    }
+
+    @Test
+    public void testConcurrencyLimitTimesOut() throws Exception {
+	ThroughputGovernor governor = ThroughputGovernor.newBuilder().withDefaultPolicy(
+		GovernorPolicy.newBuilder().withConcurrencyLimit(2, 1, 2).withMaxWait(100).build()).build();
+	governor.acquire("t1", EndpointGroup.Admin);
+	IGovernorPermit second = governor.acquire("t1", EndpointGroup.Admin);
+	try {
+	    governor.acquire("t1", EndpointGroup.Admin);
+	    fail("Expected timeout.");
+	} catch (SiteWhereException e) {
+	    // Expected.
+	}
+	governor.acquire("t2", EndpointGroup.Admin);
+	second.release(CallOutcome.Success, 0, 0);
+	governor.acquire("t1", EndpointGroup.Admin);
+    }
+
+    @Test
+    public void testAdditiveIncreaseMultiplicativeDecrease() throws Exception {
+	AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(GovernorPolicy.newBuilder()
+		.withConcurrencyLimit(10, 1, 20).withBackoffRatio(0.5).withLatencyThreshold(100).build());
+	long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+
+	// Failures from the same round back off once.
+	long first = limit.acquire(deadline);
+	long second = limit.acquire(deadline);
+	limit.release(first, CallOutcome.Overload, 0);
+	limit.release(second, CallOutcome.Overload, 0);
+	assertEquals(5, limit.getLimit());
+
+	// Slow calls count as overload, client errors do not.
+	limit.release(limit.acquire(deadline), CallOutcome.Ignore, 0);
+	assertEquals(5, limit.getLimit());
+	limit.release(limit.acquire(deadline), CallOutcome.Success, TimeUnit.MILLISECONDS.toNanos(500));
+	assertEquals(2, limit.getLimit());
+
+	// Limit grows while fully used.
+	for (int round = 0; round < 20; round++) {
+	    long a = limit.acquire(deadline);
+	    long b = limit.acquire(deadline);
+	    limit.release(a, CallOutcome.Success, 0);
+	    limit.release(b, CallOutcome.Success, 0);
+	}
+	assertTrue(limit.getLimit() > 2);
+    }
+
+    @Test
+    public void testOverloadResponsesReduceLimit() throws Exception {
+	respondWith("devices/d1", new MockResponse().setResponseCode(503));
+	respondWithJson("devices/d2", "{\"token\":\"d2\"}");
+	ThroughputGovernor governor = ThroughputGovernor.newBuilder()
+		.withDefaultPolicy(GovernorPolicy.newBuilder().withConcurrencyLimit(8, 1, 8).build()).build();
+	ISiteWhereClient client = newClientBuilder().withThroughputGovernor(governor).build().initialize();
+	for (int i = 0; i < 3; i++) {
+	    try {
+		client.getDeviceByToken(getTenant(), "d1");
+		fail("Expected error.");
+	    } catch (SiteWhereException e) {
+		// Expected.
+	    }
+	}
+	String tenant = getTenant().getTenantToken();
+	assertEquals(5, governor.getConcurrencyLimit(tenant, EndpointGroup.Search));
+	assertEquals(0, governor.getInFlight(tenant, EndpointGroup.Search));
+	assertEquals(8, governor.getConcurrencyLimit("other", EndpointGroup.Search));
+
+	client.getDeviceByToken(getTenant(), "d2");
+	assertEquals(0, governor.getInFlight(tenant, EndpointGroup.Search));
+    }
+
+    @Test
+    public void testRetryAfterPausesCalls() throws Exception {
+	respondWith("devices/d1", new MockResponse().setResponseCode(429).setHeader("Retry-After", "1"));
+	ThroughputGovernor governor = ThroughputGovernor.newBuilder().build();
+	ISiteWhereClient client = newClientBuilder().withThroughputGovernor(governor).build().initialize();
+	try {
+	    client.getDeviceByToken(getTenant(), "d1");
+	    fail("Expected error.");
+	} catch (SiteWhereException e) {
+	    // Expected.
+	}
+	long start = System.nanoTime();
+	governor.acquire(getTenant().getTenantToken(), EndpointGroup.Search).release(CallOutcome.Success, 0, 0);
+	assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 500);
+    }
+
+    /**
+     * Build a request for a path relative to the REST API root.
+     *
+     * @param method
+     * @param relativePath
+     * @return
+     */
+    protected Request request(String method, String relativePath) {
+	RequestBody body = "GET".equals(method) ? null : RequestBody.create(MediaType.parse("application/json"), "{}");
+	return new Request.Builder().url("http://localhost/sitewhere/api/" + relativePath).method(method, body)
+		.build();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.isolation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.client.AbstractMockServerTest;
+import com.sitewhere.rest.client.governor.GovernorPolicy;
+import com.sitewhere.rest.client.governor.ThroughputGovernor;
+import com.sitewhere.rest.client.isolation.EndpointIsolation.Admission;
+import com.sitewhere.spi.CallRejectedException;
+import com.sitewhere.spi.CircuitState;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.SiteWhereException;
+
+import okhttp3.Request;
+import okhttp3.mockwebserver.MockResponse;
+
+/**
+ * Tests for bulkheads and circuit breakers per endpoint group.
+ */
+public class EndpointIsolationTests extends AbstractMockServerTest {
+
+    @Test
+    public void testClassify() {
+	assertEquals("devices", classify("/sitewhere/api/devices/d1"));
+	assertEquals("areas", classify("/sitewhere/api/areas/a1/assignments"));
+	assertEquals("assignments", classify("/sitewhere/api/assignments/a1"));
+	assertEquals(EndpointIsolation.EVENTS, classify("/sitewhere/api/assignments/a1/measurements"));
+	assertEquals(EndpointIsolation.EVENTS, classify("/sitewhere/api/assignments/a1/alerts"));
+	assertEquals(EndpointIsolation.EVENTS, classify("/sitewhere/api/assignments/bulk/locations"));
+	assertEquals(EndpointIsolation.EVENTS, classify("/sitewhere/api/devices/d1/batch"));
+	assertEquals("tenants", classify("/sitewhere/api/tenants"));
+	assertEquals(EndpointIsolation.OTHER, classify("/sitewhere/authapi/jwt"));
+    }
+
+    @Test
+    public void testCircuitOpensAndFailsFast() throws Exception {
+	respondWith("devices/d1", new MockResponse().setResponseCode(503));
+	respondWithJson("areas/a1", "{\"token\":\"a1\"}");
+	EndpointIsolation isolation = EndpointIsolation.newBuilder()
+		.withDefaultPolicy(IsolationPolicy.newBuilder().withFailureRate(10, 4, 50).build()).build();
+	ISiteWhereClient client = newClientBuilder().withEndpointIsolation(isolation).build().initialize();
+	for (int i = 0; i < 4; i++) {
+	    assertServerError(client, "d1");
+	}
+	assertEquals(CircuitState.Open, isolation.getStatus("devices").getState());
+	assertRejected(client, "d1");
+	assertEquals(4, getRequestCount("GET", "devices/d1"));
+	assertEquals(1, isolation.getStatus("devices").getRejectedByCircuit());
+
+	// Other groups are unaffected.
+	assertEquals("a1", client.getAreaByToken(getTenant(), "a1").getToken());
+	assertEquals(CircuitState.Closed, isolation.getStatus("areas").getState());
+    }
+
+    @Test
+    public void testCircuitRecovers() throws Exception {
+	respondWith("devices/d1", new MockResponse().setResponseCode(503));
+	EndpointIsolation isolation = EndpointIsolation.newBuilder().withPolicy("devices",
+		IsolationPolicy.newBuilder().withFailureRate(10, 2, 50).withRecovery(100, 2).build()).build();
+	ISiteWhereClient client = newClientBuilder().withEndpointIsolation(isolation).build().initialize();
+	assertServerError(client, "d1");
+	assertServerError(client, "d1");
+	assertEquals(CircuitState.Open, isolation.getStatus("devices").getState());
+
+	Thread.sleep(150);
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	assertEquals("d1", client.getDeviceByToken(getTenant(), "d1").getToken());
+	assertEquals(CircuitState.HalfOpen, isolation.getStatus("devices").getState());
+	assertEquals("d1", client.getDeviceByToken(getTenant(), "d1").getToken());
+	assertEquals(CircuitState.Closed, isolation.getStatus("devices").getState());
+	assertEquals(1, isolation.getStatus("devices").getOpenCount());
+    }
+
+    @Test
+    public void testClientErrorsDoNotOpenCircuit() throws Exception {
+	respondWith("devices/d1", new MockResponse().setResponseCode(404));
+	EndpointIsolation isolation = EndpointIsolation.newBuilder()
+		.withDefaultPolicy(IsolationPolicy.newBuilder().withFailureRate(10, 2, 50).build()).build();
+	ISiteWhereClient client = newClientBuilder().withEndpointIsolation(isolation).build().initialize();
+	for (int i = 0; i < 5; i++) {
+	    assertServerError(client, "d1");
+	}
+	assertEquals(CircuitState.Closed, isolation.getStatus("devices").getState());
+	assertEquals(0, isolation.getStatus("devices").getFailureRate());
+    }
+
+    @Test
+    public void testBulkheadRejectsOnlyItsGroup() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	respondWithJson("areas/a1", "{\"token\":\"a1\"}");
+	EndpointIsolation isolation = EndpointIsolation.newBuilder()
+		.withPolicy("devices", IsolationPolicy.newBuilder().withBulkhead(1, 0).build()).build();
+	ISiteWhereClient client = newClientBuilder().withEndpointIsolation(isolation).build().initialize();
+	Admission held = isolation.acquire("devices");
+	assertEquals(1, isolation.getStatus("devices").getInFlight());
+	assertRejected(client, "d1");
+	assertEquals(1, isolation.getStatus("devices").getRejectedByBulkhead());
+	assertEquals("a1", client.getAreaByToken(getTenant(), "a1").getToken());
+
+	held.release(false);
+	assertEquals("d1", client.getDeviceByToken(getTenant(), "d1").getToken());
+	assertEquals(0, isolation.getStatus("devices").getInFlight());
+	assertEquals(1, getRequestCount("GET", "devices/d1"));
+	assertTrue(isolation.getStatuses().containsKey("areas"));
+    }
+
+    /**
+     * Get group for a call to a path.
+     *
+     * @param path
+     * @return
+     */
+    protected String classify(String path) {
+	return EndpointIsolation.classify(new Request.Builder().url(getServer().url(path)).build());
+    }
+
+    @Test
+    public void testGovernorRejectionsNotCounted() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	EndpointIsolation isolation = EndpointIsolation.newBuilder()
+		.withDefaultPolicy(IsolationPolicy.newBuilder().withFailureRate(10, 4, 50).build()).build();
+	ThroughputGovernor governor = ThroughputGovernor.newBuilder()
+		.withDefaultPolicy(GovernorPolicy.newBuilder().withRateLimit(0.1, 1).withMaxWait(0).build()).build();
+	ISiteWhereClient client = newClientBuilder().withEndpointIsolation(isolation).withThroughputGovernor(governor)
+		.build().initialize();
+	assertEquals("d1", client.getDeviceByToken(getTenant(), "d1").getToken());
+	for (int i = 0; i < 6; i++) {
+	    assertRejected(client, "d1");
+	}
+	assertEquals(1, getRequestCount("GET", "devices/d1"));
+	IsolationStatus status = isolation.getStatus("devices");
+	assertEquals(CircuitState.Closed, status.getState());
+	assertEquals(0, status.getFailureRate());
+	assertEquals(0, status.getInFlight());
+    }
+
+    /**
+     * Assert that a device lookup is rejected without being sent.
+     *
+     * @param client
+     * @param token
+     */
+    protected void assertRejected(ISiteWhereClient client, String token) {
+	try {
+	    client.getDeviceByToken(getTenant(), token);
+	    fail("Expected rejection.");
+	} catch (SiteWhereException e) {
+	    assertTrue(e.getCause() instanceof CallRejectedException);
+	}
+    }
+
+    /**
+     * Assert that a device lookup is sent and fails with an error from the server.
+     *
+     * @param client
+     * @param token
+     */
+    protected void assertServerError(ISiteWhereClient client, String token) {
+	try {
+	    client.getDeviceByToken(getTenant(), token);
+	    fail("Expected error.");
+	} catch (SiteWhereException e) {
+	    assertTrue(!(e.getCause() instanceof CallRejectedException));
+	}
+    }
+}
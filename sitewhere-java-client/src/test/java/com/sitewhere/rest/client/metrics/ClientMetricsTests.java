@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.client.AbstractMockServerTest;
+import com.sitewhere.rest.client.SiteWhereClient;
+import com.sitewhere.rest.client.SiteWhereRestRetrofit;
+import com.sitewhere.rest.model.device.asset.DeviceMeasurementWithAsset;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.rest.model.search.DateRangeSearchCriteria;
+import com.sitewhere.spi.ISearchResultsStream;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.SiteWhereException;
+
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.mockwebserver.MockResponse;
+
+/**
+ * Tests for per-operation client metrics.
+ */
+public class ClientMetricsTests extends AbstractMockServerTest {
+
+    @Test
+    public void testCallsRecordedByOperation() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	respondWith("devices/d2", new MockResponse().setResponseCode(404));
+	ClientMetrics metrics = new ClientMetrics();
+	ISiteWhereClient client = newClientBuilder().withInstrumentation(metrics).build().initialize();
+	client.getDeviceByToken(getTenant(), "d1");
+	client.getDeviceByToken(getTenant(), "d1");
+	try {
+	    client.getDeviceByToken(getTenant(), "d2");
+	    fail("Expected error.");
+	} catch (SiteWhereException e) {
+	    // Expected.
+	}
+	OperationSnapshot snapshot = metrics.getSnapshot("getDeviceByToken");
+	assertEquals(3, snapshot.getCalls());
+	assertEquals(1, snapshot.getFailures());
+	assertEquals(Long.valueOf(1), snapshot.getErrors().get("404"));
+	assertEquals(2 * "{\"token\":\"d1\"}".length(), snapshot.getResponseBytes());
+	assertEquals(3, snapshot.getLatency().getCount());
+	assertEquals(2, snapshot.getDecode().getCount());
+	assertTrue(snapshot.getReusedConnections() >= 2);
+	assertEquals(1, metrics.getSnapshot().size());
+    }
+
+    @Test
+    public void testRequestBytesRecorded() throws Exception {
+	respondWithJson("assignments/a1/measurements", "{}");
+	ClientMetrics metrics = new ClientMetrics();
+	ISiteWhereClient client = newClientBuilder().withInstrumentation(metrics).build().initialize();
+	client.createMeasurementForDeviceAssignment(getTenant(), "a1",
+		new DeviceMeasurementCreateRequest.Builder().measurement("temp", 72.5).build());
+	OperationSnapshot snapshot = metrics.getSnapshot("createMeasurementForDeviceAssignment");
+	assertEquals(1, snapshot.getCalls());
+	assertTrue(snapshot.getRequestBytes() > 0);
+	assertEquals("{}".length(), snapshot.getResponseBytes());
+    }
+
+    @Test
+    public void testStreamedCallsNotRetained() throws Exception {
+	respondWithJson("assignments/a1/measurements", "{\"numResults\":1,\"results\":[{\"name\":\"temp\"}]}");
+	ClientMetrics metrics = new ClientMetrics();
+	SiteWhereClient client = (SiteWhereClient) newClientBuilder().withInstrumentation(metrics).build()
+		.initialize();
+	for (int i = 0; i < 10; i++) {
+	    try (ISearchResultsStream<DeviceMeasurementWithAsset> stream = client.streamMeasurementsForDeviceAssignment(
+		    getTenant(), "a1", new DateRangeSearchCriteria(1, 10, null, null))) {
+		assertEquals("temp", stream.next().getName());
+	    }
+	}
+	assertEquals(0, client.getCallInstrumenter().getActiveCount());
+	assertEquals(10, metrics.getSnapshot("listMeasurementsForDeviceAssignment").getCalls());
+    }
+
+    @Test
+    public void testCoalescedCallsNotRetained() throws Exception {
+	respondWith("devices/d1", new MockResponse().setHeader("Content-Type", "application/json")
+		.setBody("{\"token\":\"d1\"}").setBodyDelay(200, TimeUnit.MILLISECONDS));
+	SiteWhereClient client = (SiteWhereClient) newClientBuilder().withInstrumentation(new ClientMetrics())
+		.withRequestCoalescing(true).build().initialize();
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+	try {
+	    List<Future<?>> futures = new ArrayList<>();
+	    for (int i = 0; i < 4; i++) {
+		futures.add(executor.submit(() -> client.getDeviceByToken(getTenant(), "d1")));
+	    }
+	    for (Future<?> future : futures) {
+		future.get();
+	    }
+	} finally {
+	    executor.shutdownNow();
+	}
+	assertTrue(client.getRequestCoalescer().getCoalescedCount() > 0);
+	assertEquals(0, client.getCallInstrumenter().getActiveCount());
+    }
+
+    @Test
+    public void testEveryOperationResolves() {
+	HttpUrl base = getServer().url(SiteWhereClient.REST_RELATIVE_URL);
+	OperationResolver resolver = new OperationResolver(SiteWhereRestRetrofit.class, base);
+	for (Method method : SiteWhereRestRetrofit.class.getMethods()) {
+	    String expected = resolver.resolve(method.getAnnotations());
+	    assertNotEquals(method.getName(), OperationResolver.UNKNOWN, expected);
+	    String[] endpoint = OperationResolver.getEndpoint(method.getAnnotations());
+	    String path = endpoint[1].replaceAll("\\{[^}]+\\}", "x");
+	    RequestBody body = ("GET".equals(endpoint[0]) || "DELETE".equals(endpoint[0])) ? null
+		    : RequestBody.create(MediaType.parse("application/json"), "{}");
+	    Request request = new Request.Builder().url(base.resolve(path)).method(endpoint[0], body).build();
+	    assertEquals(method.getName(), expected, resolver.resolve(request));
+	}
+	Request other = new Request.Builder().url(base.resolve("nothing/here")).build();
+	assertEquals(OperationResolver.UNKNOWN, resolver.resolve(other));
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+	LatencyHistogram histogram = new LatencyHistogram();
+	for (long i = 1; i <= 10000; i++) {
+	    histogram.record(i * 1000);
+	}
+	LatencySnapshot snapshot = histogram.getSnapshot();
+	assertEquals(10000, snapshot.getCount());
+	assertEquals(10000 * 1000, snapshot.getMax());
+	assertWithin(5000 * 1000, snapshot.getValueAtPercentile(50));
+	assertWithin(9900 * 1000, snapshot.getValueAtPercentile(99));
+	assertWithin(5000500, snapshot.getMean());
+	histogram.record(-5);
+	histogram.record(Long.MAX_VALUE);
+	assertEquals(LatencyHistogram.MAX_VALUE, histogram.getSnapshot().getMax());
+	histogram.reset();
+	assertEquals(0, histogram.getSnapshot().getCount());
+    }
+
+    /**
+     * Assert that a value is within the precision of the histogram.
+     *
+     * @param expected
+     * @param actual
+     */
+    protected void assertWithin(long expected, long actual) {
+	assertTrue("Expected " + expected + " but was " + actual, Math.abs(actual - expected) <= expected * 0.035);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.client.retry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.client.AbstractMockServerTest;
+import com.sitewhere.rest.client.SiteWhereClient;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.rest.model.device.request.DeviceCreateRequest;
+import com.sitewhere.spi.ISiteWhereClient;
+import com.sitewhere.spi.SiteWhereException;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Tests for retrying calls that fail with transient errors.
+ */
+public class RetryPolicyTests extends AbstractMockServerTest {
+
+    /** Alternate id in a JSON event body */
+    private static final Pattern ALTERNATE_ID = Pattern.compile("\"alternateId\":\"([^\"]+)\"");
+
+    /** Responses served before the default response, by path */
+    private Map<String, Deque<MockResponse>> queued = new ConcurrentHashMap<>();
+
+    /** Bodies of requests received */
+    private List<String> bodies = new ArrayList<>();
+
+    /*
+     * @see com.sitewhere.rest.client.AbstractMockServerTest#respondTo(okhttp3.
+     * mockwebserver.RecordedRequest)
+     */
+    @Override
+    protected MockResponse respondTo(RecordedRequest request) throws InterruptedException {
+	MockResponse response = super.respondTo(request);
+	String path = request.getPath();
+	Deque<MockResponse> pending = queued.get(path);
+	synchronized (bodies) {
+	    bodies.add(request.getBody().readUtf8());
+	}
+	synchronized (queued) {
+	    return ((pending != null) && !pending.isEmpty()) ? pending.poll() : response;
+	}
+    }
+
+    @Test
+    public void testTransientErrorsRetried() throws Exception {
+	respondWithJson("devices/d1", "{\"token\":\"d1\"}");
+	queue("devices/d1", new MockResponse().setResponseCode(503), new MockResponse().setResponseCode(502));
+	RetryMetrics metrics = new RetryMetrics();
+	ISiteWhereClient client = newClientBuilder().withRetryPolicy(policy().withListener(metrics).build()).build()
+		.initialize();
+	assertEquals("d1", client.getDeviceByToken(getTenant(), "d1").getToken());
+	assertEquals(3, getRequestCount("GET", "devices/d1"));
+	assertEquals(1, metrics.getCalls());
+	assertEquals(2, metrics.getRetries());
+	assertEquals(1, metrics.getRecovered());
+    }
+
+    @Test
+    public void testCreatesNotRetried() throws Exception {
+	respondWith("devices", new MockResponse().setResponseCode(503));
+	ISiteWhereClient client = newClientBuilder().withRetryPolicy(policy().build()).build().initialize();
+	try {
+	    client.createDevice(getTenant(), new DeviceCreateRequest());
+	    fail("Expected error.");
+	} catch (SiteWhereException e) {
+	    // Expected.
+	}
+	assertEquals(1, getRequestCount("POST", "devices"));
+    }
+
+    @Test
+    public void testEventRetriesUseAlternateId() throws Exception {
+	respondWithJson("assignments/a1/measurements", "{}");
+	queue("assignments/a1/measurements", new MockResponse().setResponseCode(503));
+	ISiteWhereClient client = newClientBuilder().withRetryPolicy(policy().withEventRetries(true).build()).build()
+		.initialize();
+	DeviceMeasurementCreateRequest request = new DeviceMeasurementCreateRequest.Builder().measurement("temp", 72.5)
+		.build();
+	client.createMeasurementForDeviceAssignment(getTenant(), "a1", request);
+	assertNull(request.getAlternateId());
+	assertEquals(2, getRequestCount("POST", "assignments/a1/measurements"));
+	List<String> sent = getSentAlternateIds();
+	assertEquals(2, sent.size());
+	String first = sent.get(0);
+	assertNotNull(first);
+	assertEquals(first, sent.get(1));
+
+	// Reusing the request object sends a new id.
+	request.setValue(73.5);
+	client.createMeasurementForDeviceAssignment(getTenant(), "a1", request);
+	String second = getSentAlternateIds().get(2);
+	assertNotNull(second);
+	assertNotEquals(first, second);
+
+	// Ids set by the caller are kept.
+	request.setAlternateId("reading-1");
+	client.createMeasurementForDeviceAssignment(getTenant(), "a1", request);
+	assertEquals("reading-1", getSentAlternateIds().get(3));
+	assertEquals("reading-1", request.getAlternateId());
+    }
+
+    @Test
+    public void testBudgetLimitsRetries() throws Exception {
+	respondWith("devices/d1", new MockResponse().setResponseCode(503));
+	RetryMetrics metrics = new RetryMetrics();
+	ISiteWhereClient client = newClientBuilder()
+		.withRetryPolicy(policy().withRetryBudget(1, 60000).withListener(metrics).build()).build()
+		.initialize();
+	for (int i = 0; i < 2; i++) {
+	    try {
+		client.getDeviceByToken(getTenant(), "d1");
+		fail("Expected error.");
+	    } catch (SiteWhereException e) {
+		// Expected.
+	    }
+	}
+	assertEquals(3, getRequestCount("GET", "devices/d1"));
+	assertEquals(2, metrics.getFailures());
+	assertTrue(metrics.getBudgetExhausted() >= 1);
+    }
+
+    @Test
+    public void testLongRetryAfterNotRetried() throws Exception {
+	respondWith("devices/d1", new MockResponse().setResponseCode(429).setHeader("Retry-After", "60"));
+	ISiteWhereClient client = newClientBuilder().withRetryPolicy(policy().build()).build().initialize();
+	try {
+	    client.getDeviceByToken(getTenant(), "d1");
+	    fail("Expected error.");
+	} catch (SiteWhereException e) {
+	    // Expected.
+	}
+	assertEquals(1, getRequestCount("GET", "devices/d1"));
+    }
+
+    @Test
+    public void testBackoffGrowsAndIsBounded() {
+	RetryPolicy policy = RetryPolicy.newBuilder().withBackoff(100, 1000, 0.5).build();
+	for (int i = 0; i < 20; i++) {
+	    long first = policy.getDelay(1);
+	    assertTrue(first >= 50 && first <= 100);
+	    long third = policy.getDelay(3);
+	    assertTrue(third >= 200 && third <= 400);
+	    long late = policy.getDelay(40);
+	    assertTrue(late >= 500 && late <= 1000);
+	}
+    }
+
+    /**
+     * Get policy builder with short delays.
+     *
+     * @return
+     */
+    protected RetryPolicy.Builder policy() {
+	return RetryPolicy.newBuilder().withMaxAttempts(3).withBackoff(10, 50, 0.5);
+    }
+
+    /**
+     * Get the alternate ids of events sent so far, in order.
+     *
+     * @return
+     */
+    protected List<String> getSentAlternateIds() {
+	List<String> ids = new ArrayList<>();
+	synchronized (bodies) {
+	    for (String body : bodies) {
+		if (body.contains("\"eventType\"")) {
+		    Matcher matcher = ALTERNATE_ID.matcher(body);
+		    ids.add(matcher.find() ? matcher.group(1) : null);
+		}
+	    }
+	}
+	return ids;
+    }
+
+    /**
+     * Queue responses served before the default response for a path.
+     *
+     * @param relativePath
+     * @param responses
+     */
+    protected void queue(String relativePath, MockResponse... responses) {
+	Deque<MockResponse> pending = new ArrayDeque<>();
+	for (MockResponse response : responses) {
+	    pending.add(response);
+	}
+	queued.put(SiteWhereClient.REST_RELATIVE_URL + relativePath, pending);
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.common;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compact map for the handful of metadata entries an entity usually carries.
+ * Keys and values are stored in alternating slots of a single array that is
+ * searched linearly, which for a few entries is both smaller and faster than
+ * a hash table. Entries keep the order in which they were added. The array is
+ * not allocated until the first entry is added.
+ */
+public class MetadataMap extends AbstractMap<String, String> implements Serializable {
+
+    /** Serial version UID */
+    private static final long serialVersionUID = 4409226381815930735L;
+
+    /** Shared array for maps without entries */
+    private static final Object[] NO_ENTRIES = {};
+
+    /** Keys and values in alternating slots */
+    private Object[] entries;
+
+    /** Number of entries */
+    private int size;
+
+    public MetadataMap() {
+	this.entries = NO_ENTRIES;
+    }
+
+    public MetadataMap(int expected) {
+	this.entries = (expected > 0) ? new Object[expected * 2] : NO_ENTRIES;
+    }
+
+    public MetadataMap(Map<String, String> source) {
+	this(source.size());
+	putAll(source);
+    }
+
+    /*
+     * @see java.util.AbstractMap#size()
+     */
+    @Override
+    public int size() {
+	return size;
+    }
+
+    /*
+     * @see java.util.AbstractMap#containsKey(java.lang.Object)
+     */
+    @Override
+    public boolean containsKey(Object key) {
+	return indexOf(key) >= 0;
+    }
+
+    /*
+     * @see java.util.AbstractMap#get(java.lang.Object)
+     */
+    @Override
+    public String get(Object key) {
+	int index = indexOf(key);
+	return (index >= 0) ? (String) entries[index + 1] : null;
+    }
+
+    /*
+     * @see java.util.AbstractMap#put(java.lang.Object, java.lang.Object)
+     */
+    @Override
+    public String put(String key, String value) {
+	int index = indexOf(key);
+	if (index >= 0) {
+	    String previous = (String) entries[index + 1];
+	    entries[index + 1] = value;
+	    return previous;
+	}
+	index = size * 2;
+	if (index == entries.length) {
+	    entries = Arrays.copyOf(entries, Math.max(4, entries.length * 2));
+	}
+	entries[index] = key;
+	entries[index + 1] = value;
+	size++;
+	return null;
+    }
+
+    /*
+     * @see java.util.AbstractMap#remove(java.lang.Object)
+     */
+    @Override
+    public String remove(Object key) {
+	int index = indexOf(key);
+	if (index < 0) {
+	    return null;
+	}
+	String previous = (String) entries[index + 1];
+	removeAt(index);
+	return previous;
+    }
+
+    /*
+     * @see java.util.AbstractMap#clear()
+     */
+    @Override
+    public void clear() {
+	Arrays.fill(entries, 0, size * 2, null);
+	size = 0;
+    }
+
+    /*
+     * @see java.util.AbstractMap#entrySet()
+     */
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+	return new EntrySet();
+    }
+
+    /**
+     * Find the slot holding a key.
+     *
+     * @param key
+     * @return index of key slot or -1 if not found
+     */
+    protected int indexOf(Object key) {
+	for (int i = 0; i < size * 2; i += 2) {
+	    if (Objects.equals(key, entries[i])) {
+		return i;
+	    }
+	}
+	return -1;
+    }
+
+    /**
+     * Remove the entry at a key slot, moving later entries down.
+     *
+     * @param index
+     */
+    protected void removeAt(int index) {
+	int end = size * 2;
+	System.arraycopy(entries, index + 2, entries, index, end - index - 2);
+	entries[end - 2] = null;
+	entries[end - 1] = null;
+	size--;
+    }
+
+    /**
+     * View of entries backed by the map.
+     */
+    private class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+
+	/*
+	 * @see java.util.AbstractCollection#iterator()
+	 */
+	@Override
+	public Iterator<Map.Entry<String, String>> iterator() {
+	    return new EntryIterator();
+	}
+
+	/*
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+	    return size;
+	}
+    }
+
+    /**
+     * Iterates entries in the order they were added.
+     */
+    private class EntryIterator implements Iterator<Map.Entry<String, String>> {
+
+	/** Key slot of next entry */
+	private int next;
+
+	/** Key slot of entry last returned */
+	private int last = -1;
+
+	/*
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+	    return next < size * 2;
+	}
+
+	/*
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public Map.Entry<String, String> next() {
+	    if (!hasNext()) {
+		throw new NoSuchElementException();
+	    }
+	    last = next;
+	    next += 2;
+	    return new Entry(last);
+	}
+
+	/*
+	 * @see java.util.Iterator#remove()
+	 */
+	@Override
+	public void remove() {
+	    if (last < 0) {
+		throw new IllegalStateException();
+	    }
+	    if (last >= size * 2) {
+		throw new ConcurrentModificationException();
+	    }
+	    removeAt(last);
+	    next = last;
+	    last = -1;
+	}
+    }
+
+    /**
+     * Entry that writes value changes through to the map.
+     */
+    private class Entry extends AbstractMap.SimpleEntry<String, String> {
+
+	/** Serial version UID */
+	private static final long serialVersionUID = -1563447001539213565L;
+
+	/** Key slot of entry */
+	private int index;
+
+	public Entry(int index) {
+	    super((String) entries[index], (String) entries[index + 1]);
+	    this.index = index;
+	}
+
+	/*
+	 * @see java.util.AbstractMap.SimpleEntry#setValue(java.lang.Object)
+	 */
+	@Override
+	public String setValue(String value) {
+	    entries[index + 1] = value;
+	    return super.setValue(value);
+	}
+    }
+}
@@ -8,9 +8,13 @@
 package com.sitewhere.rest.model.common;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.regex.Pattern;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.sitewhere.spi.SiteWhereException;
 import com.sitewhere.spi.SiteWhereSystemException;
 import com.sitewhere.spi.common.IMetadataProvider;
@@ -18,26 +22,78 @@ import com.sitewhere.spi.error.ErrorCode;
 import com.sitewhere.spi.error.ErrorLevel;
 
 /**
- * Holds arbitrary metadata associated with an entity.
+ * Holds arbitrary metadata associated with an entity. Most entities have no
+ * metadata, so until an entry is added they share one immutable empty map.
+ * The first call to {@link #getMetadata()} replaces it with a
+ * {@link MetadataMap} that callers may modify. JSON serialization reads the
+ * field directly and does not cause the switch.
  */
 public class MetadataProvider implements IMetadataProvider, Serializable {
 
     /** Serialization version identifier */
     private static final long serialVersionUID = -7708181397230364294L;
 
+    /** Shared map for entities without metadata */
+    private static final Map<String, String> NO_METADATA = Collections.emptyMap();
+
+    /** Valid metadata key */
+    private static final Pattern METADATA_KEY = Pattern.compile("^[\\w-]+$");
+
     /** Map of metadata entries */
-    private Map<String, String> metadata = new HashMap<String, String>();
+    @JsonProperty("metadata")
+    private Map<String, String> metadata = NO_METADATA;
 
     /*
      * @see com.sitewhere.spi.common.IMetadataProvider#getMetadata()
      */
     @Override
+    @JsonIgnore
     public Map<String, String> getMetadata() {
+	if (metadata == NO_METADATA) {
+	    metadata = new MetadataMap();
+	}
 	return metadata;
     }
 
+    /**
+     * Use the given map for metadata. The map is kept as passed, not copied,
+     * so later changes to it are visible here. Passing null removes all
+     * metadata.
+     * 
+     * @param metadata
+     */
     public void setMetadata(Map<String, String> metadata) {
-	this.metadata = metadata;
+	this.metadata = (metadata != null) ? metadata : NO_METADATA;
+    }
+
+    /**
+     * Set metadata read from JSON. An empty object is replaced with the shared
+     * empty map so that entities without metadata do not hold one each.
+     * 
+     * @param metadata
+     */
+    @JsonProperty("metadata")
+    @JsonDeserialize(as = MetadataMap.class)
+    private void setJsonMetadata(Map<String, String> metadata) {
+	this.metadata = ((metadata == null) || metadata.isEmpty()) ? NO_METADATA : metadata;
+    }
+
+    /**
+     * Indicates whether any metadata entries exist. Unlike
+     * {@link #getMetadata()} this never allocates a map.
+     * 
+     * @return
+     */
+    public boolean hasMetadata() {
+	return !metadata.isEmpty();
+    }
+
+    /**
+     * Remove all metadata entries. The current map is dropped rather than
+     * emptied, since it may belong to the caller that set it.
+     */
+    protected void clearMetadata() {
+	metadata = NO_METADATA;
     }
 
     /**
@@ -47,7 +103,9 @@ public class MetadataProvider implements IMetadataProvider, Serializable {
      * @param target
      */
     public static void copy(IMetadataProvider source, MetadataProvider target) throws SiteWhereException {
-	if (source != null) {
+	if (source instanceof MetadataProvider) {
+	    copy(((MetadataProvider) source).metadata, target);
+	} else if (source != null) {
 	    copy(source.getMetadata(), target);
 	}
     }
@@ -61,11 +119,11 @@ public class MetadataProvider implements IMetadataProvider, Serializable {
      */
     public static void copy(Map<String, String> source, MetadataProvider target) throws SiteWhereException {
 	if (source != null) {
-	    for (String key : source.keySet()) {
-		if (!key.matches("^[\\w-]+$")) {
+	    for (Map.Entry<String, String> entry : source.entrySet()) {
+		if (!METADATA_KEY.matcher(entry.getKey()).matches()) {
 		    throw new SiteWhereSystemException(ErrorCode.InvalidMetadataFieldName, ErrorLevel.ERROR);
 		}
-		target.getMetadata().put(key, source.get(key));
+		target.getMetadata().put(entry.getKey(), entry.getValue());
 	    }
 	}
     }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.common;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Pool that lets a thread reuse objects it creates at a high rate, such as
+ * event create requests, instead of allocating new ones. Each thread has its
+ * own bounded stack of free objects, so acquiring and releasing never
+ * contend. An object released on another thread than the one that acquired
+ * it goes into the releasing thread's pool. Objects are reset when they are
+ * released and must not be used by the caller afterwards.
+ *
+ * @param <T>
+ */
+public class ThreadLocalObjectPool<T> {
+
+    /** Default maximum number of free objects per thread */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /** Creates new objects */
+    private Supplier<T> factory;
+
+    /** Clears released objects */
+    private Consumer<? super T> reset;
+
+    /** Maximum number of free objects per thread */
+    private int capacity;
+
+    /** Free objects for each thread */
+    private ThreadLocal<FreeList> free;
+
+    public ThreadLocalObjectPool(Supplier<T> factory, Consumer<? super T> reset) {
+	this(factory, reset, DEFAULT_CAPACITY);
+    }
+
+    public ThreadLocalObjectPool(Supplier<T> factory, Consumer<? super T> reset, int capacity) {
+	if (capacity < 1) {
+	    throw new IllegalArgumentException("Pool capacity must be positive.");
+	}
+	this.factory = factory;
+	this.reset = reset;
+	this.capacity = capacity;
+	this.free = ThreadLocal.withInitial(() -> new FreeList(capacity));
+    }
+
+    /**
+     * Take a free object or create one if the pool for this thread is empty.
+     *
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+	FreeList list = free.get();
+	if (list.size == 0) {
+	    return factory.get();
+	}
+	T object = (T) list.objects[--list.size];
+	list.objects[list.size] = null;
+	return object;
+    }
+
+    /**
+     * Reset an object and return it to the pool for this thread. It is left
+     * for the garbage collector if the pool is full.
+     *
+     * @param object
+     */
+    public void release(T object) {
+	reset.accept(object);
+	FreeList list = free.get();
+	if (list.size < capacity) {
+	    list.objects[list.size++] = object;
+	}
+    }
+
+    /**
+     * Get number of free objects held for this thread.
+     *
+     * @return
+     */
+    public int getFreeCount() {
+	return free.get().size;
+    }
+
+    public int getCapacity() {
+	return capacity;
+    }
+
+    /**
+     * Stack of free objects for one thread.
+     */
+    private static class FreeList {
+
+	/** Free objects */
+	private Object[] objects;
+
+	/** Number of free objects */
+	private int size;
+
+	public FreeList(int capacity) {
+	    this.objects = new Object[capacity];
+	}
+    }
+}
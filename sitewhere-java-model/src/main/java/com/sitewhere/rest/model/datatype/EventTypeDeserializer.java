@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.datatype;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.sitewhere.spi.device.event.DeviceEventType;
+
+/**
+ * Deserializes an event held as an interface into the class for its
+ * {@link DeviceEventType}. The type is read from the "eventType" property,
+ * which the model writes first, and the rest of the object is bound directly
+ * to the event class in the same pass. Properties that come before the type
+ * are buffered and replayed.
+ *
+ * @param <T>
+ */
+public abstract class EventTypeDeserializer<T> extends StdDeserializer<T> {
+
+    /** Serial version UID */
+    private static final long serialVersionUID = 6047392749021743716L;
+
+    /** Name of property holding event type */
+    public static final String EVENT_TYPE = "eventType";
+
+    protected EventTypeDeserializer(Class<T> type) {
+	super(type);
+    }
+
+    /**
+     * Get the class to bind for an event type.
+     *
+     * @param type
+     * @return
+     */
+    protected abstract Class<? extends T> getClassFor(DeviceEventType type);
+
+    /*
+     * @see
+     * com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.
+     * jackson.core.JsonParser,
+     * com.fasterxml.jackson.databind.DeserializationContext)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+	JsonToken token = p.getCurrentToken();
+	if (token == JsonToken.START_OBJECT) {
+	    token = p.nextToken();
+	} else if (token != JsonToken.FIELD_NAME) {
+	    return (T) ctxt.handleUnexpectedToken(handledType(), p);
+	}
+	TokenBuffer buffer = null;
+	for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+	    String name = p.getCurrentName();
+	    p.nextToken();
+	    if (EVENT_TYPE.equals(name)) {
+		JsonDeserializer<Object> deserializer = ctxt
+			.findRootValueDeserializer(ctxt.constructType(getClassFor(readEventType(p, ctxt))));
+		p.nextToken();
+		if (buffer == null) {
+		    return (T) deserializer.deserialize(p, ctxt);
+		}
+		JsonParser replay = JsonParserSequence.createFlattened(true, buffer.asParser(p), p);
+		replay.nextToken();
+		return (T) deserializer.deserialize(replay, ctxt);
+	    }
+	    if (buffer == null) {
+		buffer = new TokenBuffer(p, ctxt);
+		buffer.writeStartObject();
+	    }
+	    buffer.writeFieldName(name);
+	    buffer.copyCurrentStructure(p);
+	}
+	return (T) ctxt.reportInputMismatch(this, "Missing '%s' property for %s.", EVENT_TYPE,
+		handledType().getName());
+    }
+
+    /**
+     * Read event type from the current value.
+     *
+     * @param p
+     * @param ctxt
+     * @return
+     * @throws IOException
+     */
+    protected DeviceEventType readEventType(JsonParser p, DeserializationContext ctxt) throws IOException {
+	String value = p.getValueAsString();
+	if (value != null) {
+	    try {
+		return DeviceEventType.valueOf(value);
+	    } catch (IllegalArgumentException e) {
+		// Reported below.
+	    }
+	}
+	return (DeviceEventType) ctxt.reportInputMismatch(this, "Unknown event type '%s'.", value);
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.datatype;
+
+import java.util.Date;
+
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+
+/**
+ * Thread-safe ISO 8601 formatting and parsing of dates. Dates are written in
+ * UTC using the fixed-width form <code>yyyy-MM-dd'T'HH:mm:ss.SSS'Z'</code>
+ * without intermediate objects. Years outside 0001-9999 and input in other
+ * ISO 8601 forms are handled by a shared immutable Joda formatter.
+ */
+public final class ISO8601Codec {
+
+    /** Length of fixed-width UTC representation */
+    public static final int LENGTH = 24;
+
+    /** Millis for 0001-01-01T00:00:00.000Z */
+    private static final long MIN_FIXED = -62135596800000L;
+
+    /** Millis for 9999-12-31T23:59:59.999Z */
+    private static final long MAX_FIXED = 253402300799999L;
+
+    /** Millis in a day */
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    /** Days from 0000-03-01 to 1970-01-01 */
+    private static final long DAYS_0000_TO_1970 = 719468L;
+
+    /** Days in a 400 year cycle */
+    private static final long DAYS_PER_ERA = 146097L;
+
+    /** Formatter for values outside fixed-width range */
+    private static final DateTimeFormatter FALLBACK_FORMATTER = ISODateTimeFormat.dateTime()
+	    .withZone(DateTimeZone.UTC);
+
+    /** Parser for values not in fixed-width form */
+    private static final DateTimeFormatter FALLBACK_PARSER = ISODateTimeFormat.dateTimeParser()
+	    .withZone(DateTimeZone.UTC);
+
+    private ISO8601Codec() {
+    }
+
+    /**
+     * Format a date in ISO 8601 format. Returns null for a null date.
+     * 
+     * @param date
+     * @return
+     */
+    public static String format(Date date) {
+	return (date != null) ? format(date.getTime()) : null;
+    }
+
+    /**
+     * Format epoch millis in ISO 8601 format.
+     * 
+     * @param millis
+     * @return
+     */
+    public static String format(long millis) {
+	if ((millis < MIN_FIXED) || (millis > MAX_FIXED)) {
+	    return FALLBACK_FORMATTER.print(millis);
+	}
+	char[] buffer = new char[LENGTH];
+	write(millis, buffer, 0);
+	return new String(buffer);
+    }
+
+    /**
+     * Write epoch millis in fixed-width form into a buffer that has at least
+     * {@link #LENGTH} characters available after offset.
+     * 
+     * @param millis
+     * @param buffer
+     * @param offset
+     * @return offset after the last character written
+     */
+    public static int write(long millis, char[] buffer, int offset) {
+	if ((millis < MIN_FIXED) || (millis > MAX_FIXED)) {
+	    throw new IllegalArgumentException("Date is outside of fixed-width range: " + millis);
+	}
+	long days = Math.floorDiv(millis, MILLIS_PER_DAY);
+	int millisOfDay = (int) Math.floorMod(millis, MILLIS_PER_DAY);
+
+	// Convert days to a civil date using eras starting on March 1.
+	long shifted = days + DAYS_0000_TO_1970;
+	long era = Math.floorDiv(shifted, DAYS_PER_ERA);
+	int dayOfEra = (int) (shifted - era * DAYS_PER_ERA);
+	int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+	int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+	int shiftedMonth = (5 * dayOfYear + 2) / 153;
+	int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+	int month = (shiftedMonth < 10) ? shiftedMonth + 3 : shiftedMonth - 9;
+	int year = (int) (yearOfEra + era * 400) + ((month <= 2) ? 1 : 0);
+
+	int pos = offset;
+	pos = writeDigits(year, 4, buffer, pos);
+	buffer[pos++] = '-';
+	pos = writeDigits(month, 2, buffer, pos);
+	buffer[pos++] = '-';
+	pos = writeDigits(day, 2, buffer, pos);
+	buffer[pos++] = 'T';
+	pos = writeDigits(millisOfDay / 3600000, 2, buffer, pos);
+	buffer[pos++] = ':';
+	pos = writeDigits((millisOfDay / 60000) % 60, 2, buffer, pos);
+	buffer[pos++] = ':';
+	pos = writeDigits((millisOfDay / 1000) % 60, 2, buffer, pos);
+	buffer[pos++] = '.';
+	pos = writeDigits(millisOfDay % 1000, 3, buffer, pos);
+	buffer[pos++] = 'Z';
+	return pos;
+    }
+
+    /**
+     * Parse an ISO 8601 date.
+     * 
+     * @param value
+     * @return
+     * @throws IllegalArgumentException if value is not valid ISO 8601
+     */
+    public static Date parse(String value) {
+	return new Date(parseMillis(value));
+    }
+
+    /**
+     * Parse an ISO 8601 date into epoch millis. Values without an offset are
+     * interpreted as UTC.
+     * 
+     * @param value
+     * @return
+     * @throws IllegalArgumentException if value is not valid ISO 8601
+     */
+    public static long parseMillis(String value) {
+	return parseMillis((CharSequence) value);
+    }
+
+    /**
+     * Parse ISO 8601 text into epoch millis without copying it when in
+     * fixed-width form. Values without an offset are interpreted as UTC.
+     * 
+     * @param value
+     * @return
+     * @throws IllegalArgumentException if value is not valid ISO 8601
+     */
+    public static long parseMillis(CharSequence value) {
+	if (isFixedWidth(value)) {
+	    int year = readDigits(value, 0, 4);
+	    int month = readDigits(value, 5, 2);
+	    int day = readDigits(value, 8, 2);
+	    int hour = readDigits(value, 11, 2);
+	    int minute = readDigits(value, 14, 2);
+	    int second = readDigits(value, 17, 2);
+	    int millis = readDigits(value, 20, 3);
+	    if ((month >= 1) && (month <= 12) && (day >= 1) && (day <= daysInMonth(year, month)) && (hour < 24)
+		    && (minute < 60) && (second < 60)) {
+		return daysFromCivil(year, month, day) * MILLIS_PER_DAY + hour * 3600000L + minute * 60000L
+			+ second * 1000L + millis;
+	    }
+	}
+	return FALLBACK_PARSER.parseMillis(value.toString());
+    }
+
+    /**
+     * Write a zero-padded positive number.
+     * 
+     * @param value
+     * @param width
+     * @param buffer
+     * @param offset
+     * @return
+     */
+    private static int writeDigits(int value, int width, char[] buffer, int offset) {
+	for (int i = offset + width - 1; i >= offset; i--) {
+	    buffer[i] = (char) ('0' + (value % 10));
+	    value /= 10;
+	}
+	return offset + width;
+    }
+
+    /**
+     * Read a fixed number of digits. Returns -1 if a non-digit is found.
+     * 
+     * @param value
+     * @param offset
+     * @param width
+     * @return
+     */
+    private static int readDigits(CharSequence value, int offset, int width) {
+	int result = 0;
+	for (int i = offset; i < offset + width; i++) {
+	    char c = value.charAt(i);
+	    if ((c < '0') || (c > '9')) {
+		return -1;
+	    }
+	    result = result * 10 + (c - '0');
+	}
+	return result;
+    }
+
+    /**
+     * Check whether value has the separators of the fixed-width form.
+     * 
+     * @param value
+     * @return
+     */
+    private static boolean isFixedWidth(CharSequence value) {
+	return (value.length() == LENGTH) && (value.charAt(4) == '-') && (value.charAt(7) == '-')
+		&& (value.charAt(10) == 'T') && (value.charAt(13) == ':') && (value.charAt(16) == ':')
+		&& (value.charAt(19) == '.') && (value.charAt(23) == 'Z') && (readDigits(value, 0, 4) >= 0)
+		&& (readDigits(value, 11, 2) >= 0) && (readDigits(value, 14, 2) >= 0)
+		&& (readDigits(value, 17, 2) >= 0) && (readDigits(value, 20, 3) >= 0);
+    }
+
+    /**
+     * Get number of days in a month of the proleptic Gregorian calendar.
+     * 
+     * @param year
+     * @param month
+     * @return
+     */
+    private static int daysInMonth(int year, int month) {
+	switch (month) {
+	case 2:
+	    return ((year % 4 == 0) && ((year % 100 != 0) || (year % 400 == 0))) ? 29 : 28;
+	case 4:
+	case 6:
+	case 9:
+	case 11:
+	    return 30;
+	default:
+	    return 31;
+	}
+    }
+
+    /**
+     * Get days since epoch for a civil date.
+     * 
+     * @param year
+     * @param month
+     * @param day
+     * @return
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+	int y = (month <= 2) ? year - 1 : year;
+	long era = Math.floorDiv(y, 400);
+	int yearOfEra = (int) (y - era * 400);
+	int dayOfYear = (153 * ((month > 2) ? month - 3 : month + 9) + 2) / 5 + day - 1;
+	int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+	return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+}
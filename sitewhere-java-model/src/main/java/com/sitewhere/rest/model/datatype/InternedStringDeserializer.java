@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.datatype;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+/**
+ * Deserializes strings that repeat across many objects, such as measurement
+ * names, as interned instances so that large numbers of events share a
+ * single copy of each value.
+ */
+public class InternedStringDeserializer extends StdScalarDeserializer<String> {
+
+    /** Serial version UID */
+    private static final long serialVersionUID = -2619423447190318442L;
+
+    public InternedStringDeserializer() {
+	super(String.class);
+    }
+
+    /*
+     * @see
+     * com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.
+     * jackson.core.JsonParser,
+     * com.fasterxml.jackson.databind.DeserializationContext)
+     */
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+	String value = _parseString(p, ctxt);
+	return (value != null) ? value.intern() : null;
+    }
+}
@@ -10,10 +10,6 @@ package com.sitewhere.rest.model.datatype;
 import java.io.IOException;
 import java.util.Date;
 
-import org.joda.time.DateTimeZone;
-import org.joda.time.format.DateTimeFormatter;
-import org.joda.time.format.ISODateTimeFormat;
-
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -44,7 +40,6 @@ public class JsonDateSerializer extends JsonSerializer<Date> {
      * @return
      */
     public static final String serialize(Date value) {
-	DateTimeFormatter formatter = ISODateTimeFormat.dateTime().withZone(DateTimeZone.UTC);
-	return formatter.print(value.getTime());
+	return ISO8601Codec.format(value);
     }
 }
\ No newline at end of file
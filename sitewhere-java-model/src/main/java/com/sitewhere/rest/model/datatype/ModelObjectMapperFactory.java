@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.datatype;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.sitewhere.rest.model.area.Area;
+import com.sitewhere.rest.model.asset.Asset;
+import com.sitewhere.rest.model.customer.Customer;
+import com.sitewhere.rest.model.device.Device;
+import com.sitewhere.rest.model.device.DeviceAssignment;
+import com.sitewhere.rest.model.device.DeviceType;
+import com.sitewhere.rest.model.device.event.DeviceAlert;
+import com.sitewhere.rest.model.device.event.DeviceCommandInvocation;
+import com.sitewhere.rest.model.device.event.DeviceCommandResponse;
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.DeviceLocation;
+import com.sitewhere.rest.model.device.event.DeviceMeasurement;
+import com.sitewhere.rest.model.device.event.DeviceStateChange;
+import com.sitewhere.rest.model.device.event.kafka.DecodedEventPayload;
+import com.sitewhere.rest.model.device.event.kafka.EnrichedEventPayload;
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.rest.model.device.group.DeviceGroup;
+import com.sitewhere.rest.model.device.group.DeviceGroupElement;
+import com.sitewhere.rest.model.scheduling.Schedule;
+import com.sitewhere.rest.model.search.SearchResults;
+
+/**
+ * Creates Jackson object mappers tuned for the SiteWhere model. The JSON they
+ * read and write is the same as for a default mapper, but:
+ * 
+ * <ul>
+ * <li>serializers and deserializers for the model types exchanged most often
+ * are built when the mapper is created rather than on first use</li>
+ * <li>measurement names and alert types are interned as they are read, so
+ * large numbers of events share a single copy of each</li>
+ * <li>the Jackson Afterburner module, which replaces reflection with generated
+ * accessors, is registered if it is on the classpath</li>
+ * </ul>
+ * 
+ * Building a mapper is expensive, so most code should use the shared mapper.
+ * It is thread-safe but must not be reconfigured; call {@link #create()} for
+ * a mapper that can be.
+ */
+public final class ModelObjectMapperFactory {
+
+    /** Optional module that generates bytecode accessors */
+    private static final String AFTERBURNER_MODULE = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    /** Model types read and written up front */
+    private static final List<Class<?>> WARM_TYPES = Arrays.asList(Area.class, Asset.class, Customer.class,
+	    Device.class, DeviceAssignment.class, DeviceType.class, DeviceGroup.class, DeviceGroupElement.class,
+	    Schedule.class, DeviceMeasurement.class, DeviceLocation.class, DeviceAlert.class, DeviceStateChange.class,
+	    DeviceCommandInvocation.class, DeviceCommandResponse.class, DeviceEventBatch.class,
+	    DeviceEventBatchResponse.class, DeviceMeasurementCreateRequest.class, DeviceLocationCreateRequest.class,
+	    DeviceAlertCreateRequest.class, DecodedEventPayload.class, EnrichedEventPayload.class);
+
+    private ModelObjectMapperFactory() {
+    }
+
+    /**
+     * Get the mapper shared by all users in the JVM.
+     * 
+     * @return
+     */
+    public static ObjectMapper getShared() {
+	return Shared.MAPPER;
+    }
+
+    /**
+     * Create a new tuned mapper.
+     * 
+     * @return
+     */
+    public static ObjectMapper create() {
+	ObjectMapper mapper = new ObjectMapper();
+	mapper.addMixIn(DeviceMeasurement.class, MeasurementNameMixIn.class);
+	mapper.addMixIn(DeviceMeasurementCreateRequest.class, MeasurementNameMixIn.class);
+	mapper.addMixIn(DeviceAlert.class, AlertTypeMixIn.class);
+	mapper.addMixIn(DeviceAlertCreateRequest.class, AlertTypeMixIn.class);
+	Module accessors = createAfterburnerModule();
+	if (accessors != null) {
+	    mapper.registerModule(accessors);
+	}
+	warmUp(mapper, WARM_TYPES);
+	return mapper;
+    }
+
+    /**
+     * Build the serializers and deserializers for types, and for pages of
+     * search results holding them, so that the first calls that use them do
+     * not pay for introspection.
+     * 
+     * @param mapper
+     * @param types
+     */
+    public static void warmUp(ObjectMapper mapper, Collection<Class<?>> types) {
+	for (Class<?> type : types) {
+	    JavaType page = mapper.getTypeFactory().constructParametricType(SearchResults.class, type);
+	    mapper.readerFor(type);
+	    mapper.writerFor(type);
+	    mapper.readerFor(page);
+	    mapper.writerFor(page);
+	}
+    }
+
+    /**
+     * Create the Afterburner module if it is on the classpath.
+     * 
+     * @return module or null if not available
+     */
+    protected static Module createAfterburnerModule() {
+	try {
+	    return (Module) Class.forName(AFTERBURNER_MODULE).getDeclaredConstructor().newInstance();
+	} catch (ReflectiveOperationException | LinkageError e) {
+	    return null;
+	}
+    }
+
+    /**
+     * Holds the shared mapper so that it is built on first use.
+     */
+    private static class Shared {
+
+	/** Shared mapper */
+	private static final ObjectMapper MAPPER = create();
+    }
+
+    /**
+     * Interns measurement names.
+     */
+    private static abstract class MeasurementNameMixIn {
+
+	@JsonDeserialize(using = InternedStringDeserializer.class)
+	public abstract void setName(String name);
+    }
+
+    /**
+     * Interns alert types.
+     */
+    private static abstract class AlertTypeMixIn {
+
+	@JsonDeserialize(using = InternedStringDeserializer.class)
+	public abstract void setType(String type);
+    }
+}
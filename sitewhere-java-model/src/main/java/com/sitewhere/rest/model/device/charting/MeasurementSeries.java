@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.device.charting;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sitewhere.rest.model.device.event.DeviceMeasurement;
+import com.sitewhere.spi.device.charting.IChartEntry;
+import com.sitewhere.spi.device.charting.IChartSeries;
+import com.sitewhere.spi.device.event.IDeviceMeasurement;
+
+/**
+ * Columnar representation of a measurement series. Timestamps and values are
+ * held in parallel primitive arrays rather than one object per entry. Uses the
+ * same JSON representation as {@link ChartSeries}, so it can be decoded
+ * directly from chart series responses.
+ */
+@JsonSerialize(using = MeasurementSeriesSerializer.class)
+@JsonDeserialize(using = MeasurementSeriesDeserializer.class)
+public class MeasurementSeries implements Serializable {
+
+    /** Serial version UID */
+    private static final long serialVersionUID = -2316466436567009384L;
+
+    /** Default initial capacity */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Measurement id (interned) */
+    private String measurementId;
+
+    /** Measurement dates as epoch millis */
+    private long[] timestamps;
+
+    /** Measurement values */
+    private double[] values;
+
+    /** Indexes of entries with null values, or null if there are none */
+    private BitSet nullValues;
+
+    /** Number of entries */
+    private int size;
+
+    public MeasurementSeries(String measurementId) {
+	this(measurementId, DEFAULT_CAPACITY);
+    }
+
+    public MeasurementSeries(String measurementId, int capacity) {
+	setMeasurementId(measurementId);
+	this.timestamps = new long[capacity];
+	this.values = new double[capacity];
+    }
+
+    /**
+     * Add an entry.
+     * 
+     * @param timestamp
+     * @param value
+     */
+    public void add(long timestamp, double value) {
+	ensureCapacity(size + 1);
+	timestamps[size] = timestamp;
+	values[size] = value;
+	size++;
+    }
+
+    /**
+     * Add an entry that may have a null value.
+     * 
+     * @param timestamp
+     * @param value
+     */
+    public void add(long timestamp, Double value) {
+	if (value == null) {
+	    if (nullValues == null) {
+		nullValues = new BitSet();
+	    }
+	    nullValues.set(size);
+	}
+	add(timestamp, (value != null) ? value.doubleValue() : Double.NaN);
+    }
+
+    /**
+     * Grow arrays to hold at least the given number of entries.
+     * 
+     * @param capacity
+     */
+    public void ensureCapacity(int capacity) {
+	if (capacity > timestamps.length) {
+	    int grown = Math.max(capacity, timestamps.length + (timestamps.length >> 1) + 1);
+	    timestamps = Arrays.copyOf(timestamps, grown);
+	    values = Arrays.copyOf(values, grown);
+	}
+    }
+
+    /**
+     * Release unused capacity.
+     */
+    public void trimToSize() {
+	if (size < timestamps.length) {
+	    timestamps = Arrays.copyOf(timestamps, size);
+	    values = Arrays.copyOf(values, size);
+	}
+    }
+
+    public int size() {
+	return size;
+    }
+
+    public long getTimestamp(int index) {
+	checkIndex(index);
+	return timestamps[index];
+    }
+
+    public double getValue(int index) {
+	checkIndex(index);
+	return values[index];
+    }
+
+    /**
+     * Indicates whether the value at the given index was null in the source.
+     * Null values read as {@link Double#NaN} from {@link #getValue(int)}.
+     * 
+     * @param index
+     * @return
+     */
+    public boolean isNull(int index) {
+	checkIndex(index);
+	return (nullValues != null) && nullValues.get(index);
+    }
+
+    /**
+     * Get a copy of the timestamps.
+     * 
+     * @return
+     */
+    public long[] getTimestamps() {
+	return Arrays.copyOf(timestamps, size);
+    }
+
+    /**
+     * Get a copy of the values.
+     * 
+     * @return
+     */
+    public double[] getValues() {
+	return Arrays.copyOf(values, size);
+    }
+
+    public String getMeasurementId() {
+	return measurementId;
+    }
+
+    public void setMeasurementId(String measurementId) {
+	this.measurementId = (measurementId != null) ? measurementId.intern() : null;
+    }
+
+    /**
+     * Convert to a chart series.
+     * 
+     * @return
+     */
+    public ChartSeries<Double> toChartSeries() {
+	ChartSeries<Double> series = new ChartSeries<Double>();
+	series.setMeasurementId(measurementId);
+	List<ChartEntry<Double>> entries = new ArrayList<ChartEntry<Double>>(size);
+	for (int i = 0; i < size; i++) {
+	    ChartEntry<Double> entry = new ChartEntry<Double>();
+	    entry.setMeasurementDate(new Date(timestamps[i]));
+	    entry.setValue(isNull(i) ? null : values[i]);
+	    entries.add(entry);
+	}
+	series.setEntries(entries);
+	return series;
+    }
+
+    /**
+     * Convert to device measurements. Only measurement name, date and value are
+     * populated.
+     * 
+     * @return
+     */
+    public List<DeviceMeasurement> toMeasurements() {
+	List<DeviceMeasurement> measurements = new ArrayList<DeviceMeasurement>(size);
+	for (int i = 0; i < size; i++) {
+	    DeviceMeasurement measurement = new DeviceMeasurement();
+	    measurement.setName(measurementId);
+	    measurement.setEventDate(new Date(timestamps[i]));
+	    measurement.setValue(isNull(i) ? null : values[i]);
+	    measurements.add(measurement);
+	}
+	return measurements;
+    }
+
+    /**
+     * Create from a chart series.
+     * 
+     * @param series
+     * @return
+     * @throws IllegalArgumentException if an entry has no measurement date
+     */
+    public static MeasurementSeries fromChartSeries(IChartSeries<Double> series) {
+	List<? extends IChartEntry<Double>> entries = series.getEntries();
+	MeasurementSeries result = new MeasurementSeries(series.getMeasurementId(), entries.size());
+	for (IChartEntry<Double> entry : entries) {
+	    result.add(requireDate(entry.getMeasurementDate()), entry.getValue());
+	}
+	return result;
+    }
+
+    /**
+     * Create one series per measurement name from a list of measurements. Series
+     * are returned in order of first appearance and entries keep list order.
+     * 
+     * @param measurements
+     * @return
+     * @throws IllegalArgumentException if a measurement has no event date
+     */
+    public static List<MeasurementSeries> fromMeasurements(List<? extends IDeviceMeasurement> measurements) {
+	Map<String, MeasurementSeries> byName = new LinkedHashMap<String, MeasurementSeries>();
+	for (IDeviceMeasurement measurement : measurements) {
+	    MeasurementSeries series = byName.get(measurement.getName());
+	    if (series == null) {
+		series = new MeasurementSeries(measurement.getName());
+		byName.put(measurement.getName(), series);
+	    }
+	    series.add(requireDate(measurement.getEventDate()), measurement.getValue());
+	}
+	return new ArrayList<MeasurementSeries>(byName.values());
+    }
+
+    protected static long requireDate(Date date) {
+	if (date == null) {
+	    throw new IllegalArgumentException("Measurement series entries require a date.");
+	}
+	return date.getTime();
+    }
+
+    protected void checkIndex(int index) {
+	if ((index < 0) || (index >= size)) {
+	    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+	}
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.device.charting;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.sitewhere.rest.model.datatype.ISO8601Codec;
+
+/**
+ * Reads a {@link MeasurementSeries} from the JSON form of a
+ * {@link ChartSeries} without creating an entry object per point. Unknown
+ * fields are skipped.
+ */
+public class MeasurementSeriesDeserializer extends JsonDeserializer<MeasurementSeries> {
+
+    /*
+     * @see
+     * com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.
+     * jackson.core.JsonParser,
+     * com.fasterxml.jackson.databind.DeserializationContext)
+     */
+    @Override
+    public MeasurementSeries deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+	if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+	    return (MeasurementSeries) context.handleUnexpectedToken(MeasurementSeries.class, parser);
+	}
+	MeasurementSeries series = new MeasurementSeries(null);
+	while (parser.nextToken() == JsonToken.FIELD_NAME) {
+	    String field = parser.getCurrentName();
+	    JsonToken token = parser.nextToken();
+	    if ("measurementId".equals(field)) {
+		series.setMeasurementId((token == JsonToken.VALUE_NULL) ? null : parser.getText());
+	    } else if ("entries".equals(field) && (token == JsonToken.START_ARRAY)) {
+		while (parser.nextToken() == JsonToken.START_OBJECT) {
+		    readEntry(parser, context, series);
+		}
+	    } else {
+		parser.skipChildren();
+	    }
+	}
+	series.trimToSize();
+	return series;
+    }
+
+    /**
+     * Read a single entry and add it to the series.
+     * 
+     * @param parser
+     * @param context
+     * @param series
+     * @throws IOException
+     */
+    protected void readEntry(JsonParser parser, DeserializationContext context, MeasurementSeries series)
+	    throws IOException {
+	Double value = null;
+	Long timestamp = null;
+	while (parser.nextToken() == JsonToken.FIELD_NAME) {
+	    String field = parser.getCurrentName();
+	    JsonToken token = parser.nextToken();
+	    if ("value".equals(field)) {
+		value = (token == JsonToken.VALUE_NULL) ? null : parser.getValueAsDouble();
+	    } else if ("measurementDate".equals(field)) {
+		if (token == JsonToken.VALUE_NUMBER_INT) {
+		    timestamp = parser.getLongValue();
+		} else if (token == JsonToken.VALUE_STRING) {
+		    try {
+			timestamp = ISO8601Codec.parseMillis(CharBuffer.wrap(parser.getTextCharacters(),
+				parser.getTextOffset(), parser.getTextLength()));
+		    } catch (IllegalArgumentException e) {
+			context.reportInputMismatch(MeasurementSeries.class, "Invalid measurement date: %s",
+				parser.getText());
+		    }
+		}
+	    } else {
+		parser.skipChildren();
+	    }
+	}
+	if (timestamp == null) {
+	    context.reportInputMismatch(MeasurementSeries.class, "Measurement series entry has no date.");
+	}
+	series.add(timestamp.longValue(), value);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.device.charting;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.sitewhere.rest.model.datatype.ISO8601Codec;
+
+/**
+ * Writes a {@link MeasurementSeries} in the same JSON form as a
+ * {@link ChartSeries}.
+ */
+public class MeasurementSeriesSerializer extends JsonSerializer<MeasurementSeries> {
+
+    /*
+     * @see
+     * com.fasterxml.jackson.databind.JsonSerializer#serialize(java.lang.Object,
+     * com.fasterxml.jackson.core.JsonGenerator,
+     * com.fasterxml.jackson.databind.SerializerProvider)
+     */
+    @Override
+    public void serialize(MeasurementSeries series, JsonGenerator gen, SerializerProvider provider)
+	    throws IOException {
+	gen.writeStartObject();
+	gen.writeStringField("measurementId", series.getMeasurementId());
+	gen.writeArrayFieldStart("entries");
+	for (int i = 0; i < series.size(); i++) {
+	    gen.writeStartObject();
+	    if (series.isNull(i)) {
+		gen.writeNullField("value");
+	    } else {
+		gen.writeNumberField("value", series.getValue(i));
+	    }
+	    gen.writeStringField("measurementDate", ISO8601Codec.format(series.getTimestamp(i)));
+	    gen.writeEndObject();
+	}
+	gen.writeEndArray();
+	gen.writeEndObject();
+    }
+}
@@ -42,6 +42,18 @@ public class DeviceAlert extends DeviceEvent implements IDeviceAlert, Serializab
 	super(DeviceEventType.Alert);
     }
 
+    /*
+     * @see com.sitewhere.rest.model.device.event.DeviceEvent#reset()
+     */
+    @Override
+    public void reset() {
+	super.reset();
+	this.source = null;
+	this.level = null;
+	this.type = null;
+	this.message = null;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -13,6 +13,7 @@ import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.sitewhere.rest.model.common.MetadataProvider;
 import com.sitewhere.rest.model.datatype.JsonDateSerializer;
@@ -23,6 +24,7 @@ import com.sitewhere.spi.device.event.IDeviceEvent;
  * Model object for an event originating from a remote device.
  */
 @JsonInclude(Include.NON_NULL)
+@JsonPropertyOrder({ "eventType" })
 public abstract class DeviceEvent extends MetadataProvider implements IDeviceEvent, Serializable {
 
     /** Serial version UID */
@@ -62,6 +64,23 @@ public abstract class DeviceEvent extends MetadataProvider implements IDeviceEve
 	this.eventType = type;
     }
 
+    /**
+     * Clear all fields except the event type so that the event can be reused.
+     * Metadata is removed.
+     */
+    public void reset() {
+	this.id = null;
+	this.alternateId = null;
+	this.deviceId = null;
+	this.deviceAssignmentId = null;
+	this.customerId = null;
+	this.areaId = null;
+	this.assetId = null;
+	this.eventDate = null;
+	this.receivedDate = null;
+	clearMetadata();
+    }
+
     /*
      * @see com.sitewhere.spi.device.event.IDeviceEvent#getId()
      */
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.device.event;
+
+import com.sitewhere.rest.model.datatype.EventTypeDeserializer;
+import com.sitewhere.spi.device.event.DeviceEventType;
+import com.sitewhere.spi.device.event.IDeviceEvent;
+
+/**
+ * Deserializes an {@link IDeviceEvent} into the {@link DeviceEvent} subclass
+ * for its event type.
+ */
+public class DeviceEventDeserializer extends EventTypeDeserializer<IDeviceEvent> {
+
+    /** Serial version UID */
+    private static final long serialVersionUID = -1402667201447853297L;
+
+    public DeviceEventDeserializer() {
+	super(IDeviceEvent.class);
+    }
+
+    /*
+     * @see com.sitewhere.rest.model.datatype.EventTypeDeserializer#getClassFor(
+     * com.sitewhere.spi.device.event.DeviceEventType)
+     */
+    @Override
+    protected Class<? extends IDeviceEvent> getClassFor(DeviceEventType type) {
+	switch (type) {
+	case Measurement:
+	    return DeviceMeasurement.class;
+	case Location:
+	    return DeviceLocation.class;
+	case Alert:
+	    return DeviceAlert.class;
+	case CommandInvocation:
+	    return DeviceCommandInvocation.class;
+	case CommandResponse:
+	    return DeviceCommandResponse.class;
+	case StateChange:
+	    return DeviceStateChange.class;
+	default:
+	    throw new IllegalArgumentException("Unsupported event type: " + type);
+	}
+    }
+}
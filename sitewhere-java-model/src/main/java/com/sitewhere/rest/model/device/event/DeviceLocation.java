@@ -37,6 +37,17 @@ public class DeviceLocation extends DeviceEvent implements IDeviceLocation, Seri
 	super(DeviceEventType.Location);
     }
 
+    /*
+     * @see com.sitewhere.rest.model.device.event.DeviceEvent#reset()
+     */
+    @Override
+    public void reset() {
+	super.reset();
+	this.latitude = null;
+	this.longitude = null;
+	this.elevation = null;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -33,6 +33,16 @@ public class DeviceMeasurement extends DeviceEvent implements IDeviceMeasurement
 	super(DeviceEventType.Measurement);
     }
 
+    /*
+     * @see com.sitewhere.rest.model.device.event.DeviceEvent#reset()
+     */
+    @Override
+    public void reset() {
+	super.reset();
+	this.name = null;
+	this.value = null;
+    }
+
     /*
      * @see com.sitewhere.spi.device.event.IDeviceMeasurement#getName()
      */
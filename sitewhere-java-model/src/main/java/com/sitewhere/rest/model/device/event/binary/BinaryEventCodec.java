@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.device.event.binary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.request.DeviceEventCreateRequest;
+import com.sitewhere.spi.SiteWhereException;
+
+/**
+ * Compact binary encoding for device event batches, batch responses and
+ * individual measurement, location and alert create requests.
+ * 
+ * A message starts with the magic bytes <code>SWE</code>, a format version and
+ * a message type. A dictionary of strings that repeat across events
+ * (measurement names, alert types and metadata keys) follows, then the message
+ * body. Each event in the body is prefixed with its length so that decoders can
+ * skip fields added by newer versions of the format. Integers are written as
+ * varints, dates as zigzag varint deltas from the previous date in the message,
+ * UUIDs as 16 raw bytes and doubles as 8 raw bytes.
+ */
+public final class BinaryEventCodec {
+
+    /** Content type for binary event messages */
+    public static final String MEDIA_TYPE = "application/x-sitewhere-events";
+
+    /** Magic bytes at the start of every message */
+    static final byte[] MAGIC = { 'S', 'W', 'E' };
+
+    /** Current format version */
+    static final int VERSION = 1;
+
+    /** Message type for {@link DeviceEventBatch} */
+    static final int TYPE_BATCH = 1;
+
+    /** Message type for {@link DeviceEventBatchResponse} */
+    static final int TYPE_BATCH_RESPONSE = 2;
+
+    /** Message type for a single measurement create request */
+    static final int TYPE_MEASUREMENT_REQUEST = 3;
+
+    /** Message type for a single location create request */
+    static final int TYPE_LOCATION_REQUEST = 4;
+
+    /** Message type for a single alert create request */
+    static final int TYPE_ALERT_REQUEST = 5;
+
+    private BinaryEventCodec() {
+    }
+
+    /**
+     * Encode a batch of event create requests.
+     * 
+     * @param batch
+     * @return
+     */
+    public static byte[] encode(DeviceEventBatch batch) {
+	return new BinaryEventEncoder().encodeBatch(batch).toByteArray();
+    }
+
+    /**
+     * Encode a batch of event create requests to a stream.
+     * 
+     * @param batch
+     * @param output
+     * @throws IOException
+     */
+    public static void encode(DeviceEventBatch batch, OutputStream output) throws IOException {
+	new BinaryEventEncoder().encodeBatch(batch).writeTo(output);
+    }
+
+    /**
+     * Encode the response to a batch of event create requests.
+     * 
+     * @param response
+     * @return
+     */
+    public static byte[] encode(DeviceEventBatchResponse response) {
+	return new BinaryEventEncoder().encodeBatchResponse(response).toByteArray();
+    }
+
+    /**
+     * Encode a single measurement, location or alert create request.
+     * 
+     * @param request
+     * @return
+     * @throws IllegalArgumentException if request type is not supported
+     */
+    public static byte[] encode(DeviceEventCreateRequest request) {
+	return new BinaryEventEncoder().encodeCreateRequest(request).toByteArray();
+    }
+
+    /**
+     * Decode a batch of event create requests.
+     * 
+     * @param data
+     * @return
+     * @throws SiteWhereException
+     */
+    public static DeviceEventBatch decodeBatch(byte[] data) throws SiteWhereException {
+	return new BinaryEventDecoder(data).decodeBatch();
+    }
+
+    /**
+     * Decode the response to a batch of event create requests.
+     * 
+     * @param data
+     * @return
+     * @throws SiteWhereException
+     */
+    public static DeviceEventBatchResponse decodeBatchResponse(byte[] data) throws SiteWhereException {
+	return new BinaryEventDecoder(data).decodeBatchResponse();
+    }
+
+    /**
+     * Decode a single measurement, location or alert create request.
+     * 
+     * @param data
+     * @return
+     * @throws SiteWhereException
+     */
+    public static DeviceEventCreateRequest decodeCreateRequest(byte[] data) throws SiteWhereException {
+	return new BinaryEventDecoder(data).decodeCreateRequest();
+    }
+}
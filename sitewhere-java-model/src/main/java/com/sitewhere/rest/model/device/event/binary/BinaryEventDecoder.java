@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.device.event.binary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.sitewhere.rest.model.common.MetadataMap;
+import com.sitewhere.rest.model.device.event.DeviceAlert;
+import com.sitewhere.rest.model.device.event.DeviceEvent;
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.DeviceLocation;
+import com.sitewhere.rest.model.device.event.DeviceMeasurement;
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceEventCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.spi.SiteWhereException;
+import com.sitewhere.spi.device.event.AlertLevel;
+import com.sitewhere.spi.device.event.AlertSource;
+
+/**
+ * Reads a single binary event message. Not thread safe and not reusable.
+ */
+class BinaryEventDecoder {
+
+    /** Message contents */
+    private byte[] data;
+
+    /** Current read position */
+    private int position;
+
+    /** End of the current record */
+    private int limit;
+
+    /** Dictionary read from the message header */
+    private String[] dictionary;
+
+    /** Previous date read, used for delta decoding */
+    private long lastTimestamp;
+
+    /** Message type */
+    private int type;
+
+    public BinaryEventDecoder(byte[] data) {
+	this.data = data;
+	this.limit = data.length;
+    }
+
+    /**
+     * Decode a batch of create requests.
+     * 
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceEventBatch decodeBatch() throws SiteWhereException {
+	readHeader(BinaryEventCodec.TYPE_BATCH);
+	DeviceEventBatch batch = new DeviceEventBatch();
+	batch.setDeviceToken(readString());
+	int count = readCount();
+	List<DeviceMeasurementCreateRequest> measurements = new ArrayList<>(count);
+	for (int i = 0; i < count; i++) {
+	    int end = beginRecord();
+	    measurements.add(readMeasurementRequest());
+	    endRecord(end);
+	}
+	count = readCount();
+	List<DeviceLocationCreateRequest> locations = new ArrayList<>(count);
+	for (int i = 0; i < count; i++) {
+	    int end = beginRecord();
+	    locations.add(readLocationRequest());
+	    endRecord(end);
+	}
+	count = readCount();
+	List<DeviceAlertCreateRequest> alerts = new ArrayList<>(count);
+	for (int i = 0; i < count; i++) {
+	    int end = beginRecord();
+	    alerts.add(readAlertRequest());
+	    endRecord(end);
+	}
+	batch.setMeasurements(measurements);
+	batch.setLocations(locations);
+	batch.setAlerts(alerts);
+	return batch;
+    }
+
+    /**
+     * Decode response for a batch of create requests.
+     * 
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceEventBatchResponse decodeBatchResponse() throws SiteWhereException {
+	readHeader(BinaryEventCodec.TYPE_BATCH_RESPONSE);
+	DeviceEventBatchResponse response = new DeviceEventBatchResponse();
+	int count = readCount();
+	List<DeviceMeasurement> measurements = new ArrayList<>(count);
+	for (int i = 0; i < count; i++) {
+	    int end = beginRecord();
+	    measurements.add(readMeasurement());
+	    endRecord(end);
+	}
+	count = readCount();
+	List<DeviceLocation> locations = new ArrayList<>(count);
+	for (int i = 0; i < count; i++) {
+	    int end = beginRecord();
+	    locations.add(readLocation());
+	    endRecord(end);
+	}
+	count = readCount();
+	List<DeviceAlert> alerts = new ArrayList<>(count);
+	for (int i = 0; i < count; i++) {
+	    int end = beginRecord();
+	    alerts.add(readAlert());
+	    endRecord(end);
+	}
+	response.setCreatedMeasurements(measurements);
+	response.setCreatedLocations(locations);
+	response.setCreatedAlerts(alerts);
+	return response;
+    }
+
+    /**
+     * Decode a single create request.
+     * 
+     * @return
+     * @throws SiteWhereException
+     */
+    public DeviceEventCreateRequest decodeCreateRequest() throws SiteWhereException {
+	readHeader(-1);
+	int end = beginRecord();
+	DeviceEventCreateRequest request;
+	switch (type) {
+	case BinaryEventCodec.TYPE_MEASUREMENT_REQUEST:
+	    request = readMeasurementRequest();
+	    break;
+	case BinaryEventCodec.TYPE_LOCATION_REQUEST:
+	    request = readLocationRequest();
+	    break;
+	case BinaryEventCodec.TYPE_ALERT_REQUEST:
+	    request = readAlertRequest();
+	    break;
+	default:
+	    throw new SiteWhereException("Message is not a create request. Type: " + type);
+	}
+	endRecord(end);
+	return request;
+    }
+
+    /**
+     * Validate magic and version, then read type and dictionary.
+     * 
+     * @param expectedType type required, or -1 for any
+     * @throws SiteWhereException
+     */
+    protected void readHeader(int expectedType) throws SiteWhereException {
+	for (byte b : BinaryEventCodec.MAGIC) {
+	    if (readByte() != b) {
+		throw new SiteWhereException("Data is not in binary event format.");
+	    }
+	}
+	int version = readByte();
+	if (version > BinaryEventCodec.VERSION) {
+	    throw new SiteWhereException("Unsupported binary event format version: " + version);
+	}
+	this.type = readByte();
+	if ((expectedType != -1) && (type != expectedType)) {
+	    throw new SiteWhereException("Unexpected binary event message type: " + type);
+	}
+	this.dictionary = new String[readCount()];
+	for (int i = 0; i < dictionary.length; i++) {
+	    dictionary[i] = readString();
+	}
+    }
+
+    protected DeviceMeasurementCreateRequest readMeasurementRequest() throws SiteWhereException {
+	DeviceMeasurementCreateRequest request = new DeviceMeasurementCreateRequest();
+	readCreateRequest(request);
+	request.setName(readDictionaryEntry());
+	request.setValue(readDouble());
+	return request;
+    }
+
+    protected DeviceLocationCreateRequest readLocationRequest() throws SiteWhereException {
+	DeviceLocationCreateRequest request = new DeviceLocationCreateRequest();
+	readCreateRequest(request);
+	Double[] values = readOptionalDoubles(3);
+	request.setLatitude(values[0]);
+	request.setLongitude(values[1]);
+	request.setElevation(values[2]);
+	return request;
+    }
+
+    protected DeviceAlertCreateRequest readAlertRequest() throws SiteWhereException {
+	DeviceAlertCreateRequest request = new DeviceAlertCreateRequest();
+	readCreateRequest(request);
+	request.setSource(readEnum(AlertSource.values()));
+	request.setLevel(readEnum(AlertLevel.values()));
+	request.setType(readDictionaryEntry());
+	request.setMessage(readString());
+	return request;
+    }
+
+    /**
+     * Read fields common to all create requests.
+     * 
+     * @param request
+     * @throws SiteWhereException
+     */
+    protected void readCreateRequest(DeviceEventCreateRequest request) throws SiteWhereException {
+	int flags = (int) readVarint();
+	if ((flags & 1) != 0) {
+	    request.setAlternateId(readString());
+	}
+	if ((flags & 2) != 0) {
+	    request.setEventDate(readDate());
+	}
+	request.setUpdateState((flags & 4) != 0);
+	if ((flags & 8) != 0) {
+	    request.setMetadata(readMetadata());
+	}
+    }
+
+    protected DeviceMeasurement readMeasurement() throws SiteWhereException {
+	DeviceMeasurement measurement = new DeviceMeasurement();
+	readEvent(measurement);
+	measurement.setName(readDictionaryEntry());
+	measurement.setValue(readOptionalDoubles(1)[0]);
+	return measurement;
+    }
+
+    protected DeviceLocation readLocation() throws SiteWhereException {
+	DeviceLocation location = new DeviceLocation();
+	readEvent(location);
+	Double[] values = readOptionalDoubles(3);
+	location.setLatitude(values[0]);
+	location.setLongitude(values[1]);
+	location.setElevation(values[2]);
+	return location;
+    }
+
+    protected DeviceAlert readAlert() throws SiteWhereException {
+	DeviceAlert alert = new DeviceAlert();
+	readEvent(alert);
+	alert.setSource(readEnum(AlertSource.values()));
+	alert.setLevel(readEnum(AlertLevel.values()));
+	alert.setType(readDictionaryEntry());
+	alert.setMessage(readString());
+	return alert;
+    }
+
+    /**
+     * Read fields common to all persisted events.
+     * 
+     * @param event
+     * @throws SiteWhereException
+     */
+    protected void readEvent(DeviceEvent event) throws SiteWhereException {
+	int flags = (int) readVarint();
+	UUID[] ids = new UUID[6];
+	for (int i = 0; i < ids.length; i++) {
+	    if ((flags & (1 << i)) != 0) {
+		ids[i] = new UUID(readLong(), readLong());
+	    }
+	}
+	event.setId(ids[0]);
+	event.setDeviceId(ids[1]);
+	event.setDeviceAssignmentId(ids[2]);
+	event.setCustomerId(ids[3]);
+	event.setAreaId(ids[4]);
+	event.setAssetId(ids[5]);
+	if ((flags & 64) != 0) {
+	    event.setAlternateId(readString());
+	}
+	if ((flags & 128) != 0) {
+	    event.setEventDate(readDate());
+	}
+	if ((flags & 256) != 0) {
+	    event.setReceivedDate(readDate());
+	}
+	if ((flags & 512) != 0) {
+	    event.setMetadata(readMetadata());
+	}
+    }
+
+    protected Date readDate() throws SiteWhereException {
+	long encoded = readVarint();
+	lastTimestamp += (encoded >>> 1) ^ -(encoded & 1);
+	return new Date(lastTimestamp);
+    }
+
+    protected Map<String, String> readMetadata() throws SiteWhereException {
+	int count = readCount();
+	Map<String, String> metadata = new MetadataMap(count);
+	for (int i = 0; i < count; i++) {
+	    metadata.put(readDictionaryEntry(), readString());
+	}
+	return metadata;
+    }
+
+    protected Double[] readOptionalDoubles(int count) throws SiteWhereException {
+	int flags = (int) readVarint();
+	Double[] values = new Double[count];
+	for (int i = 0; i < count; i++) {
+	    if ((flags & (1 << i)) != 0) {
+		values[i] = readDouble();
+	    }
+	}
+	return values;
+    }
+
+    protected <E extends Enum<E>> E readEnum(E[] values) throws SiteWhereException {
+	long value = readVarint();
+	if (value == 0) {
+	    return null;
+	}
+	if ((value < 0) || (value > values.length)) {
+	    throw new SiteWhereException("Unknown enum value " + (value - 1) + ".");
+	}
+	return values[(int) value - 1];
+    }
+
+    protected String readDictionaryEntry() throws SiteWhereException {
+	long index = readVarint();
+	if (index == 0) {
+	    return null;
+	}
+	if ((index < 0) || (index > dictionary.length)) {
+	    throw new SiteWhereException("Dictionary index out of range: " + (index - 1));
+	}
+	return dictionary[(int) index - 1];
+    }
+
+    /**
+     * Read a record length and limit reads to the record.
+     * 
+     * @return end of record
+     * @throws SiteWhereException
+     */
+    protected int beginRecord() throws SiteWhereException {
+	int length = readCount();
+	int end = position + length;
+	if (end > data.length) {
+	    throw new SiteWhereException("Record extends past end of data.");
+	}
+	limit = end;
+	return end;
+    }
+
+    /**
+     * Skip fields not known to this version and restore the message limit.
+     * 
+     * @param end
+     */
+    protected void endRecord(int end) {
+	position = end;
+	limit = data.length;
+    }
+
+    /**
+     * Read a count and check that it is plausible for the remaining data.
+     * Varints that decode to negative values are rejected as well.
+     * 
+     * @return
+     * @throws SiteWhereException
+     */
+    protected int readCount() throws SiteWhereException {
+	long count = readVarint();
+	if ((count < 0) || (count > limit - position)) {
+	    throw new SiteWhereException("Invalid length in binary event data: " + count);
+	}
+	return (int) count;
+    }
+
+    protected int readByte() throws SiteWhereException {
+	if (position >= limit) {
+	    throw new SiteWhereException("Unexpected end of binary event data.");
+	}
+	return data[position++];
+    }
+
+    protected long readVarint() throws SiteWhereException {
+	long result = 0;
+	for (int shift = 0; shift < 64; shift += 7) {
+	    int b = readByte();
+	    result |= (long) (b & 0x7F) << shift;
+	    if ((b & 0x80) == 0) {
+		return result;
+	    }
+	}
+	throw new SiteWhereException("Malformed varint in binary event data.");
+    }
+
+    protected long readLong() throws SiteWhereException {
+	if (position + 8 > limit) {
+	    throw new SiteWhereException("Unexpected end of binary event data.");
+	}
+	long result = 0;
+	for (int i = 0; i < 8; i++) {
+	    result = (result << 8) | (data[position++] & 0xFF);
+	}
+	return result;
+    }
+
+    protected double readDouble() throws SiteWhereException {
+	return Double.longBitsToDouble(readLong());
+    }
+
+    protected String readString() throws SiteWhereException {
+	long encoded = readVarint();
+	if (encoded == 0) {
+	    return null;
+	}
+	if ((encoded < 0) || (encoded - 1 > limit - position)) {
+	    throw new SiteWhereException("Unexpected end of binary event data.");
+	}
+	int length = (int) (encoded - 1);
+	String value = new String(data, position, length, StandardCharsets.UTF_8);
+	position += length;
+	return value;
+    }
+}
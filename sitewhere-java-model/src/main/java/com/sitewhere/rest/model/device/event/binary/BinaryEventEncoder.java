@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.device.event.binary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.sitewhere.rest.model.device.event.DeviceAlert;
+import com.sitewhere.rest.model.device.event.DeviceEvent;
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.DeviceLocation;
+import com.sitewhere.rest.model.device.event.DeviceMeasurement;
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceEventCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.spi.device.event.IDeviceAlert;
+import com.sitewhere.spi.device.event.IDeviceLocation;
+import com.sitewhere.spi.device.event.IDeviceMeasurement;
+import com.sitewhere.spi.device.event.request.IDeviceAlertCreateRequest;
+import com.sitewhere.spi.device.event.request.IDeviceLocationCreateRequest;
+import com.sitewhere.spi.device.event.request.IDeviceMeasurementCreateRequest;
+
+/**
+ * Writes a single binary event message. Not thread safe and not reusable.
+ */
+class BinaryEventEncoder {
+
+    /** Dictionary entries in order of first use */
+    private Map<String, Integer> dictionary = new LinkedHashMap<>();
+
+    /** Message body written after the dictionary */
+    private Buffer body = new Buffer(256);
+
+    /** Scratch buffer for the event being written */
+    private Buffer record = new Buffer(64);
+
+    /** Previous date written, used for delta encoding */
+    private long lastTimestamp;
+
+    /** Message type */
+    private int type;
+
+    /**
+     * Encode a batch of create requests.
+     * 
+     * @param batch
+     * @return
+     */
+    public BinaryEventEncoder encodeBatch(DeviceEventBatch batch) {
+	this.type = BinaryEventCodec.TYPE_BATCH;
+	body.writeString(batch.getDeviceToken());
+	List<IDeviceMeasurementCreateRequest> measurements = batch.getMeasurements();
+	body.writeVarint(measurements.size());
+	for (IDeviceMeasurementCreateRequest measurement : measurements) {
+	    record.reset();
+	    writeMeasurementRequest((DeviceMeasurementCreateRequest) measurement);
+	    body.writeRecord(record);
+	}
+	List<IDeviceLocationCreateRequest> locations = batch.getLocations();
+	body.writeVarint(locations.size());
+	for (IDeviceLocationCreateRequest location : locations) {
+	    record.reset();
+	    writeLocationRequest((DeviceLocationCreateRequest) location);
+	    body.writeRecord(record);
+	}
+	List<IDeviceAlertCreateRequest> alerts = batch.getAlerts();
+	body.writeVarint(alerts.size());
+	for (IDeviceAlertCreateRequest alert : alerts) {
+	    record.reset();
+	    writeAlertRequest((DeviceAlertCreateRequest) alert);
+	    body.writeRecord(record);
+	}
+	return this;
+    }
+
+    /**
+     * Encode response for a batch of create requests.
+     * 
+     * @param response
+     * @return
+     */
+    public BinaryEventEncoder encodeBatchResponse(DeviceEventBatchResponse response) {
+	this.type = BinaryEventCodec.TYPE_BATCH_RESPONSE;
+	List<IDeviceMeasurement> measurements = response.getCreatedMeasurements();
+	body.writeVarint(measurements.size());
+	for (IDeviceMeasurement measurement : measurements) {
+	    record.reset();
+	    writeMeasurement((DeviceMeasurement) measurement);
+	    body.writeRecord(record);
+	}
+	List<IDeviceLocation> locations = response.getCreatedLocations();
+	body.writeVarint(locations.size());
+	for (IDeviceLocation location : locations) {
+	    record.reset();
+	    writeLocation((DeviceLocation) location);
+	    body.writeRecord(record);
+	}
+	List<IDeviceAlert> alerts = response.getCreatedAlerts();
+	body.writeVarint(alerts.size());
+	for (IDeviceAlert alert : alerts) {
+	    record.reset();
+	    writeAlert((DeviceAlert) alert);
+	    body.writeRecord(record);
+	}
+	return this;
+    }
+
+    /**
+     * Encode a single create request.
+     * 
+     * @param request
+     * @return
+     */
+    public BinaryEventEncoder encodeCreateRequest(DeviceEventCreateRequest request) {
+	record.reset();
+	if (request instanceof DeviceMeasurementCreateRequest) {
+	    this.type = BinaryEventCodec.TYPE_MEASUREMENT_REQUEST;
+	    writeMeasurementRequest((DeviceMeasurementCreateRequest) request);
+	} else if (request instanceof DeviceLocationCreateRequest) {
+	    this.type = BinaryEventCodec.TYPE_LOCATION_REQUEST;
+	    writeLocationRequest((DeviceLocationCreateRequest) request);
+	} else if (request instanceof DeviceAlertCreateRequest) {
+	    this.type = BinaryEventCodec.TYPE_ALERT_REQUEST;
+	    writeAlertRequest((DeviceAlertCreateRequest) request);
+	} else {
+	    throw new IllegalArgumentException("Unsupported request type: " + request.getClass().getName());
+	}
+	body.writeRecord(record);
+	return this;
+    }
+
+    /**
+     * Get complete message as a byte array.
+     * 
+     * @return
+     */
+    public byte[] toByteArray() {
+	Buffer header = writeHeader();
+	byte[] result = new byte[header.size + body.size];
+	System.arraycopy(header.bytes, 0, result, 0, header.size);
+	System.arraycopy(body.bytes, 0, result, header.size, body.size);
+	return result;
+    }
+
+    /**
+     * Write complete message to a stream.
+     * 
+     * @param output
+     * @throws IOException
+     */
+    public void writeTo(OutputStream output) throws IOException {
+	Buffer header = writeHeader();
+	output.write(header.bytes, 0, header.size);
+	output.write(body.bytes, 0, body.size);
+    }
+
+    /**
+     * Write magic, version, type and dictionary.
+     * 
+     * @return
+     */
+    protected Buffer writeHeader() {
+	Buffer header = new Buffer(16 + dictionary.size() * 16);
+	for (byte b : BinaryEventCodec.MAGIC) {
+	    header.writeByte(b);
+	}
+	header.writeByte(BinaryEventCodec.VERSION);
+	header.writeByte(type);
+	header.writeVarint(dictionary.size());
+	for (String entry : dictionary.keySet()) {
+	    header.writeString(entry);
+	}
+	return header;
+    }
+
+    protected void writeMeasurementRequest(DeviceMeasurementCreateRequest request) {
+	writeCreateRequest(request);
+	writeDictionaryEntry(request.getName());
+	record.writeDouble(request.getValue());
+    }
+
+    protected void writeLocationRequest(DeviceLocationCreateRequest request) {
+	writeCreateRequest(request);
+	writeOptionalDoubles(request.getLatitude(), request.getLongitude(), request.getElevation());
+    }
+
+    protected void writeAlertRequest(DeviceAlertCreateRequest request) {
+	writeCreateRequest(request);
+	writeEnum(request.getSource());
+	writeEnum(request.getLevel());
+	writeDictionaryEntry(request.getType());
+	record.writeString(request.getMessage());
+    }
+
+    /**
+     * Write fields common to all create requests.
+     * 
+     * @param request
+     */
+    protected void writeCreateRequest(DeviceEventCreateRequest request) {
+	int flags = 0;
+	flags |= (request.getAlternateId() != null) ? 1 : 0;
+	flags |= (request.getEventDate() != null) ? 2 : 0;
+	flags |= request.isUpdateState() ? 4 : 0;
+	flags |= (request.getMetadata() != null) ? 8 : 0;
+	record.writeVarint(flags);
+	if (request.getAlternateId() != null) {
+	    record.writeString(request.getAlternateId());
+	}
+	if (request.getEventDate() != null) {
+	    writeDate(request.getEventDate());
+	}
+	if (request.getMetadata() != null) {
+	    writeMetadata(request.getMetadata());
+	}
+    }
+
+    protected void writeMeasurement(DeviceMeasurement measurement) {
+	writeEvent(measurement);
+	writeDictionaryEntry(measurement.getName());
+	writeOptionalDoubles(measurement.getValue());
+    }
+
+    protected void writeLocation(DeviceLocation location) {
+	writeEvent(location);
+	writeOptionalDoubles(location.getLatitude(), location.getLongitude(), location.getElevation());
+    }
+
+    protected void writeAlert(DeviceAlert alert) {
+	writeEvent(alert);
+	writeEnum(alert.getSource());
+	writeEnum(alert.getLevel());
+	writeDictionaryEntry(alert.getType());
+	record.writeString(alert.getMessage());
+    }
+
+    /**
+     * Write fields common to all persisted events.
+     * 
+     * @param event
+     */
+    protected void writeEvent(DeviceEvent event) {
+	UUID[] ids = { event.getId(), event.getDeviceId(), event.getDeviceAssignmentId(), event.getCustomerId(),
+		event.getAreaId(), event.getAssetId() };
+	int flags = 0;
+	for (int i = 0; i < ids.length; i++) {
+	    flags |= (ids[i] != null) ? (1 << i) : 0;
+	}
+	flags |= (event.getAlternateId() != null) ? 64 : 0;
+	flags |= (event.getEventDate() != null) ? 128 : 0;
+	flags |= (event.getReceivedDate() != null) ? 256 : 0;
+	flags |= event.hasMetadata() ? 512 : 0;
+	record.writeVarint(flags);
+	for (UUID id : ids) {
+	    if (id != null) {
+		record.writeLong(id.getMostSignificantBits());
+		record.writeLong(id.getLeastSignificantBits());
+	    }
+	}
+	if (event.getAlternateId() != null) {
+	    record.writeString(event.getAlternateId());
+	}
+	if (event.getEventDate() != null) {
+	    writeDate(event.getEventDate());
+	}
+	if (event.getReceivedDate() != null) {
+	    writeDate(event.getReceivedDate());
+	}
+	if ((flags & 512) != 0) {
+	    writeMetadata(event.getMetadata());
+	}
+    }
+
+    /**
+     * Write a date as a delta from the previous date.
+     * 
+     * @param date
+     */
+    protected void writeDate(Date date) {
+	long timestamp = date.getTime();
+	record.writeSignedVarint(timestamp - lastTimestamp);
+	lastTimestamp = timestamp;
+    }
+
+    /**
+     * Write metadata with dictionary-encoded keys.
+     * 
+     * @param metadata
+     */
+    protected void writeMetadata(Map<String, String> metadata) {
+	record.writeVarint(metadata.size());
+	for (Map.Entry<String, String> entry : metadata.entrySet()) {
+	    writeDictionaryEntry(entry.getKey());
+	    record.writeString(entry.getValue());
+	}
+    }
+
+    /**
+     * Write presence flags followed by each non-null value.
+     * 
+     * @param values
+     */
+    protected void writeOptionalDoubles(Double... values) {
+	int flags = 0;
+	for (int i = 0; i < values.length; i++) {
+	    flags |= (values[i] != null) ? (1 << i) : 0;
+	}
+	record.writeVarint(flags);
+	for (Double value : values) {
+	    if (value != null) {
+		record.writeDouble(value);
+	    }
+	}
+    }
+
+    /**
+     * Write an enum as ordinal plus one, or zero for null.
+     * 
+     * @param value
+     */
+    protected void writeEnum(Enum<?> value) {
+	record.writeVarint((value != null) ? value.ordinal() + 1 : 0);
+    }
+
+    /**
+     * Write dictionary index plus one, or zero for null.
+     * 
+     * @param value
+     */
+    protected void writeDictionaryEntry(String value) {
+	if (value == null) {
+	    record.writeVarint(0);
+	    return;
+	}
+	Integer index = dictionary.get(value);
+	if (index == null) {
+	    index = dictionary.size();
+	    dictionary.put(value, index);
+	}
+	record.writeVarint(index + 1);
+    }
+
+    /**
+     * Growable byte buffer with varint support.
+     */
+    static class Buffer {
+
+	/** Buffer contents */
+	private byte[] bytes;
+
+	/** Number of bytes written */
+	private int size;
+
+	Buffer(int capacity) {
+	    this.bytes = new byte[capacity];
+	}
+
+	void reset() {
+	    size = 0;
+	}
+
+	void ensure(int extra) {
+	    if (size + extra > bytes.length) {
+		bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+	    }
+	}
+
+	void writeByte(int value) {
+	    ensure(1);
+	    bytes[size++] = (byte) value;
+	}
+
+	void writeVarint(long value) {
+	    ensure(10);
+	    while ((value & ~0x7FL) != 0) {
+		bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+		value >>>= 7;
+	    }
+	    bytes[size++] = (byte) value;
+	}
+
+	void writeSignedVarint(long value) {
+	    writeVarint((value << 1) ^ (value >> 63));
+	}
+
+	void writeLong(long value) {
+	    ensure(8);
+	    for (int shift = 56; shift >= 0; shift -= 8) {
+		bytes[size++] = (byte) (value >>> shift);
+	    }
+	}
+
+	void writeDouble(double value) {
+	    writeLong(Double.doubleToLongBits(value));
+	}
+
+	/**
+	 * Write string length plus one followed by UTF-8 bytes, or zero for null.
+	 * 
+	 * @param value
+	 */
+	void writeString(String value) {
+	    if (value == null) {
+		writeVarint(0);
+		return;
+	    }
+	    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+	    writeVarint(utf8.length + 1);
+	    ensure(utf8.length);
+	    System.arraycopy(utf8, 0, bytes, size, utf8.length);
+	    size += utf8.length;
+	}
+
+	/**
+	 * Write the contents of another buffer prefixed with its length.
+	 * 
+	 * @param other
+	 */
+	void writeRecord(Buffer other) {
+	    writeVarint(other.size);
+	    ensure(other.size);
+	    System.arraycopy(other.bytes, 0, bytes, size, other.size);
+	    size += other.size;
+	}
+    }
+}
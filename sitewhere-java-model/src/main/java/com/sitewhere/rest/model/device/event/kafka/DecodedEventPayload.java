@@ -7,6 +7,8 @@
  */
 package com.sitewhere.rest.model.device.event.kafka;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.sitewhere.rest.model.device.event.request.DeviceEventCreateRequestDeserializer;
 import com.sitewhere.spi.device.event.kafka.IDecodedEventPayload;
 import com.sitewhere.spi.device.event.request.IDeviceEventCreateRequest;
 
@@ -75,6 +77,7 @@ public class DecodedEventPayload implements IDecodedEventPayload {
 	return eventCreateRequest;
     }
 
+    @JsonDeserialize(using = DeviceEventCreateRequestDeserializer.class)
     public void setEventCreateRequest(IDeviceEventCreateRequest eventCreateRequest) {
 	this.eventCreateRequest = eventCreateRequest;
     }
@@ -7,6 +7,8 @@
  */
 package com.sitewhere.rest.model.device.event.kafka;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.sitewhere.rest.model.device.event.request.DeviceRegistrationRequest;
 import com.sitewhere.spi.device.event.kafka.IDeviceRegistrationPayload;
 import com.sitewhere.spi.device.event.request.IDeviceRegistrationRequest;
 
@@ -78,6 +80,7 @@ public class DeviceRegistrationPayload implements IDeviceRegistrationPayload {
 	return deviceRegistrationRequest;
     }
 
+    @JsonDeserialize(as = DeviceRegistrationRequest.class)
     public void setDeviceRegistrationRequest(IDeviceRegistrationRequest deviceRegistrationRequest) {
 	this.deviceRegistrationRequest = deviceRegistrationRequest;
     }
@@ -7,6 +7,9 @@
  */
 package com.sitewhere.rest.model.device.event.kafka;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.sitewhere.rest.model.device.event.DeviceEventContext;
+import com.sitewhere.rest.model.device.event.DeviceEventDeserializer;
 import com.sitewhere.spi.device.event.IDeviceEvent;
 import com.sitewhere.spi.device.event.IDeviceEventContext;
 import com.sitewhere.spi.device.event.kafka.IEnrichedEventPayload;
@@ -32,6 +35,7 @@ public class EnrichedEventPayload implements IEnrichedEventPayload {
 	return eventContext;
     }
 
+    @JsonDeserialize(as = DeviceEventContext.class)
     public void setEventContext(IDeviceEventContext eventContext) {
 	this.eventContext = eventContext;
     }
@@ -45,6 +49,7 @@ public class EnrichedEventPayload implements IEnrichedEventPayload {
 	return event;
     }
 
+    @JsonDeserialize(using = DeviceEventDeserializer.class)
     public void setEvent(IDeviceEvent event) {
 	this.event = event;
     }
@@ -8,7 +8,6 @@
 package com.sitewhere.rest.model.device.event.request;
 
 import java.io.Serializable;
-import java.util.HashMap;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -44,6 +43,19 @@ public class DeviceAlertCreateRequest extends DeviceEventCreateRequest
 	setEventType(DeviceEventType.Alert);
     }
 
+    /*
+     * @see
+     * com.sitewhere.rest.model.device.event.request.DeviceEventCreateRequest#reset()
+     */
+    @Override
+    public void reset() {
+	super.reset();
+	this.source = AlertSource.Device;
+	this.level = AlertLevel.Info;
+	this.type = null;
+	this.message = null;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -99,9 +111,21 @@ public class DeviceAlertCreateRequest extends DeviceEventCreateRequest
 
     public static class Builder extends DeviceEventCreateRequest.Builder<DeviceAlertCreateRequest> {
 
-	private DeviceAlertCreateRequest request = new DeviceAlertCreateRequest();
+	private DeviceAlertCreateRequest request;
 
 	public Builder(String type, String message) {
+	    this(new DeviceAlertCreateRequest(), type, message);
+	}
+
+	/**
+	 * Fill in an existing request, such as one taken from a pool.
+	 * 
+	 * @param request
+	 * @param type
+	 * @param message
+	 */
+	public Builder(DeviceAlertCreateRequest request, String type, String message) {
+	    this.request = request;
 	    request.setType(type);
 	    request.setMessage(message);
 	    request.setSource(AlertSource.Device);
@@ -129,10 +153,7 @@ public class DeviceAlertCreateRequest extends DeviceEventCreateRequest
 	}
 
 	public Builder metadata(String name, String value) {
-	    if (request.getMetadata() == null) {
-		request.setMetadata(new HashMap<String, String>());
-	    }
-	    request.getMetadata().put(name, value);
+	    request.putMetadata(name, value);
 	    return this;
 	}
 
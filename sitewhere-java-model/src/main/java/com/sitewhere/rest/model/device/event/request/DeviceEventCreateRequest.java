@@ -8,8 +8,10 @@
 package com.sitewhere.rest.model.device.event.request;
 
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.sitewhere.rest.model.datatype.JsonDateSerializer;
 import com.sitewhere.rest.model.device.event.DeviceEvent;
@@ -19,6 +21,7 @@ import com.sitewhere.spi.device.event.request.IDeviceEventCreateRequest;
 /**
  * Holds common fields for creating {@link DeviceEvent} subclasses.
  */
+@JsonPropertyOrder({ "eventType" })
 public class DeviceEventCreateRequest implements IDeviceEventCreateRequest {
 
     /** Serialization version identifier */
@@ -39,6 +42,42 @@ public class DeviceEventCreateRequest implements IDeviceEventCreateRequest {
     /** Metadata values */
     private Map<String, String> metadata;
 
+    /** Metadata map allocated by this request, kept for reuse after reset */
+    private transient Map<String, String> ownMetadata;
+
+    /**
+     * Clear all fields except the event type so that the request can be
+     * reused. A metadata map the request allocated itself is emptied and kept
+     * for reuse. A map passed in through {@link #setMetadata(Map)} is left
+     * unchanged and no longer referenced.
+     */
+    public void reset() {
+	this.alternateId = null;
+	this.eventDate = null;
+	this.updateState = false;
+	if ((metadata != null) && (metadata == ownMetadata)) {
+	    metadata.clear();
+	}
+	this.metadata = null;
+    }
+
+    /**
+     * Add a metadata entry, allocating a map owned by the request if none is
+     * set.
+     * 
+     * @param name
+     * @param value
+     */
+    protected void putMetadata(String name, String value) {
+	if (metadata == null) {
+	    if (ownMetadata == null) {
+		ownMetadata = new HashMap<String, String>();
+	    }
+	    metadata = ownMetadata;
+	}
+	metadata.put(name, value);
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.device.event.request;
+
+import com.sitewhere.rest.model.datatype.EventTypeDeserializer;
+import com.sitewhere.spi.device.event.DeviceEventType;
+import com.sitewhere.spi.device.event.request.IDeviceEventCreateRequest;
+
+/**
+ * Deserializes an {@link IDeviceEventCreateRequest} into the
+ * {@link DeviceEventCreateRequest} subclass for its event type.
+ */
+public class DeviceEventCreateRequestDeserializer extends EventTypeDeserializer<IDeviceEventCreateRequest> {
+
+    /** Serial version UID */
+    private static final long serialVersionUID = 3386917510253318006L;
+
+    public DeviceEventCreateRequestDeserializer() {
+	super(IDeviceEventCreateRequest.class);
+    }
+
+    /*
+     * @see com.sitewhere.rest.model.datatype.EventTypeDeserializer#getClassFor(
+     * com.sitewhere.spi.device.event.DeviceEventType)
+     */
+    @Override
+    protected Class<? extends IDeviceEventCreateRequest> getClassFor(DeviceEventType type) {
+	switch (type) {
+	case Measurement:
+	    return DeviceMeasurementCreateRequest.class;
+	case Location:
+	    return DeviceLocationCreateRequest.class;
+	case Alert:
+	    return DeviceAlertCreateRequest.class;
+	case CommandInvocation:
+	    return DeviceCommandInvocationCreateRequest.class;
+	case CommandResponse:
+	    return DeviceCommandResponseCreateRequest.class;
+	case StateChange:
+	    return DeviceStateChangeCreateRequest.class;
+	default:
+	    throw new IllegalArgumentException("Unsupported event type: " + type);
+	}
+    }
+}
@@ -8,7 +8,6 @@
 package com.sitewhere.rest.model.device.event.request;
 
 import java.io.Serializable;
-import java.util.HashMap;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -39,6 +38,18 @@ public class DeviceLocationCreateRequest extends DeviceEventCreateRequest
 	setEventType(DeviceEventType.Location);
     }
 
+    /*
+     * @see
+     * com.sitewhere.rest.model.device.event.request.DeviceEventCreateRequest#reset()
+     */
+    @Override
+    public void reset() {
+	super.reset();
+	this.latitude = null;
+	this.longitude = null;
+	this.elevation = null;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -83,9 +94,21 @@ public class DeviceLocationCreateRequest extends DeviceEventCreateRequest
 
     public static class Builder extends DeviceEventCreateRequest.Builder<DeviceLocationCreateRequest> {
 
-	private DeviceLocationCreateRequest request = new DeviceLocationCreateRequest();
+	private DeviceLocationCreateRequest request;
 
 	public Builder(double latitude, double longitude) {
+	    this(new DeviceLocationCreateRequest(), latitude, longitude);
+	}
+
+	/**
+	 * Fill in an existing request, such as one taken from a pool.
+	 * 
+	 * @param request
+	 * @param latitude
+	 * @param longitude
+	 */
+	public Builder(DeviceLocationCreateRequest request, double latitude, double longitude) {
+	    this.request = request;
 	    request.setLatitude(latitude);
 	    request.setLongitude(longitude);
 	    request.setElevation(0.0);
@@ -97,10 +120,7 @@ public class DeviceLocationCreateRequest extends DeviceEventCreateRequest
 	}
 
 	public Builder metadata(String name, String value) {
-	    if (request.getMetadata() == null) {
-		request.setMetadata(new HashMap<String, String>());
-	    }
-	    request.getMetadata().put(name, value);
+	    request.putMetadata(name, value);
 	    return this;
 	}
 
@@ -7,8 +7,6 @@
  */
 package com.sitewhere.rest.model.device.event.request;
 
-import java.util.HashMap;
-
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -37,6 +35,17 @@ public class DeviceMeasurementCreateRequest extends DeviceEventCreateRequest
 	setEventType(DeviceEventType.Measurement);
     }
 
+    /*
+     * @see
+     * com.sitewhere.rest.model.device.event.request.DeviceEventCreateRequest#reset()
+     */
+    @Override
+    public void reset() {
+	super.reset();
+	this.name = null;
+	this.value = 0;
+    }
+
     /*
      * @see com.sitewhere.spi.device.event.request.IDeviceMeasurementCreateRequest#
      * getName()
@@ -65,9 +74,19 @@ public class DeviceMeasurementCreateRequest extends DeviceEventCreateRequest
 
     public static class Builder extends DeviceEventCreateRequest.Builder<DeviceMeasurementCreateRequest> {
 
-	private DeviceMeasurementCreateRequest request = new DeviceMeasurementCreateRequest();
+	private DeviceMeasurementCreateRequest request;
 
 	public Builder() {
+	    this(new DeviceMeasurementCreateRequest());
+	}
+
+	/**
+	 * Fill in an existing request, such as one taken from a pool.
+	 * 
+	 * @param request
+	 */
+	public Builder(DeviceMeasurementCreateRequest request) {
+	    this.request = request;
 	}
 
 	public Builder measurement(String name, double value) {
@@ -77,10 +96,7 @@ public class DeviceMeasurementCreateRequest extends DeviceEventCreateRequest
 	}
 
 	public Builder metadata(String name, String value) {
-	    if (request.getMetadata() == null) {
-		request.setMetadata(new HashMap<String, String>());
-	    }
-	    request.getMetadata().put(name, value);
+	    request.putMetadata(name, value);
 	    return this;
 	}
 
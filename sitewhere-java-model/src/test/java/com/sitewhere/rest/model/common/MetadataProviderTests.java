@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sitewhere.rest.model.device.Device;
+import com.sitewhere.rest.model.device.event.DeviceMeasurement;
+import com.sitewhere.spi.SiteWhereSystemException;
+
+/**
+ * Tests for {@link MetadataProvider} and {@link MetadataMap}.
+ */
+public class MetadataProviderTests {
+
+    @Test
+    public void testEmptyMetadataNotAllocated() throws Exception {
+	ObjectMapper mapper = new ObjectMapper();
+	DeviceMeasurement first = mapper.readValue("{\"name\":\"temp\",\"metadata\":{}}", DeviceMeasurement.class);
+	DeviceMeasurement second = mapper.readValue("{\"name\":\"temp\"}", DeviceMeasurement.class);
+	assertFalse(first.hasMetadata());
+	assertEquals("{}", mapper.writeValueAsString(first.getMetadata()));
+	assertTrue(mapper.writeValueAsString(second).contains("\"metadata\":{}"));
+	assertFalse(second.hasMetadata());
+
+	second.getMetadata().put("unit", "C");
+	assertTrue(second.hasMetadata());
+	assertSame(second.getMetadata(), second.getMetadata());
+	DeviceMeasurement read = mapper.readValue(mapper.writeValueAsString(second), DeviceMeasurement.class);
+	assertTrue(read.getMetadata() instanceof MetadataMap);
+	assertEquals("C", read.getMetadata().get("unit"));
+    }
+
+    @Test
+    public void testCallerMetadataKept() throws Exception {
+	DeviceMeasurement measurement = new DeviceMeasurement();
+	MetadataMap empty = new MetadataMap();
+	measurement.setMetadata(empty);
+	assertSame(empty, measurement.getMetadata());
+	measurement.getMetadata().put("unit", "C");
+	assertEquals("C", empty.get("unit"));
+
+	Map<String, String> fixed = Collections.singletonMap("unit", "F");
+	measurement.setMetadata(fixed);
+	measurement.reset();
+	assertFalse(measurement.hasMetadata());
+	measurement.setMetadata(empty);
+	measurement.reset();
+	assertEquals("C", empty.get("unit"));
+	measurement.setMetadata(null);
+	assertFalse(measurement.hasMetadata());
+	assertTrue(measurement.getMetadata().isEmpty());
+    }
+
+    @Test
+    public void testCopyValidatesKeys() throws Exception {
+	Device source = new Device();
+	source.getMetadata().put("serial-number", "A1");
+	source.getMetadata().put("firmware_version", "2.0");
+	Device target = new Device();
+	MetadataProvider.copy(source, target);
+	assertEquals(source.getMetadata(), target.getMetadata());
+
+	Device empty = new Device();
+	MetadataProvider.copy(empty, target);
+	assertFalse(empty.hasMetadata());
+	try {
+	    MetadataProvider.copy(Collections.singletonMap("bad key", "x"), target);
+	    fail("Expected invalid key to be rejected.");
+	} catch (SiteWhereSystemException e) {
+	    assertEquals(2, target.getMetadata().size());
+	}
+    }
+
+    @Test
+    public void testMapOperations() {
+	MetadataMap map = new MetadataMap();
+	Map<String, String> expected = new HashMap<>();
+	for (String key : Arrays.asList("a", "b", "c", "d", "e")) {
+	    assertNull(map.put(key, key.toUpperCase()));
+	    expected.put(key, key.toUpperCase());
+	}
+	assertEquals("B", map.put("b", "bb"));
+	expected.put("b", "bb");
+	assertEquals("C", map.remove("c"));
+	expected.remove("c");
+	assertNull(map.remove("missing"));
+	assertEquals(expected, map);
+	assertEquals(expected.hashCode(), map.hashCode());
+	assertEquals("{a=A, b=bb, d=D, e=E}", map.toString());
+
+	Iterator<Map.Entry<String, String>> it = map.entrySet().iterator();
+	while (it.hasNext()) {
+	    Map.Entry<String, String> entry = it.next();
+	    if (entry.getKey().equals("a") || entry.getKey().equals("d")) {
+		it.remove();
+	    } else {
+		entry.setValue(entry.getValue() + "!");
+	    }
+	}
+	assertEquals("{b=bb!, e=E!}", map.toString());
+	map.clear();
+	assertTrue(map.isEmpty());
+	assertFalse(map.containsKey("b"));
+    }
+}
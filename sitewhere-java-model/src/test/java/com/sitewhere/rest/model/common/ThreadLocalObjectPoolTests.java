@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.sitewhere.rest.model.device.event.DeviceAlert;
+import com.sitewhere.rest.model.device.event.DeviceLocation;
+import com.sitewhere.rest.model.device.event.DeviceMeasurement;
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.spi.device.event.DeviceEventType;
+import com.sitewhere.spi.device.event.AlertLevel;
+
+/**
+ * Tests for {@link ThreadLocalObjectPool} and resetting pooled events.
+ */
+public class ThreadLocalObjectPoolTests {
+
+    @Test
+    public void testReleasedObjectsReused() {
+	ThreadLocalObjectPool<DeviceMeasurementCreateRequest> pool = new ThreadLocalObjectPool<>(
+		DeviceMeasurementCreateRequest::new, DeviceMeasurementCreateRequest::reset, 2);
+	DeviceMeasurementCreateRequest first = pool.acquire();
+	DeviceMeasurementCreateRequest second = pool.acquire();
+	DeviceMeasurementCreateRequest third = pool.acquire();
+	pool.release(first);
+	pool.release(second);
+	pool.release(third);
+	assertEquals(2, pool.getFreeCount());
+	assertSame(second, pool.acquire());
+	assertSame(first, pool.acquire());
+	assertNotSame(third, pool.acquire());
+	assertEquals(0, pool.getFreeCount());
+    }
+
+    @Test
+    public void testPoolPerThread() throws Exception {
+	ThreadLocalObjectPool<DeviceMeasurement> pool = new ThreadLocalObjectPool<>(DeviceMeasurement::new,
+		DeviceMeasurement::reset);
+	pool.release(pool.acquire());
+	AtomicReference<Integer> other = new AtomicReference<>();
+	Thread thread = new Thread(() -> other.set(pool.getFreeCount()));
+	thread.start();
+	thread.join();
+	assertEquals(1, pool.getFreeCount());
+	assertEquals(Integer.valueOf(0), other.get());
+    }
+
+    @Test
+    public void testCreateRequestsReset() {
+	DeviceMeasurementCreateRequest measurement = new DeviceMeasurementCreateRequest.Builder()
+		.measurement("engine.temp", 88.5).metadata("unit", "C").build();
+	measurement.setEventDate(new Date());
+	measurement.setUpdateState(true);
+	Map<String, String> metadata = measurement.getMetadata();
+	measurement.reset();
+	assertNull(measurement.getName());
+	assertEquals(0, measurement.getValue(), 0);
+	assertNull(measurement.getEventDate());
+	assertFalse(measurement.isUpdateState());
+	assertNull(measurement.getMetadata());
+	assertTrue(metadata.isEmpty());
+	assertEquals(DeviceEventType.Measurement, measurement.getEventType());
+	new DeviceMeasurementCreateRequest.Builder(measurement).measurement("rpm", 1).metadata("unit", "x");
+	assertSame(metadata, measurement.getMetadata());
+
+	DeviceLocationCreateRequest location = new DeviceLocationCreateRequest.Builder(33.7, -84.4).build();
+	location.reset();
+	assertNull(location.getLatitude());
+	assertNull(location.getElevation());
+	assertEquals(DeviceEventType.Location, location.getEventType());
+
+	DeviceAlertCreateRequest alert = new DeviceAlertCreateRequest.Builder("overheat", "Too hot").critical()
+		.build();
+	alert.reset();
+	assertNull(alert.getType());
+	assertEquals(AlertLevel.Info, alert.getLevel());
+	assertEquals(DeviceEventType.Alert, alert.getEventType());
+    }
+
+    @Test
+    public void testCallerMetadataNotCleared() {
+	ThreadLocalObjectPool<DeviceMeasurementCreateRequest> pool = new ThreadLocalObjectPool<>(
+		DeviceMeasurementCreateRequest::new, DeviceMeasurementCreateRequest::reset);
+	Map<String, String> template = new HashMap<>();
+	template.put("unit", "C");
+	Map<String, String> fixed = Collections.singletonMap("unit", "F");
+
+	DeviceMeasurementCreateRequest first = pool.acquire();
+	first.setMetadata(template);
+	DeviceMeasurementCreateRequest second = pool.acquire();
+	second.setMetadata(fixed);
+	pool.release(first);
+	pool.release(second);
+	assertEquals(Collections.singletonMap("unit", "C"), template);
+	assertEquals("F", fixed.get("unit"));
+	assertNull(pool.acquire().getMetadata());
+	assertNull(pool.acquire().getMetadata());
+    }
+
+    @Test
+    public void testEventsReset() {
+	DeviceMeasurement measurement = new DeviceMeasurement();
+	measurement.setId(UUID.randomUUID());
+	measurement.setDeviceId(UUID.randomUUID());
+	measurement.setName("engine.temp");
+	measurement.setValue(88.5);
+	measurement.setReceivedDate(new Date());
+	measurement.getMetadata().put("unit", "C");
+	measurement.reset();
+	assertNull(measurement.getId());
+	assertNull(measurement.getDeviceId());
+	assertNull(measurement.getName());
+	assertNull(measurement.getValue());
+	assertNull(measurement.getReceivedDate());
+	assertTrue(measurement.getMetadata().isEmpty());
+	assertEquals(DeviceEventType.Measurement, measurement.getEventType());
+
+	DeviceLocation location = new DeviceLocation();
+	location.setLatitude(33.7);
+	location.reset();
+	assertNull(location.getLatitude());
+
+	DeviceAlert alert = new DeviceAlert();
+	alert.setType("overheat");
+	alert.reset();
+	assertNull(alert.getType());
+	assertEquals(DeviceEventType.Alert, alert.getEventType());
+    }
+}
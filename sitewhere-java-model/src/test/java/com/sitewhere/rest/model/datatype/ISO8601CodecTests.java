@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.datatype;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Date;
+import java.util.Random;
+
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ISO8601Codec}.
+ */
+public class ISO8601CodecTests {
+
+    /** Reference formatter */
+    private static final DateTimeFormatter JODA = ISODateTimeFormat.dateTime().withZone(DateTimeZone.UTC);
+
+    @Test
+    public void testKnownValues() {
+	assertEquals("1970-01-01T00:00:00.000Z", ISO8601Codec.format(0L));
+	assertEquals("1969-12-31T23:59:59.999Z", ISO8601Codec.format(-1L));
+	assertEquals("2000-02-29T12:34:56.789Z", ISO8601Codec.format(951827696789L));
+	assertEquals("0001-01-01T00:00:00.000Z", ISO8601Codec.format(-62135596800000L));
+	assertEquals("9999-12-31T23:59:59.999Z", ISO8601Codec.format(253402300799999L));
+    }
+
+    @Test
+    public void testMatchesJoda() {
+	Random random = new Random(8601);
+	for (int i = 0; i < 200000; i++) {
+	    long millis = (long) ((random.nextDouble() - 0.5) * 2 * 253402300799999L);
+	    String expected = JODA.print(millis);
+	    assertEquals(expected, ISO8601Codec.format(millis));
+	    assertEquals(millis, ISO8601Codec.parseMillis(expected));
+	}
+    }
+
+    @Test
+    public void testOutOfRangeUsesFallback() {
+	long millis = 253402300800000L;
+	assertEquals(JODA.print(millis), ISO8601Codec.format(millis));
+    }
+
+    @Test
+    public void testParseOtherForms() {
+	assertEquals(951827696000L, ISO8601Codec.parseMillis("2000-02-29T12:34:56Z"));
+	assertEquals(951827696789L, ISO8601Codec.parseMillis("2000-02-29T14:34:56.789+02:00"));
+	assertEquals(new Date(951782400000L), ISO8601Codec.parse("2000-02-29"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseInvalidDay() {
+	ISO8601Codec.parseMillis("2001-02-29T00:00:00.000Z");
+    }
+}
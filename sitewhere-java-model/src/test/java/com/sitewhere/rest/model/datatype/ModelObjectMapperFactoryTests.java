@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.datatype;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Date;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sitewhere.rest.model.device.event.DeviceAlert;
+import com.sitewhere.rest.model.device.event.DeviceMeasurement;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+
+/**
+ * Tests for {@link ModelObjectMapperFactory}.
+ */
+public class ModelObjectMapperFactoryTests {
+
+    @Test
+    public void testSameJsonAsDefaultMapper() throws Exception {
+	DeviceMeasurement measurement = new DeviceMeasurement();
+	measurement.setName("engine.temp");
+	measurement.setValue(88.5);
+	measurement.setEventDate(new Date(1500000000000L));
+	measurement.getMetadata().put("unit", "C");
+	ObjectMapper tuned = ModelObjectMapperFactory.create();
+	ObjectMapper plain = new ObjectMapper();
+	String json = plain.writeValueAsString(measurement);
+	assertEquals(json, tuned.writeValueAsString(measurement));
+	assertEquals(json, plain.writeValueAsString(tuned.readValue(json, DeviceMeasurement.class)));
+    }
+
+    @Test
+    public void testNamesInterned() throws Exception {
+	ObjectMapper mapper = ModelObjectMapperFactory.getShared();
+	String name = new String("engine.temp");
+	DeviceMeasurement first = mapper.readValue("{\"name\":\"" + name + "\",\"value\":1}", DeviceMeasurement.class);
+	DeviceMeasurement second = mapper.readValue("{\"name\":\"engine.temp\",\"value\":2}", DeviceMeasurement.class);
+	assertSame(first.getName(), second.getName());
+	assertSame("engine.temp", first.getName());
+	assertSame("engine.temp", mapper
+		.readValue("{\"name\":\"engine.temp\"}", DeviceMeasurementCreateRequest.class).getName());
+	assertSame("overheat", mapper.readValue("{\"type\":\"overheat\"}", DeviceAlert.class).getType());
+	assertNull(mapper.readValue("{\"name\":null}", DeviceMeasurement.class).getName());
+    }
+
+    @Test
+    public void testSharedMapper() {
+	assertSame(ModelObjectMapperFactory.getShared(), ModelObjectMapperFactory.getShared());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.device.charting;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sitewhere.rest.model.device.event.DeviceMeasurement;
+
+/**
+ * Tests for {@link MeasurementSeries}.
+ */
+public class MeasurementSeriesTests {
+
+    /** Base date for entries */
+    private static final long BASE = 1546300800000L;
+
+    @Test
+    public void testChartSeriesRoundTrip() {
+	ChartSeries<Double> chart = createChartSeries(1000);
+	chart.getEntries().get(7).setValue(null);
+	MeasurementSeries series = MeasurementSeries.fromChartSeries(chart);
+	assertEquals(1000, series.size());
+	assertTrue(series.isNull(7));
+
+	ChartSeries<Double> back = series.toChartSeries();
+	assertEquals(chart.getMeasurementId(), back.getMeasurementId());
+	for (int i = 0; i < 1000; i++) {
+	    assertEquals(chart.getEntries().get(i).getMeasurementDate(), back.getEntries().get(i).getMeasurementDate());
+	    assertEquals(chart.getEntries().get(i).getValue(), back.getEntries().get(i).getValue());
+	}
+    }
+
+    @Test
+    public void testMeasurementsRoundTrip() {
+	List<DeviceMeasurement> measurements = new ArrayList<>();
+	for (int i = 0; i < 10; i++) {
+	    DeviceMeasurement mx = new DeviceMeasurement();
+	    mx.setName((i % 2 == 0) ? "engine.temp" : "fuel.level");
+	    mx.setValue(i * 1.5);
+	    mx.setEventDate(new Date(BASE + i));
+	    measurements.add(mx);
+	}
+	List<MeasurementSeries> series = MeasurementSeries.fromMeasurements(measurements);
+	assertEquals(2, series.size());
+	assertEquals("engine.temp", series.get(0).getMeasurementId());
+	assertEquals(5, series.get(1).size());
+	assertEquals(1.5, series.get(1).getValue(0), 0);
+
+	List<DeviceMeasurement> back = series.get(1).toMeasurements();
+	assertEquals("fuel.level", back.get(2).getName());
+	assertEquals(7.5, back.get(2).getValue(), 0);
+	assertEquals(new Date(BASE + 5), back.get(2).getEventDate());
+    }
+
+    @Test
+    public void testNameIsInterned() {
+	MeasurementSeries series = new MeasurementSeries(new String("engine.temp"));
+	assertSame("engine.temp", series.getMeasurementId());
+    }
+
+    @Test
+    public void testJsonCompatibleWithChartSeries() throws Exception {
+	ObjectMapper mapper = new ObjectMapper();
+	List<ChartSeries<Double>> charts = new ArrayList<>();
+	charts.add(createChartSeries(100));
+	charts.get(0).getEntries().get(3).setValue(null);
+	String json = mapper.writeValueAsString(charts);
+
+	List<MeasurementSeries> decoded = mapper.readValue(json, new TypeReference<List<MeasurementSeries>>() {
+	});
+	MeasurementSeries series = decoded.get(0);
+	assertEquals("engine.temp", series.getMeasurementId());
+	assertEquals(100, series.size());
+	assertEquals(BASE + 99000, series.getTimestamp(99));
+	assertEquals(80.5 + 99, series.getValue(99), 0);
+	assertTrue(series.isNull(3));
+
+	List<ChartSeries<Double>> again = mapper.readValue(mapper.writeValueAsString(decoded),
+		new TypeReference<List<ChartSeries<Double>>>() {
+		});
+	assertEquals(charts.get(0).getEntries().get(50).getMeasurementDate(),
+		again.get(0).getEntries().get(50).getMeasurementDate());
+	assertNull(again.get(0).getEntries().get(3).getValue());
+    }
+
+    @Test
+    public void testIgnoresUnknownFields() throws Exception {
+	String json = "{\"extra\":{\"a\":[1,2]},\"measurementId\":\"x\",\"entries\":[{\"value\":1.0,\"note\":\"n\","
+		+ "\"measurementDate\":1546300800000}]}";
+	MeasurementSeries series = new ObjectMapper().readValue(json, MeasurementSeries.class);
+	assertEquals(1, series.size());
+	assertEquals(BASE, series.getTimestamp(0));
+    }
+
+    protected ChartSeries<Double> createChartSeries(int count) {
+	ChartSeries<Double> chart = new ChartSeries<Double>();
+	chart.setMeasurementId("engine.temp");
+	for (int i = 0; i < count; i++) {
+	    ChartEntry<Double> entry = new ChartEntry<Double>();
+	    entry.setMeasurementDate(new Date(BASE + i * 1000));
+	    entry.setValue(80.5 + i);
+	    chart.getEntries().add(entry);
+	}
+	return chart;
+    }
+}
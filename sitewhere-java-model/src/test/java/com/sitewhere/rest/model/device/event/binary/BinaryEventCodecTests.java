@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.device.event.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sitewhere.rest.model.device.event.DeviceAlert;
+import com.sitewhere.rest.model.device.event.DeviceEventBatch;
+import com.sitewhere.rest.model.device.event.DeviceEventBatchResponse;
+import com.sitewhere.rest.model.device.event.DeviceMeasurement;
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceEventCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.spi.SiteWhereException;
+import com.sitewhere.spi.device.event.AlertLevel;
+import com.sitewhere.spi.device.event.request.IDeviceAlertCreateRequest;
+import com.sitewhere.spi.device.event.request.IDeviceLocationCreateRequest;
+import com.sitewhere.spi.device.event.request.IDeviceMeasurementCreateRequest;
+
+/**
+ * Tests for {@link BinaryEventCodec}.
+ */
+public class BinaryEventCodecTests {
+
+    /** Base date for events */
+    private static final long BASE = 1546300800000L;
+
+    @Test
+    public void testBatchRoundTrip() throws Exception {
+	DeviceEventBatch batch = createBatch(50);
+	DeviceEventCreateRequest third = (DeviceEventCreateRequest) batch.getMeasurements().get(3);
+	third.setMetadata(Collections.singletonMap("unit", "C"));
+	third.setAlternateId("alt-3");
+	((DeviceEventCreateRequest) batch.getMeasurements().get(4)).setEventDate(null);
+	DeviceEventBatch decoded = BinaryEventCodec.decodeBatch(BinaryEventCodec.encode(batch));
+
+	assertEquals("gateway-1", decoded.getDeviceToken());
+	assertEquals(50, decoded.getMeasurements().size());
+	for (int i = 0; i < 50; i++) {
+	    IDeviceMeasurementCreateRequest expected = batch.getMeasurements().get(i);
+	    IDeviceMeasurementCreateRequest actual = decoded.getMeasurements().get(i);
+	    assertEquals(expected.getName(), actual.getName());
+	    assertEquals(expected.getValue(), actual.getValue(), 0);
+	    assertEquals(expected.getEventDate(), actual.getEventDate());
+	    assertEquals(expected.getMetadata(), actual.getMetadata());
+	    assertEquals(expected.getAlternateId(), actual.getAlternateId());
+	    assertTrue(actual.isUpdateState());
+	}
+	IDeviceLocationCreateRequest location = decoded.getLocations().get(0);
+	assertEquals(33.75, location.getLatitude(), 0);
+	assertEquals(-84.39, location.getLongitude(), 0);
+	assertNull(location.getElevation());
+	IDeviceAlertCreateRequest alert = decoded.getAlerts().get(0);
+	assertEquals("engine.overheat", alert.getType());
+	assertEquals("Temperature above threshold.", alert.getMessage());
+	assertEquals(AlertLevel.Critical, alert.getLevel());
+    }
+
+    @Test
+    public void testSmallerThanJson() throws Exception {
+	DeviceEventBatch batch = createBatch(100);
+	int json = new ObjectMapper().writeValueAsBytes(batch).length;
+	int binary = BinaryEventCodec.encode(batch).length;
+	assertTrue("Binary " + binary + " bytes vs JSON " + json + " bytes.", binary * 4 < json);
+    }
+
+    @Test
+    public void testResponseRoundTrip() throws Exception {
+	DeviceMeasurement measurement = new DeviceMeasurement();
+	measurement.setId(UUID.randomUUID());
+	measurement.setDeviceId(UUID.randomUUID());
+	measurement.setName("engine.temp");
+	measurement.setValue(88.5);
+	measurement.setEventDate(new Date(BASE));
+	measurement.setReceivedDate(new Date(BASE + 250));
+	measurement.getMetadata().put("unit", "C");
+	DeviceAlert alert = new DeviceAlert();
+	alert.setType("engine.overheat");
+	alert.setLevel(AlertLevel.Warning);
+	DeviceEventBatchResponse response = new DeviceEventBatchResponse();
+	response.setCreatedMeasurements(Arrays.asList(measurement));
+	response.setCreatedAlerts(Arrays.asList(alert));
+
+	DeviceEventBatchResponse decoded = BinaryEventCodec
+		.decodeBatchResponse(BinaryEventCodec.encode(response));
+	DeviceMeasurement actual = (DeviceMeasurement) decoded.getCreatedMeasurements().get(0);
+	assertEquals(measurement.getId(), actual.getId());
+	assertEquals(measurement.getDeviceId(), actual.getDeviceId());
+	assertNull(actual.getAreaId());
+	assertEquals(88.5, actual.getValue(), 0);
+	assertEquals(measurement.getEventDate(), actual.getEventDate());
+	assertEquals(measurement.getReceivedDate(), actual.getReceivedDate());
+	assertEquals("C", actual.getMetadata().get("unit"));
+	assertEquals(AlertLevel.Warning, decoded.getCreatedAlerts().get(0).getLevel());
+	assertNull(decoded.getCreatedAlerts().get(0).getSource());
+	assertTrue(decoded.getCreatedLocations().isEmpty());
+    }
+
+    @Test
+    public void testSingleCreateRequest() throws Exception {
+	DeviceEventCreateRequest request = new DeviceAlertCreateRequest.Builder("door.open", "Door opened.").warning()
+		.build();
+	DeviceEventCreateRequest decoded = BinaryEventCodec.decodeCreateRequest(BinaryEventCodec.encode(request));
+	assertTrue(decoded instanceof DeviceAlertCreateRequest);
+	assertEquals("door.open", ((DeviceAlertCreateRequest) decoded).getType());
+	assertEquals(AlertLevel.Warning, ((DeviceAlertCreateRequest) decoded).getLevel());
+	assertFalse(decoded.isUpdateState());
+    }
+
+    @Test(expected = SiteWhereException.class)
+    public void testRejectsJson() throws Exception {
+	BinaryEventCodec.decodeBatch("{\"deviceToken\":\"x\"}".getBytes("UTF-8"));
+    }
+
+    @Test
+    public void testRejectsTruncatedData() throws Exception {
+	byte[] data = BinaryEventCodec.encode(createBatch(10));
+	for (int length = 0; length < data.length; length++) {
+	    try {
+		BinaryEventCodec.decodeBatch(Arrays.copyOf(data, length));
+	    } catch (SiteWhereException e) {
+		continue;
+	    }
+	    throw new AssertionError("Decoded truncated data of length " + length + ".");
+	}
+    }
+
+    @Test
+    public void testRejectsMalformedData() throws Exception {
+	byte[] data = BinaryEventCodec.encode(createBatch(10));
+	byte[] negative = { -1, -1, -1, -1, -1, -1, -1, -1, -1, 1 };
+	for (int offset = 0; offset <= data.length; offset++) {
+	    byte[] malformed = new byte[data.length + negative.length];
+	    System.arraycopy(data, 0, malformed, 0, offset);
+	    System.arraycopy(negative, 0, malformed, offset, negative.length);
+	    System.arraycopy(data, offset, malformed, offset + negative.length, data.length - offset);
+	    assertDecodesOrRejects(malformed);
+	}
+	Random random = new Random(42);
+	for (int i = 0; i < 5000; i++) {
+	    byte[] malformed = data.clone();
+	    malformed[random.nextInt(malformed.length)] = (byte) random.nextInt(256);
+	    assertDecodesOrRejects(malformed);
+	}
+    }
+
+    /**
+     * Decode data and check that any failure is reported as a
+     * {@link SiteWhereException}.
+     * 
+     * @param data
+     */
+    protected void assertDecodesOrRejects(byte[] data) {
+	try {
+	    BinaryEventCodec.decodeBatch(data);
+	} catch (SiteWhereException e) {
+	    return;
+	} catch (RuntimeException e) {
+	    throw new AssertionError("Malformed data caused " + e + ".", e);
+	}
+    }
+
+    /**
+     * Create a batch with the given number of measurements plus a location and
+     * an alert.
+     * 
+     * @param measurements
+     * @return
+     */
+    protected DeviceEventBatch createBatch(int measurements) {
+	DeviceEventBatch batch = new DeviceEventBatch();
+	batch.setDeviceToken("gateway-1");
+	for (int i = 0; i < measurements; i++) {
+	    DeviceMeasurementCreateRequest mx = new DeviceMeasurementCreateRequest();
+	    mx.setName((i % 2 == 0) ? "engine.temp" : "fuel.level");
+	    mx.setValue(80.25 + i);
+	    mx.setEventDate(new Date(BASE + i * 1000));
+	    mx.setUpdateState(true);
+	    batch.getMeasurements().add(mx);
+	}
+	DeviceLocationCreateRequest location = new DeviceLocationCreateRequest();
+	location.setLatitude(33.75);
+	location.setLongitude(-84.39);
+	location.setEventDate(new Date(BASE));
+	batch.getLocations().add(location);
+	batch.getAlerts().add(new DeviceAlertCreateRequest.Builder("engine.overheat", "Temperature above threshold.")
+		.critical().build());
+	return batch;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) SiteWhere, LLC. All rights reserved. http://www.sitewhere.com
+ *
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package com.sitewhere.rest.model.device.event.kafka;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sitewhere.rest.model.device.event.DeviceAlert;
+import com.sitewhere.rest.model.device.event.DeviceCommandInvocation;
+import com.sitewhere.rest.model.device.event.DeviceCommandResponse;
+import com.sitewhere.rest.model.device.event.DeviceEvent;
+import com.sitewhere.rest.model.device.event.DeviceEventContext;
+import com.sitewhere.rest.model.device.event.DeviceLocation;
+import com.sitewhere.rest.model.device.event.DeviceMeasurement;
+import com.sitewhere.rest.model.device.event.DeviceStateChange;
+import com.sitewhere.rest.model.device.event.request.DeviceAlertCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceCommandInvocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceCommandResponseCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceEventCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceLocationCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceMeasurementCreateRequest;
+import com.sitewhere.rest.model.device.event.request.DeviceStateChangeCreateRequest;
+import com.sitewhere.spi.device.DeviceAssignmentStatus;
+
+/**
+ * Tests for typed deserialization of Kafka event payloads.
+ */
+public class EventPayloadTests {
+
+    /** Mapper with default configuration */
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testEnrichedPayloadRoundTrip() throws Exception {
+	List<DeviceEvent> events = Arrays.asList(new DeviceMeasurement(), new DeviceLocation(), new DeviceAlert(),
+		new DeviceCommandInvocation(), new DeviceCommandResponse(), new DeviceStateChange());
+	for (DeviceEvent event : events) {
+	    event.setId(UUID.randomUUID());
+	    event.setEventDate(new Date(1500000000000L));
+	    event.getMetadata().put("source", "test");
+	    EnrichedEventPayload payload = new EnrichedEventPayload();
+	    payload.setEvent(event);
+	    DeviceEventContext context = new DeviceEventContext();
+	    context.setDeviceId(UUID.randomUUID());
+	    context.setAssignmentStatus(DeviceAssignmentStatus.Active);
+	    payload.setEventContext(context);
+
+	    String json = mapper.writeValueAsString(payload);
+	    EnrichedEventPayload read = mapper.readValue(json, EnrichedEventPayload.class);
+	    assertEquals(event.getClass(), read.getEvent().getClass());
+	    assertEquals(event.getEventType(), read.getEvent().getEventType());
+	    assertEquals(event.getId(), read.getEvent().getId());
+	    assertEquals("test", read.getEvent().getMetadata().get("source"));
+	    assertEquals(context.getDeviceId(), read.getEventContext().getDeviceId());
+	    assertEquals(json, mapper.writeValueAsString(read));
+	}
+    }
+
+    @Test
+    public void testDecodedPayloadRoundTrip() throws Exception {
+	List<DeviceEventCreateRequest> requests = Arrays.asList(new DeviceMeasurementCreateRequest(),
+		new DeviceLocationCreateRequest(), new DeviceAlertCreateRequest(),
+		new DeviceCommandInvocationCreateRequest(), new DeviceCommandResponseCreateRequest(),
+		new DeviceStateChangeCreateRequest());
+	for (DeviceEventCreateRequest request : requests) {
+	    request.setAlternateId("alt-1");
+	    PreprocessedEventPayload payload = new PreprocessedEventPayload();
+	    payload.setDeviceToken("d1");
+	    payload.setDeviceId(UUID.randomUUID());
+	    payload.setEventCreateRequest(request);
+
+	    String json = mapper.writeValueAsString(payload);
+	    PreprocessedEventPayload read = mapper.readValue(json, PreprocessedEventPayload.class);
+	    assertEquals(request.getClass(), read.getEventCreateRequest().getClass());
+	    assertEquals("alt-1", read.getEventCreateRequest().getAlternateId());
+	    assertEquals(payload.getDeviceId(), read.getDeviceId());
+	}
+    }
+
+    @Test
+    public void testEventTypeWrittenFirst() throws Exception {
+	DeviceMeasurement measurement = new DeviceMeasurement();
+	measurement.setId(UUID.randomUUID());
+	measurement.setName("engine.temp");
+	assertTrue(mapper.writeValueAsString(measurement).startsWith("{\"eventType\":\"Measurement\""));
+	assertTrue(mapper.writeValueAsString(new DeviceAlertCreateRequest()).startsWith("{\"eventType\":\"Alert\""));
+    }
+
+    @Test
+    public void testEventTypeAfterOtherProperties() throws Exception {
+	String json = "{\"deviceToken\":\"d1\",\"eventCreateRequest\":{\"name\":\"engine.temp\",\"value\":88.5,"
+		+ "\"metadata\":{\"unit\":\"C\"},\"eventType\":\"Measurement\",\"updateState\":true}}";
+	DecodedEventPayload read = mapper.readValue(json, DecodedEventPayload.class);
+	DeviceMeasurementCreateRequest request = (DeviceMeasurementCreateRequest) read.getEventCreateRequest();
+	assertEquals("engine.temp", request.getName());
+	assertEquals(88.5, request.getValue(), 0);
+	assertEquals("C", request.getMetadata().get("unit"));
+	assertTrue(request.isUpdateState());
+	assertEquals("d1", read.getDeviceToken());
+    }
+
+    @Test
+    public void testInvalidEventType() throws Exception {
+	assertRejected("{\"event\":{\"eventType\":\"Unknown\"}}");
+	assertRejected("{\"event\":{\"id\":\"" + UUID.randomUUID() + "\"}}");
+	assertRejected("{\"event\":[]}");
+    }
+
+    protected void assertRejected(String json) throws Exception {
+	try {
+	    mapper.readValue(json, EnrichedEventPayload.class);
+	    fail("Expected payload to be rejected.");
+	} catch (JsonMappingException e) {
+	    // Expected.
+	}
+    }
+}